@@ -30,12 +30,18 @@ public class ExecutableOutput {
     private final String standardOutput;
     private final String errorOutput;
     private final String commandDescription;
+    private final boolean standardOutputTruncated;
 
     public ExecutableOutput(final String commandDescription, final int returnCode, final String standardOutput, final String errorOutput) {
+        this(commandDescription, returnCode, standardOutput, errorOutput, false);
+    }
+
+    public ExecutableOutput(final String commandDescription, final int returnCode, final String standardOutput, final String errorOutput, final boolean standardOutputTruncated) {
         this.commandDescription = commandDescription;
         this.returnCode = returnCode;
         this.standardOutput = standardOutput;
         this.errorOutput = errorOutput;
+        this.standardOutputTruncated = standardOutputTruncated;
     }
 
     public List<String> getStandardOutputAsList() {
@@ -61,4 +67,9 @@ public class ExecutableOutput {
     public String getCommandDescription() {
         return commandDescription;
     }
+
+    // A streamed standard output only holds its last lines, this is true when earlier lines were dropped.
+    public boolean isStandardOutputTruncated() {
+        return standardOutputTruncated;
+    }
 }
@@ -24,6 +24,7 @@ package com.synopsys.integration.detectable.detectable.executable;
 
 import java.io.File;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.antlr.v4.runtime.misc.NotNull;
 
@@ -42,4 +43,13 @@ public interface ExecutableRunner {
 
     @NotNull
     ExecutableOutput execute(Executable executable) throws ExecutableRunnerException;
+
+    // Hands each standard output line to the consumer while the executable runs, and the returned output only holds the last standard output lines.
+    // Runners that cannot stream hand the lines over once the executable has finished.
+    @NotNull
+    default ExecutableOutput execute(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        final ExecutableOutput output = execute(executable);
+        output.getStandardOutputAsList().forEach(standardOutputConsumer);
+        return output;
+    }
 }
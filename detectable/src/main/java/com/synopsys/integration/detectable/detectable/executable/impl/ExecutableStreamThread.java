@@ -27,23 +27,42 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.Consumer;
 
+import org.jetbrains.annotations.Nullable;
+
 public class ExecutableStreamThread extends Thread {
+    // Lines kept from the end of a consumed stream so failures can still be reported.
+    public static final int CONSUMED_OUTPUT_TAIL_LINES = 500;
+
     private final BufferedReader bufferedReader;
     private final StringBuilder stringBuilder;
     private final Consumer<String> outputLoggingMethod;
     private final Consumer<String> traceLoggingMethod;
+    @Nullable
+    private final Consumer<String> lineConsumer;
+    private final Deque<String> outputTail;
 
     private String executableOutput;
+    private boolean outputTruncated;
+    private RuntimeException lineConsumerException;
 
     public ExecutableStreamThread(final InputStream executableStream, final Consumer<String> outputLoggingMethod, final Consumer<String> traceLoggingMethod) {
+        this(executableStream, outputLoggingMethod, traceLoggingMethod, null);
+    }
+
+    // With a line consumer each line is handed over as it is read and only the last lines are kept, so the output is never fully held in memory.
+    public ExecutableStreamThread(final InputStream executableStream, final Consumer<String> outputLoggingMethod, final Consumer<String> traceLoggingMethod, @Nullable final Consumer<String> lineConsumer) {
         super(Thread.currentThread().getName() + "-Executable_Stream_Thread");
         this.outputLoggingMethod = outputLoggingMethod;
         this.traceLoggingMethod = traceLoggingMethod;
+        this.lineConsumer = lineConsumer;
         final InputStreamReader reader = new InputStreamReader(executableStream, StandardCharsets.UTF_8);
         this.bufferedReader = new BufferedReader(reader);
         this.stringBuilder = new StringBuilder();
+        this.outputTail = new ArrayDeque<>();
     }
 
     @Override
@@ -52,18 +71,56 @@ public class ExecutableStreamThread extends Thread {
             String line;
             final String separator = System.lineSeparator();
             while ((line = bufferedReader.readLine()) != null) {
-                stringBuilder.append(line + separator);
+                if (lineConsumer == null) {
+                    stringBuilder.append(line + separator);
+                } else {
+                    acceptLine(line);
+                    keepInTail(line);
+                }
                 outputLoggingMethod.accept(line);
             }
         } catch (final IOException e) {
             // Ignore
             traceLoggingMethod.accept(e.toString());
         }
+        if (lineConsumer != null) {
+            stringBuilder.append(String.join(System.lineSeparator(), outputTail));
+        }
         this.executableOutput = stringBuilder.toString();
     }
 
+    private void keepInTail(final String line) {
+        if (outputTail.size() == CONSUMED_OUTPUT_TAIL_LINES) {
+            outputTail.removeFirst();
+            outputTruncated = true;
+        }
+        outputTail.addLast(line);
+    }
+
+    // A failing consumer stops receiving lines, but the stream is still drained so the executable is never blocked on a full pipe.
+    private void acceptLine(final String line) {
+        if (lineConsumerException != null) {
+            return;
+        }
+        try {
+            lineConsumer.accept(line);
+        } catch (final RuntimeException e) {
+            lineConsumerException = e;
+        }
+    }
+
     public String getExecutableOutput() {
         return executableOutput;
     }
 
+    // True when lines were dropped from the start of a consumed stream, so the output is only its last lines.
+    public boolean isOutputTruncated() {
+        return outputTruncated;
+    }
+
+    @Nullable
+    public RuntimeException getLineConsumerException() {
+        return lineConsumerException;
+    }
+
 }
@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.function.Consumer;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,13 +75,22 @@ public class SimpleExecutableRunner implements ExecutableRunner {
 
     @Override
     public ExecutableOutput execute(final Executable executable) throws ExecutableRunnerException {
+        return run(executable, null);
+    }
+
+    @Override
+    public ExecutableOutput execute(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        return run(executable, standardOutputConsumer);
+    }
+
+    private ExecutableOutput run(final Executable executable, @Nullable final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
         logger.info(String.format("Running executable >%s", executable.getMaskedExecutableDescription()));
         try {
             final ProcessBuilder processBuilder = executable.createProcessBuilder();
             final Process process = processBuilder.start();
 
             try (final InputStream standardOutputStream = process.getInputStream(); final InputStream standardErrorStream = process.getErrorStream()) {
-                final ExecutableStreamThread standardOutputThread = new ExecutableStreamThread(standardOutputStream, outputConsumer, traceConsumer);
+                final ExecutableStreamThread standardOutputThread = new ExecutableStreamThread(standardOutputStream, outputConsumer, traceConsumer, standardOutputConsumer);
                 standardOutputThread.start();
 
                 final ExecutableStreamThread errorOutputThread = new ExecutableStreamThread(standardErrorStream, outputConsumer, traceConsumer);
@@ -91,15 +101,19 @@ public class SimpleExecutableRunner implements ExecutableRunner {
 
                 standardOutputThread.join();
                 errorOutputThread.join();
+                if (standardOutputThread.getLineConsumerException() != null) {
+                    throw standardOutputThread.getLineConsumerException();
+                }
 
+                // A consumed standard output only holds its last lines.
                 final String standardOutput = standardOutputThread.getExecutableOutput().trim();
                 final String errorOutput = errorOutputThread.getExecutableOutput().trim();
 
-                final ExecutableOutput output = new ExecutableOutput(executable.getMaskedExecutableDescription(), returnCode, standardOutput, errorOutput);
+                final ExecutableOutput output = new ExecutableOutput(executable.getMaskedExecutableDescription(), returnCode, standardOutput, errorOutput, standardOutputThread.isOutputTruncated());
                 return output;
             }
         } catch (final Exception e) {
             throw new ExecutableRunnerException(e);
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
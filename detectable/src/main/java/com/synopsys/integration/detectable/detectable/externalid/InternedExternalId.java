@@ -0,0 +1,122 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.externalid;
+
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+// A canonical external id shared by every graph that references it, so it may not be changed once created.
+// Equality is unchanged (the extra fields are transient), only the hash code is computed once.
+class InternedExternalId extends ExternalId {
+    private transient boolean frozen = false;
+    private transient int hashCode;
+
+    private InternedExternalId(final ExternalId original) {
+        super(original.getForge());
+    }
+
+    static InternedExternalId copyOf(final ExternalId original, final UnaryOperator<String> stringInterner) {
+        final InternedExternalId copy = new InternedExternalId(original);
+        // Every property is copied so the copy stays equal to the original whatever the forge uses (group, path, module names, ...).
+        copy.setGroup(internString(original.getGroup(), stringInterner));
+        copy.setName(internString(original.getName(), stringInterner));
+        copy.setVersion(internString(original.getVersion(), stringInterner));
+        copy.setArchitecture(internString(original.getArchitecture(), stringInterner));
+        copy.setPath(internString(original.getPath(), stringInterner));
+        copy.setLayer(internString(original.getLayer(), stringInterner));
+        if (original.getModuleNames() != null) {
+            copy.setModuleNames(Arrays.stream(original.getModuleNames()).map(moduleName -> internString(moduleName, stringInterner)).toArray(String[]::new));
+        }
+        copy.hashCode = copy.computeHashCode();
+        copy.frozen = true;
+        return copy;
+    }
+
+    private static String internString(final String value, final UnaryOperator<String> stringInterner) {
+        return value == null ? null : stringInterner.apply(value);
+    }
+
+    private int computeHashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+        return frozen ? hashCode : super.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || super.equals(obj);
+    }
+
+    @Override
+    public void setGroup(final String group) {
+        checkNotFrozen();
+        super.setGroup(group);
+    }
+
+    @Override
+    public void setName(final String name) {
+        checkNotFrozen();
+        super.setName(name);
+    }
+
+    @Override
+    public void setVersion(final String version) {
+        checkNotFrozen();
+        super.setVersion(version);
+    }
+
+    @Override
+    public void setArchitecture(final String architecture) {
+        checkNotFrozen();
+        super.setArchitecture(architecture);
+    }
+
+    @Override
+    public void setPath(final String path) {
+        checkNotFrozen();
+        super.setPath(path);
+    }
+
+    @Override
+    public void setLayer(final String layer) {
+        checkNotFrozen();
+        super.setLayer(layer);
+    }
+
+    @Override
+    public void setModuleNames(final String[] moduleNames) {
+        checkNotFrozen();
+        super.setModuleNames(moduleNames);
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Interned external ids are shared and can not be modified.");
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.externalid;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+// Returns one shared instance for equal external ids, dependencies and their strings, so code locations that share
+// most of their dependencies (such as the projects of a monorepo) do not each hold their own copies.
+// The shared instances must not be modified.
+public class InterningExternalIdFactory extends ExternalIdFactory {
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final Map<ExternalId, ExternalId> externalIds = new ConcurrentHashMap<>();
+    private final Map<Dependency, Dependency> dependencies = new ConcurrentHashMap<>();
+
+    // Parsers only know they were given an ExternalIdFactory, this lets them share dependencies when it is an interning one.
+    public static Dependency createDependency(final ExternalIdFactory externalIdFactory, final String name, final String version, final ExternalId externalId) {
+        if (externalIdFactory instanceof InterningExternalIdFactory) {
+            return ((InterningExternalIdFactory) externalIdFactory).createDependency(name, version, externalId);
+        }
+        return new Dependency(name, version, externalId);
+    }
+
+    @Override
+    public ExternalId createNameVersionExternalId(final Forge forge, final String name, final String version) {
+        return intern(super.createNameVersionExternalId(forge, name, version));
+    }
+
+    @Override
+    public ExternalId createNameVersionExternalId(final Forge forge, final String name) {
+        return intern(super.createNameVersionExternalId(forge, name));
+    }
+
+    @Override
+    public ExternalId createMavenExternalId(final String group, final String name, final String version) {
+        return intern(super.createMavenExternalId(group, name, version));
+    }
+
+    @Override
+    public ExternalId createArchitectureExternalId(final Forge forge, final String name, final String version, final String architecture) {
+        return intern(super.createArchitectureExternalId(forge, name, version, architecture));
+    }
+
+    @Override
+    public ExternalId createModuleNamesExternalId(final Forge forge, final String... moduleNames) {
+        return intern(super.createModuleNamesExternalId(forge, moduleNames));
+    }
+
+    @Override
+    public ExternalId createPathExternalId(final Forge forge, final String path) {
+        return intern(super.createPathExternalId(forge, path));
+    }
+
+    @Override
+    public ExternalId createYoctoExternalId(final String layer, final String name, final String version) {
+        return intern(super.createYoctoExternalId(layer, name, version));
+    }
+
+    public Dependency createDependency(final String name, final String version, final ExternalId externalId) {
+        final Dependency dependency = new Dependency(internString(name), internString(version), intern(externalId));
+        final Dependency existing = dependencies.get(dependency);
+        if (existing != null) {
+            return existing;
+        }
+        final Dependency interned = new InternedDependency(dependency.getName(), dependency.getVersion(), dependency.getExternalId());
+        final Dependency raced = dependencies.putIfAbsent(interned, interned);
+        return raced != null ? raced : interned;
+    }
+
+    public ExternalId intern(final ExternalId externalId) {
+        if (externalId instanceof InternedExternalId) {
+            return externalId;
+        }
+        final ExternalId existing = externalIds.get(externalId);
+        if (existing != null) {
+            return existing;
+        }
+        final ExternalId interned = InternedExternalId.copyOf(externalId, this::internString);
+        final ExternalId raced = externalIds.putIfAbsent(interned, interned);
+        return raced != null ? raced : interned;
+    }
+
+    public int getExternalIdCount() {
+        return externalIds.size();
+    }
+
+    public int getDependencyCount() {
+        return dependencies.size();
+    }
+
+    private String internString(final String value) {
+        if (value == null) {
+            return null;
+        }
+        final String existing = strings.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.graph;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+// A read only graph that keeps each dependency once in a table and its edges as offsets into primitive arrays, so
+// large graphs do not pay for a set of dependencies per node. Built by CompactDependencyGraphBuilder.
+public class CompactDependencyGraph implements DependencyGraph {
+    private final Dependency[] nodes;
+    private final Map<ExternalId, Integer> indexes;
+    private final int[] roots;
+    private final int[] childOffsets;
+    private final int[] children;
+    private final int[] parentOffsets;
+    private final int[] parents;
+
+    CompactDependencyGraph(final Dependency[] nodes, final Map<ExternalId, Integer> indexes, final int[] roots, final int[] childOffsets, final int[] children, final int[] parentOffsets, final int[] parents) {
+        this.nodes = nodes;
+        this.indexes = indexes;
+        this.roots = roots;
+        this.childOffsets = childOffsets;
+        this.children = children;
+        this.parentOffsets = parentOffsets;
+        this.parents = parents;
+    }
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    public int getEdgeCount() {
+        return children.length;
+    }
+
+    @Override
+    public Set<Dependency> getRootDependencies() {
+        return toDependencies(roots, 0, roots.length);
+    }
+
+    @Override
+    public Set<ExternalId> getRootDependencyExternalIds() {
+        return toExternalIds(roots, 0, roots.length);
+    }
+
+    @Override
+    public boolean hasDependency(final ExternalId dependency) {
+        return indexes.containsKey(dependency);
+    }
+
+    @Override
+    public boolean hasDependency(final Dependency dependency) {
+        return hasDependency(dependency.getExternalId());
+    }
+
+    @Override
+    public Dependency getDependency(final ExternalId dependency) {
+        final Integer index = indexes.get(dependency);
+        if (index == null) {
+            return null;
+        }
+        return nodes[index];
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(final ExternalId parent) {
+        final Integer index = indexes.get(parent);
+        if (index == null) {
+            return Collections.emptySet();
+        }
+        return toDependencies(children, childOffsets[index], childOffsets[index + 1]);
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(final Dependency parent) {
+        return getChildrenForParent(parent.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(final ExternalId parent) {
+        final Integer index = indexes.get(parent);
+        if (index == null) {
+            return Collections.emptySet();
+        }
+        return toExternalIds(children, childOffsets[index], childOffsets[index + 1]);
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(final Dependency parent) {
+        return getChildrenExternalIdsForParent(parent.getExternalId());
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(final ExternalId child) {
+        final Integer index = indexes.get(child);
+        if (index == null) {
+            return Collections.emptySet();
+        }
+        return toDependencies(parents, parentOffsets[index], parentOffsets[index + 1]);
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(final Dependency child) {
+        return getParentsForChild(child.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(final ExternalId child) {
+        final Integer index = indexes.get(child);
+        if (index == null) {
+            return Collections.emptySet();
+        }
+        return toExternalIds(parents, parentOffsets[index], parentOffsets[index + 1]);
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(final Dependency child) {
+        return getParentExternalIdsForChild(child.getExternalId());
+    }
+
+    private Set<Dependency> toDependencies(final int[] edges, final int from, final int to) {
+        final Set<Dependency> dependencies = new LinkedHashSet<>(Math.max(16, (to - from) * 2));
+        for (int i = from; i < to; i++) {
+            dependencies.add(nodes[edges[i]]);
+        }
+        return dependencies;
+    }
+
+    private Set<ExternalId> toExternalIds(final int[] edges, final int from, final int to) {
+        final Set<ExternalId> externalIds = new LinkedHashSet<>(Math.max(16, (to - from) * 2));
+        for (int i = from; i < to; i++) {
+            externalIds.add(nodes[edges[i]].getExternalId());
+        }
+        return externalIds;
+    }
+}
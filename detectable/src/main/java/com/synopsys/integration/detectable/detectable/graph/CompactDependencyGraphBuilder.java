@@ -0,0 +1,146 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+// Collects dependencies and relationships the way a MutableDependencyGraph would, but only records each edge as two ints.
+// Duplicate edges are dropped and each node's edges are sorted when the graph is built.
+public class CompactDependencyGraphBuilder {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<ExternalId, Integer> indexes = new HashMap<>();
+    private final List<Dependency> nodes = new ArrayList<>();
+    private final BitSet roots = new BitSet();
+    private int[] edgeParents = new int[INITIAL_CAPACITY];
+    private int[] edgeChildren = new int[INITIAL_CAPACITY];
+    private int edgeCount = 0;
+
+    public void addChildToRoot(final Dependency child) {
+        roots.set(addNode(child));
+    }
+
+    public void addChildrenToRoot(final Collection<Dependency> children) {
+        for (final Dependency child : children) {
+            addChildToRoot(child);
+        }
+    }
+
+    public void addChildWithParent(final Dependency child, final Dependency parent) {
+        addEdge(addNode(parent), addNode(child));
+    }
+
+    public void addChildWithParents(final Dependency child, final Collection<Dependency> parents) {
+        final int childIndex = addNode(child);
+        for (final Dependency parent : parents) {
+            addEdge(addNode(parent), childIndex);
+        }
+    }
+
+    public void addParentWithChild(final Dependency parent, final Dependency child) {
+        addChildWithParent(child, parent);
+    }
+
+    public void addParentWithChildren(final Dependency parent, final Collection<Dependency> children) {
+        final int parentIndex = addNode(parent);
+        for (final Dependency child : children) {
+            addEdge(parentIndex, addNode(child));
+        }
+    }
+
+    // The first dependency added for an external id is the one the graph keeps.
+    public int addNode(final Dependency dependency) {
+        final Integer existing = indexes.get(dependency.getExternalId());
+        if (existing != null) {
+            return existing;
+        }
+        final int index = nodes.size();
+        nodes.add(dependency);
+        indexes.put(dependency.getExternalId(), index);
+        return index;
+    }
+
+    public CompactDependencyGraph build() {
+        final int nodeCount = nodes.size();
+        final int[] childOffsets = new int[nodeCount + 1];
+        final int[] children = toAdjacency(edgeParents, edgeChildren, nodeCount, childOffsets);
+        final int[] parentOffsets = new int[nodeCount + 1];
+        final int[] parents = toAdjacency(edgeChildren, edgeParents, nodeCount, parentOffsets);
+        final int[] rootIndexes = roots.stream().toArray();
+
+        return new CompactDependencyGraph(nodes.toArray(new Dependency[0]), new HashMap<>(indexes), rootIndexes, childOffsets, children, parentOffsets, parents);
+    }
+
+    private void addEdge(final int parentIndex, final int childIndex) {
+        if (edgeCount == edgeParents.length) {
+            edgeParents = Arrays.copyOf(edgeParents, edgeCount * 2);
+            edgeChildren = Arrays.copyOf(edgeChildren, edgeCount * 2);
+        }
+        edgeParents[edgeCount] = parentIndex;
+        edgeChildren[edgeCount] = childIndex;
+        edgeCount++;
+    }
+
+    // Groups the edges by their source node (counting sort), then sorts and removes duplicates within each group.
+    // offsets is filled so that the targets of node n are at [offsets[n], offsets[n + 1]) in the returned array.
+    private int[] toAdjacency(final int[] sources, final int[] targets, final int nodeCount, final int[] offsets) {
+        final int[] starts = new int[nodeCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            starts[sources[i] + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            starts[node + 1] += starts[node];
+        }
+
+        final int[] grouped = new int[edgeCount];
+        final int[] next = Arrays.copyOf(starts, nodeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            grouped[next[sources[i]]++] = targets[i];
+        }
+
+        int size = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            offsets[node] = size;
+            final int from = starts[node];
+            final int to = starts[node + 1];
+            Arrays.sort(grouped, from, to);
+            for (int i = from; i < to; i++) {
+                if (i == from || grouped[i] != grouped[i - 1]) {
+                    grouped[size++] = grouped[i];
+                }
+            }
+        }
+        offsets[nodeCount] = size;
+
+        return size == edgeCount ? grouped : Arrays.copyOf(grouped, size);
+    }
+}
@@ -32,13 +32,19 @@ public class NugetInspectorOptions {
     private final String includedModules;
     private final List<String> packagesRepoUrl;
     private final Path nugetConfigPath;
+    private final int parallelTargets;
 
     public NugetInspectorOptions(final boolean ignoreFailures, final String excludedModules, final String includedModules, final List<String> packagesRepoUrl, final Path nugetConfigPath) {
+        this(ignoreFailures, excludedModules, includedModules, packagesRepoUrl, nugetConfigPath, 1);
+    }
+
+    public NugetInspectorOptions(final boolean ignoreFailures, final String excludedModules, final String includedModules, final List<String> packagesRepoUrl, final Path nugetConfigPath, final int parallelTargets) {
         this.ignoreFailures = ignoreFailures;
         this.excludedModules = excludedModules;
         this.includedModules = includedModules;
         this.packagesRepoUrl = packagesRepoUrl;
         this.nugetConfigPath = nugetConfigPath;
+        this.parallelTargets = parallelTargets;
     }
 
     public boolean isIgnoreFailures() {
@@ -60,4 +66,9 @@ public class NugetInspectorOptions {
     public Optional<Path> getNugetConfigPath() {
         return Optional.ofNullable(nugetConfigPath);
     }
+
+    // The most inspector processes to run at once, one per solution or project target.
+    public int getParallelTargets() {
+        return parallelTargets;
+    }
 }
@@ -93,7 +93,7 @@ public class BitbakeGraphTransformer {
         ExternalId externalId = null;
 
         if (priorityLayerName != null) {
-            externalId = externalIdFactory.createYoctoExternalId(priorityLayerName, dependencyName, dependencyVersion);
+            externalId = externalIdFactory.createYoctoExternalId(priorityLayerName, dependencyName, cleanVersion(dependencyVersion));
         } else {
             logger.debug(String.format("Failed to find component '%s' in component layer map.", dependencyName));
 
@@ -106,10 +106,14 @@ public class BitbakeGraphTransformer {
             }
         }
 
-        if (externalId != null && externalId.getVersion().contains("AUTOINC")) {
-            externalId.setVersion(externalId.getVersion().replaceFirst("AUTOINC\\+[\\w|\\d]*", "X"));
-        }
-
         return Optional.ofNullable(externalId);
     }
+
+    // The version is rewritten before the external id is created, as the factory may hand out shared ids that can not be modified.
+    private String cleanVersion(final String dependencyVersion) {
+        if (dependencyVersion != null && dependencyVersion.contains("AUTOINC")) {
+            return dependencyVersion.replaceFirst("AUTOINC\\+[\\w|\\d]*", "X");
+        }
+        return dependencyVersion;
+    }
 }
@@ -91,7 +91,7 @@ public class ClangDetectable extends Detectable {
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
         //addRelevantDiagnosticFile(jsonCompilationDatabaseFile);
-        return clangExtractor.extract(selectedPackageManager, packageManagerRunner, environment.getDirectory(), extractionEnvironment.getOutputDirectory(), jsonCompilationDatabaseFile, options.isCleanup());
+        return clangExtractor.extract(selectedPackageManager, packageManagerRunner, environment.getDirectory(), extractionEnvironment.getOutputDirectory(), jsonCompilationDatabaseFile, options.isCleanup(), options.getParallelCommands());
     }
 
     private ClangPackageManager findPkgMgr(final File workingDirectory) {
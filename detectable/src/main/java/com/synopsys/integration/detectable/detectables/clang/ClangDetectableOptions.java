@@ -24,12 +24,22 @@ package com.synopsys.integration.detectable.detectables.clang;
 
 public class ClangDetectableOptions {
     private final boolean cleanup;
+    private final int parallelCommands;
 
     public ClangDetectableOptions(final boolean cleanup) {
+        this(cleanup, 0);
+    }
+
+    public ClangDetectableOptions(final boolean cleanup, final int parallelCommands) {
         this.cleanup = cleanup;
+        this.parallelCommands = parallelCommands;
     }
 
     public boolean isCleanup() {
         return cleanup;
     }
+
+    public int getParallelCommands() {
+        return parallelCommands;
+    }
 }
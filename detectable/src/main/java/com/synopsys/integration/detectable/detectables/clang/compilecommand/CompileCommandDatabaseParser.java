@@ -25,22 +25,80 @@ package com.synopsys.integration.detectable.detectables.clang.compilecommand;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
-import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
 
 public class CompileCommandDatabaseParser {
+    // Options whose values only name outputs, so commands that differ only in these report the same dependencies.
+    private static final List<String> OUTPUT_OPTIONS = Arrays.asList("-o", "-MF", "-MT", "-MQ");
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     final Gson gson;
+    private final CompileCommandParser compileCommandParser;
 
-    public CompileCommandDatabaseParser(final Gson gson) {this.gson = gson;}
+    public CompileCommandDatabaseParser(final Gson gson) {
+        this(gson, new CompileCommandParser());
+    }
+
+    public CompileCommandDatabaseParser(final Gson gson, final CompileCommandParser compileCommandParser) {
+        this.gson = gson;
+        this.compileCommandParser = compileCommandParser;
+    }
 
     public List<CompileCommand> parseCompileCommandDatabase(final File compileCommandsDatabaseFile) throws IOException {
-        final String compileCommandsJson = FileUtils.readFileToString(compileCommandsDatabaseFile, StandardCharsets.UTF_8);
-        final CompileCommand[] compileCommands = gson.fromJson(compileCommandsJson, CompileCommand[].class);
-        return Arrays.asList(compileCommands);
+        final List<CompileCommand> compileCommands = new ArrayList<>();
+        readCompileCommandDatabase(compileCommandsDatabaseFile, compileCommands::add);
+        return compileCommands;
+    }
+
+    // Collapses commands that compile the same file in the same directory with equivalent flags and include paths as they are read, keeping the first of each.
+    public List<CompileCommand> parseUniqueCompileCommands(final File compileCommandsDatabaseFile) throws IOException {
+        final Map<String, String> outputOverrides = new HashMap<>();
+        OUTPUT_OPTIONS.forEach(option -> outputOverrides.put(option, ""));
+
+        final Set<List<String>> seenCommands = new HashSet<>();
+        final List<CompileCommand> compileCommands = new ArrayList<>();
+        final int[] totalCommands = { 0 };
+        readCompileCommandDatabase(compileCommandsDatabaseFile, compileCommand -> {
+            totalCommands[0]++;
+            final List<String> equivalenceKey = new ArrayList<>();
+            equivalenceKey.add(compileCommand.directory);
+            equivalenceKey.add(compileCommand.file);
+            equivalenceKey.addAll(compileCommandParser.parseCommand(compileCommand, outputOverrides));
+            if (seenCommands.add(equivalenceKey)) {
+                compileCommands.add(compileCommand);
+            }
+        });
+        logger.debug(String.format("Collapsed %d compile commands to %d unique commands.", totalCommands[0], compileCommands.size()));
+        return compileCommands;
+    }
+
+    // The database is read one command at a time rather than into a single string.
+    private void readCompileCommandDatabase(final File compileCommandsDatabaseFile, final Consumer<CompileCommand> compileCommandConsumer) throws IOException {
+        try (final JsonReader jsonReader = new JsonReader(Files.newBufferedReader(compileCommandsDatabaseFile.toPath(), StandardCharsets.UTF_8))) {
+            jsonReader.setLenient(true);
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                final CompileCommand compileCommand = gson.fromJson(jsonReader, CompileCommand.class);
+                if (compileCommand != null) {
+                    compileCommandConsumer.accept(compileCommand);
+                }
+            }
+            jsonReader.endArray();
+        }
     }
 }
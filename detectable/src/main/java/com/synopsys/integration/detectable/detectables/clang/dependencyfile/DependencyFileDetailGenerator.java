@@ -23,8 +23,15 @@
 package com.synopsys.integration.detectable.detectables.clang.dependencyfile;
 
 import java.io.File;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -41,16 +48,51 @@ public class DependencyFileDetailGenerator {
     public DependencyFileDetailGenerator(final FilePathGenerator filePathGenerator) {this.filePathGenerator = filePathGenerator;}
 
     public Set<File> fromCompileCommands(List<CompileCommand> compileCommands, File outputDirectory, boolean cleanup) {
+        return fromCompileCommands(compileCommands, outputDirectory, cleanup, 0);
+    }
+
+    // Each command waits on a compiler process, so commands run on their own pool of parallelCommands threads (one per processor when not positive) rather than the common pool.
+    // Most headers are reported by many commands, so each header path is resolved to a file once.
+    public Set<File> fromCompileCommands(List<CompileCommand> compileCommands, File outputDirectory, boolean cleanup, int parallelCommands) {
+        final Set<File> dependencyFiles = new HashSet<>();
+        if (compileCommands.isEmpty()) {
+            return dependencyFiles;
+        }
 
-        final Set<File> dependencyFiles = compileCommands.parallelStream()
-                                                                     .flatMap(command -> filePathGenerator.fromCompileCommand(outputDirectory, command, cleanup).stream())
-                                                                     .filter(StringUtils::isNotBlank)
-                                                                     .map(File::new)
-                                                                     .filter(File::exists)
-                                                                     .collect(Collectors.toSet());
+        final int threads = Math.min(parallelCommands > 0 ? parallelCommands : Runtime.getRuntime().availableProcessors(), compileCommands.size());
+        logger.debug(String.format("Finding the dependencies of %d compile commands, %d at a time.", compileCommands.size(), threads));
+        final Map<String, Optional<File>> resolvedHeaders = new ConcurrentHashMap<>();
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final List<CompletableFuture<List<File>>> futures = compileCommands.stream()
+                                                                    .map(command -> CompletableFuture.supplyAsync(() -> findDependencyFiles(command, outputDirectory, cleanup, resolvedHeaders), executorService))
+                                                                    .collect(Collectors.toList());
+            for (final CompletableFuture<List<File>> future : futures) {
+                dependencyFiles.addAll(future.join());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
 
         logger.trace("Found : " + dependencyFiles.size() + " files to process.");
 
         return dependencyFiles;
     }
+
+    private List<File> findDependencyFiles(CompileCommand command, File outputDirectory, boolean cleanup, Map<String, Optional<File>> resolvedHeaders) {
+        return filePathGenerator.fromCompileCommand(outputDirectory, command, cleanup).stream()
+                   .filter(StringUtils::isNotBlank)
+                   .map(path -> resolvedHeaders.computeIfAbsent(path, this::resolveHeader))
+                   .filter(Optional::isPresent)
+                   .map(Optional::get)
+                   .collect(Collectors.toList());
+    }
+
+    private Optional<File> resolveHeader(String path) {
+        final File file = new File(path);
+        if (file.exists()) {
+            return Optional.of(file);
+        }
+        return Optional.empty();
+    }
 }
@@ -115,7 +115,10 @@ public class DockerDetectable extends Detectable {
         final String image = dockerDetectableOptions.getSuppliedDockerImage().orElse("");
         final String imageId = dockerDetectableOptions.getSuppliedDockerImageId().orElse("");
         final String tar = dockerDetectableOptions.getSuppliedDockerTar().orElse("");
+        final DockerInspectorResultCache resultCache = dockerDetectableOptions.getDockerInspectorResultCachePath()
+                                                           .map(path -> new DockerInspectorResultCache(path.toFile()))
+                                                           .orElse(null);
         return dockerExtractor.extract(environment.getDirectory(), extractionEnvironment.getOutputDirectory(), bashExe, javaExe, image, imageId, tar, dockerInspectorInfo,
-            new DockerProperties(dockerDetectableOptions)); //TODO, doesn't feel right to construct properties here. -jp
+            new DockerProperties(dockerDetectableOptions), resultCache); //TODO, doesn't feel right to construct properties here. -jp
     }
 }
\ No newline at end of file
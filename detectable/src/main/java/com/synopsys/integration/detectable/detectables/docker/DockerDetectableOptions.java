@@ -39,9 +39,15 @@ public class DockerDetectableOptions {
     private final Map<String, String> additionalDockerProperties;
     private final Path dockerInspectorPath;
     private final String dockerPlatformTopLayerId;
+    private final Path dockerInspectorResultCachePath;
 
     public DockerDetectableOptions(final boolean dockerPathRequired, final String suppliedDockerImage, final String suppliedDockerImageId, final String suppliedDockerTar, final LogLevel dockerInspectorLoggingLevel,
         final String dockerInspectorVersion, final Map<String, String> additionalDockerProperties, final Path dockerInspectorPath, final String dockerPlatformTopLayerId) {
+        this(dockerPathRequired, suppliedDockerImage, suppliedDockerImageId, suppliedDockerTar, dockerInspectorLoggingLevel, dockerInspectorVersion, additionalDockerProperties, dockerInspectorPath, dockerPlatformTopLayerId, null);
+    }
+
+    public DockerDetectableOptions(final boolean dockerPathRequired, final String suppliedDockerImage, final String suppliedDockerImageId, final String suppliedDockerTar, final LogLevel dockerInspectorLoggingLevel,
+        final String dockerInspectorVersion, final Map<String, String> additionalDockerProperties, final Path dockerInspectorPath, final String dockerPlatformTopLayerId, final Path dockerInspectorResultCachePath) {
         this.dockerPathRequired = dockerPathRequired;
         this.suppliedDockerImage = suppliedDockerImage;
         this.suppliedDockerImageId = suppliedDockerImageId;
@@ -51,6 +57,7 @@ public class DockerDetectableOptions {
         this.additionalDockerProperties = additionalDockerProperties;
         this.dockerInspectorPath = dockerInspectorPath;
         this.dockerPlatformTopLayerId = dockerPlatformTopLayerId;
+        this.dockerInspectorResultCachePath = dockerInspectorResultCachePath;
     }
 
     public boolean isDockerPathRequired() {
@@ -92,4 +99,8 @@ public class DockerDetectableOptions {
     public Optional<String> getDockerPlatformTopLayerId() {
         return Optional.ofNullable(dockerPlatformTopLayerId);
     }
+
+    public Optional<Path> getDockerInspectorResultCachePath() {
+        return Optional.ofNullable(dockerInspectorResultCachePath);
+    }
 }
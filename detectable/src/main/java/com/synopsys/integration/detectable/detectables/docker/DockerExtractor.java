@@ -32,9 +32,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,6 +54,7 @@ import com.synopsys.integration.detectable.Extraction;
 import com.synopsys.integration.detectable.ExtractionMetadata;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.Executable;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
@@ -67,6 +70,8 @@ public class DockerExtractor {
     public static final String RESULTS_FILENAME_PATTERN = "results.json";
     public static final String DEPENDENCIES_PATTERN = "*bdio.jsonld";
 
+    private static final String IMAGE_ID_PREFIX = "sha256:";
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final FileFinder fileFinder;
@@ -86,7 +91,7 @@ public class DockerExtractor {
     }
 
     public Extraction extract(final File directory, final File outputDirectory, final File bashExe, final File javaExe, final String image, final String imageId, final String tar, final DockerInspectorInfo dockerInspectorInfo,
-        DockerProperties dockerProperties) {
+        DockerProperties dockerProperties, @Nullable DockerInspectorResultCache resultCache) {
         try {
             String imageArgument = null;
             String imagePiece = null;
@@ -108,7 +113,7 @@ public class DockerExtractor {
             if (StringUtils.isBlank(imageArgument) || StringUtils.isBlank(imagePiece)) {
                 return new Extraction.Builder().failure("No docker image found.").build();
             } else {
-                return executeDocker(outputDirectory, imageArgument, imagePiece, tar, directory, javaExe, bashExe, dockerInspectorInfo, dockerProperties);
+                return executeDocker(outputDirectory, imageArgument, imagePiece, tar, directory, javaExe, bashExe, dockerInspectorInfo, dockerProperties, resultCache);
             }
         } catch (final Exception e) {
             return new Extraction.Builder().exception(e).build();
@@ -118,6 +123,11 @@ public class DockerExtractor {
     private void importTars(final List<File> importTars, final File directory, final Map<String, String> environmentVariables, final File bashExe) {
         try {
             for (final File imageToImport : importTars) {
+                if (isImageLoaded(imageToImport, directory, environmentVariables, bashExe)) {
+                    logger.debug(String.format("The image in %s is already loaded, skipping docker load.", imageToImport.getName()));
+                    continue;
+                }
+
                 // The -c is a bash option, the following String is the command we want to run
                 final List<String> dockerImportArguments = Arrays.asList(
                     "-c",
@@ -132,8 +142,60 @@ public class DockerExtractor {
         }
     }
 
+    // The image is only considered loaded when every tag in the tar already refers to the exact image the tar holds.
+    private boolean isImageLoaded(final File imageTar, final File directory, final Map<String, String> environmentVariables, final File bashExe) {
+        try {
+            final Optional<DockerImageArchive> imageArchive = DockerImageArchive.read(imageTar, gson);
+            if (!imageArchive.isPresent() || imageArchive.get().getRepoTags().isEmpty()) {
+                return false;
+            }
+            for (final String repoTag : imageArchive.get().getRepoTags()) {
+                final Optional<String> loadedImageId = inspectImageId(repoTag, directory, environmentVariables, bashExe);
+                if (!loadedImageId.isPresent() || !loadedImageId.get().equals(imageArchive.get().getImageId())) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (final IOException | ExecutableRunnerException e) {
+            logger.debug(String.format("Unable to determine whether the image in %s is already loaded: %s", imageTar.getName(), e.getMessage()));
+            return false;
+        }
+    }
+
+    private Optional<String> inspectImageId(final String image, final File directory, final Map<String, String> environmentVariables, final File bashExe) throws ExecutableRunnerException {
+        final List<String> dockerInspectArguments = Arrays.asList(
+            "-c",
+            "docker image inspect --format '{{.Id}}' \"" + image + "\"");
+        final ExecutableOutput output = executableRunner.execute(new Executable(directory, environmentVariables, bashExe.toString(), dockerInspectArguments));
+        final String imageId = StringUtils.trimToEmpty(output.getStandardOutput());
+        if (output.getReturnCode() == 0 && imageId.startsWith(IMAGE_ID_PREFIX)) {
+            return Optional.of(imageId);
+        }
+        return Optional.empty();
+    }
+
+    // An image that is not available locally yet has no id to key on, so it is inspected without the cache.
+    // The cached BDIO and results name the project after the supplied image, so the supplied image is part of the key as well as the id.
+    // A jar replaced in place keeps its name, so its size and modification time are part of the key as well.
+    private Optional<String> determineResultCacheKey(final String suppliedImagePiece, final String dockerTarFilePath, final File directory, final Map<String, String> environmentVariables, final File bashExe,
+        final DockerInspectorInfo dockerInspectorInfo, final DockerProperties dockerProperties) {
+        Optional<String> imageId = Optional.empty();
+        try {
+            if (imageIdentifierType == ImageIdentifierType.TAR) {
+                imageId = DockerImageArchive.read(new File(dockerTarFilePath), gson).map(DockerImageArchive::getImageId);
+            } else {
+                imageId = inspectImageId(suppliedImagePiece, directory, environmentVariables, bashExe);
+            }
+        } catch (final IOException | ExecutableRunnerException e) {
+            logger.debug(String.format("Unable to determine the image id of %s, the Docker Inspector result cache will not be used: %s", suppliedImagePiece, e.getMessage()));
+        }
+        final File dockerInspectorJar = dockerInspectorInfo.getDockerInspectorJar();
+        final String jarFingerprint = String.format("%s:%d:%d", dockerInspectorJar.getName(), dockerInspectorJar.length(), dockerInspectorJar.lastModified());
+        return imageId.map(id -> String.join("|", id, imageIdentifierType.name(), suppliedImagePiece, jarFingerprint, dockerProperties.getResultFingerprint()));
+    }
+
     private Extraction executeDocker(final File outputDirectory, final String imageArgument, final String suppliedImagePiece, final String dockerTarFilePath, final File directory, final File javaExe, final File bashExe,
-        final DockerInspectorInfo dockerInspectorInfo, DockerProperties dockerProperties)
+        final DockerInspectorInfo dockerInspectorInfo, DockerProperties dockerProperties, @Nullable DockerInspectorResultCache resultCache)
         throws IOException, ExecutableRunnerException {
 
         final File dockerPropertiesFile = new File(outputDirectory, "application.properties");
@@ -144,11 +206,19 @@ public class DockerExtractor {
         dockerArguments.add(dockerInspectorInfo.getDockerInspectorJar().getAbsolutePath());
         dockerArguments.add("--spring.config.location=file:" + dockerPropertiesFile.getCanonicalPath());
         dockerArguments.add(imageArgument);
-        if (dockerInspectorInfo.hasAirGapImageFiles()) {
-            importTars(dockerInspectorInfo.getAirGapInspectorImageTarFiles(), outputDirectory, environmentVariables, bashExe);
+
+        final String resultCacheKey = resultCache == null ? null
+                                          : determineResultCacheKey(suppliedImagePiece, dockerTarFilePath, outputDirectory, environmentVariables, bashExe, dockerInspectorInfo, dockerProperties).orElse(null);
+        final boolean restoredFromCache = resultCacheKey != null && resultCache.restore(resultCacheKey, outputDirectory);
+        if (restoredFromCache) {
+            logger.info(String.format("Using cached Docker Inspector results for %s.", suppliedImagePiece));
+        } else {
+            if (dockerInspectorInfo.hasAirGapImageFiles()) {
+                importTars(dockerInspectorInfo.getAirGapInspectorImageTarFiles(), outputDirectory, environmentVariables, bashExe);
+            }
+            final Executable dockerExecutable = new Executable(outputDirectory, environmentVariables, javaExe.getAbsolutePath(), dockerArguments);
+            executableRunner.execute(dockerExecutable);
         }
-        final Executable dockerExecutable = new Executable(outputDirectory, environmentVariables, javaExe.getAbsolutePath(), dockerArguments);
-        executableRunner.execute(dockerExecutable);
 
         File scanFile = null;
         final File producedSquashedImageFile = fileFinder.findFile(outputDirectory, SQUASHED_IMAGE_FILENAME_PATTERN);
@@ -170,6 +240,21 @@ public class DockerExtractor {
             }
         }
 
+        final File producedBdioFile = fileFinder.findFile(outputDirectory, DEPENDENCIES_PATTERN);
+        if (resultCache != null && !restoredFromCache && producedBdioFile != null) {
+            // An image Docker Inspector had to pull only has an id once the inspection is done.
+            final String storeKey = resultCacheKey != null ? resultCacheKey
+                                        : determineResultCacheKey(suppliedImagePiece, dockerTarFilePath, outputDirectory, environmentVariables, bashExe, dockerInspectorInfo, dockerProperties).orElse(null);
+            final List<File> producedFiles = new ArrayList<>();
+            producedFiles.add(producedBdioFile);
+            Optional.ofNullable(fileFinder.findFile(outputDirectory, RESULTS_FILENAME_PATTERN)).ifPresent(producedFiles::add);
+            // The supplied tar is never copied into the cache, only the image files Docker Inspector produced.
+            Optional.ofNullable(scanFile).filter(file -> file.equals(producedSquashedImageFile) || file.equals(producedContainerFileSystemFile)).ifPresent(producedFiles::add);
+            if (storeKey != null) {
+                resultCache.store(storeKey, producedFiles);
+            }
+        }
+
         final Extraction.Builder extractionBuilder = findCodeLocations(outputDirectory, directory);
         final String imageIdentifier = getImageIdentifierFromOutputDirectoryIfImageIdPresent(outputDirectory, suppliedImagePiece, imageIdentifierType);
         extractionBuilder.metaData(DOCKER_TAR_META_DATA, scanFile).metaData(DOCKER_IMAGE_NAME_META_DATA, imageIdentifier);
@@ -0,0 +1,103 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.docker;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.annotations.SerializedName;
+
+// The identity of an image saved with 'docker save', read from the manifest.json in the tar without extracting any layers.
+public class DockerImageArchive {
+    private static final String MANIFEST_FILENAME = "manifest.json";
+    private static final String IMAGE_ID_PREFIX = "sha256:";
+
+    private final String imageId;
+    private final List<String> repoTags;
+
+    public DockerImageArchive(final String imageId, final List<String> repoTags) {
+        this.imageId = imageId;
+        this.repoTags = repoTags;
+    }
+
+    public static Optional<DockerImageArchive> read(final File imageTar, final Gson gson) throws IOException {
+        try (final TarArchiveInputStream tarInputStream = new TarArchiveInputStream(new BufferedInputStream(Files.newInputStream(imageTar.toPath())))) {
+            TarArchiveEntry entry;
+            while ((entry = tarInputStream.getNextTarEntry()) != null) {
+                if (MANIFEST_FILENAME.equals(entry.getName())) {
+                    return parseManifest(new InputStreamReader(tarInputStream, StandardCharsets.UTF_8), gson);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<DockerImageArchive> parseManifest(final InputStreamReader manifestReader, final Gson gson) {
+        final ManifestEntry[] manifestEntries;
+        try {
+            manifestEntries = gson.fromJson(manifestReader, ManifestEntry[].class);
+        } catch (final JsonSyntaxException e) {
+            return Optional.empty();
+        }
+        // A tar holding more than one image has no single identity.
+        if (manifestEntries == null || manifestEntries.length != 1 || StringUtils.isBlank(manifestEntries[0].config)) {
+            return Optional.empty();
+        }
+
+        // The config blob is named after the image id: "<id>.json" from older engines, "blobs/sha256/<id>" in the OCI layout.
+        final String configName = StringUtils.substringAfterLast("/" + manifestEntries[0].config, "/");
+        final String imageId = IMAGE_ID_PREFIX + StringUtils.removeEnd(configName, ".json");
+        final List<String> repoTags = manifestEntries[0].repoTags == null ? Collections.emptyList() : new ArrayList<>(manifestEntries[0].repoTags);
+        return Optional.of(new DockerImageArchive(imageId, repoTags));
+    }
+
+    public String getImageId() {
+        return imageId;
+    }
+
+    public List<String> getRepoTags() {
+        return repoTags;
+    }
+
+    private static class ManifestEntry {
+        @SerializedName("Config")
+        private String config;
+
+        @SerializedName("RepoTags")
+        private List<String> repoTags;
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.docker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Keeps the files Docker Inspector produced for an image so an unchanged image does not have to be inspected again.
+// Entries are keyed by image id, supplied image, inspector and settings, and are only ever written whole, so a reader never sees a partial entry.
+public class DockerInspectorResultCache {
+    private static final String COMPLETE_MARKER = ".complete";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final File cacheDirectory;
+
+    public DockerInspectorResultCache(final File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    // Places the cached files for the key in the output directory, returning false when there is no complete entry.
+    public boolean restore(final String key, final File outputDirectory) {
+        final File entryDirectory = new File(cacheDirectory, hash(key));
+        final File[] cachedFiles = entryDirectory.listFiles();
+        if (cachedFiles == null || !new File(entryDirectory, COMPLETE_MARKER).isFile()) {
+            return false;
+        }
+        try {
+            Files.createDirectories(outputDirectory.toPath());
+            for (final File cachedFile : cachedFiles) {
+                if (!COMPLETE_MARKER.equals(cachedFile.getName())) {
+                    linkOrCopy(cachedFile.toPath(), new File(outputDirectory, cachedFile.getName()).toPath());
+                }
+            }
+            return true;
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to restore cached Docker Inspector results from %s: %s", entryDirectory, e.getMessage()));
+            return false;
+        }
+    }
+
+    public void store(final String key, final List<File> producedFiles) {
+        final File entryDirectory = new File(cacheDirectory, hash(key));
+        if (entryDirectory.exists()) {
+            return;
+        }
+        final File stagingDirectory = new File(cacheDirectory, entryDirectory.getName() + "-" + UUID.randomUUID().toString() + ".tmp");
+        try {
+            Files.createDirectories(stagingDirectory.toPath());
+            for (final File producedFile : producedFiles) {
+                linkOrCopy(producedFile.toPath(), new File(stagingDirectory, producedFile.getName()).toPath());
+            }
+            Files.write(new File(stagingDirectory, COMPLETE_MARKER).toPath(), key.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(stagingDirectory.toPath(), entryDirectory.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(stagingDirectory.toPath(), entryDirectory.toPath());
+            }
+            logger.debug(String.format("Cached Docker Inspector results in %s", entryDirectory));
+        } catch (final IOException e) {
+            // Another run may have stored the same entry first; either way the cache is only an optimization.
+            logger.debug(String.format("Unable to cache Docker Inspector results in %s: %s", entryDirectory, e.getMessage()));
+        } finally {
+            FileUtils.deleteQuietly(stagingDirectory);
+        }
+    }
+
+    // The squashed image can be very large, so a hard link is preferred whenever both paths are on the same file system.
+    private void linkOrCopy(final Path source, final Path target) throws IOException {
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+        } catch (final IOException | UnsupportedOperationException e) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private String hash(final String key) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final StringBuilder hex = new StringBuilder();
+            for (final byte digestByte : digest.digest(key.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", digestByte));
+            }
+            return hex.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,6 +67,13 @@ public class DockerProperties {
         dockerProperties.store(new FileOutputStream(dockerPropertiesFile), "");
     }
 
+    // The settings that change what Docker Inspector reports for an image, including any project name and version passed through. Paths that differ between runs are left out.
+    public String getResultFingerprint() {
+        final Map<String, String> settings = new TreeMap<>(dockerDetectableOptions.getAdditionalDockerProperties());
+        dockerDetectableOptions.getDockerPlatformTopLayerId().ifPresent(id -> settings.put("docker.platform.top.layer.id", id));
+        return settings.toString();
+    }
+
     private File createDir(final File parentDir, final String newDirName) throws IOException {
         final File newDir = new File(parentDir, newDirName);
         Files.createDirectories(newDir.toPath());
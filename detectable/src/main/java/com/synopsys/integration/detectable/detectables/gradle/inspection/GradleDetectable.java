@@ -96,6 +96,7 @@ public class GradleDetectable extends Detectable {
     @Override
     public Extraction extract(ExtractionEnvironment extractionEnvironment) {
         String gradleCommand = gradleInspectorOptions.getGradleBuildCommand().orElse(null);
-        return gradleInspectorExtractor.extract(environment.getDirectory(), gradleExe, gradleCommand, gradleInspectorOptions.getproxyInfo(), gradleInspector, extractionEnvironment.getOutputDirectory());
+        return gradleInspectorExtractor.extract(environment.getDirectory(), gradleExe, gradleCommand, gradleInspectorOptions.getproxyInfo(), gradleInspector, extractionEnvironment.getOutputDirectory(),
+            gradleInspectorOptions.isDaemonExecution(), gradleInspectorOptions.isSingleInvocation());
     }
 }
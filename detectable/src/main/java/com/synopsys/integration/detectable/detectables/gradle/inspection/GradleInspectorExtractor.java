@@ -23,10 +23,14 @@
 package com.synopsys.integration.detectable.detectables.gradle.inspection;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +39,7 @@ import com.synopsys.integration.detectable.Extraction;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleReport;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleRootMetadataParser;
@@ -45,36 +50,53 @@ import com.synopsys.integration.util.NameVersion;
 public class GradleInspectorExtractor {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    private static final String ROOT_PROJECT_METADATA_FILENAME = "rootProjectMetadata.txt";
+    private static final String DEPENDENCY_GRAPH_FILENAME_PATTERN = "*_dependencyGraph.txt";
+    private static final List<String> SETTINGS_FILENAMES = Arrays.asList("settings.gradle", "settings.gradle.kts");
+
     private final FileFinder fileFinder;
     private final GradleRunner gradleRunner;
     private final GradleReportParser gradleReportParser;
     private final GradleReportTransformer gradleReportTransformer;
     private final GradleRootMetadataParser gradleRootMetadataParser;
+    private final GradleRootBuildCache gradleRootBuildCache;
 
     public GradleInspectorExtractor(FileFinder fileFinder, GradleRunner gradleRunner, GradleReportParser gradleReportParser,
         GradleReportTransformer gradleReportTransformer,
-        GradleRootMetadataParser gradleRootMetadataParser) {
+        GradleRootMetadataParser gradleRootMetadataParser, GradleRootBuildCache gradleRootBuildCache) {
         this.fileFinder = fileFinder;
         this.gradleRunner = gradleRunner;
         this.gradleReportParser = gradleReportParser;
         this.gradleReportTransformer = gradleReportTransformer;
         this.gradleRootMetadataParser = gradleRootMetadataParser;
+        this.gradleRootBuildCache = gradleRootBuildCache;
     }
 
-    public Extraction extract(File directory, File gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory) {
+    public Extraction extract(File directory, File gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory, boolean daemonExecution, boolean singleInvocation) {
         try {
-            ExecutableOutput gradleExecutableOutput = gradleRunner.runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory);
+            // A directory with its own settings file is a build of its own, such as an included build, so it is never covered by another build's invocation.
+            if (singleInvocation && !isRootBuild(directory)) {
+                Optional<File> rootBuildOutput = gradleRootBuildCache.findRootBuildOutput(directory);
+                if (rootBuildOutput.isPresent()) {
+                    Optional<Extraction> rootBuildExtraction = extractFromRootBuild(directory, rootBuildOutput.get());
+                    if (rootBuildExtraction.isPresent()) {
+                        return rootBuildExtraction.get();
+                    }
+                    logger.debug(String.format("The root gradle build did not report on %s, gradle will be run for it.", directory));
+                }
+            }
+
+            ExecutableOutput gradleExecutableOutput = gradleRunner.runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory, daemonExecution);
 
             if (gradleExecutableOutput.getReturnCode() != 0) {
                 throw new IntegrationException("The gradle inspector returned a non-zero exit code: " + gradleExecutableOutput.getReturnCode());
             }
 
-            File rootProjectMetadataFile = fileFinder.findFile(outputDirectory, "rootProjectMetadata.txt");
-            List<File> reportFiles = fileFinder.findFiles(outputDirectory, "*_dependencyGraph.txt");
+            File rootProjectMetadataFile = fileFinder.findFile(outputDirectory, ROOT_PROJECT_METADATA_FILENAME);
+            List<File> reportFiles = fileFinder.findFiles(outputDirectory, DEPENDENCY_GRAPH_FILENAME_PATTERN);
 
             List<CodeLocation> codeLocations = new ArrayList<>();
-            String projectName = null;
-            String projectVersion = null;
+            NameVersion projectNameVersion = null;
             if (reportFiles != null) {
                 reportFiles.stream()
                     .map(gradleReportParser::parseReport)
@@ -83,25 +105,64 @@ public class GradleInspectorExtractor {
                     .map(gradleReportTransformer::transform)
                     .forEach(codeLocations::add);
 
-                if (rootProjectMetadataFile != null) {
-                    Optional<NameVersion> projectNameVersion = gradleRootMetadataParser.parseRootProjectNameVersion(rootProjectMetadataFile);
-                    if (projectNameVersion.isPresent()) {
-                        projectName = projectNameVersion.get().getName();
-                        projectVersion = projectNameVersion.get().getVersion();
-                    }
-                } else {
-                    logger.warn("Gradle inspector did not create a meta data report so no project version information was found.");
-                }
+                projectNameVersion = parseRootProjectNameVersion(rootProjectMetadataFile);
+            }
+
+            if (singleInvocation && isRootBuild(directory)) {
+                gradleRootBuildCache.recordRootBuild(directory, outputDirectory);
             }
 
-            return new Extraction.Builder()
-                       .success(codeLocations)
-                       .projectName(projectName)
-                       .projectVersion(projectVersion)
-                       .build();
+            return createExtraction(codeLocations, projectNameVersion);
         } catch (Exception e) {
             return new Extraction.Builder().exception(e).build();
         }
     }
 
+    // Takes the reports the root build's invocation wrote for projects in this directory. Running gradle here would have reported the
+    // directory's own project as the root project, so its name and version come from that project's report, not the root build's metadata.
+    private Optional<Extraction> extractFromRootBuild(File directory, File rootBuildOutput) {
+        Path directoryPath = directory.getAbsoluteFile().toPath().normalize();
+        List<CodeLocation> codeLocations = new ArrayList<>();
+        NameVersion projectNameVersion = null;
+        for (File reportFile : fileFinder.findFiles(rootBuildOutput, DEPENDENCY_GRAPH_FILENAME_PATTERN)) {
+            Optional<GradleReport> gradleReport = gradleReportParser.parseReport(reportFile);
+            if (!gradleReport.isPresent() || StringUtils.isBlank(gradleReport.get().getProjectSourcePath())) {
+                continue;
+            }
+            Path projectPath = Paths.get(gradleReport.get().getProjectSourcePath()).toAbsolutePath().normalize();
+            if (projectPath.startsWith(directoryPath)) {
+                codeLocations.add(gradleReportTransformer.transform(gradleReport.get()));
+                if (projectPath.equals(directoryPath)) {
+                    projectNameVersion = new NameVersion(gradleReport.get().getProjectName(), gradleReport.get().getProjectVersionName());
+                }
+            }
+        }
+
+        if (codeLocations.isEmpty()) {
+            return Optional.empty();
+        }
+        logger.info(String.format("Using the reports of the root gradle build for %s instead of running gradle again.", directory));
+        return Optional.of(createExtraction(codeLocations, projectNameVersion));
+    }
+
+    @Nullable
+    private NameVersion parseRootProjectNameVersion(@Nullable File rootProjectMetadataFile) {
+        if (rootProjectMetadataFile == null) {
+            logger.warn("Gradle inspector did not create a meta data report so no project version information was found.");
+            return null;
+        }
+        return gradleRootMetadataParser.parseRootProjectNameVersion(rootProjectMetadataFile).orElse(null);
+    }
+
+    private Extraction createExtraction(List<CodeLocation> codeLocations, @Nullable NameVersion projectNameVersion) {
+        return new Extraction.Builder()
+                   .success(codeLocations)
+                   .projectName(projectNameVersion == null ? null : projectNameVersion.getName())
+                   .projectVersion(projectNameVersion == null ? null : projectNameVersion.getVersion())
+                   .build();
+    }
+
+    private boolean isRootBuild(File directory) {
+        return !fileFinder.findFiles(directory, SETTINGS_FILENAMES).isEmpty();
+    }
 }
@@ -31,11 +31,24 @@ public class GradleInspectorOptions {
     private final String gradleBuildCommand;
     private final GradleInspectorScriptOptions gradleInspectorScriptOptions;
     private final ProxyInfo proxyInfo;
+    private final boolean daemonExecution;
+    private final boolean singleInvocation;
 
     public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo) {
+        this(gradleBuildCommand, gradleInspectorScriptOptions, proxyInfo, false);
+    }
+
+    public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo, final boolean daemonExecution) {
+        this(gradleBuildCommand, gradleInspectorScriptOptions, proxyInfo, daemonExecution, false);
+    }
+
+    public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo, final boolean daemonExecution,
+        final boolean singleInvocation) {
         this.gradleBuildCommand = gradleBuildCommand;
         this.gradleInspectorScriptOptions = gradleInspectorScriptOptions;
         this.proxyInfo = proxyInfo;
+        this.daemonExecution = daemonExecution;
+        this.singleInvocation = singleInvocation;
     }
 
     public Optional<String> getGradleBuildCommand() {
@@ -49,4 +62,12 @@ public class GradleInspectorOptions {
     public ProxyInfo getproxyInfo() {
         return proxyInfo;
     }
+
+    public boolean isDaemonExecution() {
+        return daemonExecution;
+    }
+
+    public boolean isSingleInvocation() {
+        return singleInvocation;
+    }
 }
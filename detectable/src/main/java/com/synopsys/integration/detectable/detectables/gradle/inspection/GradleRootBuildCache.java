@@ -0,0 +1,58 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// Remembers where each root build inspected with a single invocation left its reports, so a nested Gradle project that the invocation
+// already reported on can take its code locations from there instead of configuring the whole build again.
+public class GradleRootBuildCache {
+    private final Map<Path, File> outputDirectoriesByBuild = new LinkedHashMap<>();
+
+    public synchronized void recordRootBuild(File rootBuildDirectory, File outputDirectory) {
+        outputDirectoriesByBuild.put(normalize(rootBuildDirectory), outputDirectory);
+    }
+
+    // The nearest covering build wins, since it is the smallest build that was configured with the directory.
+    public synchronized Optional<File> findRootBuildOutput(File directory) {
+        Path directoryPath = normalize(directory);
+        if (outputDirectoriesByBuild.containsKey(directoryPath)) {
+            return Optional.empty();
+        }
+        Path nearestBuild = null;
+        for (Path build : outputDirectoriesByBuild.keySet()) {
+            if (directoryPath.startsWith(build) && (nearestBuild == null || build.getNameCount() > nearestBuild.getNameCount())) {
+                nearestBuild = build;
+            }
+        }
+        return Optional.ofNullable(nearestBuild).map(outputDirectoriesByBuild::get);
+    }
+
+    private Path normalize(File directory) {
+        return directory.getAbsoluteFile().toPath().normalize();
+    }
+}
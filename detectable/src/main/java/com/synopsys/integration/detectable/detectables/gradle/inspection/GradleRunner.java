@@ -26,7 +26,9 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
@@ -37,6 +39,9 @@ import com.synopsys.integration.detectable.detectable.executable.ExecutableRunne
 import com.synopsys.integration.rest.proxy.ProxyInfo;
 
 public class GradleRunner {
+    private static final Set<String> LOG_LEVEL_ARGUMENTS = new HashSet<>(Arrays.asList("-q", "--quiet", "-w", "--warn", "-i", "--info", "-d", "--debug"));
+    private static final Set<String> DAEMON_ARGUMENTS = new HashSet<>(Arrays.asList("--daemon", "--no-daemon"));
+
     private final ExecutableRunner executableRunner;
 
     public GradleRunner(ExecutableRunner executableRunner) {
@@ -44,6 +49,14 @@ public class GradleRunner {
     }
 
     public ExecutableOutput runGradleDependencies(File directory, File gradleExe, File gradleInspector, @Nullable String gradleCommand, ProxyInfo proxyInfo, File outputDirectory) throws IOException, ExecutableRunnerException {
+        return runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory, false);
+    }
+
+    // In daemon execution every Gradle extraction of the run is handed to the same warm daemon, and because the report files are
+    // the only thing read back the console is kept quiet instead of streaming the --info log through the executable runner.
+    // A daemon or log level choice already in the build command is left to the user.
+    public ExecutableOutput runGradleDependencies(File directory, File gradleExe, File gradleInspector, @Nullable String gradleCommand, ProxyInfo proxyInfo, File outputDirectory, boolean daemonExecution)
+        throws IOException, ExecutableRunnerException {
         List<String> arguments = new ArrayList<>();
         if (StringUtils.isNotBlank(gradleCommand)) {
             gradleCommand = gradleCommand.replace("dependencies", "").trim();
@@ -54,7 +67,16 @@ public class GradleRunner {
         arguments.add("dependencies");
         arguments.add(String.format("--init-script=%s", gradleInspector));
         arguments.add(String.format("-DGRADLEEXTRACTIONDIR=%s", outputDirectory.getCanonicalPath()));
-        arguments.add("--info");
+        if (daemonExecution) {
+            if (arguments.stream().noneMatch(DAEMON_ARGUMENTS::contains)) {
+                arguments.add("--daemon");
+            }
+            if (arguments.stream().noneMatch(LOG_LEVEL_ARGUMENTS::contains)) {
+                arguments.add("--quiet");
+            }
+        } else {
+            arguments.add("--info");
+        }
 
         if (proxyInfo.getHost().isPresent()) {
             arguments.add("-Dhttps.proxyHost=" + proxyInfo.getHost().get());
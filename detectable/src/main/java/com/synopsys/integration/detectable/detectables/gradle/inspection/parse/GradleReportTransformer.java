@@ -29,12 +29,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
-import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.externalid.InterningExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.graph.CompactDependencyGraphBuilder;
 import com.synopsys.integration.detectable.detectable.util.DependencyHistory;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleConfiguration;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGav;
@@ -51,7 +51,7 @@ public class GradleReportTransformer {
     }
 
     public CodeLocation transform(final GradleReport gradleReport) {
-        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        final CompactDependencyGraphBuilder graph = new CompactDependencyGraphBuilder();
 
         for (final GradleConfiguration configuration : gradleReport.getConfigurations()) {
             logger.trace(String.format("Adding configuration to the graph: %s", configuration.getName()));
@@ -60,13 +60,13 @@ public class GradleReportTransformer {
 
         final ExternalId projectId = externalIdFactory.createMavenExternalId(gradleReport.getProjectGroup(), gradleReport.getProjectName(), gradleReport.getProjectVersionName());
         if (StringUtils.isNotBlank(gradleReport.getProjectSourcePath())) {
-            return new CodeLocation(graph, projectId, new File(gradleReport.getProjectSourcePath()));
+            return new CodeLocation(graph.build(), projectId, new File(gradleReport.getProjectSourcePath()));
         } else {
-            return new CodeLocation(graph, projectId);
+            return new CodeLocation(graph.build(), projectId);
         }
     }
 
-    private void addConfigurationToGraph(final MutableDependencyGraph graph, final GradleConfiguration configuration) {
+    private void addConfigurationToGraph(final CompactDependencyGraphBuilder graph, final GradleConfiguration configuration) {
         final DependencyHistory history = new DependencyHistory();
         Optional<Integer> skipUntil = Optional.empty();
 
@@ -86,12 +86,12 @@ public class GradleReportTransformer {
 
             final GradleGav gav = currentNode.getGav().get(); // TODO: Why are we not doing an isPresent() check here?
             final ExternalId externalId = externalIdFactory.createMavenExternalId(gav.getName(), gav.getArtifact(), gav.getVersion());
-            final Dependency currentDependency = new Dependency(gav.getArtifact(), gav.getVersion(), externalId);
+            final Dependency currentDependency = InterningExternalIdFactory.createDependency(externalIdFactory, gav.getArtifact(), gav.getVersion(), externalId);
 
             if (history.isEmpty()) {
                 graph.addChildToRoot(currentDependency);
             } else {
-                graph.addChildWithParents(currentDependency, history.getLastDependency());
+                graph.addChildWithParent(currentDependency, history.getLastDependency());
             }
             history.add(currentDependency);
         }
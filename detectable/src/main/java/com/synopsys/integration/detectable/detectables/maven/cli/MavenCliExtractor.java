@@ -25,29 +25,47 @@ package com.synopsys.integration.detectable.detectables.maven.cli;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detectable.Extraction;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.executable.Executable;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
 
 public class MavenCliExtractor {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     private final ExecutableRunner executableRunner;
     private final MavenCodeLocationPackager mavenCodeLocationPackager;
+    private final MavenReactorParser mavenReactorParser;
+    private final MavenReactorCache mavenReactorCache;
 
-    public MavenCliExtractor(final ExecutableRunner executableRunner, final MavenCodeLocationPackager mavenCodeLocationPackager) {
+    public MavenCliExtractor(final ExecutableRunner executableRunner, final MavenCodeLocationPackager mavenCodeLocationPackager, final MavenReactorParser mavenReactorParser, final MavenReactorCache mavenReactorCache) {
         this.executableRunner = executableRunner;
         this.mavenCodeLocationPackager = mavenCodeLocationPackager;
+        this.mavenReactorParser = mavenReactorParser;
+        this.mavenReactorCache = mavenReactorCache;
     }
 
     //TODO: Limit 'extractors' to 'execute' and 'read', delegate all other work.
     public Extraction extract(final File directory, final File mavenExe, MavenCliExtractorOptions mavenCliExtractorOptions) {
         try {
+            if (mavenCliExtractorOptions.isSingleInvocation()) {
+                final Optional<List<MavenParseResult>> moduleResults = mavenReactorCache.findModuleResults(directory);
+                if (moduleResults.isPresent()) {
+                    logger.info(String.format("Using the dependency trees of the root maven reactor for %s instead of running maven again.", directory));
+                    return createExtraction(moduleResults.get());
+                }
+            }
+
             String[] mavenCommand = mavenCliExtractorOptions.getMavenBuildCommand()
                                         .map(cmd -> cmd.replace("dependency:tree", ""))
                                         .map(String::trim)
@@ -61,30 +79,27 @@ public class MavenCliExtractor {
             arguments.add("dependency:tree");
             arguments.add("-T1"); // Force maven to use a single thread to ensure the tree output is in the correct order.
 
-            final ExecutableOutput mvnOutput = executableRunner.execute(directory, mavenExe, arguments);
+            // TODO: Improve null handling.
+            final String excludedScopes = mavenCliExtractorOptions.getMavenExcludedScopes().orElse(null);
+            final String includedScopes = mavenCliExtractorOptions.getMavenIncludedScopes().orElse(null);
+            final String excludedModules = mavenCliExtractorOptions.getMavenExcludedModules().orElse(null);
+            final String includedModules = mavenCliExtractorOptions.getMavenIncludedModules().orElse(null);
+            mavenCodeLocationPackager.startParsing(directory.toString(), excludedScopes, includedScopes, excludedModules, includedModules);
+
+            // The tree is parsed line by line while maven is still running rather than from the collected output.
+            final Executable mvnExecutable = new Executable(directory, new HashMap<>(), mavenExe.getAbsolutePath(), arguments);
+            final ExecutableOutput mvnOutput = executableRunner.execute(mvnExecutable, mavenCodeLocationPackager::parseLine);
 
             if (mvnOutput.getReturnCode() == 0) {
-                // TODO: Improve null handling.
-                final String excludedScopes = mavenCliExtractorOptions.getMavenExcludedScopes().orElse(null);
-                final String includedScopes = mavenCliExtractorOptions.getMavenIncludedScopes().orElse(null);
-                final String excludedModules = mavenCliExtractorOptions.getMavenExcludedModules().orElse(null);
-                final String includedModules = mavenCliExtractorOptions.getMavenIncludedModules().orElse(null);
-                final List<MavenParseResult> mavenResults = mavenCodeLocationPackager.extractCodeLocations(directory.toString(), mvnOutput.getStandardOutput(), excludedScopes, includedScopes, excludedModules, includedModules);
-
-                final List<CodeLocation> codeLocations = mavenResults.stream()
-                                                             .map(mavenResult -> mavenResult.getCodeLocation())
-                                                             .collect(Collectors.toList());
-
-                final Optional<MavenParseResult> firstWithName = mavenResults.stream()
-                                                                     .filter(it -> StringUtils.isNoneBlank(it.getProjectName()))
-                                                                     .findFirst();
-
-                final Extraction.Builder builder = new Extraction.Builder().success(codeLocations);
-                if (firstWithName.isPresent()) {
-                    builder.projectName(firstWithName.get().getProjectName());
-                    builder.projectVersion(firstWithName.get().getProjectVersion());
+                final List<MavenParseResult> mavenResults = mavenCodeLocationPackager.finishParsing();
+
+                if (mavenCliExtractorOptions.isSingleInvocation()) {
+                    mavenReactorParser.parseReactor(new File(directory, MavenPomDetectable.POM_FILENAME))
+                        .filter(reactor -> !reactor.getModules().isEmpty())
+                        .ifPresent(reactor -> mavenReactorCache.recordReactor(reactor, mavenResults));
                 }
-                return builder.build();
+
+                return createExtraction(mavenResults);
             } else {
                 final Extraction.Builder builder = new Extraction.Builder().failure(String.format("Executing command '%s' returned a non-zero exit code %s", String.join(" ", arguments), mvnOutput.getReturnCode()));
                 return builder.build();
@@ -94,4 +109,20 @@ public class MavenCliExtractor {
         }
     }
 
+    private Extraction createExtraction(final List<MavenParseResult> mavenResults) {
+        final List<CodeLocation> codeLocations = mavenResults.stream()
+                                                     .map(mavenResult -> mavenResult.getCodeLocation())
+                                                     .collect(Collectors.toList());
+
+        final Optional<MavenParseResult> firstWithName = mavenResults.stream()
+                                                             .filter(it -> StringUtils.isNoneBlank(it.getProjectName()))
+                                                             .findFirst();
+
+        final Extraction.Builder builder = new Extraction.Builder().success(codeLocations);
+        if (firstWithName.isPresent()) {
+            builder.projectName(firstWithName.get().getProjectName());
+            builder.projectVersion(firstWithName.get().getProjectVersion());
+        }
+        return builder.build();
+    }
 }
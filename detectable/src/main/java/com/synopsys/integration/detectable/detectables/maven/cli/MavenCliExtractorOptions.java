@@ -30,13 +30,20 @@ public class MavenCliExtractorOptions {
     private final String mavenIncludedScopes;
     private final String mavenExcludedModules;
     private final String mavenIncludedModules;
+    private final boolean singleInvocation;
 
     public MavenCliExtractorOptions(final String mavenBuildCommand, final String mavenExcludedScopes, final String mavenIncludedScopes, final String mavenExcludedModules, final String mavenIncludedModules) {
+        this(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules, false);
+    }
+
+    public MavenCliExtractorOptions(final String mavenBuildCommand, final String mavenExcludedScopes, final String mavenIncludedScopes, final String mavenExcludedModules, final String mavenIncludedModules,
+        final boolean singleInvocation) {
         this.mavenBuildCommand = mavenBuildCommand;
         this.mavenExcludedScopes = mavenExcludedScopes;
         this.mavenIncludedScopes = mavenIncludedScopes;
         this.mavenExcludedModules = mavenExcludedModules;
         this.mavenIncludedModules = mavenIncludedModules;
+        this.singleInvocation = singleInvocation;
     }
 
     public Optional<String> getMavenBuildCommand() {
@@ -58,4 +65,8 @@ public class MavenCliExtractorOptions {
     public Optional<String> getMavenIncludedModules() {
         return Optional.ofNullable(mavenIncludedModules);
     }
+
+    public boolean isSingleInvocation() {
+        return singleInvocation;
+    }
 }
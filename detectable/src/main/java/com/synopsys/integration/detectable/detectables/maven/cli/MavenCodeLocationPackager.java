@@ -40,6 +40,7 @@ import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.externalid.InterningExternalIdFactory;
 import com.synopsys.integration.util.ExcludedIncludedWildcardFilter;
 
 // TODO: Re-write. Some fields could be local variables. Includes many code smells. A component none:Additional_Components:none appears in the graph.
@@ -64,6 +65,9 @@ public class MavenCodeLocationPackager {
     private int level;
     private boolean inOutOfScopeTree = false;
     private MutableDependencyGraph currentGraph = null;
+    private String sourcePath;
+    private ExcludedIncludedWildcardFilter modulesFilter;
+    private ExcludedIncludedWildcardFilter scopeFilter;
 
     public MavenCodeLocationPackager(final ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
@@ -71,50 +75,63 @@ public class MavenCodeLocationPackager {
 
     // mavenTextOutput should be the full output of mvn dependency:tree (no scope applied); scope filtering is now done by this method
     public List<MavenParseResult> extractCodeLocations(final String sourcePath, final String mavenOutputText, final String excludedScopes, final String includedScopes, final String excludedModules, final String includedModules) {
-        final ExcludedIncludedWildcardFilter modulesFilter = new ExcludedIncludedWildcardFilter(excludedModules, includedModules);
-        final ExcludedIncludedWildcardFilter scopeFilter = new ExcludedIncludedWildcardFilter(excludedScopes, includedScopes);
+        startParsing(sourcePath, excludedScopes, includedScopes, excludedModules, includedModules);
+        for (final String currentLine : mavenOutputText.split(System.lineSeparator())) {
+            parseLine(currentLine);
+        }
+        return finishParsing();
+    }
+
+    // Incremental form of extractCodeLocations: call startParsing, then parseLine for each line of output as maven writes it, then finishParsing.
+    // Lines outside the dependency:tree sections are discarded as they arrive, so the full output never needs to be held.
+    public void startParsing(final String sourcePath, final String excludedScopes, final String includedScopes, final String excludedModules, final String includedModules) {
+        this.sourcePath = sourcePath;
+        modulesFilter = new ExcludedIncludedWildcardFilter(excludedModules, includedModules);
+        scopeFilter = new ExcludedIncludedWildcardFilter(excludedScopes, includedScopes);
         codeLocations = new ArrayList<>();
         currentMavenProject = null;
         dependencyParentStack = new Stack<>();
         parsingProjectSection = false;
         currentGraph = new MutableMapDependencyGraph();
-
         level = 0;
-        for (final String currentLine : mavenOutputText.split(System.lineSeparator())) {
-            String line = currentLine.trim();
+    }
 
-            if (shouldSkipLine(line)) {
-                continue;
-            }
+    public void parseLine(final String currentLine) {
+        String line = currentLine.trim();
 
-            line = trimLogLevel(line);
+        if (shouldSkipLine(line)) {
+            return;
+        }
 
-            if (parsingProjectSection && currentMavenProject == null) {
-                initializeCurrentMavenProject(modulesFilter, sourcePath, line);
-                continue;
-            }
+        line = trimLogLevel(line);
 
-            final boolean finished = line.contains("--------") || endOfTreePattern.matcher(line).matches();
-            if (finished) {
-                currentMavenProject = null;
-                dependencyParentStack.clear();
-                parsingProjectSection = false;
-                level = 0;
-                continue;
-            }
+        if (parsingProjectSection && currentMavenProject == null) {
+            initializeCurrentMavenProject(modulesFilter, sourcePath, line);
+            return;
+        }
 
-            final int previousLevel = level;
-            final String cleanedLine = calculateCurrentLevelAndCleanLine(line);
-            final ScopedDependency dependency = textToDependency(cleanedLine);
-            if (null == dependency) {
-                continue;
-            }
-            if (currentMavenProject != null) {
-                populateGraphDependencies(scopeFilter, dependency, previousLevel);
-            }
+        final boolean finished = line.contains("--------") || endOfTreePattern.matcher(line).matches();
+        if (finished) {
+            currentMavenProject = null;
+            dependencyParentStack.clear();
+            parsingProjectSection = false;
+            level = 0;
+            return;
         }
-        addOrphansToGraph(currentGraph, orphans);
 
+        final int previousLevel = level;
+        final String cleanedLine = calculateCurrentLevelAndCleanLine(line);
+        final ScopedDependency dependency = textToDependency(cleanedLine);
+        if (null == dependency) {
+            return;
+        }
+        if (currentMavenProject != null) {
+            populateGraphDependencies(scopeFilter, dependency, previousLevel);
+        }
+    }
+
+    public List<MavenParseResult> finishParsing() {
+        addOrphansToGraph(currentGraph, orphans);
         return codeLocations;
     }
 
@@ -227,16 +244,19 @@ public class MavenCodeLocationPackager {
     private MavenParseResult createMavenParseResult(final String sourcePath, final String line, final DependencyGraph graph) {
         final Dependency dependency = textToProject(line);
         if (null != dependency) {
-            String codeLocationSourcePath = sourcePath;
-            if (!sourcePath.endsWith(dependency.getName())) {
-                codeLocationSourcePath += "/" + dependency.getName();
-            }
-            final CodeLocation codeLocation = new CodeLocation(graph, dependency.getExternalId(), new File(codeLocationSourcePath));
+            final CodeLocation codeLocation = new CodeLocation(graph, dependency.getExternalId(), new File(toCodeLocationSourcePath(sourcePath, dependency.getName())));
             return new MavenParseResult(dependency.getName(), dependency.getVersion(), codeLocation);
         }
         return null;
     }
 
+    public static String toCodeLocationSourcePath(final String sourcePath, final String projectName) {
+        if (sourcePath.endsWith(projectName)) {
+            return sourcePath;
+        }
+        return sourcePath + "/" + projectName;
+    }
+
     public String calculateCurrentLevelAndCleanLine(final String line) {
         level = 0;
         String cleanedLine = line;
@@ -293,7 +313,7 @@ public class MavenCodeLocationPackager {
             return null;
         }
         final ExternalId externalId = externalIdFactory.createMavenExternalId(group, artifact, version);
-        return new Dependency(artifact, version, externalId);
+        return InterningExternalIdFactory.createDependency(externalIdFactory, artifact, version, externalId);
     }
 
     public boolean isLineRelevant(final String line) {
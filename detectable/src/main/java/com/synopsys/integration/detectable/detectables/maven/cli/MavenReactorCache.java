@@ -0,0 +1,83 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.maven.cli;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+
+// Keeps the parse results of each root reactor run, so a nested module directory can be given the trees the root run already produced for
+// it and its sub-modules instead of running dependency:tree again.
+public class MavenReactorCache {
+    private final List<MavenReactorModule> reactors = new ArrayList<>();
+    private final List<List<MavenParseResult>> reactorResults = new ArrayList<>();
+
+    public synchronized void recordReactor(final MavenReactorModule reactor, final List<MavenParseResult> mavenResults) {
+        reactors.add(reactor);
+        reactorResults.add(mavenResults);
+    }
+
+    // Results are rebased onto the module directory so their code locations are the ones a run in that directory would have created.
+    public synchronized Optional<List<MavenParseResult>> findModuleResults(final File directory) {
+        final File moduleDirectory = directory.getAbsoluteFile().toPath().normalize().toFile();
+        for (int i = 0; i < reactors.size(); i++) {
+            final MavenReactorModule reactor = reactors.get(i);
+            if (reactor.getDirectory().equals(moduleDirectory)) {
+                continue;
+            }
+            final Optional<MavenReactorModule> module = reactor.findModule(moduleDirectory);
+            if (module.isPresent()) {
+                final List<MavenParseResult> moduleResults = new ArrayList<>();
+                for (final MavenParseResult mavenResult : reactorResults.get(i)) {
+                    if (isBuiltBy(module.get(), mavenResult)) {
+                        moduleResults.add(rebase(directory.toString(), mavenResult));
+                    }
+                }
+                if (!moduleResults.isEmpty()) {
+                    return Optional.of(moduleResults);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean isBuiltBy(final MavenReactorModule module, final MavenParseResult mavenResult) {
+        final Optional<ExternalId> externalId = mavenResult.getCodeLocation().getExternalId();
+        return module.withDescendants().stream()
+                   .anyMatch(built -> built.getArtifactId().equals(mavenResult.getProjectName())
+                                          && (!built.getGroupId().isPresent() || !externalId.isPresent() || built.getGroupId().get().equals(externalId.get().getGroup())));
+    }
+
+    private MavenParseResult rebase(final String sourcePath, final MavenParseResult mavenResult) {
+        final CodeLocation codeLocation = mavenResult.getCodeLocation();
+        final File codeLocationSourcePath = new File(MavenCodeLocationPackager.toCodeLocationSourcePath(sourcePath, mavenResult.getProjectName()));
+        final CodeLocation rebased = codeLocation.getExternalId()
+                                         .map(externalId -> new CodeLocation(codeLocation.getDependencyGraph(), externalId, codeLocationSourcePath))
+                                         .orElseGet(() -> new CodeLocation(codeLocation.getDependencyGraph(), codeLocationSourcePath));
+        return new MavenParseResult(mavenResult.getProjectName(), mavenResult.getProjectVersion(), rebased);
+    }
+}
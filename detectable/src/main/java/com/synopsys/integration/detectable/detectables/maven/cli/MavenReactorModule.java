@@ -0,0 +1,84 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.maven.cli;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+public class MavenReactorModule {
+    private final File directory;
+    @Nullable
+    private final String groupId;
+    private final String artifactId;
+    private final List<MavenReactorModule> modules;
+
+    public MavenReactorModule(final File directory, @Nullable final String groupId, final String artifactId, final List<MavenReactorModule> modules) {
+        this.directory = directory;
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.modules = modules;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public Optional<String> getGroupId() {
+        return Optional.ofNullable(groupId);
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public List<MavenReactorModule> getModules() {
+        return modules;
+    }
+
+    public Optional<MavenReactorModule> findModule(final File moduleDirectory) {
+        if (directory.equals(moduleDirectory)) {
+            return Optional.of(this);
+        }
+        for (final MavenReactorModule module : modules) {
+            final Optional<MavenReactorModule> found = module.findModule(moduleDirectory);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Running maven in a module's directory builds the module and every module beneath it.
+    public List<MavenReactorModule> withDescendants() {
+        final List<MavenReactorModule> descendants = new ArrayList<>();
+        descendants.add(this);
+        for (final MavenReactorModule module : modules) {
+            descendants.addAll(module.withDescendants());
+        }
+        return descendants;
+    }
+}
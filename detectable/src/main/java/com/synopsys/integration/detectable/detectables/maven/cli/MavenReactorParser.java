@@ -0,0 +1,134 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.maven.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+// Reads the module tree a root pom declares, including modules declared in profiles since any of them may be active in the reactor.
+public class MavenReactorParser {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public Optional<MavenReactorModule> parseReactor(final File pomFile) {
+        try {
+            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setAttribute("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            return Optional.ofNullable(parseModule(factory.newDocumentBuilder(), pomFile.getAbsoluteFile().toPath().normalize().toFile(), null, new HashSet<>()));
+        } catch (final Exception e) {
+            logger.debug(String.format("Failed to read the maven reactor of %s", pomFile.getAbsolutePath()), e);
+            return Optional.empty();
+        }
+    }
+
+    @Nullable
+    private MavenReactorModule parseModule(final DocumentBuilder builder, final File pomFile, @Nullable final String inheritedGroupId, final Set<File> parsedPoms) throws IOException, SAXException {
+        if (!pomFile.isFile() || !parsedPoms.add(pomFile)) {
+            return null;
+        }
+        final Document pom = builder.parse(pomFile);
+        final Element project = pom.getDocumentElement();
+        final String artifactId = childText(project, "artifactId");
+        if (StringUtils.isBlank(artifactId)) {
+            return null;
+        }
+        String groupId = childText(project, "groupId");
+        if (StringUtils.isBlank(groupId)) {
+            final Element parent = child(project, "parent");
+            groupId = parent == null ? inheritedGroupId : childText(parent, "groupId");
+        }
+
+        final File directory = pomFile.getParentFile();
+        final List<MavenReactorModule> modules = new ArrayList<>();
+        for (final String modulePath : moduleDeclarations(project)) {
+            File modulePom = new File(directory, modulePath);
+            if (!modulePath.endsWith(".xml")) {
+                modulePom = new File(modulePom, MavenPomDetectable.POM_FILENAME);
+            }
+            final MavenReactorModule module = parseModule(builder, modulePom.toPath().normalize().toFile(), groupId, parsedPoms);
+            if (module != null) {
+                modules.add(module);
+            }
+        }
+        return new MavenReactorModule(directory, groupId, artifactId, modules);
+    }
+
+    private List<String> moduleDeclarations(final Element project) {
+        final List<Element> moduleContainers = new ArrayList<>();
+        moduleContainers.add(project);
+        final Element profiles = child(project, "profiles");
+        if (profiles != null) {
+            moduleContainers.addAll(children(profiles, "profile"));
+        }
+
+        final List<String> modulePaths = new ArrayList<>();
+        for (final Element moduleContainer : moduleContainers) {
+            final Element modules = child(moduleContainer, "modules");
+            if (modules != null) {
+                children(modules, "module").stream()
+                    .map(module -> module.getTextContent().trim())
+                    .filter(StringUtils::isNotBlank)
+                    .forEach(modulePaths::add);
+            }
+        }
+        return modulePaths;
+    }
+
+    @Nullable
+    private Element child(final Element element, final String name) {
+        final List<Element> children = children(element, name);
+        return children.isEmpty() ? null : children.get(0);
+    }
+
+    private List<Element> children(final Element element, final String name) {
+        final List<Element> children = new ArrayList<>();
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element && name.equals(node.getNodeName())) {
+                children.add((Element) node);
+            }
+        }
+        return children;
+    }
+
+    @Nullable
+    private String childText(final Element element, final String name) {
+        final Element child = child(element, name);
+        return child == null ? null : child.getTextContent().trim();
+    }
+}
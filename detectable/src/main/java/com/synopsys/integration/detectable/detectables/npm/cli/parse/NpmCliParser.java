@@ -35,13 +35,13 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
-import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
-import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.externalid.InterningExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.graph.CompactDependencyGraphBuilder;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
 
 public class NpmCliParser {
@@ -70,7 +70,7 @@ public class NpmCliParser {
 
     public NpmParseResult convertNpmJsonFileToCodeLocation(String npmLsOutput) {
         JsonObject npmJson = JsonParser.parseString(npmLsOutput).getAsJsonObject();
-        MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        CompactDependencyGraphBuilder graph = new CompactDependencyGraphBuilder();
 
         JsonElement projectNameElement = npmJson.getAsJsonPrimitive(JSON_NAME);
         JsonElement projectVersionElement = npmJson.getAsJsonPrimitive(JSON_VERSION);
@@ -87,13 +87,13 @@ public class NpmCliParser {
 
         ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, projectName, projectVersion);
 
-        CodeLocation codeLocation = new CodeLocation(graph, externalId);
+        CodeLocation codeLocation = new CodeLocation(graph.build(), externalId);
 
         return new NpmParseResult(projectName, projectVersion, codeLocation);
 
     }
 
-    private void populateChildren(MutableDependencyGraph graph, Dependency parentDependency, JsonObject parentNodeChildren, boolean isRootDependency) {
+    private void populateChildren(CompactDependencyGraphBuilder graph, Dependency parentDependency, JsonObject parentNodeChildren, boolean isRootDependency) {
         if (parentNodeChildren == null) {
             return;
         }
@@ -104,7 +104,7 @@ public class NpmCliParser {
             .forEach(elementEntry -> processChild(elementEntry, graph, parentDependency, isRootDependency));
     }
 
-    private void processChild(Entry<String, JsonElement> elementEntry, MutableDependencyGraph graph, Dependency parentDependency, boolean isRootDependency) {
+    private void processChild(Entry<String, JsonElement> elementEntry, CompactDependencyGraphBuilder graph, Dependency parentDependency, boolean isRootDependency) {
         JsonObject element = elementEntry.getValue().getAsJsonObject();
         String name = elementEntry.getKey();
         String version = Optional.ofNullable(element.getAsJsonPrimitive(JSON_VERSION))
@@ -117,7 +117,7 @@ public class NpmCliParser {
 
         if (name != null && version != null) {
             ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, version);
-            Dependency child = new Dependency(name, version, externalId);
+            Dependency child = InterningExternalIdFactory.createDependency(externalIdFactory, name, version, externalId);
 
             populateChildren(graph, child, children, false);
             if (isRootDependency) {
@@ -34,6 +34,7 @@ import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.externalid.InterningExternalIdFactory;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmProject;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmRequires;
@@ -95,7 +96,7 @@ public class NpmDependencyConverter {
 
     private NpmDependency createNpmDependency(String name, String version, Boolean isDev) {
         ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, version);
-        Dependency graphDependency = new Dependency(name, version, externalId);
+        Dependency graphDependency = InterningExternalIdFactory.createDependency(externalIdFactory, name, version, externalId);
         boolean dev = false;
         if (isDev != null && isDev) {
             dev = true;
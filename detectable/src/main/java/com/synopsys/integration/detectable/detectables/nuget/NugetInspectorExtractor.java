@@ -24,15 +24,20 @@ package com.synopsys.integration.detectable.detectables.nuget;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,18 +71,14 @@ public class NugetInspectorExtractor {
 
     public Extraction extract(final List<File> targets, final File outputDirectory, final NugetInspector inspector, final NugetInspectorOptions nugetInspectorOptions) {
         try {
-            final List<NugetTargetResult> results = new ArrayList<>();
-
-            for (int i = 0; i < targets.size(); i++) {
-                final File targetDirectory = new File(outputDirectory, "inspection-" + i);
-                results.add(executeTarget(inspector, targets.get(i), targetDirectory, nugetInspectorOptions));
-            }
+            final List<NugetTargetResult> results = executeTargets(targets, outputDirectory, inspector, nugetInspectorOptions);
 
             final List<CodeLocation> codeLocations = results.stream()
                                                          .flatMap(it -> it.codeLocations.stream())
                                                          .collect(Collectors.toList());
 
-            final Map<File, CodeLocation> codeLocationsBySource = new HashMap<>();
+            // Ordered so the surviving code location for a source path does not depend on hashing or target timing.
+            final Map<File, CodeLocation> codeLocationsBySource = new LinkedHashMap<>();
             final DependencyGraphCombiner combiner = new DependencyGraphCombiner();
 
             codeLocations.forEach(codeLocation -> {
@@ -103,6 +104,44 @@ public class NugetInspectorExtractor {
         }
     }
 
+    // Each target writes to its own inspection directory, so targets can be inspected concurrently. Results are kept in target order.
+    private List<NugetTargetResult> executeTargets(final List<File> targets, final File outputDirectory, final NugetInspector inspector, final NugetInspectorOptions nugetInspectorOptions) throws Exception {
+        final List<NugetTargetResult> results = new ArrayList<>();
+        final int parallelTargets = Math.min(Math.max(1, nugetInspectorOptions.getParallelTargets()), targets.size());
+
+        if (parallelTargets <= 1) {
+            for (int i = 0; i < targets.size(); i++) {
+                final File targetDirectory = new File(outputDirectory, "inspection-" + i);
+                results.add(executeTarget(inspector, targets.get(i), targetDirectory, nugetInspectorOptions));
+            }
+            return results;
+        }
+
+        logger.debug(String.format("Running the nuget inspector on %d targets, %d at a time.", targets.size(), parallelTargets));
+        final ExecutorService executorService = Executors.newFixedThreadPool(parallelTargets);
+        try {
+            final List<Future<NugetTargetResult>> futures = new ArrayList<>();
+            for (int i = 0; i < targets.size(); i++) {
+                final File targetFile = targets.get(i);
+                final File targetDirectory = new File(outputDirectory, "inspection-" + i);
+                futures.add(executorService.submit(() -> executeTarget(inspector, targetFile, targetDirectory, nugetInspectorOptions)));
+            }
+            for (final Future<NugetTargetResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (final ExecutionException e) {
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return results;
+    }
+
     private NugetTargetResult executeTarget(final NugetInspector inspector, final File targetFile, final File outputDirectory, final NugetInspectorOptions nugetInspectorOptions)
         throws ExecutableRunnerException, IOException, DetectableException {
         if (!outputDirectory.exists() && !outputDirectory.mkdirs()) {
@@ -120,9 +159,9 @@ public class NugetInspectorExtractor {
         final List<NugetParseResult> parseResults = new ArrayList<>();
         if (dependencyNodeFiles != null) {
             for (final File dependencyNodeFile : dependencyNodeFiles) {
-                final String text = FileUtils.readFileToString(dependencyNodeFile, StandardCharsets.UTF_8);
-                final NugetParseResult result = nugetInspectorParser.createCodeLocation(text);
-                parseResults.add(result);
+                try (final Reader reader = Files.newBufferedReader(dependencyNodeFile.toPath(), StandardCharsets.UTF_8)) {
+                    parseResults.add(nugetInspectorParser.createCodeLocation(reader));
+                }
             }
         }
 
@@ -23,6 +23,7 @@
 package com.synopsys.integration.detectable.detectables.nuget.parse;
 
 import java.io.File;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -48,8 +49,15 @@ public class NugetInspectorParser {
     }
 
     public NugetParseResult createCodeLocation(final String dependencyFileText) {
-        final NugetInspection nugetInspection = gson.fromJson(dependencyFileText, NugetInspection.class);
+        return createCodeLocation(gson.fromJson(dependencyFileText, NugetInspection.class));
+    }
+
+    // Binds the inspection straight from the reader so large inspection files are never held in memory as text. The whole inspection is still bound at once.
+    public NugetParseResult createCodeLocation(final Reader dependencyFileReader) {
+        return createCodeLocation(gson.fromJson(dependencyFileReader, NugetInspection.class));
+    }
 
+    private NugetParseResult createCodeLocation(final NugetInspection nugetInspection) {
         final List<CodeLocation> codeLocations = new ArrayList<>();
         String projectName = "";
         String projectVersion = "";
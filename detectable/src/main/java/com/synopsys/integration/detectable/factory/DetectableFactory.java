@@ -125,6 +125,7 @@ import com.synopsys.integration.detectable.detectables.go.vendr.GoVndrExtractor;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleDetectable;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorExtractor;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorOptions;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleRootBuildCache;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleRunner;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
@@ -142,6 +143,8 @@ import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtract
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenPomDetectable;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenPomWrapperDetectable;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenReactorCache;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenReactorParser;
 import com.synopsys.integration.detectable.detectables.maven.parsing.MavenParseDetectable;
 import com.synopsys.integration.detectable.detectables.maven.parsing.MavenParseExtractor;
 import com.synopsys.integration.detectable.detectables.maven.parsing.MavenParseOptions;
@@ -219,6 +222,8 @@ public class DetectableFactory {
     private final ExecutableRunner executableRunner;
     private final ExternalIdFactory externalIdFactory;
     private final Gson gson;
+    private final GradleRootBuildCache gradleRootBuildCache = new GradleRootBuildCache();
+    private final MavenReactorCache mavenReactorCache = new MavenReactorCache();
 
     public DetectableFactory(FileFinder fileFinder, ExecutableRunner executableRunner, ExternalIdFactory externalIdFactory, Gson gson) {
         this.fileFinder = fileFinder;
@@ -422,7 +427,7 @@ public class DetectableFactory {
     }
 
     private CompileCommandDatabaseParser compileCommandDatabaseParser() {
-        return new CompileCommandDatabaseParser(gson);
+        return new CompileCommandDatabaseParser(gson, compileCommandParser());
     }
 
     private CompileCommandParser compileCommandParser() {
@@ -541,8 +546,12 @@ public class DetectableFactory {
         return new MavenCodeLocationPackager(externalIdFactory);
     }
 
+    private MavenReactorParser mavenReactorParser() {
+        return new MavenReactorParser();
+    }
+
     private MavenCliExtractor mavenCliExtractor() {
-        return new MavenCliExtractor(executableRunner, mavenCodeLocationPackager());
+        return new MavenCliExtractor(executableRunner, mavenCodeLocationPackager(), mavenReactorParser(), mavenReactorCache);
     }
 
     private NpmCliParser npmCliDependencyFinder() {
@@ -690,11 +699,11 @@ public class DetectableFactory {
     }
 
     private GradleInspectorExtractor gradleInspectorExtractor() {
-        return new GradleInspectorExtractor(fileFinder, gradleRunner(), gradleReportParser(), gradleReportTransformer(), gradleRootMetadataParser());
+        return new GradleInspectorExtractor(fileFinder, gradleRunner(), gradleReportParser(), gradleReportTransformer(), gradleRootMetadataParser(), gradleRootBuildCache);
     }
 
     private DockerExtractor dockerExtractor() {
-        return new DockerExtractor(fileFinder, executableRunner, new BdioTransformer(), new ExternalIdFactory(), gson);
+        return new DockerExtractor(fileFinder, executableRunner, new BdioTransformer(), externalIdFactory, gson);
     }
 
     private GemspecLineParser gemspecLineParser() {
@@ -0,0 +1,65 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.executable.impl;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+
+public class ExecutableStreamThreadTest {
+    @UnitTest
+    public void consumedOutputKeepsLastLines() throws InterruptedException {
+        final int lineCount = ExecutableStreamThread.CONSUMED_OUTPUT_TAIL_LINES + 10;
+        final StringBuilder output = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            output.append("line ").append(i).append("\n");
+        }
+
+        final List<String> consumedLines = new ArrayList<>();
+        final ExecutableStreamThread thread = new ExecutableStreamThread(new ByteArrayInputStream(output.toString().getBytes(StandardCharsets.UTF_8)), line -> {}, line -> {}, consumedLines::add);
+        thread.start();
+        thread.join();
+
+        Assertions.assertEquals(lineCount, consumedLines.size());
+        Assertions.assertTrue(thread.isOutputTruncated());
+        final String[] keptLines = thread.getExecutableOutput().split(System.lineSeparator());
+        Assertions.assertEquals(ExecutableStreamThread.CONSUMED_OUTPUT_TAIL_LINES, keptLines.length);
+        Assertions.assertEquals("line 10", keptLines[0]);
+        Assertions.assertEquals("line " + (lineCount - 1), keptLines[keptLines.length - 1]);
+    }
+
+    @UnitTest
+    public void consumedOutputThatFitsIsNotTruncated() throws InterruptedException {
+        final ExecutableStreamThread thread = new ExecutableStreamThread(new ByteArrayInputStream("first\nsecond\n".getBytes(StandardCharsets.UTF_8)), line -> {}, line -> {}, line -> {});
+        thread.start();
+        thread.join();
+
+        Assertions.assertFalse(thread.isOutputTruncated());
+        Assertions.assertEquals("first" + System.lineSeparator() + "second", thread.getExecutableOutput());
+    }
+}
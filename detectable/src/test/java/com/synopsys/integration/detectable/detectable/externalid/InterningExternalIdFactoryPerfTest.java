@@ -0,0 +1,94 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.externalid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+// Builds the graphs of a synthetic monorepo (many npm projects sharing most of their dependencies) and reports the retained heap.
+@Tag("performance")
+public class InterningExternalIdFactoryPerfTest {
+    private static final int PROJECTS = 150;
+    private static final int DEPENDENCIES_PER_PROJECT = 1500;
+    private static final int SHARED_PERCENT = 90;
+
+    @Test
+    public void reportHeapReduction() {
+        final long plainBytes = measureRetainedHeap(new ExternalIdFactory());
+        final long internedBytes = measureRetainedHeap(new InterningExternalIdFactory());
+
+        System.out.println(String.format("Retained heap for %d projects of %d dependencies: %d KB with ExternalIdFactory, %d KB with InterningExternalIdFactory.",
+            PROJECTS, DEPENDENCIES_PER_PROJECT, plainBytes / 1024, internedBytes / 1024));
+        Assertions.assertTrue(internedBytes < plainBytes);
+    }
+
+    private long measureRetainedHeap(final ExternalIdFactory externalIdFactory) {
+        final long before = usedHeap();
+        final List<MutableDependencyGraph> graphs = new ArrayList<>();
+        for (int project = 0; project < PROJECTS; project++) {
+            graphs.add(createProjectGraph(externalIdFactory, project));
+        }
+        final long after = usedHeap();
+        Assertions.assertEquals(PROJECTS, graphs.size());
+        return after - before;
+    }
+
+    private MutableDependencyGraph createProjectGraph(final ExternalIdFactory externalIdFactory, final int project) {
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        Dependency parent = null;
+        for (int i = 0; i < DEPENDENCIES_PER_PROJECT; i++) {
+            final boolean shared = i * 100 < DEPENDENCIES_PER_PROJECT * SHARED_PERCENT;
+            // Built from fresh strings, as a parser reading each project's lock file would.
+            final String name = shared ? "shared-package-" + i : "project-" + project + "-package-" + i;
+            final String version = "1." + (i % 10) + ".0";
+            final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, version);
+            final Dependency dependency = InterningExternalIdFactory.createDependency(externalIdFactory, name, version, externalId);
+            if (parent == null || i % 10 == 0) {
+                graph.addChildToRoot(dependency);
+            } else {
+                graph.addChildWithParent(dependency, parent);
+            }
+            parent = dependency;
+        }
+        return graph;
+    }
+
+    private long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.externalid;
+
+import org.junit.jupiter.api.Assertions;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+
+public class InterningExternalIdFactoryTest {
+    private final ExternalIdFactory plainFactory = new ExternalIdFactory();
+
+    @UnitTest
+    public void equalExternalIdsAreShared() {
+        final InterningExternalIdFactory factory = new InterningExternalIdFactory();
+        final ExternalId first = factory.createNameVersionExternalId(Forge.NPMJS, new String("lodash"), new String("4.17.21"));
+        final ExternalId second = factory.createNameVersionExternalId(Forge.NPMJS, new String("lodash"), new String("4.17.21"));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, factory.getExternalIdCount());
+    }
+
+    @UnitTest
+    public void internedExternalIdsEqualPlainOnes() {
+        final InterningExternalIdFactory factory = new InterningExternalIdFactory();
+        final ExternalId[][] pairs = {
+            { factory.createNameVersionExternalId(Forge.NPMJS, "lodash", "4.17.21"), plainFactory.createNameVersionExternalId(Forge.NPMJS, "lodash", "4.17.21") },
+            { factory.createMavenExternalId("org.apache", "commons", "1.0"), plainFactory.createMavenExternalId("org.apache", "commons", "1.0") },
+            { factory.createArchitectureExternalId(Forge.CENTOS, "bash", "4.2", "x86_64"), plainFactory.createArchitectureExternalId(Forge.CENTOS, "bash", "4.2", "x86_64") },
+            { factory.createModuleNamesExternalId(Forge.COCOAPODS, "a", "b"), plainFactory.createModuleNamesExternalId(Forge.COCOAPODS, "a", "b") },
+            { factory.createPathExternalId(Forge.PYPI, "/src"), plainFactory.createPathExternalId(Forge.PYPI, "/src") },
+            { factory.createYoctoExternalId("meta", "acl", "2.2.52-r0"), plainFactory.createYoctoExternalId("meta", "acl", "2.2.52-r0") }
+        };
+
+        for (final ExternalId[] pair : pairs) {
+            Assertions.assertEquals(pair[1], pair[0]);
+            Assertions.assertEquals(pair[0], pair[1]);
+            Assertions.assertEquals(pair[1].hashCode(), pair[0].hashCode());
+            Assertions.assertEquals(pair[1].createExternalId(), pair[0].createExternalId());
+        }
+    }
+
+    @UnitTest
+    public void internedExternalIdsCanNotBeModified() {
+        final ExternalId externalId = new InterningExternalIdFactory().createNameVersionExternalId(Forge.NPMJS, "lodash", "4.17.21");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> externalId.setVersion("4.17.20"));
+    }
+
+    @UnitTest
+    public void equalDependenciesAreShared() {
+        final InterningExternalIdFactory factory = new InterningExternalIdFactory();
+        final ExternalId externalId = plainFactory.createNameVersionExternalId(Forge.NPMJS, "lodash", "4.17.21");
+
+        final Dependency first = InterningExternalIdFactory.createDependency(factory, new String("lodash"), new String("4.17.21"), externalId);
+        final Dependency second = InterningExternalIdFactory.createDependency(factory, new String("lodash"), new String("4.17.21"), externalId);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(new Dependency("lodash", "4.17.21", externalId), first);
+        Assertions.assertEquals(new Dependency("lodash", "4.17.21", externalId).hashCode(), first.hashCode());
+    }
+
+    @UnitTest
+    public void plainFactoryCreatesPlainDependencies() {
+        final ExternalId externalId = plainFactory.createNameVersionExternalId(Forge.NPMJS, "lodash", "4.17.21");
+        final Dependency first = InterningExternalIdFactory.createDependency(plainFactory, "lodash", "4.17.21", externalId);
+        final Dependency second = InterningExternalIdFactory.createDependency(plainFactory, "lodash", "4.17.21", externalId);
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(first, second);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.graph;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+
+public class CompactDependencyGraphBuilderTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    private final Dependency root = dependency("root");
+    private final Dependency left = dependency("left");
+    private final Dependency right = dependency("right");
+    private final Dependency shared = dependency("shared");
+    private final Dependency missing = dependency("missing");
+
+    @UnitTest
+    public void matchesMutableMapDependencyGraph() {
+        final CompactDependencyGraphBuilder builder = new CompactDependencyGraphBuilder();
+        final MutableDependencyGraph expected = new MutableMapDependencyGraph();
+
+        builder.addChildToRoot(root);
+        expected.addChildToRoot(root);
+        builder.addParentWithChildren(root, Arrays.asList(left, right));
+        expected.addParentWithChildren(root, Arrays.asList(left, right));
+        builder.addChildWithParents(shared, Arrays.asList(left, right));
+        expected.addChildWithParents(shared, Arrays.asList(left, right));
+        builder.addChildWithParent(shared, left);
+        expected.addChildWithParent(shared, left);
+
+        final CompactDependencyGraph graph = builder.build();
+
+        Assertions.assertEquals(4, graph.getNodeCount());
+        Assertions.assertEquals(4, graph.getEdgeCount());
+        assertSameGraph(expected, graph, root, left, right, shared, missing);
+    }
+
+    @UnitTest
+    public void keepsFirstDependencyForExternalId() {
+        final CompactDependencyGraphBuilder builder = new CompactDependencyGraphBuilder();
+        final Dependency renamed = new Dependency("other-name", "1.0", root.getExternalId());
+
+        builder.addChildToRoot(root);
+        builder.addChildToRoot(renamed);
+        final CompactDependencyGraph graph = builder.build();
+
+        Assertions.assertEquals(1, graph.getNodeCount());
+        Assertions.assertSame(root, graph.getDependency(renamed.getExternalId()));
+    }
+
+    @UnitTest
+    public void emptyGraph() {
+        final CompactDependencyGraph graph = new CompactDependencyGraphBuilder().build();
+
+        Assertions.assertEquals(Collections.emptySet(), graph.getRootDependencies());
+        Assertions.assertEquals(Collections.emptySet(), graph.getChildrenForParent(missing));
+        Assertions.assertFalse(graph.hasDependency(missing));
+    }
+
+    private void assertSameGraph(final DependencyGraph expected, final DependencyGraph actual, final Dependency... dependencies) {
+        Assertions.assertEquals(expected.getRootDependencies(), actual.getRootDependencies());
+        Assertions.assertEquals(expected.getRootDependencyExternalIds(), actual.getRootDependencyExternalIds());
+        for (final Dependency dependency : dependencies) {
+            final ExternalId externalId = dependency.getExternalId();
+            Assertions.assertEquals(expected.hasDependency(externalId), actual.hasDependency(externalId));
+            Assertions.assertEquals(expected.getDependency(externalId), actual.getDependency(externalId));
+            Assertions.assertEquals(expected.getChildrenForParent(dependency), actual.getChildrenForParent(dependency));
+            Assertions.assertEquals(expected.getChildrenExternalIdsForParent(externalId), actual.getChildrenExternalIdsForParent(externalId));
+            Assertions.assertEquals(expected.getParentsForChild(dependency), actual.getParentsForChild(dependency));
+            Assertions.assertEquals(expected.getParentExternalIdsForChild(externalId), actual.getParentExternalIdsForChild(externalId));
+        }
+    }
+
+    private Dependency dependency(final String name) {
+        return new Dependency(name, "1.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, "1.0"));
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectable.graph;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+// Builds a 500k edge graph both ways and reports the retained heap and build time of each.
+@Tag("performance")
+public class CompactDependencyGraphPerfTest {
+    private static final int NODES = 50000;
+    private static final int CHILDREN_PER_NODE = 10;
+
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void reportHeapReduction() {
+        final Dependency[] dependencies = new Dependency[NODES];
+        for (int i = 0; i < NODES; i++) {
+            dependencies[i] = new Dependency("package-" + i, "1.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "package-" + i, "1.0"));
+        }
+
+        final long mapStart = System.currentTimeMillis();
+        final long mapBefore = usedHeap();
+        final MutableDependencyGraph mapGraph = new MutableMapDependencyGraph();
+        for (int parent = 0; parent < NODES; parent++) {
+            if (parent % 100 == 0) {
+                mapGraph.addChildToRoot(dependencies[parent]);
+            }
+            for (int edge = 1; edge <= CHILDREN_PER_NODE; edge++) {
+                mapGraph.addChildWithParent(dependencies[(parent + edge * 7) % NODES], dependencies[parent]);
+            }
+        }
+        final long mapBytes = usedHeap() - mapBefore;
+        final long mapMillis = System.currentTimeMillis() - mapStart;
+
+        final long compactStart = System.currentTimeMillis();
+        final long compactBefore = usedHeap();
+        final CompactDependencyGraphBuilder builder = new CompactDependencyGraphBuilder();
+        for (int parent = 0; parent < NODES; parent++) {
+            if (parent % 100 == 0) {
+                builder.addChildToRoot(dependencies[parent]);
+            }
+            for (int edge = 1; edge <= CHILDREN_PER_NODE; edge++) {
+                builder.addChildWithParent(dependencies[(parent + edge * 7) % NODES], dependencies[parent]);
+            }
+        }
+        final DependencyGraph compactGraph = builder.build();
+        final long compactBytes = usedHeap() - compactBefore;
+        final long compactMillis = System.currentTimeMillis() - compactStart;
+
+        System.out.println(String.format("Retained heap for %d edges: %d KB in %d ms with MutableMapDependencyGraph, %d KB in %d ms with CompactDependencyGraph.",
+            NODES * CHILDREN_PER_NODE, mapBytes / 1024, mapMillis, compactBytes / 1024, compactMillis));
+        Assertions.assertEquals(mapGraph.getRootDependencies(), compactGraph.getRootDependencies());
+        Assertions.assertEquals(mapGraph.getChildrenForParent(dependencies[0]), compactGraph.getChildrenForParent(dependencies[0]));
+        Assertions.assertTrue(compactBytes < mapBytes);
+    }
+
+    private long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
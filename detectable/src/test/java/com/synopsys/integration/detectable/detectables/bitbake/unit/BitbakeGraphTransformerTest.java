@@ -32,6 +32,7 @@ import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.externalid.InterningExternalIdFactory;
 import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeGraphTransformer;
 import com.synopsys.integration.detectable.util.graph.GraphAssert;
@@ -98,4 +99,20 @@ public class BitbakeGraphTransformerTest {
         graphAssert.hasNoDependency(externalIdFactory.createYoctoExternalId("meta", "example", null));
         graphAssert.hasRootSize(0);
     }
+
+    @Test
+    public void autoincVersionIsReplacedWithInterningFactory() {
+        final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        final BitbakeGraph bitbakeGraph = new BitbakeGraph();
+        bitbakeGraph.addNode("example", "1.0+gitAUTOINC+4bd3f9d2f4-r0");
+
+        final Map<String, String> recipeToLayerMap = new HashMap<>();
+        recipeToLayerMap.put("example", "meta");
+
+        final BitbakeGraphTransformer bitbakeGraphTransformer = new BitbakeGraphTransformer(new InterningExternalIdFactory());
+        final DependencyGraph dependencyGraph = bitbakeGraphTransformer.transform(bitbakeGraph, recipeToLayerMap);
+
+        final NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.YOCTO, dependencyGraph);
+        graphAssert.hasDependency(externalIdFactory.createYoctoExternalId("meta", "example", "1.0+gitX-r0"));
+    }
 }
@@ -54,6 +54,21 @@ public class CompileCommandParserFunctionalTest {
         assertEquals(0, first.arguments.length);
     }
 
+    @Test
+    public void testEquivalentCommandsAreCollapsed() throws IOException {
+        CompileCommandDatabaseParser compileCommandDatabaseParser = new CompileCommandDatabaseParser(new Gson(), new CompileCommandParser());
+
+        List<CompileCommand> allCommands = compileCommandDatabaseParser.parseCompileCommandDatabase(FunctionalTestFiles.asFile("/clang/compile_commands_duplicates.json"));
+        List<CompileCommand> uniqueCommands = compileCommandDatabaseParser.parseUniqueCompileCommands(FunctionalTestFiles.asFile("/clang/compile_commands_duplicates.json"));
+
+        assertEquals(5, allCommands.size());
+        assertEquals(4, uniqueCommands.size());
+        assertTrue(uniqueCommands.get(0).command.contains("CMakeFiles/app.dir/main.cpp.o"));
+        assertEquals(7, uniqueCommands.get(1).arguments.length);
+        assertTrue(uniqueCommands.get(2).command.contains("-I/src/vendor"));
+        assertEquals("/src/util.cpp", uniqueCommands.get(3).file);
+    }
+
     @Test
     public void testCanParseArgumentsFromCommandDatabase() throws IOException {
         CompileCommandDatabaseParser compileCommandDatabaseParser = new CompileCommandDatabaseParser(new Gson());
@@ -26,10 +26,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -60,6 +65,30 @@ public class DependencyFileDetailGeneratorTest {
         Assertions.assertEquals(0, fileDetailsSet.size());
     }
 
+    @Test
+    public void testCommandsRunOnBoundedPool() throws IOException {
+        final File header = File.createTempFile("header", ".h");
+        header.deleteOnExit();
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final FilePathGenerator filePathGenerator = Mockito.mock(FilePathGenerator.class);
+        Mockito.when(filePathGenerator.fromCompileCommand(Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return Arrays.asList(header.getAbsolutePath(), "does_not_exist.h", "");
+        });
+
+        final DependencyFileDetailGenerator dependencyFileDetailGenerator = new DependencyFileDetailGenerator(filePathGenerator);
+        final List<CompileCommand> compileCommands = IntStream.range(0, 10).mapToObj(i -> new CompileCommand()).collect(Collectors.toList());
+
+        final Set<File> fileDetailsSet = dependencyFileDetailGenerator.fromCompileCommands(compileCommands, null, true, 2);
+        Assertions.assertEquals(Collections.singleton(header), fileDetailsSet);
+        Assertions.assertTrue(maxRunning.get() <= 2);
+        Mockito.verify(filePathGenerator, Mockito.times(10)).fromCompileCommand(Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+    }
+
     @Test
     public void testDependencyCreatedWithEachForge() {
         final File mockFile = Mockito.mock(File.class);
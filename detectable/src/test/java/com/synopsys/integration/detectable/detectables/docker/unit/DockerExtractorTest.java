@@ -27,28 +27,44 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.condition.OS.WINDOWS;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.bdio.BdioTransformer;
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.SimpleBdioDocument;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.Extraction;
 import com.synopsys.integration.detectable.detectable.executable.Executable;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectable.file.impl.SimpleFileFinder;
 import com.synopsys.integration.detectable.detectables.docker.DockerExtractor;
 import com.synopsys.integration.detectable.detectables.docker.DockerInspectorInfo;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectorResultCache;
 import com.synopsys.integration.detectable.detectables.docker.DockerProperties;
 import com.synopsys.integration.detectable.detectables.docker.ImageIdentifierType;
 
@@ -199,6 +215,156 @@ public class DockerExtractorTest {
         assertEquals(testString, dockerExtractor.getImageIdentifierFromOutputDirectoryIfImageIdPresent(outputDirectoryWithNonPopulatedResultsFile, testString, ImageIdentifierType.IMAGE_ID));
     }
 
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void testAirGapImagesAlreadyLoadedAreNotLoadedAgain(@TempDir Path tempDir) throws Exception {
+        final File loadedImageTar = createImageTar(tempDir, "loaded.tar", "loadedid", "blackduck-imageinspector-alpine:1.0");
+        final File missingImageTar = createImageTar(tempDir, "missing.tar", "missingid", "blackduck-imageinspector-ubuntu:1.0");
+
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            final String command = String.join(" ", invocation.<Executable>getArgument(0).getCommand());
+            if (command.contains("docker image inspect") && command.contains("blackduck-imageinspector-alpine:1.0")) {
+                return new ExecutableOutput(command, 0, "sha256:loadedid\n", "");
+            } else if (command.contains("docker image inspect")) {
+                return new ExecutableOutput(command, 1, "", "No such image");
+            }
+            return new ExecutableOutput(command, 0, "", "");
+        });
+
+        final DockerInspectorInfo dockerInspectorInfo = new DockerInspectorInfo(new File("fake/test/dockerinspector.jar"), Arrays.asList(loadedImageTar, missingImageTar));
+        final DockerExtractor dockerExtractor = getMockDockerExtractor(executableRunner, new SimpleFileFinder());
+        dockerExtractor.extract(tempDir.toFile(), tempDir.resolve("output").toFile(), new File("/bin/bash"), new File("fake/test/java"), "ubuntu:latest", null, null, dockerInspectorInfo,
+            Mockito.mock(DockerProperties.class), null);
+
+        final ArgumentCaptor<Executable> executableArgumentCaptor = ArgumentCaptor.forClass(Executable.class);
+        Mockito.verify(executableRunner, Mockito.atLeastOnce()).execute(executableArgumentCaptor.capture());
+        final List<String> loads = executableArgumentCaptor.getAllValues().stream()
+                                       .map(executable -> String.join(" ", executable.getCommand()))
+                                       .filter(command -> command.contains("docker load"))
+                                       .collect(Collectors.toList());
+        assertEquals(1, loads.size());
+        assertTrue(loads.get(0).contains("missing.tar"));
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void testUnchangedImageIsInspectedOnce(@TempDir Path tempDir) throws Exception {
+        final AtomicInteger inspections = new AtomicInteger();
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            final Executable executable = invocation.getArgument(0);
+            final String command = String.join(" ", executable.getCommand());
+            if (command.contains("docker image inspect")) {
+                return new ExecutableOutput(command, 0, "sha256:imageid\n", "");
+            }
+            inspections.incrementAndGet();
+            writeInspectorOutput(executable.getWorkingDirectory());
+            return new ExecutableOutput(command, 0, "", "");
+        });
+
+        final DockerExtractor dockerExtractor = getMockDockerExtractor(executableRunner, new SimpleFileFinder());
+        final DockerInspectorResultCache resultCache = new DockerInspectorResultCache(tempDir.resolve("cache").toFile());
+        final DockerInspectorInfo dockerInspectorInfo = new DockerInspectorInfo(new File("fake/test/dockerinspector.jar"));
+
+        final Extraction first = dockerExtractor.extract(tempDir.toFile(), tempDir.resolve("first").toFile(), new File("/bin/bash"), new File("fake/test/java"), "ubuntu:latest", null, null, dockerInspectorInfo,
+            Mockito.mock(DockerProperties.class), resultCache);
+        final Extraction second = dockerExtractor.extract(tempDir.toFile(), tempDir.resolve("second").toFile(), new File("/bin/bash"), new File("fake/test/java"), "ubuntu:latest", null, null, dockerInspectorInfo,
+            Mockito.mock(DockerProperties.class), resultCache);
+
+        assertEquals(1, inspections.get());
+        assertTrue(first.isSuccess());
+        assertTrue(second.isSuccess());
+        assertEquals(first.getProjectName(), second.getProjectName());
+        assertEquals(first.getCodeLocations().get(0).getExternalId(), second.getCodeLocations().get(0).getExternalId());
+        final File secondScanFile = second.getMetaData(DockerExtractor.DOCKER_TAR_META_DATA).get();
+        assertEquals(tempDir.resolve("second").toFile(), secondScanFile.getParentFile());
+        assertTrue(secondScanFile.getName().endsWith("_squashedimage.tar.gz"));
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void testSameImageSuppliedDifferentlyIsInspectedAgain(@TempDir Path tempDir) throws Exception {
+        final AtomicInteger inspections = new AtomicInteger();
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            final Executable executable = invocation.getArgument(0);
+            final String command = String.join(" ", executable.getCommand());
+            if (command.contains("docker image inspect")) {
+                return new ExecutableOutput(command, 0, "sha256:imageid\n", "");
+            }
+            inspections.incrementAndGet();
+            writeInspectorOutput(executable.getWorkingDirectory());
+            return new ExecutableOutput(command, 0, "", "");
+        });
+
+        final DockerExtractor dockerExtractor = getMockDockerExtractor(executableRunner, new SimpleFileFinder());
+        final DockerInspectorResultCache resultCache = new DockerInspectorResultCache(tempDir.resolve("cache").toFile());
+        final DockerInspectorInfo dockerInspectorInfo = new DockerInspectorInfo(new File("fake/test/dockerinspector.jar"));
+
+        dockerExtractor.extract(tempDir.toFile(), tempDir.resolve("first").toFile(), new File("/bin/bash"), new File("fake/test/java"), "ubuntu:latest", null, null, dockerInspectorInfo,
+            Mockito.mock(DockerProperties.class), resultCache);
+        dockerExtractor.extract(tempDir.toFile(), tempDir.resolve("second").toFile(), new File("/bin/bash"), new File("fake/test/java"), "ubuntu:20.04", null, null, dockerInspectorInfo,
+            Mockito.mock(DockerProperties.class), resultCache);
+
+        assertEquals(2, inspections.get());
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void testReplacedInspectorJarIsInspectedAgain(@TempDir Path tempDir) throws Exception {
+        final AtomicInteger inspections = new AtomicInteger();
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            final Executable executable = invocation.getArgument(0);
+            final String command = String.join(" ", executable.getCommand());
+            if (command.contains("docker image inspect")) {
+                return new ExecutableOutput(command, 0, "sha256:imageid\n", "");
+            }
+            inspections.incrementAndGet();
+            writeInspectorOutput(executable.getWorkingDirectory());
+            return new ExecutableOutput(command, 0, "", "");
+        });
+
+        final DockerExtractor dockerExtractor = getMockDockerExtractor(executableRunner, new SimpleFileFinder());
+        final DockerInspectorResultCache resultCache = new DockerInspectorResultCache(tempDir.resolve("cache").toFile());
+        final File dockerInspectorJar = tempDir.resolve("dockerinspector.jar").toFile();
+        final DockerInspectorInfo dockerInspectorInfo = new DockerInspectorInfo(dockerInspectorJar);
+
+        FileUtils.write(dockerInspectorJar, "first", StandardCharsets.UTF_8);
+        dockerExtractor.extract(tempDir.toFile(), tempDir.resolve("first").toFile(), new File("/bin/bash"), new File("fake/test/java"), "ubuntu:latest", null, null, dockerInspectorInfo,
+            Mockito.mock(DockerProperties.class), resultCache);
+        FileUtils.write(dockerInspectorJar, "replaced", StandardCharsets.UTF_8);
+        dockerExtractor.extract(tempDir.toFile(), tempDir.resolve("second").toFile(), new File("/bin/bash"), new File("fake/test/java"), "ubuntu:latest", null, null, dockerInspectorInfo,
+            Mockito.mock(DockerProperties.class), resultCache);
+
+        assertEquals(2, inspections.get());
+    }
+
+    private void writeInspectorOutput(final File outputDirectory) throws IOException {
+        Files.createDirectories(outputDirectory.toPath());
+        final SimpleBdioFactory simpleBdioFactory = new SimpleBdioFactory();
+        final SimpleBdioDocument bdioDocument = simpleBdioFactory.createSimpleBdioDocument("ubuntu_latest", "ubuntu", "latest", simpleBdioFactory.createNameVersionExternalId(Forge.MAVEN, "ubuntu", "latest"));
+        try (final FileOutputStream bdioOutputStream = new FileOutputStream(new File(outputDirectory, "ubuntu_latest_bdio.jsonld"))) {
+            simpleBdioFactory.writeSimpleBdioDocument(bdioOutputStream, bdioDocument);
+        }
+        FileUtils.write(new File(outputDirectory, "results.json"), "{}", StandardCharsets.UTF_8);
+        FileUtils.write(new File(outputDirectory, "ubuntu_latest_squashedimage.tar.gz"), "squashed", StandardCharsets.UTF_8);
+    }
+
+    private File createImageTar(final Path tempDir, final String name, final String imageId, final String repoTag) throws IOException {
+        final File imageTar = tempDir.resolve(name).toFile();
+        final byte[] manifest = ("[{\"Config\":\"" + imageId + ".json\",\"RepoTags\":[\"" + repoTag + "\"],\"Layers\":[]}]").getBytes(StandardCharsets.UTF_8);
+        try (final TarArchiveOutputStream tarOutputStream = new TarArchiveOutputStream(new FileOutputStream(imageTar))) {
+            final TarArchiveEntry entry = new TarArchiveEntry("manifest.json");
+            entry.setSize(manifest.length);
+            tarOutputStream.putArchiveEntry(entry);
+            tarOutputStream.write(manifest);
+            tarOutputStream.closeArchiveEntry();
+        }
+        return imageTar;
+    }
+
     private DockerExtractor getMockDockerExtractor(ExecutableRunner executableRunner, FileFinder fileFinder) {
         final BdioTransformer bdioTransformer = Mockito.mock(BdioTransformer.class);
         final ExternalIdFactory externalIdFactory = Mockito.mock(ExternalIdFactory.class);
@@ -224,7 +390,7 @@ public class DockerExtractorTest {
         Mockito.when(fileFinder.findFile(outputDirectory, DockerExtractor.SQUASHED_IMAGE_FILENAME_PATTERN)).thenReturn(returnedSquashedImageFile);
         Mockito.when(dockerInspectorInfo.getDockerInspectorJar()).thenReturn(new File("fake/test/dockerinspector.jar"));
 
-        return dockerExtractor.extract(directory, outputDirectory, bashExe, javaExe, image, imageId, tar, dockerInspectorInfo, Mockito.mock(DockerProperties.class));
+        return dockerExtractor.extract(directory, outputDirectory, bashExe, javaExe, image, imageId, tar, dockerInspectorInfo, Mockito.mock(DockerProperties.class), null);
     }
 
 }
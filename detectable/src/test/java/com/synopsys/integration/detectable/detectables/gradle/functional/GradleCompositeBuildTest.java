@@ -0,0 +1,171 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.functional;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectable.file.impl.SimpleFileFinder;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorExtractor;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleRootBuildCache;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleRunner;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleRootMetadataParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.rest.proxy.ProxyInfo;
+
+@UnitTest
+public class GradleCompositeBuildTest {
+    private static final String EXTRACTION_DIRECTORY_PREFIX = "-DGRADLEEXTRACTIONDIR=";
+
+    private final File compositeBuild = FunctionalTestFiles.asFile("/gradle/composite-build");
+    private final AtomicInteger gradleInvocations = new AtomicInteger();
+
+    @Test
+    public void nestedProjectsShareTheRootInvocation(@TempDir Path tempDir) throws Exception {
+        GradleInspectorExtractor extractor = createExtractor();
+
+        Extraction root = extract(extractor, compositeBuild, tempDir.resolve("root"), true);
+        Extraction app = extract(extractor, new File(compositeBuild, "app"), tempDir.resolve("app"), true);
+        Extraction shared = extract(extractor, new File(compositeBuild, "libs/shared"), tempDir.resolve("shared"), true);
+
+        Assertions.assertEquals(2, gradleInvocations.get(), "Only the included build, which has its own settings file, should run gradle again.");
+
+        Assertions.assertTrue(root.isSuccess());
+        Assertions.assertEquals(2, root.getCodeLocations().size(), "The root build should only report its own projects.");
+        Assertions.assertEquals("composite-root", root.getProjectName());
+
+        Assertions.assertTrue(app.isSuccess());
+        Assertions.assertEquals(1, app.getCodeLocations().size());
+        Assertions.assertEquals(new File(compositeBuild, "app").getAbsolutePath(), app.getCodeLocations().get(0).getSourcePath().get().getAbsolutePath());
+        Assertions.assertEquals("app", app.getProjectName(), "A nested project should be named after its own project, not the root build.");
+        Assertions.assertEquals("1.1.0", app.getProjectVersion());
+
+        Assertions.assertTrue(shared.isSuccess());
+        Assertions.assertEquals(1, shared.getCodeLocations().size());
+        Assertions.assertEquals("shared", shared.getProjectName());
+        Assertions.assertEquals("3.0.0", shared.getProjectVersion());
+    }
+
+    @Test
+    public void buildsTheRootDidNotReportRunGradle(@TempDir Path tempDir) throws Exception {
+        GradleInspectorExtractor extractor = createExtractor();
+
+        extract(extractor, compositeBuild, tempDir.resolve("root"), true);
+        Extraction standalone = extract(extractor, new File(compositeBuild, "standalone"), tempDir.resolve("standalone"), true);
+
+        Assertions.assertEquals(2, gradleInvocations.get());
+        Assertions.assertTrue(standalone.isSuccess());
+        Assertions.assertEquals("standalone", standalone.getProjectName());
+    }
+
+    @Test
+    public void everyBuildRunsGradleWithoutSingleInvocation(@TempDir Path tempDir) throws Exception {
+        GradleInspectorExtractor extractor = createExtractor();
+
+        extract(extractor, compositeBuild, tempDir.resolve("root"), false);
+        extract(extractor, new File(compositeBuild, "app"), tempDir.resolve("app"), false);
+        extract(extractor, new File(compositeBuild, "libs/shared"), tempDir.resolve("shared"), false);
+
+        Assertions.assertEquals(3, gradleInvocations.get());
+    }
+
+    private Extraction extract(GradleInspectorExtractor extractor, File directory, Path outputDirectory, boolean singleInvocation) {
+        return extractor.extract(directory, new File("gradle"), null, ProxyInfo.NO_PROXY_INFO, new File("init-detect.gradle"), outputDirectory.toFile(), false, singleInvocation);
+    }
+
+    private GradleInspectorExtractor createExtractor() throws Exception {
+        ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(File.class), Mockito.any(File.class), Mockito.<List<String>>any())).thenAnswer(invocation -> {
+            gradleInvocations.incrementAndGet();
+            File directory = invocation.getArgument(0);
+            List<String> arguments = invocation.getArgument(2);
+            File outputDirectory = arguments.stream()
+                                       .filter(argument -> argument.startsWith(EXTRACTION_DIRECTORY_PREFIX))
+                                       .map(argument -> new File(argument.substring(EXTRACTION_DIRECTORY_PREFIX.length())))
+                                       .findFirst()
+                                       .orElseThrow(IllegalStateException::new);
+            writeInspectorOutput(directory, outputDirectory);
+            return new ExecutableOutput("", 0, "", "");
+        });
+        return new GradleInspectorExtractor(new SimpleFileFinder(), new GradleRunner(executableRunner), new GradleReportParser(), new GradleReportTransformer(new ExternalIdFactory()), new GradleRootMetadataParser(),
+            new GradleRootBuildCache());
+    }
+
+    // Writes what the init script would: the root build reports on its own projects but not on the builds it includes.
+    private void writeInspectorOutput(File directory, File outputDirectory) throws IOException {
+        if (directory.equals(compositeBuild)) {
+            writeRootProjectMetadata(outputDirectory, "composite-root", "1.0.0");
+            writeReport(outputDirectory, "", compositeBuild, "composite-root", "1.0.0");
+            writeReport(outputDirectory, "app", new File(compositeBuild, "app"), "app", "1.1.0");
+        } else {
+            writeRootProjectMetadata(outputDirectory, directory.getName(), "3.0.0");
+            writeReport(outputDirectory, "", directory, directory.getName(), "3.0.0");
+        }
+    }
+
+    private void writeRootProjectMetadata(File outputDirectory, String name, String version) throws IOException {
+        write(new File(outputDirectory, "rootProjectMetadata.txt"), Arrays.asList(
+            "DETECT META DATA START",
+            "rootProjectName:" + name,
+            "rootProjectVersion:" + version,
+            "DETECT META DATA END"
+        ));
+    }
+
+    private void writeReport(File outputDirectory, String projectPath, File projectDirectory, String name, String version) throws IOException {
+        write(new File(outputDirectory, projectPath + "_dependencyGraph.txt"), Arrays.asList(
+            "compile - Dependencies for source set 'main'.",
+            "\\--- org.apache.commons:commons-lang3:3.7",
+            "",
+            "DETECT META DATA START",
+            "projectPath:" + projectDirectory.getAbsolutePath(),
+            "projectGroup:com.example",
+            "projectName:" + name,
+            "projectVersion:" + version,
+            "DETECT META DATA END"
+        ));
+    }
+
+    private void write(File file, List<String> lines) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleRunner;
+import com.synopsys.integration.rest.proxy.ProxyInfo;
+
+public class GradleRunnerTest {
+    private static final File OUTPUT_DIRECTORY = new File("output");
+
+    @Test
+    public void defaultExecutionLogsAtInfo() throws IOException, ExecutableRunnerException {
+        final List<String> arguments = runGradle(null, false);
+
+        Assertions.assertEquals(Arrays.asList("dependencies", "--init-script=gradle-inspector", "-DGRADLEEXTRACTIONDIR=" + OUTPUT_DIRECTORY.getCanonicalPath(), "--info"), arguments);
+    }
+
+    @Test
+    public void daemonExecutionIsQuiet() throws IOException, ExecutableRunnerException {
+        final List<String> arguments = runGradle(null, true);
+
+        Assertions.assertEquals(Arrays.asList("dependencies", "--init-script=gradle-inspector", "-DGRADLEEXTRACTIONDIR=" + OUTPUT_DIRECTORY.getCanonicalPath(), "--daemon", "--quiet"), arguments);
+    }
+
+    @Test
+    public void daemonExecutionKeepsTheLogLevelOfTheBuildCommand() throws IOException, ExecutableRunnerException {
+        final List<String> arguments = runGradle("--warn dependencies", true);
+
+        Assertions.assertEquals(Arrays.asList("--warn", "dependencies", "--init-script=gradle-inspector", "-DGRADLEEXTRACTIONDIR=" + OUTPUT_DIRECTORY.getCanonicalPath(), "--daemon"), arguments);
+    }
+
+    @Test
+    public void daemonExecutionKeepsNoDaemonOfTheBuildCommand() throws IOException, ExecutableRunnerException {
+        final List<String> arguments = runGradle("--no-daemon", true);
+
+        Assertions.assertEquals(Arrays.asList("--no-daemon", "dependencies", "--init-script=gradle-inspector", "-DGRADLEEXTRACTIONDIR=" + OUTPUT_DIRECTORY.getCanonicalPath(), "--quiet"), arguments);
+    }
+
+    @Test
+    public void daemonExecutionDoesNotRepeatDaemonOfTheBuildCommand() throws IOException, ExecutableRunnerException {
+        final List<String> arguments = runGradle("--daemon", true);
+
+        Assertions.assertEquals(Arrays.asList("--daemon", "dependencies", "--init-script=gradle-inspector", "-DGRADLEEXTRACTIONDIR=" + OUTPUT_DIRECTORY.getCanonicalPath(), "--quiet"), arguments);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> runGradle(final String gradleCommand, final boolean daemonExecution) throws IOException, ExecutableRunnerException {
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        final ArgumentCaptor<List<String>> arguments = ArgumentCaptor.forClass(List.class);
+        Mockito.when(executableRunner.execute(Mockito.any(File.class), Mockito.any(File.class), arguments.capture())).thenReturn(new ExecutableOutput("", 0, "", ""));
+
+        new GradleRunner(executableRunner).runGradleDependencies(new File("."), new File("gradle"), new File("gradle-inspector"), gradleCommand, ProxyInfo.NO_PROXY_INFO, OUTPUT_DIRECTORY, daemonExecution);
+        return arguments.getValue();
+    }
+}
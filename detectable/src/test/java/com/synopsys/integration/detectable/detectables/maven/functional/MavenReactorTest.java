@@ -0,0 +1,116 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.maven.functional;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.Executable;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractor;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractorOptions;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenReactorCache;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenReactorModule;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenReactorParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+
+@UnitTest
+public class MavenReactorTest {
+    private final File reactor = FunctionalTestFiles.asFile("/maven/reactor");
+    private final AtomicInteger mavenInvocations = new AtomicInteger();
+
+    @Test
+    public void reactorModulesIncludeProfileModules() {
+        Optional<MavenReactorModule> parsedReactor = new MavenReactorParser().parseReactor(new File(reactor, "pom.xml"));
+
+        Assertions.assertTrue(parsedReactor.isPresent());
+        Assertions.assertEquals("hub-teamcity", parsedReactor.get().getArtifactId());
+        List<String> modules = parsedReactor.get().getModules().stream().map(MavenReactorModule::getArtifactId).collect(Collectors.toList());
+        Assertions.assertEquals(4, modules.size());
+        Assertions.assertTrue(modules.contains("hub-teamcity-assembly"));
+        Assertions.assertEquals("com.blackducksoftware.integration", parsedReactor.get().getModules().get(0).getGroupId().orElse(null));
+    }
+
+    @Test
+    public void nestedModulesUseTheRootReactorTrees() throws Exception {
+        MavenCliExtractor extractor = createExtractor();
+        MavenCliExtractorOptions options = createOptions(true);
+
+        Extraction root = extractor.extract(reactor, new File("mvn"), options);
+        Extraction common = extractor.extract(new File(reactor, "common"), new File("mvn"), options);
+        Extraction server = extractor.extract(new File(reactor, "server"), new File("mvn"), options);
+
+        Assertions.assertEquals(1, mavenInvocations.get());
+        Assertions.assertEquals(5, root.getCodeLocations().size());
+
+        Assertions.assertTrue(common.isSuccess());
+        Assertions.assertEquals(1, common.getCodeLocations().size());
+        Assertions.assertEquals("hub-teamcity-common", common.getProjectName());
+        Assertions.assertEquals(new File(new File(reactor, "common"), "hub-teamcity-common").getPath(), common.getCodeLocations().get(0).getSourcePath().get().getPath());
+
+        Assertions.assertTrue(server.isSuccess());
+        Assertions.assertEquals(1, server.getCodeLocations().size());
+        Assertions.assertEquals("hub-teamcity-server", server.getProjectName());
+    }
+
+    @Test
+    public void nestedModulesRunMavenWithoutSingleInvocation() throws Exception {
+        MavenCliExtractor extractor = createExtractor();
+        MavenCliExtractorOptions options = createOptions(false);
+
+        extractor.extract(reactor, new File("mvn"), options);
+        extractor.extract(new File(reactor, "common"), new File("mvn"), options);
+
+        Assertions.assertEquals(2, mavenInvocations.get());
+    }
+
+    private MavenCliExtractorOptions createOptions(boolean singleInvocation) {
+        return new MavenCliExtractorOptions(null, null, null, null, null, singleInvocation);
+    }
+
+    private MavenCliExtractor createExtractor() throws Exception {
+        String recordedOutput = FunctionalTestFiles.asString("/maven/hubTeamcityOutput.txt");
+        ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class), Mockito.<Consumer<String>>any())).thenAnswer(invocation -> {
+            mavenInvocations.incrementAndGet();
+            Consumer<String> standardOutputConsumer = invocation.getArgument(1);
+            Arrays.stream(recordedOutput.split(System.lineSeparator())).forEach(standardOutputConsumer);
+            return new ExecutableOutput("", 0, "", "");
+        });
+        return new MavenCliExtractor(executableRunner, new MavenCodeLocationPackager(new ExternalIdFactory()), new MavenReactorParser(), new MavenReactorCache());
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.maven.unit;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenParseResult;
+
+// Parses a generated 200 module dependency:tree output from one string and line by line, and reports the time and retained heap of each.
+@Tag("performance")
+public class MavenStreamingParsePerfTest {
+    private static final int MODULES = 200;
+    private static final int DIRECT_DEPENDENCIES = 40;
+    private static final int NOISE_LINES = 200;
+
+    @Test
+    public void reportStreamingParse() {
+        final long batchStart = System.currentTimeMillis();
+        final long batchBefore = usedHeap();
+        final StringBuilder output = new StringBuilder();
+        generateOutput(line -> output.append(line).append(System.lineSeparator()));
+        final String mavenOutputText = output.toString();
+        final long batchBytes = usedHeap() - batchBefore;
+        final List<MavenParseResult> batchResults = new MavenCodeLocationPackager(new ExternalIdFactory()).extractCodeLocations("/source", mavenOutputText, "test", null, null, null);
+        final long batchMillis = System.currentTimeMillis() - batchStart;
+
+        final long streamingStart = System.currentTimeMillis();
+        final MavenCodeLocationPackager streamingPackager = new MavenCodeLocationPackager(new ExternalIdFactory());
+        streamingPackager.startParsing("/source", "test", null, null, null);
+        generateOutput(streamingPackager::parseLine);
+        final List<MavenParseResult> streamingResults = streamingPackager.finishParsing();
+        final long streamingMillis = System.currentTimeMillis() - streamingStart;
+
+        System.out.println(String.format("Parsed %d lines of maven output: %d ms and %d KB of retained output when parsed as one string, %d ms and no retained output when parsed line by line.",
+            mavenOutputText.split(System.lineSeparator()).length, batchMillis, batchBytes / 1024, streamingMillis));
+
+        Assertions.assertEquals(MODULES, batchResults.size());
+        Assertions.assertEquals(batchResults.size(), streamingResults.size());
+        for (int i = 0; i < batchResults.size(); i++) {
+            final MavenParseResult batch = batchResults.get(i);
+            final MavenParseResult streaming = streamingResults.get(i);
+            Assertions.assertEquals(batch.getProjectName(), streaming.getProjectName());
+            Assertions.assertEquals(batch.getProjectVersion(), streaming.getProjectVersion());
+            Assertions.assertEquals(batch.getCodeLocation().getExternalId(), streaming.getCodeLocation().getExternalId());
+            Assertions.assertEquals(batch.getCodeLocation().getSourcePath(), streaming.getCodeLocation().getSourcePath());
+            assertSameGraph(batch.getCodeLocation().getDependencyGraph(), streaming.getCodeLocation().getDependencyGraph());
+        }
+    }
+
+    // Each module has download noise before its tree and a direct test dependency whose compile children become orphans.
+    private void generateOutput(final Consumer<String> lineConsumer) {
+        for (int module = 0; module < MODULES; module++) {
+            lineConsumer.accept("[INFO] ------------------< com.example:module-" + module + " >------------------");
+            lineConsumer.accept("[INFO] Building module-" + module + " 1.0.0 [" + (module + 1) + "/" + MODULES + "]");
+            for (int noise = 0; noise < NOISE_LINES; noise++) {
+                lineConsumer.accept("[INFO] Downloaded from central: https://repo.maven.apache.org/maven2/org/example/lib-" + noise + "/1.0/lib-" + noise + "-1.0.pom (2.1 kB at 40 kB/s)");
+            }
+            lineConsumer.accept("[INFO] --- maven-dependency-plugin:3.1.1:tree (default-cli) @ module-" + module + " ---");
+            lineConsumer.accept("[INFO] com.example:module-" + module + ":jar:1.0.0");
+            for (int direct = 0; direct < DIRECT_DEPENDENCIES; direct++) {
+                final String scope = direct % 10 == 0 ? "test" : "compile";
+                lineConsumer.accept("[INFO] +- org.example:lib-" + direct + ":jar:1.0:" + scope);
+                lineConsumer.accept("[INFO] |  +- org.example:lib-" + direct + "-core:jar:1.0:compile");
+                lineConsumer.accept("[INFO] |  |  \\- org.example:lib-" + direct + "-util:jar:1.0:compile");
+                lineConsumer.accept("[INFO] |  \\- org.example:lib-" + direct + "-api:jar:1.0:compile");
+            }
+            lineConsumer.accept("[INFO] \\- org.example:last:jar:1.0:compile");
+            lineConsumer.accept("[INFO] ------------------------------------------------------------------------");
+        }
+        lineConsumer.accept("[INFO] BUILD SUCCESS");
+    }
+
+    private void assertSameGraph(final DependencyGraph expected, final DependencyGraph actual) {
+        Assertions.assertEquals(expected.getRootDependencies(), actual.getRootDependencies());
+        final List<Dependency> toVisit = new ArrayList<>(expected.getRootDependencies());
+        final Set<Dependency> visited = new HashSet<>();
+        while (!toVisit.isEmpty()) {
+            final Dependency dependency = toVisit.remove(toVisit.size() - 1);
+            if (visited.add(dependency)) {
+                Assertions.assertEquals(expected.getChildrenForParent(dependency), actual.getChildrenForParent(dependency));
+                toVisit.addAll(expected.getChildrenForParent(dependency));
+            }
+        }
+    }
+
+    private long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -24,15 +24,28 @@ package com.synopsys.integration.detectable.detectables.nuget.functional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 import com.synopsys.integration.bdio.BdioNodeFactory;
 import com.synopsys.integration.bdio.BdioPropertyHelper;
 import com.synopsys.integration.bdio.graph.DependencyGraphTransformer;
@@ -48,6 +61,10 @@ import com.synopsys.integration.detectable.detectables.nuget.parse.NugetParseRes
 import com.synopsys.integration.detectable.util.FunctionalTestFiles;
 
 public class NugetInspectorParserPerfTest {
+    private static final int INSPECTION_FILES = 40;
+    private static final int PROJECTS_PER_FILE = 20;
+    private static final int PACKAGES_PER_PROJECT = 400;
+
     public Gson gson = new GsonBuilder().setPrettyPrinting().create();
     public ExternalIdFactory externalIdFactory = new ExternalIdFactory();
 
@@ -74,4 +91,87 @@ public class NugetInspectorParserPerfTest {
             assertEquals(211, components.size());
         });
     }
+
+    // Parses many large generated inspection files from text and from a reader, and reports the throughput of each.
+    // Reading from a reader only avoids holding each file as text, the whole inspection is still bound into the model.
+    @Tag("performance")
+    @Test
+    public void reportInspectionFileThroughput(@TempDir final Path tempDir) throws IOException {
+        final List<File> inspectionFiles = new ArrayList<>();
+        long totalBytes = 0;
+        for (int i = 0; i < INSPECTION_FILES; i++) {
+            final File inspectionFile = tempDir.resolve("solution" + i + "_inspection.json").toFile();
+            writeInspection(inspectionFile, i);
+            inspectionFiles.add(inspectionFile);
+            totalBytes += inspectionFile.length();
+        }
+        final NugetInspectorParser parser = new NugetInspectorParser(gson, externalIdFactory);
+
+        final long textStart = System.currentTimeMillis();
+        final List<NugetParseResult> textResults = new ArrayList<>();
+        for (final File inspectionFile : inspectionFiles) {
+            textResults.add(parser.createCodeLocation(FileUtils.readFileToString(inspectionFile, StandardCharsets.UTF_8)));
+        }
+        final long textMillis = Math.max(1, System.currentTimeMillis() - textStart);
+
+        final long readerStart = System.currentTimeMillis();
+        final List<NugetParseResult> readerResults = new ArrayList<>();
+        for (final File inspectionFile : inspectionFiles) {
+            try (final Reader reader = Files.newBufferedReader(inspectionFile.toPath(), StandardCharsets.UTF_8)) {
+                readerResults.add(parser.createCodeLocation(reader));
+            }
+        }
+        final long readerMillis = Math.max(1, System.currentTimeMillis() - readerStart);
+
+        final long totalKilobytes = totalBytes / 1024;
+        System.out.println(String.format("Parsed %d inspection files (%d KB): %d ms (%d KB/s) from text, %d ms (%d KB/s) from a reader.",
+            INSPECTION_FILES, totalKilobytes, textMillis, totalKilobytes * 1000 / textMillis, readerMillis, totalKilobytes * 1000 / readerMillis));
+
+        assertEquals(INSPECTION_FILES, readerResults.size());
+        for (int i = 0; i < INSPECTION_FILES; i++) {
+            final NugetParseResult textResult = textResults.get(i);
+            final NugetParseResult readerResult = readerResults.get(i);
+            assertEquals(PROJECTS_PER_FILE, readerResult.getCodeLocations().size());
+            assertEquals(textResult.getProjectName(), readerResult.getProjectName());
+            for (int project = 0; project < PROJECTS_PER_FILE; project++) {
+                assertEquals(textResult.getCodeLocations().get(project).getSourcePath(), readerResult.getCodeLocations().get(project).getSourcePath());
+                assertEquals(textResult.getCodeLocations().get(project).getDependencyGraph().getRootDependencies(), readerResult.getCodeLocations().get(project).getDependencyGraph().getRootDependencies());
+            }
+        }
+    }
+
+    // Each project depends directly on every tenth package and every package depends on the next one.
+    private void writeInspection(final File inspectionFile, final int solution) throws IOException {
+        try (final Writer writer = Files.newBufferedWriter(inspectionFile.toPath(), StandardCharsets.UTF_8); final JsonWriter json = new JsonWriter(writer)) {
+            json.setIndent("  ");
+            json.beginObject().name("Name").value("Nuget Inspector Inspection Result").name("Version").value("1.0.0").name("Containers").beginArray();
+            json.beginObject().name("Name").value("solution" + solution).name("Type").value("Solution").name("SourcePath").value("/source/solution" + solution + ".sln");
+            json.name("Packages").beginArray().endArray().name("Dependencies").beginArray().endArray().name("Children").beginArray();
+            for (int project = 0; project < PROJECTS_PER_FILE; project++) {
+                json.beginObject().name("Name").value("project" + project).name("Version").value("1.0.0").name("Type").value("Project");
+                json.name("SourcePath").value("/source/project" + project + "/project" + project + ".csproj");
+                json.name("Packages").beginArray();
+                for (int pkg = 0; pkg < PACKAGES_PER_PROJECT; pkg++) {
+                    json.beginObject().name("PackageId");
+                    writePackageId(json, pkg);
+                    json.name("Dependencies").beginArray();
+                    if (pkg + 1 < PACKAGES_PER_PROJECT) {
+                        writePackageId(json, pkg + 1);
+                    }
+                    json.endArray().endObject();
+                }
+                json.endArray().name("Dependencies").beginArray();
+                for (int pkg = 0; pkg < PACKAGES_PER_PROJECT; pkg += 10) {
+                    writePackageId(json, pkg);
+                }
+                json.endArray().endObject();
+            }
+            json.endArray().endObject();
+            json.endArray().endObject();
+        }
+    }
+
+    private void writePackageId(final JsonWriter json, final int pkg) throws IOException {
+        json.beginObject().name("Name").value("Example.Package" + pkg).name("Version").value("1." + pkg + ".0").endObject();
+    }
 }
@@ -0,0 +1,131 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.nuget.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.file.impl.SimpleFileFinder;
+import com.synopsys.integration.detectable.detectable.inspector.nuget.NugetInspector;
+import com.synopsys.integration.detectable.detectable.inspector.nuget.NugetInspectorOptions;
+import com.synopsys.integration.detectable.detectables.nuget.NugetInspectorExtractor;
+import com.synopsys.integration.detectable.detectables.nuget.parse.NugetInspectorParser;
+
+public class NugetInspectorExtractorTest {
+    private final NugetInspectorExtractor extractor = new NugetInspectorExtractor(new NugetInspectorParser(new Gson(), new ExternalIdFactory()), new SimpleFileFinder());
+
+    @UnitTest
+    public void parallelTargetsKeepTargetOrder(@TempDir Path tempDir) {
+        final List<File> targets = createTargets(tempDir, 5);
+        // Later targets finish first, so completion order is the reverse of target order.
+        final NugetInspector inspector = (workingDirectory, targetFile, outputDirectory, options) -> {
+            sleep(50L * (targets.size() - targets.indexOf(targetFile)));
+            return writeInspection(targetFile, outputDirectory);
+        };
+
+        final Extraction extraction = extractor.extract(targets, tempDir.resolve("output").toFile(), inspector, options(3));
+
+        Assertions.assertTrue(extraction.isSuccess());
+        final List<String> names = extraction.getCodeLocations().stream()
+                                       .map(codeLocation -> codeLocation.getExternalId().get().getName())
+                                       .collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList("target0", "target1", "target2", "target3", "target4"), names);
+        Assertions.assertEquals("target0", extraction.getProjectName());
+    }
+
+    @UnitTest
+    public void parallelTargetFailureFailsExtraction(@TempDir Path tempDir) {
+        final List<File> targets = createTargets(tempDir, 4);
+        final NugetInspector inspector = (workingDirectory, targetFile, outputDirectory, options) -> {
+            if (targets.indexOf(targetFile) == 2) {
+                return new ExecutableOutput("inspect", 1, "", "restore failed");
+            }
+            return writeInspection(targetFile, outputDirectory);
+        };
+
+        final Extraction extraction = extractor.extract(targets, tempDir.resolve("output").toFile(), inspector, options(2));
+
+        Assertions.assertFalse(extraction.isSuccess());
+        Assertions.assertNotNull(extraction.getError());
+    }
+
+    @UnitTest
+    public void serialTargetsMatchParallelTargets(@TempDir Path tempDir) {
+        final List<File> targets = createTargets(tempDir, 3);
+        final NugetInspector inspector = (workingDirectory, targetFile, outputDirectory, options) -> writeInspection(targetFile, outputDirectory);
+
+        final Extraction serial = extractor.extract(targets, tempDir.resolve("serial").toFile(), inspector, options(1));
+        final Extraction parallel = extractor.extract(targets, tempDir.resolve("parallel").toFile(), inspector, options(3));
+
+        Assertions.assertEquals(serial.getCodeLocations().size(), parallel.getCodeLocations().size());
+        for (int i = 0; i < serial.getCodeLocations().size(); i++) {
+            Assertions.assertEquals(serial.getCodeLocations().get(i).getExternalId(), parallel.getCodeLocations().get(i).getExternalId());
+            Assertions.assertEquals(serial.getCodeLocations().get(i).getDependencyGraph().getRootDependencies(), parallel.getCodeLocations().get(i).getDependencyGraph().getRootDependencies());
+        }
+    }
+
+    private NugetInspectorOptions options(final int parallelTargets) {
+        return new NugetInspectorOptions(false, null, null, new ArrayList<>(), null, parallelTargets);
+    }
+
+    private List<File> createTargets(final Path tempDir, final int count) {
+        final List<File> targets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            targets.add(tempDir.resolve("source").resolve("target" + i + ".csproj").toFile());
+        }
+        return targets;
+    }
+
+    private ExecutableOutput writeInspection(final File targetFile, final File outputDirectory) throws IOException {
+        final String name = targetFile.getName().replace(".csproj", "");
+        final String json = "{\"Name\":\"" + name + "\",\"Version\":\"1.0\",\"Containers\":[{\"Name\":\"" + name + "\",\"Version\":\"1.0\",\"Type\":\"Project\","
+                                + "\"SourcePath\":\"" + targetFile.getAbsolutePath().replace("\\", "\\\\") + "\","
+                                + "\"Packages\":[{\"PackageId\":{\"Name\":\"" + name + "-dep\",\"Version\":\"2.0\"},\"Dependencies\":[]}],"
+                                + "\"Dependencies\":[{\"Name\":\"" + name + "-dep\",\"Version\":\"2.0\"}],\"Children\":[]}]}";
+        FileUtils.write(new File(outputDirectory, name + "_inspection.json"), json, StandardCharsets.UTF_8);
+        return new ExecutableOutput("inspect", 0, "", "");
+    }
+
+    private void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -194,6 +194,7 @@ public class Application implements ApplicationRunner {
             exitCodeManager.requestExitCode(e);
         }
 
+        eventSystem.shutdown();
         logger.debug("All Detect actions completed.");
 
         //Generally, when requesting a failure status, an exit code is also requested, but if it is not, we default to an unknown error.
@@ -76,12 +76,14 @@ import com.synopsys.integration.detectable.detectable.executable.impl.SimpleExec
 import com.synopsys.integration.detectable.detectable.executable.impl.SimpleExecutableResolver;
 import com.synopsys.integration.detectable.detectable.executable.impl.SimpleLocalExecutableFinder;
 import com.synopsys.integration.detectable.detectable.executable.impl.SimpleSystemExecutableFinder;
+import com.synopsys.integration.detectable.detectable.externalid.InterningExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.detectable.detectable.file.impl.SimpleFileFinder;
 import com.synopsys.integration.detectable.detectable.inspector.GradleInspectorResolver;
 import com.synopsys.integration.detectable.detectable.inspector.PipInspectorResolver;
 import com.synopsys.integration.detectable.detectable.inspector.nuget.NugetInspectorResolver;
 import com.synopsys.integration.detectable.detectables.docker.DockerInspectorResolver;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorOptions;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.inspector.GradleInspectorScriptCreator;
 import com.synopsys.integration.detectable.factory.DetectableFactory;
 
@@ -112,7 +114,7 @@ public class RunBeanConfiguration {
 
     @Bean
     public ExternalIdFactory externalIdFactory() {
-        return new ExternalIdFactory();
+        return new InterningExternalIdFactory();
     }
 
     @Bean
@@ -154,7 +156,8 @@ public class RunBeanConfiguration {
 
     @Bean
     public BdioCodeLocationCreator detectCodeLocationManager() {
-        return new BdioCodeLocationCreator(codeLocationNameManager(), directoryManager, eventSystem);
+        final boolean collapseDuplicateGraphs = detectConfiguration.getValueOrDefault(DetectProperties.Companion.getDETECT_BOM_COLLAPSE_DUPLICATE_CODE_LOCATIONS());
+        return new BdioCodeLocationCreator(codeLocationNameManager(), directoryManager, eventSystem, collapseDuplicateGraphs);
     }
 
     @Bean
@@ -208,7 +211,9 @@ public class RunBeanConfiguration {
     @Bean()
     public GradleInspectorResolver gradleInspectorResolver() throws DetectUserFriendlyException {
         final GradleInspectorInstaller gradleInspectorInstaller = new GradleInspectorInstaller(artifactResolver());
-        return new ArtifactoryGradleInspectorResolver(gradleInspectorInstaller, configuration, detectableOptionFactory.createGradleInspectorOptions().getGradleInspectorScriptOptions(), airGapManager(), directoryManager);
+        final GradleInspectorOptions gradleInspectorOptions = detectableOptionFactory.createGradleInspectorOptions();
+        return new ArtifactoryGradleInspectorResolver(gradleInspectorInstaller, configuration, gradleInspectorOptions.getGradleInspectorScriptOptions(), airGapManager(), directoryManager,
+            gradleInspectorOptions.isDaemonExecution());
     }
 
     @Bean()
@@ -255,6 +260,6 @@ public class RunBeanConfiguration {
     @Lazy
     @Bean()
     public BlackDuckSignatureScanner blackDuckSignatureScanner(final BlackDuckSignatureScannerOptions blackDuckSignatureScannerOptions, final ScanBatchRunner scanBatchRunner, final BlackDuckServerConfig blackDuckServerConfig) {
-        return new BlackDuckSignatureScanner(directoryManager, fullFileFinder(), codeLocationNameManager(), blackDuckSignatureScannerOptions, eventSystem, scanBatchRunner, blackDuckServerConfig);
+        return new BlackDuckSignatureScanner(directoryManager, codeLocationNameManager(), blackDuckSignatureScannerOptions, eventSystem, scanBatchRunner, blackDuckServerConfig);
     }
 }
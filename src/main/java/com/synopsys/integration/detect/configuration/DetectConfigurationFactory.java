@@ -275,8 +275,11 @@ public class DetectConfigurationFactory {
         AggregateMode aggregateMode = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_BOM_AGGREGATE_REMEDIATION_MODE());
         List<DetectTool> preferredTools = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_PROJECT_TOOL());
         Boolean useBdio2 = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_BDIO2_ENABLED());
+        Boolean concurrentSignatureScan = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_BLACKDUCK_SIGNATURE_SCANNER_CONCURRENT());
+        Boolean concurrentUniversalTools = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_TOOLS_CONCURRENT());
+        Boolean concurrentPolaris = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_POLARIS_CONCURRENT());
 
-        return new RunOptions(unmapCodeLocations, aggregateName, aggregateMode, preferredTools, detectToolFilter, useBdio2);
+        return new RunOptions(unmapCodeLocations, aggregateName, aggregateMode, preferredTools, detectToolFilter, useBdio2, concurrentSignatureScan, concurrentUniversalTools, concurrentPolaris);
     }
 
     public DirectoryOptions createDirectoryOptions() throws IOException {
@@ -398,6 +401,7 @@ public class DetectConfigurationFactory {
         String codeLocationSuffix = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_PROJECT_CODELOCATION_SUFFIX()).orElse(null);
         String additionalArguments = PropertyConfigUtils.getFirstProvidedValueOrEmpty(detectConfiguration, DetectProperties.Companion.getDETECT_BLACKDUCK_SIGNATURE_SCANNER_ARGUMENTS(), DetectProperties.Companion.getDETECT_HUB_SIGNATURE_SCANNER_ARGUMENTS()).orElse(null);
         Integer maxDepth = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_BLACKDUCK_SIGNATURE_SCANNER_EXCLUSION_PATTERN_SEARCH_DEPTH());
+        Integer splitTargetSize = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_BLACKDUCK_SIGNATURE_SCANNER_SPLIT_TARGET_SIZE());
         Path offlineLocalScannerInstallPath = PropertyConfigUtils.getFirstProvidedValueOrEmpty(detectConfiguration, DetectProperties.Companion.getDETECT_BLACKDUCK_SIGNATURE_SCANNER_OFFLINE_LOCAL_PATH(), DetectProperties.Companion.getDETECT_HUB_SIGNATURE_SCANNER_OFFLINE_LOCAL_PATH()).map(path -> path.resolvePath(pathResolver)).orElse(null);
         Path onlineLocalScannerInstallPath = PropertyConfigUtils.getFirstProvidedValueOrEmpty(detectConfiguration, DetectProperties.Companion.getDETECT_BLACKDUCK_SIGNATURE_SCANNER_LOCAL_PATH(), DetectProperties.Companion.getDETECT_HUB_SIGNATURE_SCANNER_LOCAL_PATH()).map(path -> path.resolvePath(pathResolver)).orElse(null);
         String userProvidedScannerInstallUrl = PropertyConfigUtils.getFirstProvidedValueOrEmpty(detectConfiguration, DetectProperties.Companion.getDETECT_BLACKDUCK_SIGNATURE_SCANNER_HOST_URL(), DetectProperties.Companion.getDETECT_HUB_SIGNATURE_SCANNER_HOST_URL()).orElse(null);
@@ -427,12 +431,16 @@ public class DetectConfigurationFactory {
             maxDepth,
             findIndividualFileMatching(),
             licenseSearch,
-            copyrightSearch
+            copyrightSearch,
+            splitTargetSize
         );
     }
 
     public BlackDuckPostOptions createBlackDuckPostOptions()  {
         Boolean waitForResults = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_WAIT_FOR_RESULTS());
+        Boolean waitWithBackoff = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_WAIT_FOR_RESULTS_BACKOFF());
+        Boolean postActionsConcurrently = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_POST_ACTIONS_CONCURRENT());
+        Boolean logPolicyViolations = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_POLICY_CHECK_LOG_VIOLATIONS());
         Boolean runRiskReport = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_RISK_REPORT_PDF());
         Boolean runNoticesReport = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_NOTICES_REPORT());
         Path riskReportPdfPath = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_RISK_REPORT_PDF_PATH()).resolvePath(pathResolver);
@@ -440,7 +448,8 @@ public class DetectConfigurationFactory {
         List<FilterableEnumValue<PolicyRuleSeverityType>> policySeverities = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_POLICY_CHECK_FAIL_ON_SEVERITIES());
         List<PolicyRuleSeverityType> severitiesToFailPolicyCheck = FilterableEnumUtils.populatedValues(policySeverities, PolicyRuleSeverityType.class);
 
-        return new BlackDuckPostOptions(waitForResults, runRiskReport, runNoticesReport, riskReportPdfPath, noticesReportPath, severitiesToFailPolicyCheck);
+        return new BlackDuckPostOptions(waitForResults, runRiskReport, runNoticesReport, riskReportPdfPath, noticesReportPath, severitiesToFailPolicyCheck, findParallelProcessors(), waitWithBackoff,
+            postActionsConcurrently, logPolicyViolations);
     }
 
     public BinaryScanOptions createBinaryScanOptions()  {
@@ -448,7 +457,7 @@ public class DetectConfigurationFactory {
         List<String> mutlipleTargets = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_BINARY_SCAN_FILE_NAME_PATTERNS());
         String codeLocationPrefix = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_PROJECT_CODELOCATION_PREFIX()).orElse(null);
         String codeLocationSuffix = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_PROJECT_CODELOCATION_SUFFIX()).orElse(null);
-        return new BinaryScanOptions(singleTarget, mutlipleTargets, codeLocationPrefix, codeLocationSuffix);
+        return new BinaryScanOptions(singleTarget, mutlipleTargets, codeLocationPrefix, codeLocationSuffix, findParallelProcessors());
     }
 
     public DetectExecutableOptions createExecutablePaths()  {
@@ -219,6 +219,12 @@ class DetectProperties {
             setHelp("Additional arguments to use when running the Black Duck signature scanner.", "For example: Suppose you are running in bash on Linux and want to use the signature scanner's ability to read a list of directories to exclude from a file (using the signature scanner --exclude-from option). You tell the signature scanner read excluded directories from a file named excludes.txt in your home directory with: --detect.blackduck.signature.scanner.arguments='--exclude-from \${HOME}/excludes.txt'")
             setGroups(DetectGroup.SIGNATURE_SCANNER, DetectGroup.GLOBAL)
         }
+        val DETECT_BLACKDUCK_SIGNATURE_SCANNER_CONCURRENT = BooleanProperty("detect.blackduck.signature.scanner.concurrent", false).apply {
+            setInfo("Signature Scanner Concurrent", "6.5.0")
+            setHelp("If set to true, the signature scanner will run while the detectors are still extracting.", "The signature scan can only start early when both detect.project.name and detect.project.version.name are provided, the Docker tool is not being run and code locations are not being unmapped. Otherwise the signature scanner runs after the detectors, as it normally would.")
+            setGroups(DetectGroup.SIGNATURE_SCANNER, DetectGroup.GLOBAL)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_BLACKDUCK_SIGNATURE_SCANNER_COPYRIGHT_SEARCH = BooleanProperty("detect.blackduck.signature.scanner.copyright.search", false).apply {
             setInfo("Signature Scanner Copyright Search", "6.4.0")
             setHelp("When set to true, user will be able to scan and discover copyright names in Black Duck.")
@@ -287,6 +293,12 @@ class DetectProperties {
             setHelp("Use this value to enable the various snippet scanning modes. For a full explanation, please refer to the 'Running a component scan using the Signature Scanner command line' section in your Black Duck server's online help.")
             setGroups(DetectGroup.SIGNATURE_SCANNER, DetectGroup.GLOBAL, DetectGroup.SOURCE_SCAN)
         }
+        val DETECT_BLACKDUCK_SIGNATURE_SCANNER_SPLIT_TARGET_SIZE = IntegerProperty("detect.blackduck.signature.scanner.split.target.size", 0).apply {
+            setInfo("Signature Scanner Split Target Size", "6.5.0")
+            setHelp("If greater than zero, a scan target directory larger than this many megabytes is split into several scans, one for each of its largest subdirectories and one for the rest, so they can run in parallel. When greater than zero, every scan target is measured and they are started largest first; otherwise scan targets are not measured and are started in the order they were found.")
+            setGroups(DetectGroup.SIGNATURE_SCANNER, DetectGroup.GLOBAL)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_BLACKDUCK_SIGNATURE_SCANNER_UPLOAD_SOURCE_MODE = BooleanProperty("detect.blackduck.signature.scanner.upload.source.mode", false).apply {
             setInfo("Upload source mode", "5.4.0")
             setHelp("If set to true, the signature scanner will, if supported by your Black Duck version, upload source code to Black Duck.")
@@ -304,21 +316,45 @@ class DetectProperties {
             setGroups(DetectGroup.PROJECT, DetectGroup.PROJECT_SETTING)
             setCategory(DetectCategory.Advanced)
         }
+        val DETECT_BOM_COLLAPSE_DUPLICATE_CODE_LOCATIONS = BooleanProperty("detect.bom.collapse.duplicate.code.locations", false).apply {
+            setInfo("Collapse Duplicate Code Locations", "6.5.0")
+            setHelp("If set to true, code locations with the same external id and exactly the same dependency graph are collapsed into the first of them, so only one BDIO file is created and uploaded for them. The source paths of the collapsed code locations are logged with the code location they were collapsed into. Code locations without dependencies are never collapsed.")
+            setGroups(DetectGroup.PROJECT, DetectGroup.PROJECT_SETTING)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_BUILDLESS = BooleanProperty("detect.detector.buildless", false).apply {
             setInfo("Buildless Mode", "5.4.0")
             setHelp("If set to true, only Detector's capable of running without a build will be run.")
             setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
         }
+        val DETECT_CLANG_PARALLEL_COMMANDS = IntegerProperty("detect.clang.parallel.commands", 0).apply {
+            setInfo("Clang Parallel Commands", "6.5.0")
+            setHelp("The number of compile commands the Clang detector may run at the same time to find the files each command depends on. If 0, one command per available processor is run at a time.", "Commands in compile_commands.json that compile the same file with equivalent flags and include paths are run once.")
+            setGroups(DetectGroup.DETECTOR, DetectGroup.SOURCE_SCAN)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_CLEANUP = BooleanProperty("detect.cleanup", true).apply {
             setInfo("Cleanup Output", "3.2.0")
             setHelp("If true, the files created by Detect will be cleaned up.")
             setGroups(DetectGroup.CLEANUP, DetectGroup.GLOBAL)
         }
+        val DETECT_CLEANUP_BACKGROUND = BooleanProperty("detect.cleanup.background", false).apply {
+            setInfo("Cleanup In Background", "6.5.0")
+            setHelp("If true, cleanup moves the files created by Detect to a trash directory and deletes them in a separate low priority process, so Detect can exit without waiting for them to be deleted.", "The trash directory is created next to the runs directory in the output directory. Anything the background process does not delete is deleted when Detect next runs with cleanup enabled. The scan, bdio and Air Gap outputs that cleanup would keep are kept in place.")
+            setGroups(DetectGroup.CLEANUP, DetectGroup.GLOBAL)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_DIAGNOSTIC = BooleanProperty("detect.diagnostic", false).apply {
             setInfo("Diagnostic Mode", "6.5.0")
             setHelp("When enabled, diagnostic mode collects all files generated by Synopsys Detect and zips the files using a unique run ID. It includes logs, BDIO files, extraction files, and reports.")
             setGroups(DetectGroup.DEBUG, DetectGroup.GLOBAL)
         }
+        val DETECT_DIAGNOSTIC_ASYNCHRONOUS = BooleanProperty("detect.diagnostic.asynchronous", false).apply {
+            setInfo("Diagnostic Mode Asynchronous Capture", "6.5.0")
+            setHelp("When enabled, diagnostic mode captures executable output and relevant files on background threads instead of while the detectors wait.", "Each capture has its own bounded queue. If a queue fills up, the detectors wait for it, and all queued captures are written before the diagnostic zip is created.")
+            setGroups(DetectGroup.DEBUG, DetectGroup.GLOBAL)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_DIAGNOSTIC_EXTENDED = BooleanProperty("detect.diagnostic.extended", false).apply {
             setInfo("Diagnostic Mode Extended", "6.5.0")
             setHelp("When enabled, Synopsys Detect performs the actions of --detect.diagnostic, but also includes relevant files such as lock files and build artifacts.")
@@ -457,6 +493,12 @@ class DetectProperties {
             setGroups(DetectGroup.DOCKER, DetectGroup.GLOBAL)
             setCategory(DetectCategory.Advanced)
         }
+        val DETECT_DOCKER_INSPECTOR_CACHE_PATH = NullablePathProperty("detect.docker.inspector.cache.path").apply {
+            setInfo("Docker Inspector Result Cache Path", "6.5.0")
+            setHelp("The path to a directory where Detect keeps the Docker Inspector results for each inspected image.", "Results are keyed by the image id, the Docker Inspector .jar file and the Docker Inspector properties, so repeat scans of an unchanged image reuse the cached BDIO, results.json and image tarball instead of running Docker Inspector again. Images that are not available locally before the scan are inspected as usual and cached afterwards.")
+            setGroups(DetectGroup.DOCKER, DetectGroup.GLOBAL)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_DOCKER_INSPECTOR_PATH = NullablePathProperty("detect.docker.inspector.path").apply {
             setInfo("Docker Inspector .jar File Path", "3.0.0")
             setHelp("This is used to override using the hosted Docker Inspector .jar file by binary repository url. You can use a compatible (the same major version that Detect downloads by default) local Docker Inspector .jar file at this path.")
@@ -523,6 +565,12 @@ class DetectProperties {
             setHelp("Gradle command line arguments to add to the gradle/gradlew command line.", "By default, Detect runs the gradle (or gradlew) command with one task: dependencies. You can use this property to insert one or more additional gradle command line arguments (options or tasks) before the dependencies argument.")
             setGroups(DetectGroup.GRADLE, DetectGroup.SOURCE_SCAN)
         }
+        val DETECT_GRADLE_DAEMON = BooleanProperty("detect.gradle.daemon", false).apply {
+            setInfo("Gradle Daemon", "6.5.0")
+            setHelp("If true, Detect runs the gradle inspector with the Gradle daemon and the quiet log level instead of the info log level.", "Nested Gradle projects that use the same Gradle version can share one daemon for the whole Detect run instead of each starting Gradle. This has not been benchmarked, so measure it on your own builds before relying on it. A --daemon or --no-daemon in detect.gradle.build.command is kept and Detect does not add its own, and a log level in it is kept as well. The inspector's report files are the only output Detect reads, so the info log is not needed. The generated init script is kept in the tools directory between runs so Gradle can reuse the compiled script and the inspector jars it has already resolved.")
+            setGroups(DetectGroup.GRADLE, DetectGroup.SOURCE_SCAN)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_GRADLE_EXCLUDED_CONFIGURATIONS = NullableStringProperty("detect.gradle.excluded.configurations").apply {
             setInfo("Gradle Exclude Configurations", "3.0.0")
             setHelp("A comma-separated list of Gradle configurations to exclude.", "As Detect examines the Gradle project for dependencies, Detect will skip any Gradle configurations specified via this property.")
@@ -564,6 +612,12 @@ class DetectProperties {
             setHelp("The path to the Gradle executable (gradle or gradlew).", "If set, Detect will use the given Gradle executable instead of searching for one.")
             setGroups(DetectGroup.GRADLE, DetectGroup.GLOBAL)
         }
+        val DETECT_GRADLE_SINGLE_INVOCATION = BooleanProperty("detect.gradle.single.invocation", false).apply {
+            setInfo("Gradle Single Invocation", "6.5.0")
+            setHelp("If true, the Gradle projects nested beneath a Gradle build with a settings file take their results from that build's Gradle invocation instead of running Gradle again.", "Nested projects are only inspected when the detector search continues into them, for example with detect.detector.search.continue. A nested directory with its own settings file, such as a build included with includeBuild, is inspected with its own Gradle invocation as before, and so is any nested project the invocation did not report on.")
+            setGroups(DetectGroup.GRADLE, DetectGroup.SOURCE_SCAN)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_HEX_REBAR3_PATH = NullablePathProperty("detect.hex.rebar3.path").apply {
             setInfo("Rebar3 Executable", "3.0.0")
             setHelp("The path to the rebar3 executable.")
@@ -618,6 +672,12 @@ class DetectProperties {
             setGroups(DetectGroup.MAVEN, DetectGroup.GLOBAL)
             setCategory(DetectCategory.Advanced)
         }
+        val DETECT_MAVEN_SINGLE_INVOCATION = BooleanProperty("detect.maven.single.invocation", false).apply {
+            setInfo("Maven Single Invocation", "6.5.0")
+            setHelp("If true, nested Maven modules take their dependency trees from the dependency:tree run of the root reactor instead of running Maven again.", "The modules of a reactor are read from the modules sections of its pom.xml files, including the modules of profiles. Nested modules are only inspected when the detector search continues into them, for example with detect.detector.search.continue. A nested module that the root run did not produce a tree for is inspected with its own Maven run as before.")
+            setGroups(DetectGroup.MAVEN, DetectGroup.SOURCE_SCAN)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_NOTICES_REPORT = BooleanProperty("detect.notices.report", false).apply {
             setInfo("Generate Notices Report", "3.0.0")
             setHelp("When set to true, a Black Duck notices report in text form will be created in your source directory.")
@@ -672,6 +732,12 @@ class DetectProperties {
             setGroups(DetectGroup.NUGET, DetectGroup.GLOBAL)
             setCategory(DetectCategory.Advanced)
         }
+        val DETECT_NUGET_INSPECTOR_PARALLEL_TARGETS = IntegerProperty("detect.nuget.inspector.parallel.targets", 1).apply {
+            setInfo("Nuget Inspector Parallel Targets", "6.5.0")
+            setHelp("The number of solution or project targets the nuget inspector may inspect at the same time.", "Each target is inspected in its own process and output directory. Raise this when a source contains many solutions; restores that share a package folder may contend, so the default inspects one target at a time.")
+            setGroups(DetectGroup.NUGET, DetectGroup.SOURCE_SCAN)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_NUGET_INSPECTOR_VERSION = NullableStringProperty("detect.nuget.inspector.version").apply {
             setInfo("Nuget Inspector Version", "3.0.0")
             setHelp("Version of the Nuget Inspector. By default Detect will run the latest version that is compatible with the Detect version.")
@@ -739,11 +805,23 @@ class DetectProperties {
             setHelp("Path of the swift executable.")
             setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL)
         }
+        val DETECT_POLARIS_CONCURRENT = BooleanProperty("detect.polaris.concurrent", false).apply {
+            setInfo("Polaris Concurrent", "6.5.0")
+            setHelp("If set to true and both Polaris and Black Duck are enabled, the Polaris CLI will run while the Black Duck tools are running instead of before them.", "Detect waits for the Polaris CLI to finish before it exits, so the Polaris status and the exit code are reported as they would be when run one after another. Output from the Polaris CLI and the Black Duck tools may be interleaved in the log.")
+            setGroups(DetectGroup.POLARIS, DetectGroup.GLOBAL)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_POLICY_CHECK_FAIL_ON_SEVERITIES = FilterableEnumListProperty("detect.policy.check.fail.on.severities", FilterableEnumUtils.noneList(), PolicyRuleSeverityType::class.java).apply {
             setInfo("Fail on Policy Violation Severities", "3.0.0")
             setHelp("A comma-separated list of policy violation severities that will fail Detect. If this is set to NONE, Detect will not fail due to policy violations. A value of ALL is equivalent to all of the other possible values except NONE.")
             setGroups(DetectGroup.PROJECT, DetectGroup.GLOBAL, DetectGroup.PROJECT_SETTING, DetectGroup.POLICY)
         }
+        val DETECT_POLICY_CHECK_LOG_VIOLATIONS = BooleanProperty("detect.policy.check.log.violations", true).apply {
+            setInfo("Log Policy Violations", "6.5.0")
+            setHelp("If set to false, Detect will not look up and log the policy rules each component violates when the policy check fails.", "The policy status alone decides whether the policy check fails, so turning this off only removes the per component requests and log lines.")
+            setGroups(DetectGroup.PROJECT, DetectGroup.GLOBAL, DetectGroup.POLICY)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_PROJECT_APPLICATION_ID = NullableStringProperty("detect.project.application.id").apply {
             setInfo("Application ID", "5.2.0")
             setHelp("Sets the 'Application ID' project setting.")
@@ -957,6 +1035,12 @@ class DetectProperties {
             setHelp("The tools Detect should allow in a comma-separated list. Tools in this list (as long as they are not also in the excluded list) will be allowed to run if all criteria of the tool are met. Exclusion rules always win.", "This property and detect.tools.excluded provide control over which tools Detect runs.")
             setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL)
         }
+        val DETECT_TOOLS_CONCURRENT = BooleanProperty("detect.tools.concurrent", false).apply {
+            setInfo("Detect Tools Concurrent", "6.5.0")
+            setHelp("If set to true, the Docker, Bazel and detector tools will run at the same time instead of one after another.", "Each tool still contributes its code locations and project information in the same order as when run one after another, so the chosen project name and version do not change.")
+            setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            setCategory(DetectCategory.Advanced)
+        }
         val DETECT_TOOLS_EXCLUDED = FilterableEnumListProperty("detect.tools.excluded", emptyList(), DetectTool::class.java).apply {
             setInfo("Detect Tools Excluded", "5.0.0")
             setHelp("The tools Detect should not allow, in a comma-separated list. Excluded tools will not be run even if all criteria for the tool is met. Exclusion rules always win.", "This property and detect.tools provide control over which tools Detect runs.")
@@ -984,6 +1068,20 @@ class DetectProperties {
             setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
         }
 
+        val DETECT_WAIT_FOR_RESULTS_BACKOFF = BooleanProperty("detect.wait.for.results.backoff", false).apply {
+            setInfo("Wait For Results With Backoff", "6.5.0")
+            setHelp("If set to true, Detect will check the Black Duck notifications for finished code locations itself, checking less often while none finish, instead of polling at a fixed interval.")
+            setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            setCategory(DetectCategory.Advanced)
+        }
+
+        val DETECT_POST_ACTIONS_CONCURRENT = BooleanProperty("detect.post.actions.concurrent", false).apply {
+            setInfo("Concurrent Post Actions", "6.5.0")
+            setHelp("If set to true, Detect will run the Black Duck policy check and report generation at the same time once the results are available, instead of one after another.", "The wait for results and all of the post actions share one detect.report.timeout, so a post action fails with a timeout once the time left runs out. Failures are reported in the order the post actions would have run one after another.")
+            setGroups(DetectGroup.GENERAL, DetectGroup.GLOBAL)
+            setCategory(DetectCategory.Advanced)
+        }
+
         val DETECT_LERNA_PATH = NullablePathProperty("detect.lerna.path").apply {
             setInfo("Lerna Executable", "6.0.0")
             setHelp("Path of the lerna executable.")
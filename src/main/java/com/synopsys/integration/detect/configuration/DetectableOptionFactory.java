@@ -104,7 +104,8 @@ public class DetectableOptionFactory {
 
     public ClangDetectableOptions createClangDetectableOptions() {
         Boolean cleanup = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_CLEANUP());
-        return new ClangDetectableOptions(cleanup);
+        Integer parallelCommands = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_CLANG_PARALLEL_COMMANDS());
+        return new ClangDetectableOptions(cleanup, parallelCommands);
     }
 
     public ComposerLockDetectableOptions createComposerLockDetectableOptions() {
@@ -136,8 +137,9 @@ public class DetectableOptionFactory {
 
         Path dockerInspectorPath = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_DOCKER_INSPECTOR_PATH()).map(path -> path.resolvePath(pathResolver)).orElse(null);
         String dockerPlatformTopLayerId = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_DOCKER_PLATFORM_TOP_LAYER_ID()).orElse(null);
+        Path dockerInspectorResultCachePath = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_DOCKER_INSPECTOR_CACHE_PATH()).map(path -> path.resolvePath(pathResolver)).orElse(null);
         return new DockerDetectableOptions(dockerPathRequired, suppliedDockerImage, dockerImageId, suppliedDockerTar, dockerInspectorLoggingLevel, dockerInspectorVersion, additionalDockerProperties, dockerInspectorPath,
-            dockerPlatformTopLayerId);
+            dockerPlatformTopLayerId, dockerInspectorResultCachePath);
     }
 
     public GradleInspectorOptions createGradleInspectorOptions() {
@@ -155,7 +157,9 @@ public class DetectableOptionFactory {
         String onlineInspectorVersion = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_GRADLE_INSPECTOR_VERSION()).orElse(null);
         GradleInspectorScriptOptions scriptOptions = new GradleInspectorScriptOptions(excludedProjectNames, includedProjectNames, excludedConfigurationNames, includedConfigurationNames, customRepository, onlineInspectorVersion);
         String gradleBuildCommand = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_GRADLE_BUILD_COMMAND()).orElse(null);
-        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo);
+        Boolean daemonExecution = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_GRADLE_DAEMON());
+        Boolean singleInvocation = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_GRADLE_SINGLE_INVOCATION());
+        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo, daemonExecution, singleInvocation);
     }
 
     public LernaOptions createLernaOptions() {
@@ -169,7 +173,8 @@ public class DetectableOptionFactory {
         String mavenIncludedScopes = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_MAVEN_INCLUDED_SCOPES()).orElse(null);
         String mavenExcludedModules = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_MAVEN_EXCLUDED_MODULES()).orElse(null);
         String mavenIncludedModules = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_MAVEN_INCLUDED_MODULES()).orElse(null);
-        return new MavenCliExtractorOptions(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules);
+        Boolean singleInvocation = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_MAVEN_SINGLE_INVOCATION());
+        return new MavenCliExtractorOptions(mavenBuildCommand, mavenExcludedScopes, mavenIncludedScopes, mavenExcludedModules, mavenIncludedModules, singleInvocation);
     }
 
     public NpmCliExtractorOptions createNpmCliExtractorOptions() {
@@ -232,7 +237,8 @@ public class DetectableOptionFactory {
         String includedModules = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_NUGET_INCLUDED_MODULES()).orElse(null);
         List<String> packagesRepoUrl = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_NUGET_PACKAGES_REPO_URL());
         Path nugetConfigPath = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_NUGET_CONFIG_PATH()).map(path -> path.resolvePath(pathResolver)).orElse(null);
-        return new NugetInspectorOptions(ignoreFailures, excludedModules, includedModules, packagesRepoUrl, nugetConfigPath);
+        Integer parallelTargets = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_NUGET_INSPECTOR_PARALLEL_TARGETS());
+        return new NugetInspectorOptions(ignoreFailures, excludedModules, includedModules, packagesRepoUrl, nugetConfigPath, parallelTargets);
     }
 
     public NugetLocatorOptions createNugetInstallerOptions() {
@@ -83,6 +83,7 @@ import com.synopsys.integration.detect.lifecycle.boot.product.ProductBootOptions
 import com.synopsys.integration.detect.lifecycle.run.RunOptions;
 import com.synopsys.integration.detect.lifecycle.run.data.ProductRunData;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodeRequest;
+import com.synopsys.integration.detect.lifecycle.shutdown.RunDirectoryTrash;
 import com.synopsys.integration.detect.tool.detector.DetectorRuleFactory;
 import com.synopsys.integration.detect.tool.detector.impl.DetectDetectableFactory;
 import com.synopsys.integration.detect.tool.detector.impl.DetectExecutableResolver;
@@ -193,11 +194,15 @@ public class DetectBoot {
         }
         DetectConfigurationFactory detectConfigurationFactory = new DetectConfigurationFactory(detectConfiguration, pathResolver);
         DirectoryManager directoryManager = new DirectoryManager(detectConfigurationFactory.createDirectoryOptions(), detectRun);
+        if (detectConfiguration.getValue(DetectProperties.Companion.getDETECT_CLEANUP())) {
+            new RunDirectoryTrash(directoryManager.getRunsOutputDirectory()).purgeLeftoversInBackground();
+        }
 
         DiagnosticsDecision diagnosticsDecision = new DiagnosticsDecider(detectArgumentState, detectConfiguration).decide();
         DiagnosticSystem diagnosticSystem = null;
         if (diagnosticsDecision.isConfiguredForDiagnostic) {
-            diagnosticSystem = new DiagnosticSystem(diagnosticsDecision.isDiagnosticExtended, detectConfiguration, detectRun, detectInfo, directoryManager, eventSystem);
+            boolean asynchronousCapture = detectConfiguration.getValueOrDefault(DetectProperties.Companion.getDETECT_DIAGNOSTIC_ASYNCHRONOUS());
+            diagnosticSystem = new DiagnosticSystem(diagnosticsDecision.isDiagnosticExtended, asynchronousCapture, detectConfiguration, detectRun, detectInfo, directoryManager, eventSystem);
         }
 
         logger.debug("Main boot completed. Deciding what Detect should do.");
@@ -0,0 +1,94 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.lifecycle.run;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.exitcode.ExitCodeType;
+
+// Runs the Polaris CLI on its own thread so the Black Duck tools do not wait on it. It must be joined before the run finishes so its status is reported.
+public class ConcurrentPolarisRun {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ExecutorService executorService;
+    private final Future<?> polarisResult;
+
+    private ConcurrentPolarisRun(ExecutorService executorService, Future<?> polarisResult) {
+        this.executorService = executorService;
+        this.polarisResult = polarisResult;
+    }
+
+    public static ConcurrentPolarisRun start(Runnable polarisRun) {
+        ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "detect-polaris");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<?> polarisResult = executorService.submit(polarisRun);
+        executorService.shutdown();
+        return new ConcurrentPolarisRun(executorService, polarisResult);
+    }
+
+    public boolean isDone() {
+        return polarisResult.isDone();
+    }
+
+    // Failures surface here exactly as they would have from a serial Polaris run.
+    public void waitForCompletion() throws DetectUserFriendlyException {
+        if (!polarisResult.isDone()) {
+            logger.info("Waiting for the Polaris CLI to finish.");
+        }
+        try {
+            polarisResult.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executorService.shutdownNow();
+            throw new DetectUserFriendlyException("Interrupted while waiting for the Polaris CLI to finish.", e, ExitCodeType.FAILURE_UNKNOWN_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new DetectUserFriendlyException(String.format("Polaris failed unexpectedly: %s", e.getCause().getMessage()), e.getCause(), ExitCodeType.FAILURE_UNKNOWN_ERROR);
+        }
+    }
+
+    // Used when the run is already failing, so a Polaris failure is logged rather than replacing the original error.
+    public void waitForCompletionQuietly() {
+        try {
+            waitForCompletion();
+        } catch (DetectUserFriendlyException | RuntimeException e) {
+            logger.error(String.format("Polaris failed: %s", e.getMessage()));
+            logger.debug("Polaris error", e);
+        }
+    }
+}
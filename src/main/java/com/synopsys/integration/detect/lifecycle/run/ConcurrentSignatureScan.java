@@ -0,0 +1,103 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.lifecycle.run;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.blackduck.service.model.ProjectVersionWrapper;
+import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.tool.signaturescanner.SignatureScannerToolResult;
+import com.synopsys.integration.util.NameVersion;
+
+// Runs the signature scanner on its own thread so it can overlap with the detectors. The result is collected where the signature scan would normally have run.
+public class ConcurrentSignatureScan {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final NameVersion projectNameVersion;
+    private final ProjectVersionWrapper projectVersionWrapper;
+    private final ExecutorService executorService;
+    private final Future<SignatureScannerToolResult> scanResult;
+
+    private ConcurrentSignatureScan(NameVersion projectNameVersion, @Nullable ProjectVersionWrapper projectVersionWrapper, ExecutorService executorService, Future<SignatureScannerToolResult> scanResult) {
+        this.projectNameVersion = projectNameVersion;
+        this.projectVersionWrapper = projectVersionWrapper;
+        this.executorService = executorService;
+        this.scanResult = scanResult;
+    }
+
+    public static ConcurrentSignatureScan start(NameVersion projectNameVersion, @Nullable ProjectVersionWrapper projectVersionWrapper, Callable<SignatureScannerToolResult> signatureScan) {
+        ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "detect-signature-scan");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<SignatureScannerToolResult> scanResult = executorService.submit(signatureScan);
+        executorService.shutdown();
+        return new ConcurrentSignatureScan(projectNameVersion, projectVersionWrapper, executorService, scanResult);
+    }
+
+    public NameVersion getProjectNameVersion() {
+        return projectNameVersion;
+    }
+
+    public Optional<ProjectVersionWrapper> getProjectVersionWrapper() {
+        return Optional.ofNullable(projectVersionWrapper);
+    }
+
+    public SignatureScannerToolResult waitForResult() throws DetectUserFriendlyException {
+        if (!scanResult.isDone()) {
+            logger.info("Waiting for the concurrent signature scan to finish.");
+        }
+        try {
+            return scanResult.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while waiting for the signature scan to finish.");
+            return SignatureScannerToolResult.createFailureResult();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DetectUserFriendlyException) {
+                throw (DetectUserFriendlyException) e.getCause();
+            }
+            logger.error(String.format("Signature scan failed: %s", e.getCause().getMessage()));
+            logger.debug("Signature scan error", e.getCause());
+            return SignatureScannerToolResult.createFailureResult();
+        }
+    }
+
+    public void cancel() {
+        if (!scanResult.isDone()) {
+            logger.debug("Cancelling the concurrent signature scan.");
+            scanResult.cancel(true);
+        }
+        executorService.shutdownNow();
+    }
+}
@@ -24,6 +24,7 @@ package com.synopsys.integration.detect.lifecycle.run;
 
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -146,21 +147,48 @@ public class RunManager {
 
         logger.info(ReportConstants.RUN_SEPARATOR);
 
+        ConcurrentPolarisRun concurrentPolarisRun = null;
         if (productRunData.shouldUsePolarisProduct()) {
-            runPolarisProduct(productRunData, detectConfiguration, directoryManager, eventSystem, detectToolFilter);
+            if (runOptions.shouldRunPolarisConcurrently() && productRunData.shouldUseBlackDuckProduct()) {
+                logger.info("Starting the Polaris tool concurrently with the Black Duck tools.");
+                concurrentPolarisRun = ConcurrentPolarisRun.start(() -> runPolarisProduct(productRunData, detectConfiguration, directoryManager, eventSystem, detectToolFilter));
+            } else {
+                runPolarisProduct(productRunData, detectConfiguration, directoryManager, eventSystem, detectToolFilter);
+            }
         } else {
             logger.info("Polaris tools will not be run.");
         }
 
-        UniversalToolsResult universalToolsResult = runUniversalProjectTools(detectConfiguration, detectConfigurationFactory, directoryManager, eventSystem, detectDetectableFactory, runResult, runOptions, detectToolFilter,
-            codeLocationNameManager);
-
+        ConcurrentSignatureScan concurrentSignatureScan = null;
         if (productRunData.shouldUseBlackDuckProduct()) {
-            AggregateOptions aggregateOptions = determineAggregationStrategy(runOptions.getAggregateName().orElse(null), runOptions.getAggregateMode(), universalToolsResult);
-            runBlackDuckProduct(productRunData, detectConfigurationFactory, directoryManager, eventSystem, codeLocationNameManager, bdioCodeLocationCreator, detectInfo, runResult, runOptions, detectToolFilter,
-                universalToolsResult.getNameVersion(), aggregateOptions);
-        } else {
-            logger.info("Black Duck tools will not be run.");
+            concurrentSignatureScan = startConcurrentSignatureScan(productRunData, detectConfiguration, detectConfigurationFactory, directoryManager, runOptions, detectToolFilter).orElse(null);
+        }
+
+        boolean blackDuckPhasesCompleted = false;
+        try {
+            UniversalToolsResult universalToolsResult = runUniversalProjectTools(detectConfiguration, detectConfigurationFactory, directoryManager, eventSystem, detectDetectableFactory, runResult, runOptions, detectToolFilter,
+                codeLocationNameManager);
+
+            if (productRunData.shouldUseBlackDuckProduct()) {
+                AggregateOptions aggregateOptions = determineAggregationStrategy(runOptions.getAggregateName().orElse(null), runOptions.getAggregateMode(), universalToolsResult);
+                runBlackDuckProduct(productRunData, detectConfigurationFactory, directoryManager, eventSystem, codeLocationNameManager, bdioCodeLocationCreator, detectInfo, runResult, runOptions, detectToolFilter,
+                    universalToolsResult.getNameVersion(), aggregateOptions, concurrentSignatureScan);
+            } else {
+                logger.info("Black Duck tools will not be run.");
+            }
+            blackDuckPhasesCompleted = true;
+        } finally {
+            if (concurrentSignatureScan != null) {
+                concurrentSignatureScan.cancel();
+            }
+            if (concurrentPolarisRun != null && !blackDuckPhasesCompleted) {
+                concurrentPolarisRun.waitForCompletionQuietly();
+            }
+        }
+
+        // Polaris is joined before the run result is returned so its status is recorded before shutdown decides the exit code.
+        if (concurrentPolarisRun != null) {
+            concurrentPolarisRun.waitForCompletion();
         }
 
         logger.info("All tools have finished.");
@@ -181,6 +209,48 @@ public class RunManager {
         }
     }
 
+    private Optional<ConcurrentSignatureScan> startConcurrentSignatureScan(ProductRunData productRunData, PropertyConfiguration detectConfiguration, DetectConfigurationFactory detectConfigurationFactory,
+        DirectoryManager directoryManager, RunOptions runOptions, DetectToolFilter detectToolFilter) throws DetectUserFriendlyException, IntegrationException {
+        if (!runOptions.shouldRunSignatureScanConcurrently() || !detectToolFilter.shouldInclude(DetectTool.SIGNATURE_SCAN)) {
+            return Optional.empty();
+        }
+
+        boolean dockerTargetProvided = detectConfiguration.getValue(DetectProperties.Companion.getDETECT_DOCKER_IMAGE()).isPresent()
+                                           || detectConfiguration.getValue(DetectProperties.Companion.getDETECT_DOCKER_IMAGE_ID()).isPresent()
+                                           || detectConfiguration.getValue(DetectProperties.Companion.getDETECT_DOCKER_TAR()).isPresent();
+        if (detectToolFilter.shouldInclude(DetectTool.DOCKER) && dockerTargetProvided) {
+            logger.info("The signature scan will not run concurrently: the Docker tool may provide the signature scan target.");
+            return Optional.empty();
+        }
+
+        if (runOptions.shouldUnmapCodeLocations()) {
+            logger.info("The signature scan will not run concurrently: code locations are being unmapped.");
+            return Optional.empty();
+        }
+
+        ProjectNameVersionOptions projectNameVersionOptions = detectConfigurationFactory.createProjectNameVersionOptions(directoryManager.getSourceDirectory().getName());
+        Optional<NameVersion> projectNameVersion = new ProjectNameVersionDecider(projectNameVersionOptions).decideProjectNameVersionFromOverrides();
+        if (!projectNameVersion.isPresent()) {
+            logger.info("The signature scan will not run concurrently: both the project name and version must be provided.");
+            return Optional.empty();
+        }
+
+        BlackDuckRunData blackDuckRunData = productRunData.getBlackDuckRunData();
+        BlackDuckServicesFactory blackDuckServicesFactory = blackDuckRunData.getBlackDuckServicesFactory().orElse(null);
+
+        // The project must exist before the scanner creates code locations in it, so these actions move ahead of the detectors.
+        ProjectVersionWrapper projectVersionWrapper = null;
+        if (blackDuckRunData.isOnline() && blackDuckServicesFactory != null) {
+            projectVersionWrapper = createOrUpdateProject(blackDuckServicesFactory, detectConfigurationFactory, runOptions, projectNameVersion.get());
+        }
+
+        logger.info("Starting the signature scanner concurrently with the detectors.");
+        BlackDuckSignatureScannerOptions blackDuckSignatureScannerOptions = detectConfigurationFactory.createBlackDuckSignatureScannerOptions();
+        BlackDuckSignatureScannerTool blackDuckSignatureScannerTool = new BlackDuckSignatureScannerTool(blackDuckSignatureScannerOptions, detectContext);
+        return Optional.of(ConcurrentSignatureScan.start(projectNameVersion.get(), projectVersionWrapper,
+            () -> blackDuckSignatureScannerTool.runScanTool(blackDuckRunData, projectNameVersion.get(), Optional.empty())));
+    }
+
     private UniversalToolsResult runUniversalProjectTools(
         PropertyConfiguration detectConfiguration,
         DetectConfigurationFactory detectConfigurationFactory,
@@ -196,70 +266,32 @@ public class RunManager {
         ExtractionEnvironmentProvider extractionEnvironmentProvider = new ExtractionEnvironmentProvider(directoryManager);
         CodeLocationConverter codeLocationConverter = new CodeLocationConverter(new ExternalIdFactory());
 
-        boolean anythingFailed = false;
+        List<UniversalToolRunner.UniversalTool> universalTools = new ArrayList<>();
 
         logger.info(ReportConstants.RUN_SEPARATOR);
         if (detectToolFilter.shouldInclude(DetectTool.DOCKER)) {
             logger.info("Will include the Docker tool.");
-            DetectableTool detectableTool = new DetectableTool(detectDetectableFactory::createDockerDetectable,
-                extractionEnvironmentProvider, codeLocationConverter, "DOCKER", DetectTool.DOCKER,
-                eventSystem);
-
-            DetectableToolResult detectableToolResult = detectableTool.execute(directoryManager.getSourceDirectory());
-            assertValidOperatingSystem(detectableToolResult);
-
-            runResult.addDetectableToolResult(detectableToolResult);
-            eventSystem.publishEvent(Event.CodeLocationNamesAdded, createCodeLocationNames(detectableToolResult, codeLocationNameManager, directoryManager));
-            anythingFailed = anythingFailed || detectableToolResult.isFailure();
-            logger.info("Docker actions finished.");
+            universalTools.add(toolRunResult -> runDockerTool(directoryManager, eventSystem, detectDetectableFactory, extractionEnvironmentProvider, codeLocationConverter, codeLocationNameManager, toolRunResult));
         } else {
             logger.info("Docker tool will not be run.");
         }
 
-        logger.info(ReportConstants.RUN_SEPARATOR);
         if (detectToolFilter.shouldInclude(DetectTool.BAZEL)) {
             logger.info("Will include the Bazel tool.");
-            DetectableTool detectableTool = new DetectableTool(detectDetectableFactory::createBazelDetectable,
-                extractionEnvironmentProvider, codeLocationConverter, "BAZEL", DetectTool.BAZEL,
-                eventSystem);
-            DetectableToolResult detectableToolResult = detectableTool.execute(directoryManager.getSourceDirectory());
-            runResult.addDetectableToolResult(detectableToolResult);
-            anythingFailed = anythingFailed || detectableToolResult.isFailure();
-            logger.info("Bazel actions finished.");
+            universalTools.add(toolRunResult -> runBazelTool(directoryManager, eventSystem, detectDetectableFactory, extractionEnvironmentProvider, codeLocationConverter, toolRunResult));
         } else {
             logger.info("Bazel tool will not be run.");
         }
 
-        logger.info(ReportConstants.RUN_SEPARATOR);
         if (detectToolFilter.shouldInclude(DetectTool.DETECTOR)) {
             logger.info("Will include the detector tool.");
-            String projectBomTool = detectConfiguration.getValueOrEmpty(DetectProperties.Companion.getDETECT_PROJECT_DETECTOR()).orElse(null);
-            List<DetectorType> requiredDetectors = detectConfiguration.getValueOrDefault(DetectProperties.Companion.getDETECT_REQUIRED_DETECTOR_TYPES());
-            boolean buildless = detectConfiguration.getValueOrDefault(DetectProperties.Companion.getDETECT_BUILDLESS());
-
-            DetectorRuleFactory detectorRuleFactory = new DetectorRuleFactory();
-            DetectorRuleSet detectRuleSet = detectorRuleFactory.createRules(detectDetectableFactory, buildless);
-
-            Path sourcePath = directoryManager.getSourceDirectory().toPath();
-            DetectorFinderOptions finderOptions = detectConfigurationFactory.createSearchOptions(sourcePath);
-            DetectorEvaluationOptions detectorEvaluationOptions = detectConfigurationFactory.createDetectorEvaluationOptions();
-
-            DetectorIssuePublisher detectorIssuePublisher = new DetectorIssuePublisher();
-            DetectorTool detectorTool = new DetectorTool(new DetectorFinder(), extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher);
-            DetectorToolResult detectorToolResult = detectorTool.performDetectors(directoryManager.getSourceDirectory(), detectRuleSet, finderOptions, detectorEvaluationOptions, projectBomTool, requiredDetectors);
-
-            detectorToolResult.getBomToolProjectNameVersion().ifPresent(it -> runResult.addToolNameVersion(DetectTool.DETECTOR, new NameVersion(it.getName(), it.getVersion())));
-            runResult.addDetectCodeLocations(detectorToolResult.getBomToolCodeLocations());
-
-            if (!detectorToolResult.getFailedDetectorTypes().isEmpty()) {
-                eventSystem.publishEvent(Event.ExitCode, new ExitCodeRequest(ExitCodeType.FAILURE_DETECTOR, "A detector failed."));
-                anythingFailed = true;
-            }
-            logger.info("Detector actions finished.");
+            universalTools.add(toolRunResult -> runDetectorTool(detectConfiguration, detectConfigurationFactory, directoryManager, eventSystem, detectDetectableFactory, extractionEnvironmentProvider, codeLocationConverter, toolRunResult));
         } else {
             logger.info("Detector tool will not be run.");
         }
 
+        boolean anythingFailed = new UniversalToolRunner().runTools(universalTools, runResult, runOptions.shouldRunUniversalToolsConcurrently());
+
         logger.info(ReportConstants.RUN_SEPARATOR);
         logger.debug("Completed code location tools.");
 
@@ -281,6 +313,61 @@ public class RunManager {
         }
     }
 
+    private boolean runDockerTool(DirectoryManager directoryManager, EventSystem eventSystem, DetectDetectableFactory detectDetectableFactory, ExtractionEnvironmentProvider extractionEnvironmentProvider,
+        CodeLocationConverter codeLocationConverter, CodeLocationNameManager codeLocationNameManager, RunResult runResult) throws DetectUserFriendlyException {
+        DetectableTool detectableTool = new DetectableTool(detectDetectableFactory::createDockerDetectable,
+            extractionEnvironmentProvider, codeLocationConverter, "DOCKER", DetectTool.DOCKER,
+            eventSystem);
+
+        DetectableToolResult detectableToolResult = detectableTool.execute(directoryManager.getSourceDirectory());
+        assertValidOperatingSystem(detectableToolResult);
+
+        runResult.addDetectableToolResult(detectableToolResult);
+        eventSystem.publishEvent(Event.CodeLocationNamesAdded, createCodeLocationNames(detectableToolResult, codeLocationNameManager, directoryManager));
+        logger.info("Docker actions finished.");
+        return detectableToolResult.isFailure();
+    }
+
+    private boolean runBazelTool(DirectoryManager directoryManager, EventSystem eventSystem, DetectDetectableFactory detectDetectableFactory, ExtractionEnvironmentProvider extractionEnvironmentProvider,
+        CodeLocationConverter codeLocationConverter, RunResult runResult) {
+        DetectableTool detectableTool = new DetectableTool(detectDetectableFactory::createBazelDetectable,
+            extractionEnvironmentProvider, codeLocationConverter, "BAZEL", DetectTool.BAZEL,
+            eventSystem);
+        DetectableToolResult detectableToolResult = detectableTool.execute(directoryManager.getSourceDirectory());
+        runResult.addDetectableToolResult(detectableToolResult);
+        logger.info("Bazel actions finished.");
+        return detectableToolResult.isFailure();
+    }
+
+    private boolean runDetectorTool(PropertyConfiguration detectConfiguration, DetectConfigurationFactory detectConfigurationFactory, DirectoryManager directoryManager, EventSystem eventSystem,
+        DetectDetectableFactory detectDetectableFactory, ExtractionEnvironmentProvider extractionEnvironmentProvider, CodeLocationConverter codeLocationConverter, RunResult runResult) {
+        String projectBomTool = detectConfiguration.getValueOrEmpty(DetectProperties.Companion.getDETECT_PROJECT_DETECTOR()).orElse(null);
+        List<DetectorType> requiredDetectors = detectConfiguration.getValueOrDefault(DetectProperties.Companion.getDETECT_REQUIRED_DETECTOR_TYPES());
+        boolean buildless = detectConfiguration.getValueOrDefault(DetectProperties.Companion.getDETECT_BUILDLESS());
+
+        DetectorRuleFactory detectorRuleFactory = new DetectorRuleFactory();
+        DetectorRuleSet detectRuleSet = detectorRuleFactory.createRules(detectDetectableFactory, buildless);
+
+        Path sourcePath = directoryManager.getSourceDirectory().toPath();
+        DetectorFinderOptions finderOptions = detectConfigurationFactory.createSearchOptions(sourcePath);
+        DetectorEvaluationOptions detectorEvaluationOptions = detectConfigurationFactory.createDetectorEvaluationOptions();
+
+        DetectorIssuePublisher detectorIssuePublisher = new DetectorIssuePublisher();
+        DetectorTool detectorTool = new DetectorTool(new DetectorFinder(), extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher);
+        DetectorToolResult detectorToolResult = detectorTool.performDetectors(directoryManager.getSourceDirectory(), detectRuleSet, finderOptions, detectorEvaluationOptions, projectBomTool, requiredDetectors);
+
+        detectorToolResult.getBomToolProjectNameVersion().ifPresent(it -> runResult.addToolNameVersion(DetectTool.DETECTOR, new NameVersion(it.getName(), it.getVersion())));
+        runResult.addDetectCodeLocations(detectorToolResult.getBomToolCodeLocations());
+
+        boolean failed = false;
+        if (!detectorToolResult.getFailedDetectorTypes().isEmpty()) {
+            eventSystem.publishEvent(Event.ExitCode, new ExitCodeRequest(ExitCodeType.FAILURE_DETECTOR, "A detector failed."));
+            failed = true;
+        }
+        logger.info("Detector actions finished.");
+        return failed;
+    }
+
     //TODO: Remove hack when windows docker support added. This workaround allows docker to throw a user friendly exception when not-extractable due to operating system.
     private void assertValidOperatingSystem(DetectableToolResult detectableToolResult) throws DetectUserFriendlyException {
         if (detectableToolResult.getFailedExtractableResult().isPresent()) {
@@ -308,7 +395,7 @@ public class RunManager {
 
     private void runBlackDuckProduct(ProductRunData productRunData, DetectConfigurationFactory detectConfigurationFactory, DirectoryManager directoryManager, EventSystem eventSystem,
         CodeLocationNameManager codeLocationNameManager, BdioCodeLocationCreator bdioCodeLocationCreator, DetectInfo detectInfo, RunResult runResult, RunOptions runOptions,
-        DetectToolFilter detectToolFilter, NameVersion projectNameVersion, AggregateOptions aggregateOptions) throws IntegrationException, DetectUserFriendlyException {
+        DetectToolFilter detectToolFilter, NameVersion projectNameVersion, AggregateOptions aggregateOptions, @Nullable ConcurrentSignatureScan concurrentSignatureScan) throws IntegrationException, DetectUserFriendlyException {
 
         logger.debug("Black Duck tools will run.");
 
@@ -320,21 +407,11 @@ public class RunManager {
 
         BlackDuckServicesFactory blackDuckServicesFactory = blackDuckRunData.getBlackDuckServicesFactory().orElse(null);
 
-        if (blackDuckRunData.isOnline() && blackDuckServicesFactory != null) {
-            logger.debug("Getting or creating project.");
-            DetectProjectServiceOptions options = detectConfigurationFactory.createDetectProjectServiceOptions();
-            ProjectMappingService detectProjectMappingService = blackDuckServicesFactory.createProjectMappingService();
-            DetectCustomFieldService detectCustomFieldService = new DetectCustomFieldService();
-            DetectProjectService detectProjectService = new DetectProjectService(blackDuckServicesFactory, options, detectProjectMappingService, detectCustomFieldService);
-            projectVersionWrapper = detectProjectService.createOrUpdateBlackDuckProject(projectNameVersion);
-
-            if (null != projectVersionWrapper && runOptions.shouldUnmapCodeLocations()) {
-                logger.debug("Unmapping code locations.");
-                DetectCodeLocationUnmapService detectCodeLocationUnmapService = new DetectCodeLocationUnmapService(blackDuckServicesFactory.createBlackDuckService(), blackDuckServicesFactory.createCodeLocationService());
-                detectCodeLocationUnmapService.unmapCodeLocations(projectVersionWrapper.getProjectVersionView());
-            } else {
-                logger.debug("Will not unmap code locations: Project view was not present, or should not unmap code locations.");
-            }
+        if (concurrentSignatureScan != null) {
+            logger.debug("Project and version actions were performed before the concurrent signature scan started.");
+            projectVersionWrapper = concurrentSignatureScan.getProjectVersionWrapper().orElse(null);
+        } else if (blackDuckRunData.isOnline() && blackDuckServicesFactory != null) {
+            projectVersionWrapper = createOrUpdateProject(blackDuckServicesFactory, detectConfigurationFactory, runOptions, projectNameVersion);
         } else {
             logger.debug("Detect is not online, and will not create the project.");
         }
@@ -378,9 +455,14 @@ public class RunManager {
         logger.info(ReportConstants.RUN_SEPARATOR);
         if (detectToolFilter.shouldInclude(DetectTool.SIGNATURE_SCAN)) {
             logger.info("Will include the signature scanner tool.");
-            BlackDuckSignatureScannerOptions blackDuckSignatureScannerOptions = detectConfigurationFactory.createBlackDuckSignatureScannerOptions();
-            BlackDuckSignatureScannerTool blackDuckSignatureScannerTool = new BlackDuckSignatureScannerTool(blackDuckSignatureScannerOptions, detectContext);
-            SignatureScannerToolResult signatureScannerToolResult = blackDuckSignatureScannerTool.runScanTool(blackDuckRunData, projectNameVersion, runResult.getDockerTar());
+            SignatureScannerToolResult signatureScannerToolResult;
+            if (concurrentSignatureScan != null) {
+                signatureScannerToolResult = concurrentSignatureScan.waitForResult();
+            } else {
+                BlackDuckSignatureScannerOptions blackDuckSignatureScannerOptions = detectConfigurationFactory.createBlackDuckSignatureScannerOptions();
+                BlackDuckSignatureScannerTool blackDuckSignatureScannerTool = new BlackDuckSignatureScannerTool(blackDuckSignatureScannerOptions, detectContext);
+                signatureScannerToolResult = blackDuckSignatureScannerTool.runScanTool(blackDuckRunData, projectNameVersion, runResult.getDockerTar());
+            }
             if (signatureScannerToolResult.getResult() == Result.SUCCESS && signatureScannerToolResult.getCreationData().isPresent()) {
                 codeLocationWaitController.addWaitForCreationData(signatureScannerToolResult.getCreationData().get(), eventSystem);
             } else if (signatureScannerToolResult.getResult() != Result.SUCCESS) {
@@ -433,6 +515,25 @@ public class RunManager {
         }
     }
 
+    private ProjectVersionWrapper createOrUpdateProject(BlackDuckServicesFactory blackDuckServicesFactory, DetectConfigurationFactory detectConfigurationFactory, RunOptions runOptions, NameVersion projectNameVersion)
+        throws DetectUserFriendlyException, IntegrationException {
+        logger.debug("Getting or creating project.");
+        DetectProjectServiceOptions options = detectConfigurationFactory.createDetectProjectServiceOptions();
+        ProjectMappingService detectProjectMappingService = blackDuckServicesFactory.createProjectMappingService();
+        DetectCustomFieldService detectCustomFieldService = new DetectCustomFieldService();
+        DetectProjectService detectProjectService = new DetectProjectService(blackDuckServicesFactory, options, detectProjectMappingService, detectCustomFieldService);
+        ProjectVersionWrapper projectVersionWrapper = detectProjectService.createOrUpdateBlackDuckProject(projectNameVersion);
+
+        if (null != projectVersionWrapper && runOptions.shouldUnmapCodeLocations()) {
+            logger.debug("Unmapping code locations.");
+            DetectCodeLocationUnmapService detectCodeLocationUnmapService = new DetectCodeLocationUnmapService(blackDuckServicesFactory.createBlackDuckService(), blackDuckServicesFactory.createCodeLocationService());
+            detectCodeLocationUnmapService.unmapCodeLocations(projectVersionWrapper.getProjectVersionView());
+        } else {
+            logger.debug("Will not unmap code locations: Project view was not present, or should not unmap code locations.");
+        }
+        return projectVersionWrapper;
+    }
+
     private Set<String> createCodeLocationNames(DetectableToolResult detectableToolResult, CodeLocationNameManager codeLocationNameManager, DirectoryManager directoryManager) {
         if (detectableToolResult.getDetectToolProjectInfo().isPresent()) {
             NameVersion projectNameVersion = detectableToolResult.getDetectToolProjectInfo().get().getSuggestedNameVersion();
@@ -38,14 +38,21 @@ public class RunOptions {
     private final List<DetectTool> preferredTools;
     private final DetectToolFilter detectToolFilter;
     private final boolean useBdio2;
+    private final boolean concurrentSignatureScan;
+    private final boolean concurrentUniversalTools;
+    private final boolean concurrentPolaris;
 
-    public RunOptions(final boolean unmapCodeLocations, @Nullable final String aggregateName, final AggregateMode aggregateMode, final List<DetectTool> preferredTools, final DetectToolFilter detectToolFilter, final boolean useBdio2) {
+    public RunOptions(final boolean unmapCodeLocations, @Nullable final String aggregateName, final AggregateMode aggregateMode, final List<DetectTool> preferredTools, final DetectToolFilter detectToolFilter, final boolean useBdio2,
+        final boolean concurrentSignatureScan, final boolean concurrentUniversalTools, final boolean concurrentPolaris) {
         this.unmapCodeLocations = unmapCodeLocations;
         this.aggregateName = aggregateName;
         this.aggregateMode = aggregateMode;
         this.preferredTools = preferredTools;
         this.detectToolFilter = detectToolFilter;
         this.useBdio2 = useBdio2;
+        this.concurrentSignatureScan = concurrentSignatureScan;
+        this.concurrentUniversalTools = concurrentUniversalTools;
+        this.concurrentPolaris = concurrentPolaris;
     }
 
     public boolean shouldUnmapCodeLocations() {
@@ -71,4 +78,16 @@ public class RunOptions {
     public boolean shouldUseBdio2() {
         return useBdio2;
     }
+
+    public boolean shouldRunSignatureScanConcurrently() {
+        return concurrentSignatureScan;
+    }
+
+    public boolean shouldRunUniversalToolsConcurrently() {
+        return concurrentUniversalTools;
+    }
+
+    public boolean shouldRunPolarisConcurrently() {
+        return concurrentPolaris;
+    }
 }
@@ -53,6 +53,12 @@ public class RunResult {
         detectCodeLocations.addAll(detectableToolResult.getDetectCodeLocations());
     }
 
+    public void addRunResult(final RunResult runResult) {
+        runResult.getDockerTar().ifPresent(this::addDockerFile);
+        detectToolProjectInfo.addAll(runResult.getDetectToolProjectInfo());
+        detectCodeLocations.addAll(runResult.getDetectCodeLocations());
+    }
+
     public void addDockerFile(final File dockerFile) {
         dockerTar = dockerFile;
     }
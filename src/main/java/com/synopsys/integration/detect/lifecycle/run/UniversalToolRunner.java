@@ -0,0 +1,94 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.lifecycle.run;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.exitcode.ExitCodeType;
+import com.synopsys.integration.detect.workflow.report.util.ReportConstants;
+
+// Runs the Docker, Bazel and detector tools one after another, or together when detect.tools.concurrent is set.
+public class UniversalToolRunner {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    // A tool that contributes to the universal tools result by populating the given run result, returning true if it failed.
+    public interface UniversalTool {
+        boolean run(RunResult runResult) throws DetectUserFriendlyException;
+    }
+
+    // Returns true if any tool failed.
+    public boolean runTools(List<UniversalTool> universalTools, RunResult runResult, boolean concurrently) throws DetectUserFriendlyException {
+        if (concurrently && universalTools.size() > 1) {
+            return runToolsConcurrently(universalTools, runResult);
+        }
+        boolean anythingFailed = false;
+        for (UniversalTool universalTool : universalTools) {
+            logger.info(ReportConstants.RUN_SEPARATOR);
+            anythingFailed = universalTool.run(runResult) || anythingFailed;
+        }
+        return anythingFailed;
+    }
+
+    private boolean runToolsConcurrently(List<UniversalTool> universalTools, RunResult runResult) throws DetectUserFriendlyException {
+        logger.info(ReportConstants.RUN_SEPARATOR);
+        logger.info(String.format("Running %d tools concurrently.", universalTools.size()));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(universalTools.size());
+        try {
+            List<RunResult> toolRunResults = new ArrayList<>();
+            List<Future<Boolean>> toolFailures = new ArrayList<>();
+            for (UniversalTool universalTool : universalTools) {
+                RunResult toolRunResult = new RunResult();
+                toolRunResults.add(toolRunResult);
+                toolFailures.add(executorService.submit(() -> universalTool.run(toolRunResult)));
+            }
+
+            // Results are joined in tool order (Docker, Bazel, Detector) so the outcome matches running them one after another.
+            boolean anythingFailed = false;
+            for (int i = 0; i < universalTools.size(); i++) {
+                anythingFailed = toolFailures.get(i).get() || anythingFailed;
+                runResult.addRunResult(toolRunResults.get(i));
+            }
+            return anythingFailed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DetectUserFriendlyException("Interrupted while waiting for the tools to finish.", e, ExitCodeType.FAILURE_UNKNOWN_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DetectUserFriendlyException) {
+                throw (DetectUserFriendlyException) e.getCause();
+            }
+            throw new DetectUserFriendlyException(String.format("A tool failed unexpectedly: %s", e.getCause().getMessage()), e.getCause(), ExitCodeType.FAILURE_UNKNOWN_ERROR);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.lifecycle.shutdown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Moves a finished run's files into a trash directory beside the runs directory so Detect can exit without waiting for them to be deleted.
+// The trash is emptied by a detached low priority process, and whatever that process did not get to is purged when the next run starts.
+public class RunDirectoryTrash {
+    public static final String TRASH_DIRECTORY_NAME = "trash";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final File trashDirectory;
+
+    public RunDirectoryTrash(final File runsDirectory) {
+        this.trashDirectory = new File(runsDirectory.getAbsoluteFile().getParentFile(), TRASH_DIRECTORY_NAME);
+    }
+
+    public File getTrashDirectory() {
+        return trashDirectory;
+    }
+
+    // Renames everything in the run directory except the skipped files into a new trash entry and returns it.
+    // When nothing in the run directory is skipped, the run directory itself is renamed in a single move.
+    public File moveToTrash(final File runDirectory, final Set<File> skip) throws IOException {
+        Files.createDirectories(trashDirectory.toPath());
+        final File trashEntry = new File(trashDirectory, runDirectory.getName() + "-" + UUID.randomUUID().toString());
+
+        final Path runPath = runDirectory.getAbsoluteFile().toPath().normalize();
+        final boolean anythingSkipped = skip.stream().anyMatch(file -> file.getAbsoluteFile().toPath().normalize().startsWith(runPath));
+        if (!anythingSkipped && move(runDirectory, trashEntry)) {
+            return trashEntry;
+        }
+
+        Files.createDirectories(trashEntry.toPath());
+        final File[] files = runDirectory.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                if (skip.contains(file)) {
+                    logger.debug("Skipping cleanup for: " + file.getAbsolutePath());
+                } else {
+                    if (file.getName().contains("status")) {
+                        logger.info("Status file has been deleted.  To preserve status file, turn off cleanup actions.");
+                    }
+                    if (!move(file, new File(trashEntry, file.getName()))) {
+                        logger.debug("Could not move to trash, cleaning up: " + file.getAbsolutePath());
+                        FileUtils.forceDelete(file);
+                    }
+                }
+            }
+        }
+
+        final String[] remaining = runDirectory.list();
+        if (remaining != null && remaining.length == 0) {
+            Files.delete(runDirectory.toPath());
+        }
+        return trashEntry;
+    }
+
+    // Starts a process that outlives Detect to delete the trash entry. If it cannot be started the entry is left for the next run.
+    public void purgeDetached(final File trashEntry) {
+        final List<String> command;
+        if (SystemUtils.IS_OS_WINDOWS) {
+            command = Arrays.asList("cmd", "/c", "start", "\"\"", "/low", "/b", "cmd", "/c", "rmdir", "/s", "/q", trashEntry.getAbsolutePath());
+        } else {
+            command = Arrays.asList("nice", "-n", "19", "rm", "-rf", trashEntry.getAbsolutePath());
+        }
+        // Output goes to the null device so the process never blocks on a pipe nobody reads once Detect has exited.
+        final File nullDevice = new File(SystemUtils.IS_OS_WINDOWS ? "NUL" : "/dev/null");
+        try {
+            new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(nullDevice))
+                .start();
+            logger.debug("Started background cleanup of: " + trashEntry.getAbsolutePath());
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to start background cleanup, it will be cleaned up by the next run: %s", e.getMessage()));
+        }
+    }
+
+    // Deletes every entry left in the trash by earlier runs.
+    public void purgeLeftovers() {
+        final File[] trashEntries = trashDirectory.listFiles();
+        if (trashEntries == null) {
+            return;
+        }
+        for (final File trashEntry : trashEntries) {
+            logger.debug("Cleaning up trash from a previous run: " + trashEntry.getAbsolutePath());
+            FileUtils.deleteQuietly(trashEntry);
+        }
+    }
+
+    // Purges leftovers on a daemon thread so startup does not wait on it. A purge cut short by exit is finished by a later run.
+    public void purgeLeftoversInBackground() {
+        final String[] trashEntries = trashDirectory.list();
+        if (trashEntries == null || trashEntries.length == 0) {
+            return;
+        }
+        final Thread purgeThread = new Thread(this::purgeLeftovers, "detect-trash-cleanup");
+        purgeThread.setDaemon(true);
+        purgeThread.setPriority(Thread.MIN_PRIORITY);
+        purgeThread.start();
+    }
+
+    private boolean move(final File source, final File target) {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (final AtomicMoveNotSupportedException e) {
+            // Another file system: a copy would cost as much as deleting, so the caller deletes in place instead.
+            return false;
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to move %s to the trash: %s", source.getAbsolutePath(), e.getMessage()));
+            return false;
+        }
+    }
+}
@@ -24,9 +24,9 @@ package com.synopsys.integration.detect.lifecycle.shutdown;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -84,7 +84,7 @@ public class ShutdownManager {
                     }
                 }
 
-                final List<File> cleanupToSkip = new ArrayList<>();
+                final Set<File> cleanupToSkip = new HashSet<>();
                 if (dryRun || offline) {
                     logger.debug("Will not cleanup scan folder.");
                     cleanupToSkip.add(directoryManager.getScanOutputDirectory());
@@ -97,8 +97,15 @@ public class ShutdownManager {
                     logger.debug("Will not cleanup Air Gap file.");
                     cleanupToSkip.add(airgapZip.get());
                 }
-                logger.debug("Cleaning up directory: " + directoryManager.getRunHomeDirectory().getAbsolutePath());
-                cleanup(directoryManager.getRunHomeDirectory(), cleanupToSkip);
+                if (detectConfiguration.getValue(DetectProperties.Companion.getDETECT_CLEANUP_BACKGROUND())) {
+                    final RunDirectoryTrash runDirectoryTrash = new RunDirectoryTrash(directoryManager.getRunsOutputDirectory());
+                    logger.debug("Moving run directory to the trash: " + directoryManager.getRunHomeDirectory().getAbsolutePath());
+                    final File trashEntry = runDirectoryTrash.moveToTrash(directoryManager.getRunHomeDirectory(), cleanupToSkip);
+                    runDirectoryTrash.purgeDetached(trashEntry);
+                } else {
+                    logger.debug("Cleaning up directory: " + directoryManager.getRunHomeDirectory().getAbsolutePath());
+                    cleanup(directoryManager.getRunHomeDirectory(), cleanupToSkip);
+                }
             } else {
                 logger.info("Skipping cleanup, it is disabled.");
             }
@@ -107,7 +114,7 @@ public class ShutdownManager {
         }
     }
 
-    private void cleanup(final File directory, final List<File> skip) throws IOException {
+    private void cleanup(final File directory, final Set<File> skip) throws IOException {
         IOException exception = null;
         File[] files = directory.listFiles();
         if (files != null) {
@@ -34,12 +34,14 @@ public class BinaryScanOptions {
 
     private final String codeLocationPrefix;
     private final String codeLocationSuffix;
+    private final int parallelProcessors;
 
-    public BinaryScanOptions(@Nullable final Path singleTargetFilePath, final List<String> multipleTargetFileNamePatterns, final String codeLocationPrefix, final String codeLocationSuffix) {
+    public BinaryScanOptions(@Nullable final Path singleTargetFilePath, final List<String> multipleTargetFileNamePatterns, final String codeLocationPrefix, final String codeLocationSuffix, final int parallelProcessors) {
         this.singleTargetFilePath = singleTargetFilePath;
         this.multipleTargetFileNamePatterns = multipleTargetFileNamePatterns;
         this.codeLocationPrefix = codeLocationPrefix;
         this.codeLocationSuffix = codeLocationSuffix;
+        this.parallelProcessors = parallelProcessors;
     }
 
     public List<String> getMultipleTargetFileNamePatterns() {
@@ -57,4 +59,8 @@ public class BinaryScanOptions {
     public String getCodeLocationSuffix() {
         return codeLocationSuffix;
     }
+
+    public int getParallelProcessors() {
+        return parallelProcessors;
+    }
 }
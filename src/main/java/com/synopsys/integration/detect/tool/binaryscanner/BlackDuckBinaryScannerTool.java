@@ -104,7 +104,7 @@ public class BlackDuckBinaryScannerTool {
                     final String zipPath = "binary-upload.zip";
                     final File zip = new File(directoryManager.getBinaryOutputDirectory(), zipPath);
                     final Map<String, Path> uploadTargets = multipleTargets.stream().collect(Collectors.toMap(File::getName, File::toPath));
-                    DetectZipUtil.zip(zip, uploadTargets);
+                    DetectZipUtil.zip(zip, uploadTargets, binaryScanOptions.getParallelProcessors());
                     logger.info("Binary scan created the following zip for upload: " + zip.toPath());
                     binaryUpload = zip;
                 } catch (final IOException e) {
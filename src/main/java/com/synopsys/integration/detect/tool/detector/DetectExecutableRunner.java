@@ -33,6 +33,7 @@ import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detectable.detectable.executable.Executable;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
+import com.synopsys.integration.detectable.detectable.executable.impl.ExecutableStreamThread;
 import com.synopsys.integration.detectable.detectable.executable.impl.SimpleExecutableRunner;
 
 public class DetectExecutableRunner extends SimpleExecutableRunner {
@@ -58,7 +59,19 @@ public class DetectExecutableRunner extends SimpleExecutableRunner {
 
     @Override
     public ExecutableOutput execute(final Executable executable) throws ExecutableRunnerException {
-        final ExecutableOutput output = super.execute(executable);
+        return publish(super.execute(executable));
+    }
+
+    @Override
+    public ExecutableOutput execute(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        return publish(super.execute(executable, standardOutputConsumer));
+    }
+
+    private ExecutableOutput publish(final ExecutableOutput output) {
+        if (output.isStandardOutputTruncated()) {
+            logger.debug(String.format("The standard output of %s was streamed, so only its last %d lines are kept for diagnostics and logging.", output.getCommandDescription(),
+                ExecutableStreamThread.CONSUMED_OUTPUT_TAIL_LINES));
+        }
         eventSystem.publishEvent(Event.Executable, output);
         if (output.getReturnCode() != 0 && shouldLogOutput && !logger.isDebugEnabled() && !logger.isTraceEnabled()) {
             if (StringUtils.isNotBlank(output.getStandardOutput())) {
@@ -24,8 +24,9 @@ package com.synopsys.integration.detect.tool.detector.impl;
 
 import java.io.File;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -63,7 +64,8 @@ public class DetectExecutableResolver
     private final SimpleExecutableResolver simpleExecutableResolver;
     private final DetectExecutableOptions detectExecutableOptions;
 
-    private final Map<String, File> cachedExecutables = new HashMap<>();
+    // Shared by the Docker, Bazel and detector tools, which may resolve executables at the same time (detect.tools.concurrent).
+    private final Map<String, Optional<File>> cachedExecutables = new ConcurrentHashMap<>();
 
     public DetectExecutableResolver(final SimpleExecutableResolver simpleExecutableResolver, final DetectExecutableOptions detectExecutableOptions) {
         this.simpleExecutableResolver = simpleExecutableResolver;
@@ -83,15 +85,10 @@ public class DetectExecutableResolver
                 return exe;
             }
         }
-        final boolean hasCacheKey = StringUtils.isNotBlank(cacheKey);
-        if (hasCacheKey && cachedExecutables.containsKey(cacheKey)) {
-            return cachedExecutables.get(cacheKey);
+        if (StringUtils.isBlank(cacheKey)) {
+            return resolveExecutable.get();
         }
-        final File resolved = resolveExecutable.get();
-        if (hasCacheKey) {
-            cachedExecutables.put(cacheKey, resolved);
-        }
-        return resolved;
+        return cachedExecutables.computeIfAbsent(cacheKey, key -> Optional.ofNullable(resolveExecutable.get())).orElse(null);
     }
 
     private File resolveExecutableLocally(final Function<DetectableEnvironment, File> resolveExecutable, final DetectableEnvironment environment, final Path executableOverride) throws DetectableException {
@@ -37,7 +37,7 @@ public class ExtractionEnvironmentProvider {
         this.directoryManager = directoryManager;
     }
 
-    public ExtractionEnvironment createExtractionEnvironment(DetectorEvaluation detectorEvaluation){
+    public synchronized ExtractionEnvironment createExtractionEnvironment(DetectorEvaluation detectorEvaluation){
         ExtractionId extractionId = new ExtractionId(detectorEvaluation.getDetectorRule().getDetectorType(), count);
         count = count + 1;
 
@@ -45,7 +45,7 @@ public class ExtractionEnvironmentProvider {
         return new DetectExtractionEnvironment(outputDirectory, extractionId);
     }
 
-    public ExtractionEnvironment createExtractionEnvironment(String name){
+    public synchronized ExtractionEnvironment createExtractionEnvironment(String name){
         ExtractionId extractionId = new ExtractionId(name, count);
         count = count + 1;
 
@@ -23,6 +23,11 @@
 package com.synopsys.integration.detect.tool.detector.inspectors;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -42,12 +47,14 @@ public class ArtifactoryGradleInspectorResolver implements GradleInspectorResolv
 
     private static final String GRADLE_DIR_NAME = "gradle";
     private static final String GENERATED_GRADLE_SCRIPT_NAME = "init-detect.gradle";
+    private static final String PERMANENT_GRADLE_SCRIPT_FORMAT = "init-detect-%s.gradle";
 
     private final GradleInspectorInstaller gradleInspectorInstaller;
     private final Configuration configuration;
     private final GradleInspectorScriptOptions gradleInspectorScriptOptions;
     private final AirGapInspectorPaths airGapInspectorPaths;
     private final DirectoryManager directoryManager;
+    private final boolean keepScriptAcrossRuns;
 
     private File generatedGradleScriptPath = null;
     private boolean hasResolvedInspector = false;
@@ -55,11 +62,17 @@ public class ArtifactoryGradleInspectorResolver implements GradleInspectorResolv
     public ArtifactoryGradleInspectorResolver(final GradleInspectorInstaller gradleInspectorInstaller, final Configuration configuration, final GradleInspectorScriptOptions gradleInspectorScriptOptions,
         final AirGapInspectorPaths airGapInspectorPaths,
         final DirectoryManager directoryManager) {
+        this(gradleInspectorInstaller, configuration, gradleInspectorScriptOptions, airGapInspectorPaths, directoryManager, false);
+    }
+
+    public ArtifactoryGradleInspectorResolver(final GradleInspectorInstaller gradleInspectorInstaller, final Configuration configuration, final GradleInspectorScriptOptions gradleInspectorScriptOptions,
+        final AirGapInspectorPaths airGapInspectorPaths, final DirectoryManager directoryManager, final boolean keepScriptAcrossRuns) {
         this.gradleInspectorInstaller = gradleInspectorInstaller;
         this.configuration = configuration;
         this.gradleInspectorScriptOptions = gradleInspectorScriptOptions;
         this.airGapInspectorPaths = airGapInspectorPaths;
         this.directoryManager = directoryManager;
+        this.keepScriptAcrossRuns = keepScriptAcrossRuns;
     }
 
     @Override
@@ -85,6 +98,9 @@ public class ArtifactoryGradleInspectorResolver implements GradleInspectorResolv
                     logger.debug(String.format("Resolved the gradle inspector version: %s", gradleInspectorVersion));
                     generatedGradleScriptPath = gradleInspectorScriptCreator.createOnlineGradleInspector(generatedGradleScriptFile, gradleInspectorScriptOptions, gradleInspectorVersion);
                 }
+                if (keepScriptAcrossRuns) {
+                    generatedGradleScriptPath = findOrKeepPermanentScript(generatedGradleScriptPath);
+                }
             } catch (final Exception e) {
                 throw new DetectableException(e);
             }
@@ -103,4 +119,31 @@ public class ArtifactoryGradleInspectorResolver implements GradleInspectorResolv
 
         return generatedGradleScriptPath;
     }
+
+    // Gradle caches a compiled init script, and the daemon the classloader holding its inspector jars, by the script itself, so the
+    // same script content is always handed to Gradle from the same path rather than from this run's shared directory.
+    private File findOrKeepPermanentScript(final File generatedScript) throws IOException, NoSuchAlgorithmException {
+        final byte[] content = Files.readAllBytes(generatedScript.toPath());
+        final File permanentDirectory = directoryManager.getPermanentDirectory(GRADLE_DIR_NAME);
+        final File permanentScript = new File(permanentDirectory, String.format(PERMANENT_GRADLE_SCRIPT_FORMAT, toHex(MessageDigest.getInstance("SHA-256").digest(content))));
+        if (permanentScript.isFile()) {
+            logger.debug(String.format("Reusing the gradle inspector script from a previous run: %s", permanentScript));
+            return permanentScript;
+        }
+
+        Files.createDirectories(permanentDirectory.toPath());
+        final File stagedScript = File.createTempFile(GENERATED_GRADLE_SCRIPT_NAME, ".tmp", permanentDirectory);
+        Files.write(stagedScript.toPath(), content);
+        Files.move(stagedScript.toPath(), permanentScript.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.debug(String.format("Kept the gradle inspector script for later runs: %s", permanentScript));
+        return permanentScript;
+    }
+
+    private String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder();
+        for (final byte value : bytes) {
+            hex.append(String.format("%02x", value));
+        }
+        return hex.toString();
+    }
 }
@@ -84,40 +84,43 @@ public class PolarisTool {
             polarisServerConfig.populateEnvironmentVariables(environmentVariables::put);
 
             logger.info("Found polaris cli: " + polarisCliPath.get());
+            runPolarisCli(logger, projectDirectory, polarisCliPath.get(), environmentVariables);
+        } else {
+            logger.error("Check the logs - the Polaris CLI could not be found.");
+            eventSystem.publishEvent(Event.StatusSummary, new Status(POLARIS_DESCRIPTION_KEY, StatusType.FAILURE));
+        }
+    }
 
-            final String additionalArgs = detectConfiguration.getValueOrEmpty(DetectProperties.Companion.getPOLARIS_ARGUMENTS()).orElse(null);
-            final String commandOverride = detectConfiguration.getValueOrEmpty(DetectProperties.Companion.getPOLARIS_COMMAND()).orElse(null);
-            final List<String> arguments = new ArrayList<>();
-            if (StringUtils.isNotBlank(commandOverride)) {
-                if (StringUtils.isNotBlank(additionalArgs)) {
-                    logger.error("The provided polaris command will be used and the additional polaris arguments will be discarded. You should only set command or arguments, not both.");
-                }
-                arguments.addAll(Arrays.asList(commandOverride.split(" ")));
-            } else if (StringUtils.isNotBlank(additionalArgs)) {
-                arguments.add("analyze");
-                arguments.addAll(Arrays.asList(additionalArgs.split(" ")));
-            } else {
-                arguments.add("analyze");
+    // Runs an already resolved Polaris CLI against the project directory and publishes the Polaris status.
+    public void runPolarisCli(final IntLogger logger, final File projectDirectory, final String polarisCliPath, final Map<String, String> environmentVariables) {
+        final String additionalArgs = detectConfiguration.getValueOrEmpty(DetectProperties.Companion.getPOLARIS_ARGUMENTS()).orElse(null);
+        final String commandOverride = detectConfiguration.getValueOrEmpty(DetectProperties.Companion.getPOLARIS_COMMAND()).orElse(null);
+        final List<String> arguments = new ArrayList<>();
+        if (StringUtils.isNotBlank(commandOverride)) {
+            if (StringUtils.isNotBlank(additionalArgs)) {
+                logger.error("The provided polaris command will be used and the additional polaris arguments will be discarded. You should only set command or arguments, not both.");
             }
+            arguments.addAll(Arrays.asList(commandOverride.split(" ")));
+        } else if (StringUtils.isNotBlank(additionalArgs)) {
+            arguments.add("analyze");
+            arguments.addAll(Arrays.asList(additionalArgs.split(" ")));
+        } else {
+            arguments.add("analyze");
+        }
 
-            final Executable swipExecutable = new Executable(projectDirectory, environmentVariables, polarisCliPath.get(), arguments);
-            try {
-                final ExecutableOutput output = executableRunner.execute(swipExecutable);
-                if (output.getReturnCode() == 0) {
-                    eventSystem.publishEvent(Event.StatusSummary, new Status(POLARIS_DESCRIPTION_KEY, StatusType.SUCCESS));
-                } else {
-                    logger.error("Polaris returned a non-zero exit code.");
-                    eventSystem.publishEvent(Event.StatusSummary, new Status(POLARIS_DESCRIPTION_KEY, StatusType.FAILURE));
-                }
-
-            } catch (final ExecutableRunnerException e) {
+        final Executable swipExecutable = new Executable(projectDirectory, environmentVariables, polarisCliPath, arguments);
+        try {
+            final ExecutableOutput output = executableRunner.execute(swipExecutable);
+            if (output.getReturnCode() == 0) {
+                eventSystem.publishEvent(Event.StatusSummary, new Status(POLARIS_DESCRIPTION_KEY, StatusType.SUCCESS));
+            } else {
+                logger.error("Polaris returned a non-zero exit code.");
                 eventSystem.publishEvent(Event.StatusSummary, new Status(POLARIS_DESCRIPTION_KEY, StatusType.FAILURE));
-                logger.error("Couldn't run the executable: " + e.getMessage());
             }
-        } else {
-            logger.error("Check the logs - the Polaris CLI could not be found.");
+
+        } catch (final ExecutableRunnerException e) {
             eventSystem.publishEvent(Event.StatusSummary, new Status(POLARIS_DESCRIPTION_KEY, StatusType.FAILURE));
+            logger.error("Couldn't run the executable: " + e.getMessage());
         }
     }
-
-}
\ No newline at end of file
+}
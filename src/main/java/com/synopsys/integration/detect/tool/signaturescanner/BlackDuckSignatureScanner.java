@@ -53,7 +53,6 @@ import com.synopsys.integration.detect.workflow.status.DetectIssue;
 import com.synopsys.integration.detect.workflow.status.DetectIssueType;
 import com.synopsys.integration.detect.workflow.status.SignatureScanStatus;
 import com.synopsys.integration.detect.workflow.status.StatusType;
-import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.util.NameVersion;
 
@@ -61,7 +60,6 @@ public class BlackDuckSignatureScanner {
     private final Logger logger = LoggerFactory.getLogger(BlackDuckSignatureScanner.class);
 
     private final DirectoryManager directoryManager;
-    private final FileFinder fileFinder;
     private final CodeLocationNameManager codeLocationNameManager;
     private final BlackDuckSignatureScannerOptions signatureScannerOptions;
     private final EventSystem eventSystem;
@@ -70,10 +68,9 @@ public class BlackDuckSignatureScanner {
     //When OFFLINE, this should be NULL. No other changes required for offline (in this class).
     private final BlackDuckServerConfig blackDuckServerConfig;
 
-    public BlackDuckSignatureScanner(DirectoryManager directoryManager, FileFinder fileFinder, CodeLocationNameManager codeLocationNameManager,
+    public BlackDuckSignatureScanner(DirectoryManager directoryManager, CodeLocationNameManager codeLocationNameManager,
         BlackDuckSignatureScannerOptions signatureScannerOptions, EventSystem eventSystem, ScanBatchRunner scanJobManager, BlackDuckServerConfig blackDuckServerConfig) {
         this.directoryManager = directoryManager;
-        this.fileFinder = fileFinder;
         this.codeLocationNameManager = codeLocationNameManager;
         this.signatureScannerOptions = signatureScannerOptions;
         this.eventSystem = eventSystem;
@@ -83,8 +80,10 @@ public class BlackDuckSignatureScanner {
 
     public ScanBatchOutput performScanActions(NameVersion projectNameVersion, File installDirectory, File dockerTarFile) throws IntegrationException, IOException, DetectUserFriendlyException {
         List<SignatureScanPath> signatureScanPaths = determinePathsAndExclusions(projectNameVersion, signatureScannerOptions.getMaxDepth(), dockerTarFile);
+        long splitSizeInBytes = signatureScannerOptions.getSplitTargetSizeInMegabytes() * 1024L * 1024L;
+        List<SignatureScanShard> signatureScanShards = new SignatureScanPlanner(splitSizeInBytes).plan(signatureScanPaths);
 
-        ScanBatchBuilder scanJobBuilder = createDefaultScanBatchBuilder(projectNameVersion, installDirectory, signatureScanPaths, dockerTarFile);
+        ScanBatchBuilder scanJobBuilder = createDefaultScanBatchBuilder(projectNameVersion, installDirectory, signatureScanShards, dockerTarFile);
         scanJobBuilder.fromBlackDuckServerConfig(blackDuckServerConfig);//when offline, we must still call this with 'null' as a workaround for library issues, so offline scanner must be created with this set to null.
         ScanBatch scanJob;
         try {
@@ -99,19 +98,26 @@ public class BlackDuckSignatureScanner {
             scanCommandOutputs.addAll(scanJobOutput.getOutputs());
         }
 
-        reportResults(signatureScanPaths, scanCommandOutputs);
+        reportResults(signatureScanPaths, signatureScanShards, scanCommandOutputs);
 
         return scanJobOutput;
     }
 
     //TODO: Possibly promote this to the Tool. Ideally it would return some object describing these results and the Tool translates that into detect nonsense -jp.
-    private void reportResults(List<SignatureScanPath> signatureScanPaths, List<ScanCommandOutput> scanCommandOutputList) {
+    private void reportResults(List<SignatureScanPath> signatureScanPaths, List<SignatureScanShard> signatureScanShards, List<ScanCommandOutput> scanCommandOutputList) {
         List<SignatureScannerReport> signatureScannerReports = new ArrayList<>();
         for (SignatureScanPath signatureScanPath : signatureScanPaths) {
-            Optional<ScanCommandOutput> scanCommandOutput = scanCommandOutputList.stream()
-                                                                .filter(output -> output.getScanTarget().equals(signatureScanPath.getTargetCanonicalPath()))
-                                                                .findFirst();
-            SignatureScannerReport signatureScannerReport = SignatureScannerReport.create(signatureScanPath, scanCommandOutput.orElse(null));
+            List<ScanCommandOutput> shardOutputs = new ArrayList<>();
+            for (SignatureScanShard signatureScanShard : signatureScanShards) {
+                if (signatureScanShard.getSignatureScanPath() != signatureScanPath) {
+                    continue;
+                }
+                Optional<ScanCommandOutput> scanCommandOutput = scanCommandOutputList.stream()
+                                                                    .filter(output -> output.getScanTarget().equals(signatureScanShard.getTargetCanonicalPath()))
+                                                                    .findFirst();
+                shardOutputs.add(scanCommandOutput.orElse(null));
+            }
+            SignatureScannerReport signatureScannerReport = SignatureScannerReport.create(signatureScanPath, shardOutputs);
             signatureScannerReports.add(signatureScannerReport);
         }
 
@@ -188,7 +194,7 @@ public class BlackDuckSignatureScanner {
 
     private SignatureScanPath createScanPath(Path path, Integer maxDepth, List<String> signatureScannerExclusionNamePatterns, List<String> providedExclusionPatterns) {
         File target = path.toFile();
-        ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(fileFinder, target);
+        ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(target);
 
         Set<String> scanExclusionPatterns = exclusionPatternCreator.determineExclusionPatterns(maxDepth, signatureScannerExclusionNamePatterns);
         if (null != providedExclusionPatterns) {
@@ -200,7 +206,7 @@ public class BlackDuckSignatureScanner {
         return signatureScanPath;
     }
 
-    protected ScanBatchBuilder createDefaultScanBatchBuilder(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths, File dockerTarFile) {
+    protected ScanBatchBuilder createDefaultScanBatchBuilder(NameVersion projectNameVersion, File installDirectory, List<SignatureScanShard> signatureScanShards, File dockerTarFile) {
         ScanBatchBuilder scanJobBuilder = new ScanBatchBuilder();
         scanJobBuilder.scanMemoryInMegabytes(signatureScannerOptions.getScanMemory());
         scanJobBuilder.installDirectory(installDirectory);
@@ -227,9 +233,9 @@ public class BlackDuckSignatureScanner {
         String prefix = signatureScannerOptions.getCodeLocationPrefix().orElse(null);
         String suffix = signatureScannerOptions.getCodeLocationSuffix().orElse(null);
 
-        for (SignatureScanPath scanPath : signatureScanPaths) {
-            String codeLocationName = codeLocationNameManager.createScanCodeLocationName(sourcePath, scanPath.getTargetPath(), dockerTarFile, projectName, projectVersionName, prefix, suffix);
-            scanJobBuilder.addTarget(ScanTarget.createBasicTarget(scanPath.getTargetCanonicalPath(), scanPath.getExclusions(), codeLocationName));
+        for (SignatureScanShard scanShard : signatureScanShards) {
+            String codeLocationName = codeLocationNameManager.createScanCodeLocationName(sourcePath, scanShard.getTargetPath(), dockerTarFile, projectName, projectVersionName, prefix, suffix);
+            scanJobBuilder.addTarget(ScanTarget.createBasicTarget(scanShard.getTargetCanonicalPath(), scanShard.getExclusions(), codeLocationName));
         }
 
         return scanJobBuilder;
@@ -62,6 +62,7 @@ public class BlackDuckSignatureScannerOptions {
     private final IndividualFileMatching individualFileMatching;
     private final Boolean licenseSearch;
     private final Boolean copyrightSearch;
+    private final Integer splitTargetSizeInMegabytes;
 
     public BlackDuckSignatureScannerOptions(
         final List<Path> signatureScannerPaths,
@@ -81,7 +82,8 @@ public class BlackDuckSignatureScannerOptions {
         final Integer maxDepth,
         @Nullable final IndividualFileMatching individualFileMatching,
         final Boolean licenseSearch,
-        final Boolean copyrightSearch) {
+        final Boolean copyrightSearch,
+        final Integer splitTargetSizeInMegabytes) {
 
         this.signatureScannerPaths = signatureScannerPaths;
         this.exclusionPatterns = exclusionPatterns;
@@ -101,6 +103,7 @@ public class BlackDuckSignatureScannerOptions {
         this.individualFileMatching = individualFileMatching;
         this.licenseSearch = licenseSearch;
         this.copyrightSearch = copyrightSearch;
+        this.splitTargetSizeInMegabytes = splitTargetSizeInMegabytes;
     }
 
     public List<Path> getSignatureScannerPaths() {
@@ -174,4 +177,9 @@ public class BlackDuckSignatureScannerOptions {
     public Boolean getCopyrightSearch() {
         return copyrightSearch;
     }
+
+    // Scan targets larger than this are split into several scans, zero or less never splits them.
+    public Integer getSplitTargetSizeInMegabytes() {
+        return splitTargetSizeInMegabytes;
+    }
 }
@@ -0,0 +1,169 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.signaturescanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Decides which scanner invocations to run for the scan paths. The scan batch runner starts scans in the order it is given them,
+// so when splitting is on the shards are returned largest first: the longest scans start first and the small ones fill in around them.
+// A directory larger than the split size is split by its immediate subdirectories, largest first, until what is left of it
+// fits. Each split off subdirectory is scanned on its own and excluded from the scan of the directory itself.
+public class SignatureScanPlanner {
+    private final Logger logger = LoggerFactory.getLogger(SignatureScanPlanner.class);
+
+    private final long splitSizeInBytes;
+
+    // A split size of zero or less never splits or measures a scan path, the scan paths are kept in the order they are given.
+    public SignatureScanPlanner(final long splitSizeInBytes) {
+        this.splitSizeInBytes = splitSizeInBytes;
+    }
+
+    public List<SignatureScanShard> plan(final List<SignatureScanPath> signatureScanPaths) {
+        final List<SignatureScanShard> shards = new ArrayList<>();
+        if (splitSizeInBytes <= 0) {
+            // Nothing to split, so the targets are not walked.
+            for (final SignatureScanPath signatureScanPath : signatureScanPaths) {
+                shards.add(new SignatureScanShard(signatureScanPath, signatureScanPath.getTargetPath(), signatureScanPath.getExclusions(), 0));
+            }
+            return shards;
+        }
+
+        for (final SignatureScanPath signatureScanPath : signatureScanPaths) {
+            shards.addAll(planScanPath(signatureScanPath));
+        }
+        shards.sort(Comparator.comparingLong(SignatureScanShard::getEstimatedSize).reversed());
+        return shards;
+    }
+
+    private List<SignatureScanShard> planScanPath(final SignatureScanPath signatureScanPath) {
+        final File target = signatureScanPath.getTargetPath();
+        final Set<String> exclusions = signatureScanPath.getExclusions();
+        if (!target.isDirectory()) {
+            return singleShard(signatureScanPath, target.length());
+        }
+
+        final Map<File, Long> subdirectorySizes = new LinkedHashMap<>();
+        long targetSize = measure(target.toPath(), exclusions, subdirectorySizes);
+        if (targetSize <= splitSizeInBytes || subdirectorySizes.isEmpty()) {
+            return singleShard(signatureScanPath, targetSize);
+        }
+
+        final List<Map.Entry<File, Long>> largestFirst = new ArrayList<>(subdirectorySizes.entrySet());
+        largestFirst.sort(Map.Entry.<File, Long>comparingByValue().reversed());
+
+        final List<SignatureScanShard> shards = new ArrayList<>();
+        final Set<String> remainderExclusions = new HashSet<>(exclusions);
+        for (final Map.Entry<File, Long> subdirectory : largestFirst) {
+            if (targetSize <= splitSizeInBytes) {
+                break;
+            }
+            final File subdirectoryPath = subdirectory.getKey();
+            final long subdirectorySize = subdirectory.getValue();
+            shards.add(new SignatureScanShard(signatureScanPath, subdirectoryPath, rebaseExclusions(exclusions, subdirectoryPath.getName()), subdirectorySize));
+            remainderExclusions.add(exclusionPattern(subdirectoryPath.getName()));
+            targetSize -= subdirectorySize;
+        }
+        shards.add(new SignatureScanShard(signatureScanPath, target, remainderExclusions, targetSize));
+
+        logger.info(String.format("Splitting scan target %s into %d scans.", signatureScanPath.getTargetCanonicalPath(), shards.size()));
+        return shards;
+    }
+
+    private List<SignatureScanShard> singleShard(final SignatureScanPath signatureScanPath, final long size) {
+        final List<SignatureScanShard> shards = new ArrayList<>();
+        shards.add(new SignatureScanShard(signatureScanPath, signatureScanPath.getTargetPath(), signatureScanPath.getExclusions(), size));
+        return shards;
+    }
+
+    // Exclusions are relative to the scan target, so those beneath the subdirectory are rebased onto it once it is the target.
+    // A wildcard exclusion may match anywhere, so it is kept as it is. Any other exclusion is under a different path and does not apply.
+    private Set<String> rebaseExclusions(final Set<String> exclusions, final String subdirectoryName) {
+        final String prefix = "/" + subdirectoryName;
+        final Set<String> rebased = new HashSet<>();
+        for (final String exclusion : exclusions) {
+            if (exclusion.startsWith(prefix + "/") && exclusion.length() > prefix.length() + 1) {
+                rebased.add(exclusion.substring(prefix.length()));
+            } else if (exclusion.contains("*")) {
+                logger.debug(String.format("Keeping the exclusion %s unchanged for the split off scan of %s.", exclusion, subdirectoryName));
+                rebased.add(exclusion);
+            } else {
+                logger.debug(String.format("The exclusion %s does not apply to the split off scan of %s.", exclusion, subdirectoryName));
+            }
+        }
+        return rebased;
+    }
+
+    private String exclusionPattern(final String relativePath) {
+        return "/" + relativePath.replace(File.separatorChar, '/') + "/";
+    }
+
+    // Sums the sizes of the files under the target that are not excluded, also adding each to the total of the immediate subdirectory it is in.
+    private long measure(final Path target, final Set<String> exclusions, final Map<File, Long> subdirectorySizes) {
+        final long[] size = { 0 };
+        try {
+            Files.walkFileTree(target, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                    if (!dir.equals(target) && exclusions.contains(exclusionPattern(target.relativize(dir).toString()))) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    size[0] += attrs.size();
+                    final Path relativePath = target.relativize(file);
+                    if (relativePath.getNameCount() > 1) {
+                        subdirectorySizes.merge(target.resolve(relativePath.getName(0)).toFile(), attrs.size(), Long::sum);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to estimate the size of %s, it will be scheduled as if it were empty.", target), e);
+        }
+        return size[0];
+    }
+}
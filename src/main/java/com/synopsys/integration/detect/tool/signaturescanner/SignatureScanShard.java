@@ -0,0 +1,65 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.signaturescanner;
+
+import java.io.File;
+import java.util.Set;
+
+import com.synopsys.integration.detect.workflow.file.DetectFileUtils;
+
+// One scanner invocation. Usually the whole of a scan path, but an oversized scan path is scanned as several shards.
+public class SignatureScanShard {
+    private final SignatureScanPath signatureScanPath;
+    private final File targetPath;
+    private final String targetCanonicalPath;
+    private final Set<String> exclusions;
+    private final long estimatedSize;
+
+    public SignatureScanShard(final SignatureScanPath signatureScanPath, final File targetPath, final Set<String> exclusions, final long estimatedSize) {
+        this.signatureScanPath = signatureScanPath;
+        this.targetPath = targetPath;
+        this.targetCanonicalPath = DetectFileUtils.tryGetCanonicalPath(targetPath);
+        this.exclusions = exclusions;
+        this.estimatedSize = estimatedSize;
+    }
+
+    public SignatureScanPath getSignatureScanPath() {
+        return signatureScanPath;
+    }
+
+    public File getTargetPath() {
+        return targetPath;
+    }
+
+    public String getTargetCanonicalPath() {
+        return targetCanonicalPath;
+    }
+
+    public Set<String> getExclusions() {
+        return exclusions;
+    }
+
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+}
@@ -22,6 +22,8 @@
  */
 package com.synopsys.integration.detect.tool.signaturescanner;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.jetbrains.annotations.Nullable;
@@ -71,6 +73,28 @@ public class SignatureScannerReport {
         return new SignatureScannerReport(signatureScanPath, statusType, exitCode, exception, errorMessage, hasOutput);
     }
 
+    // Reports a scan path that was scanned as several shards, one output per shard (null if the shard was never scanned).
+    // The scan path only succeeds if every shard did, otherwise the first failure is reported.
+    public static SignatureScannerReport create(SignatureScanPath signatureScanPath, List<ScanCommandOutput> shardOutputs) {
+        if (shardOutputs.size() == 1) {
+            return create(signatureScanPath, shardOutputs.get(0));
+        }
+
+        long missingOutputs = shardOutputs.stream().filter(Objects::isNull).count();
+        if (missingOutputs == shardOutputs.size()) {
+            return create(signatureScanPath, null);
+        } else if (missingOutputs > 0) {
+            String errorMessage = String.format("%d of the %d scans the target was split into were never scanned by the BlackDuck CLI.", missingOutputs, shardOutputs.size());
+            return new SignatureScannerReport(signatureScanPath, StatusType.FAILURE, null, null, errorMessage, true);
+        }
+
+        return shardOutputs.stream()
+                   .filter(output -> Result.FAILURE.equals(output.getResult()))
+                   .findFirst()
+                   .map(failedOutput -> create(signatureScanPath, failedOutput))
+                   .orElseGet(() -> create(signatureScanPath, shardOutputs.get(0)));
+    }
+
     public SignatureScannerReport(SignatureScanPath signatureScanPath, StatusType statusType, @Nullable Integer exitCode, @Nullable Exception exception, @Nullable String errorMessage, boolean hasOutput) {
         this.signatureScanPath = signatureScanPath;
         this.statusType = statusType;
@@ -34,7 +34,6 @@ import java.util.Enumeration;
 import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
-import java.util.zip.ZipOutputStream;
 
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
@@ -48,17 +47,12 @@ public class DetectZipUtil {
     }
 
     public static void zip(final File zip, final Map<String, Path> entries) throws IOException {
-        try (final FileOutputStream fileStream = new FileOutputStream(zip)) {
-            try (final ZipOutputStream outputStream = new ZipOutputStream(fileStream)) {
-                for (final Map.Entry<String, Path> entry : entries.entrySet()) {
-                    logger.info("Adding entry '{}' to zip as '{}'.", entry.getValue().toString(), entry.getKey());
-                    outputStream.putNextEntry(new ZipEntry(entry.getKey()));
-                    final byte[] bytes = Files.readAllBytes(entry.getValue());
-                    outputStream.write(bytes, 0, bytes.length);
-                    outputStream.closeEntry();
-                }
-            }
-        }
+        zip(zip, entries, 1);
+    }
+
+    public static void zip(final File zip, final Map<String, Path> entries, final int parallelism) throws IOException {
+        entries.forEach((entryName, path) -> logger.info("Adding entry '{}' to zip as '{}'.", path.toString(), entryName));
+        new StreamingZipWriter(parallelism).zip(zip, entries);
     }
 
     public static void unzip(final File zip, final File dest, final Charset charset) throws IOException {
@@ -0,0 +1,199 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.compress.archivers.zip.ScatterZipOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntryRequest;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Writes zips by copying each file through a fixed size buffer, so memory use does not depend on the size of the files being zipped.
+// Entries are written in the order given. With more than one thread, entries are compressed to temporary files in parallel and then copied into the zip in order.
+// By default a file that cannot be opened fails the zip. When unreadable entries are skipped, the file is logged and left out instead.
+public class StreamingZipWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Set<String> COMPRESSED_EXTENSIONS = new HashSet<>(Arrays.asList(
+        "zip", "jar", "war", "ear", "aar", "apk", "whl", "egg", "nupkg", "gem", "rpm", "deb",
+        "gz", "tgz", "bz2", "tbz2", "xz", "txz", "lz", "lzma", "zst", "7z", "rar", "z",
+        "png", "jpg", "jpeg", "gif", "mp3", "mp4", "docx", "xlsx", "pptx"
+    ));
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final int parallelism;
+    private final boolean skipUnreadableEntries;
+
+    public StreamingZipWriter() {
+        this(1);
+    }
+
+    public StreamingZipWriter(final int parallelism) {
+        this(parallelism, false);
+    }
+
+    public StreamingZipWriter(final int parallelism, final boolean skipUnreadableEntries) {
+        this.parallelism = Math.max(1, parallelism);
+        this.skipUnreadableEntries = skipUnreadableEntries;
+    }
+
+    public void zip(final File zip, final Map<String, Path> entries) throws IOException {
+        try (final ZipArchiveOutputStream outputStream = new ZipArchiveOutputStream(zip)) {
+            if (parallelism == 1 || entries.size() <= 1) {
+                writeSequentially(outputStream, entries);
+            } else {
+                writeInParallel(outputStream, entries, zip.getParentFile());
+            }
+            outputStream.finish();
+        }
+    }
+
+    public static boolean isAlreadyCompressed(final String entryName) {
+        return COMPRESSED_EXTENSIONS.contains(FilenameUtils.getExtension(entryName).toLowerCase(Locale.ROOT));
+    }
+
+    private void writeSequentially(final ZipArchiveOutputStream outputStream, final Map<String, Path> entries) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        for (final Map.Entry<String, Path> entry : entries.entrySet()) {
+            logger.debug("Adding entry '{}' to zip as '{}'.", entry.getValue().toString(), entry.getKey());
+            final InputStream inputStream = open(entry.getValue());
+            if (inputStream == null) {
+                continue;
+            }
+            try {
+                // The output is a seekable file, so stored entries do not need their size and crc up front.
+                outputStream.putArchiveEntry(createEntry(entry.getKey()));
+                IOUtils.copy(inputStream, outputStream, buffer.length);
+            } finally {
+                inputStream.close();
+            }
+            outputStream.closeArchiveEntry();
+        }
+    }
+
+    // The file is opened before its entry is added, so a skipped file never leaves an empty entry behind.
+    private InputStream open(final Path file) throws IOException {
+        try {
+            return Files.newInputStream(file);
+        } catch (final IOException e) {
+            if (!skipUnreadableEntries) {
+                throw e;
+            }
+            logger.error(String.format("Failed to write %s to zip, it will be skipped.", file), e);
+            return null;
+        }
+    }
+
+    private void writeInParallel(final ZipArchiveOutputStream outputStream, final Map<String, Path> entries, final File workingDirectory) throws IOException {
+        final File scatterDirectory = Files.createTempDirectory(workingDirectory.toPath(), "zip-scatter").toFile();
+        final ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        final Deque<Future<ScatterZipOutputStream>> pending = new ArrayDeque<>();
+        try {
+            int index = 0;
+            for (final Map.Entry<String, Path> entry : entries.entrySet()) {
+                // Only a few entries are compressed ahead of the writer so temporary disk use stays bounded.
+                if (pending.size() >= parallelism * 2) {
+                    writeCompressed(outputStream, pending.removeFirst());
+                }
+                final File scatterFile = new File(scatterDirectory, "entry-" + index++);
+                pending.addLast(executorService.submit(() -> compress(entry.getKey(), entry.getValue(), scatterFile)));
+            }
+            while (!pending.isEmpty()) {
+                writeCompressed(outputStream, pending.removeFirst());
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+            executorService.shutdownNow();
+            FileUtils.deleteQuietly(scatterDirectory);
+        }
+    }
+
+    private ScatterZipOutputStream compress(final String entryName, final Path file, final File scatterFile) throws IOException {
+        logger.debug("Compressing entry '{}' for zip as '{}'.", file.toString(), entryName);
+        final InputStream inputStream = open(file);
+        if (inputStream == null) {
+            return null;
+        }
+        final ScatterZipOutputStream scatterStream;
+        try {
+            scatterStream = ScatterZipOutputStream.fileBased(scatterFile);
+        } catch (final IOException e) {
+            inputStream.close();
+            throw e;
+        }
+        // The scatter stream closes the input stream once the entry is compressed.
+        scatterStream.addArchiveEntry(ZipArchiveEntryRequest.createZipArchiveEntryRequest(createEntry(entryName), () -> inputStream));
+        return scatterStream;
+    }
+
+    private void writeCompressed(final ZipArchiveOutputStream outputStream, final Future<ScatterZipOutputStream> compressed) throws IOException {
+        final ScatterZipOutputStream scatterStream;
+        try {
+            scatterStream = compressed.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing zip entries.", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Failed to compress zip entry.", cause);
+        }
+        if (scatterStream == null) {
+            return;
+        }
+        try {
+            scatterStream.writeTo(outputStream);
+        } finally {
+            scatterStream.close();
+        }
+    }
+
+    private ZipArchiveEntry createEntry(final String entryName) {
+        final ZipArchiveEntry zipEntry = new ZipArchiveEntry(entryName);
+        zipEntry.setMethod(isAlreadyCompressed(entryName) ? ZipEntry.STORED : ZipEntry.DEFLATED);
+        return zipEntry;
+    }
+}
@@ -24,18 +24,30 @@ package com.synopsys.integration.detect.workflow.airgap;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.zeroturnaround.zip.ZipUtil;
 
 import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
 import com.synopsys.integration.detect.exitcode.ExitCodeType;
+import com.synopsys.integration.detect.util.StreamingZipWriter;
 import com.synopsys.integration.detect.util.filter.DetectFilter;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
@@ -45,6 +57,11 @@ import com.synopsys.integration.detect.workflow.result.AirGapDetectResult;
 public class AirGapCreator {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    // An inspector set installs into its own folder, so sets can be installed at the same time.
+    private interface InspectorInstall {
+        void install() throws DetectUserFriendlyException;
+    }
+
     private final AirGapPathFinder airGapPathFinder;
 
     private final EventSystem eventSystem;
@@ -95,11 +112,11 @@ public class AirGapCreator {
             logger.info("Installing dependencies.");
             installAllAirGapDependencies(installFolder, inspectorFilter, gradleInspectorVersion);
 
-            logger.info("Copying detect jar.");
-            FileUtils.copyFile(detectJar, new File(installFolder, detectJar.getName()));
-
+            // The detect jar is zipped from where it is rather than copied into the install folder first.
             logger.info("Zipping into: " + target.getCanonicalPath());
-            ZipUtil.pack(installFolder, target);
+            Map<String, Path> entries = collectZipEntries(installFolder);
+            entries.put(detectJar.getName(), detectJar.toPath());
+            new StreamingZipWriter(Runtime.getRuntime().availableProcessors()).zip(target, entries);
 
             logger.info("Cleaning up working directory: " + installFolder.getCanonicalPath());
             FileUtils.deleteDirectory(installFolder);
@@ -119,38 +136,88 @@ public class AirGapCreator {
     public void installAllAirGapDependencies(File zipFolder, DetectFilter inspectorFilter, String gradleInspectorVersion) throws DetectUserFriendlyException {
         logger.info(ReportConstants.RUN_SEPARATOR);
 
+        Map<String, InspectorInstall> installs = new LinkedHashMap<>();
         if (inspectorFilter.shouldInclude(AirGapInspectors.GRADLE.name())) {
             logger.info("Will include GRADLE inspector.");
-            logger.info("Installing gradle dependencies.");
             File gradleTemp = airGapPathFinder.createRelativePackagedInspectorsFile(zipFolder, AirGapPathFinder.GRADLE + "-temp");
             File gradleTarget = airGapPathFinder.createRelativePackagedInspectorsFile(zipFolder, AirGapPathFinder.GRADLE);
-            gradleAirGapCreator.installGradleDependencies(gradleTemp, gradleTarget, gradleInspectorVersion);
+            installs.put("gradle", () -> gradleAirGapCreator.installGradleDependencies(gradleTemp, gradleTarget, gradleInspectorVersion));
         } else {
             logger.info("Will NOT include GRADLE inspector.");
         }
 
-        logger.info(ReportConstants.RUN_SEPARATOR);
-
         if (inspectorFilter.shouldInclude(AirGapInspectors.NUGET.name())) {
             logger.info("Will include NUGET inspector.");
-            logger.info("Installing nuget dependencies.");
             File nugetFolder = airGapPathFinder.createRelativePackagedInspectorsFile(zipFolder, AirGapPathFinder.NUGET);
-            nugetAirGapCreator.installNugetDependencies(nugetFolder);
+            installs.put("nuget", () -> nugetAirGapCreator.installNugetDependencies(nugetFolder));
         } else {
             logger.info("Will NOT include NUGET inspector.");
         }
 
-        logger.info(ReportConstants.RUN_SEPARATOR);
-
         if (inspectorFilter.shouldInclude(AirGapInspectors.DOCKER.name())) {
             logger.info("Will include DOCKER inspector.");
-            logger.info("Installing docker dependencies.");
             File dockerFolder = airGapPathFinder.createRelativePackagedInspectorsFile(zipFolder, AirGapPathFinder.DOCKER);
-            dockerAirGapCreator.installDockerDependencies(dockerFolder);
+            installs.put("docker", () -> dockerAirGapCreator.installDockerDependencies(dockerFolder));
         } else {
             logger.info("Will NOT include DOCKER inspector.");
         }
+
+        logger.info(ReportConstants.RUN_SEPARATOR);
+        if (installs.size() <= 1) {
+            for (Map.Entry<String, InspectorInstall> install : installs.entrySet()) {
+                logger.info(String.format("Installing %s dependencies.", install.getKey()));
+                install.getValue().install();
+            }
+        } else {
+            installConcurrently(installs);
+        }
         logger.info(ReportConstants.RUN_SEPARATOR);
     }
 
+    private void installConcurrently(Map<String, InspectorInstall> installs) throws DetectUserFriendlyException {
+        logger.info(String.format("Installing %s dependencies concurrently.", String.join(", ", installs.keySet())));
+        ExecutorService executorService = Executors.newFixedThreadPool(installs.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (InspectorInstall install : installs.values()) {
+                futures.add(executorService.submit(() -> {
+                    install.install();
+                    return null;
+                }));
+            }
+            // Failures are reported in the same inspector order as a serial install would have reported them.
+            Iterator<String> names = installs.keySet().iterator();
+            for (Future<?> future : futures) {
+                String name = names.next();
+                future.get();
+                logger.info(String.format("Finished installing %s dependencies.", name));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DetectUserFriendlyException("Interrupted while installing Air Gap dependencies.", e, ExitCodeType.FAILURE_UNKNOWN_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DetectUserFriendlyException) {
+                throw (DetectUserFriendlyException) e.getCause();
+            }
+            throw new DetectUserFriendlyException(String.format("An error occurred installing Air Gap dependencies: %s", e.getCause().getMessage()), e.getCause(), ExitCodeType.FAILURE_GENERAL_ERROR);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    // Entry names are relative to the install folder, matching the layout the Air Gap zip has always had.
+    private Map<String, Path> collectZipEntries(File installFolder) throws IOException {
+        Map<String, Path> entries = new LinkedHashMap<>();
+        if (!installFolder.isDirectory()) {
+            return entries;
+        }
+        Path installPath = installFolder.toPath();
+        try (Stream<Path> paths = Files.walk(installPath)) {
+            paths.filter(Files::isRegularFile)
+                .sorted()
+                .forEach(path -> entries.put(FilenameUtils.separatorsToUnix(installPath.relativize(path).toString()), path));
+        }
+        return entries;
+    }
+
 }
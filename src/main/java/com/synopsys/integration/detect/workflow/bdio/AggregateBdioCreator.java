@@ -23,9 +23,6 @@
 package com.synopsys.integration.detect.workflow.bdio;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -41,15 +38,12 @@ import com.blackducksoftware.bdio2.model.Project;
 import com.blackducksoftware.common.value.ProductList;
 import com.synopsys.integration.bdio.SimpleBdioFactory;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
-import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.SimpleBdioDocument;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
-import com.synopsys.integration.blackduck.bdio2.Bdio2Document;
 import com.synopsys.integration.blackduck.bdio2.Bdio2Factory;
-import com.synopsys.integration.blackduck.bdio2.Bdio2Writer;
 import com.synopsys.integration.blackduck.codelocation.bdioupload.UploadTarget;
 import com.synopsys.integration.detect.configuration.DetectProperties;
 import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
@@ -86,12 +80,12 @@ public class AggregateBdioCreator {
         final ExternalId projectExternalId = simpleBdioFactory.createNameVersionExternalId(new Forge("/", "DETECT"), projectNameVersion.getName(), projectNameVersion.getVersion());
         final String codeLocationName = codeLocationNameManager.createAggregateCodeLocationName(projectNameVersion);
 
-        final SimpleBdioDocument aggregateBdioDocument = simpleBdioFactory.createSimpleBdioDocument(codeLocationName, projectNameVersion.getName(), projectNameVersion.getVersion(), projectExternalId, aggregateDependencyGraph);
+        final SimpleBdioDocument aggregateBdioDocument = simpleBdioFactory.createSimpleBdioDocument(codeLocationName, projectNameVersion.getName(), projectNameVersion.getVersion(), projectExternalId);
 
         final String filename = String.format("%s.jsonld", integrationEscapeUtil.replaceWithUnderscore(aggregateName));
         final File aggregateBdioFile = new File(bdioDirectory, filename);
 
-        detectBdioWriter.writeBdioFile(aggregateBdioFile, aggregateBdioDocument);
+        detectBdioWriter.writeBdioFile(aggregateBdioFile, aggregateBdioDocument, aggregateDependencyGraph);
 
         return createUploadTarget(projectNameVersion, codeLocationName, aggregateBdioFile, aggregateDependencyGraph, uploadEmptyAggregate);
     }
@@ -106,19 +100,11 @@ public class AggregateBdioCreator {
 
         final BdioMetadata bdioMetadata = bdio2Factory.createBdioMetadata(codeLocationName, ZonedDateTime.now(), new ProductList.Builder());
         final Project project = bdio2Factory.createProject(projectExternalId, projectNameVersion.getName(), projectNameVersion.getVersion());
-        final Bdio2Document bdio2Document = bdio2Factory.createBdio2Document(bdioMetadata, project, aggregateDependencyGraph);
 
         final String bdio2Filename = String.format("%s.bdio", integrationEscapeUtil.replaceWithUnderscore(aggregateName));
         final File aggregateBdioFile = new File(bdioDirectory, bdio2Filename);
 
-        final Bdio2Writer bdio2Writer = new Bdio2Writer();
-        try {
-            final OutputStream outputStream = new FileOutputStream(aggregateBdioFile);
-            bdio2Writer.writeBdioDocument(outputStream, bdio2Document);
-            logger.debug(String.format("BDIO Generated: %s", aggregateBdioFile.getAbsolutePath()));
-        } catch (final IOException e) {
-            throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
-        }
+        detectBdioWriter.writeBdio2File(aggregateBdioFile, bdioMetadata, project, aggregateDependencyGraph);
 
         return createUploadTarget(projectNameVersion, codeLocationName, aggregateBdioFile, aggregateDependencyGraph, uploadEmptyAggregate);
     }
@@ -134,15 +120,14 @@ public class AggregateBdioCreator {
     }
 
     private DependencyGraph createAggregateDependencyGraph(final File sourcePath, final List<DetectCodeLocation> codeLocations, final AggregateMode aggregateMode) throws DetectUserFriendlyException {
-        final MutableDependencyGraph aggregateDependencyGraph = simpleBdioFactory.createMutableDependencyGraph();
+        final AggregateDependencyGraph aggregateDependencyGraph = new AggregateDependencyGraph();
 
         for (final DetectCodeLocation detectCodeLocation : codeLocations) {
             if (aggregateMode.equals(AggregateMode.DIRECT)) {
                 aggregateDependencyGraph.addGraphAsChildrenToRoot(detectCodeLocation.getDependencyGraph());
             } else if (aggregateMode.equals(AggregateMode.TRANSITIVE)) {
                 final Dependency codeLocationDependency = createAggregateDependency(sourcePath, detectCodeLocation);
-                aggregateDependencyGraph.addChildrenToRoot(codeLocationDependency);
-                aggregateDependencyGraph.addGraphAsChildrenToParent(codeLocationDependency, detectCodeLocation.getDependencyGraph());
+                aggregateDependencyGraph.addGraphAsChildrenToNewRoot(codeLocationDependency, detectCodeLocation.getDependencyGraph());
             } else {
                 throw new DetectUserFriendlyException(
                     String.format("The %s property was set to an unsupported aggregation mode, will not aggregate at this time.", DetectProperties.Companion.getDETECT_BOM_AGGREGATE_REMEDIATION_MODE().getKey()),
@@ -0,0 +1,219 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+// A read only view over the graphs of the code locations being aggregated. Answers the same questions a MutableDependencyGraph
+// holding the merged graphs would, by asking each code location graph in turn, so the aggregate never holds a copy of them.
+// A node that appears in several graphs is the dependency from the first graph that has it, with the children of all of them.
+// Each node is indexed to the graphs that hold it when a graph is added, so a lookup only asks those graphs. Graphs must not change once added.
+public class AggregateDependencyGraph implements DependencyGraph {
+    private final List<AggregatedGraph> graphs = new ArrayList<>();
+    private final Map<ExternalId, List<AggregatedGraph>> graphsByExternalId = new HashMap<>();
+
+    // The roots of the graph become roots of the aggregate.
+    public void addGraphAsChildrenToRoot(final DependencyGraph graph) {
+        addGraph(new AggregatedGraph(null, graph));
+    }
+
+    // The dependency becomes a root of the aggregate and the roots of the graph become its children.
+    public void addGraphAsChildrenToNewRoot(final Dependency rootDependency, final DependencyGraph graph) {
+        addGraph(new AggregatedGraph(rootDependency, graph));
+    }
+
+    private void addGraph(final AggregatedGraph aggregatedGraph) {
+        graphs.add(aggregatedGraph);
+        if (aggregatedGraph.rootDependency != null) {
+            index(aggregatedGraph.rootDependency.getExternalId(), aggregatedGraph);
+        }
+        final Deque<ExternalId> toVisit = new ArrayDeque<>(aggregatedGraph.graph.getRootDependencyExternalIds());
+        while (!toVisit.isEmpty()) {
+            final ExternalId externalId = toVisit.removeFirst();
+            if (index(externalId, aggregatedGraph)) {
+                toVisit.addAll(aggregatedGraph.graph.getChildrenExternalIdsForParent(externalId));
+            }
+        }
+    }
+
+    // Graphs are added in order, so each list keeps the order of the graphs. Returns false when the graph was already indexed for the node.
+    private boolean index(final ExternalId externalId, final AggregatedGraph aggregatedGraph) {
+        final List<AggregatedGraph> indexed = graphsByExternalId.computeIfAbsent(externalId, key -> new ArrayList<>(1));
+        if (!indexed.isEmpty() && indexed.get(indexed.size() - 1) == aggregatedGraph) {
+            return false;
+        }
+        indexed.add(aggregatedGraph);
+        return true;
+    }
+
+    private List<AggregatedGraph> graphsWith(final ExternalId externalId) {
+        return graphsByExternalId.getOrDefault(externalId, Collections.emptyList());
+    }
+
+    @Override
+    public Set<Dependency> getRootDependencies() {
+        return toDependencies(getRootDependencyExternalIds());
+    }
+
+    @Override
+    public Set<ExternalId> getRootDependencyExternalIds() {
+        final Set<ExternalId> roots = new LinkedHashSet<>();
+        for (final AggregatedGraph aggregatedGraph : graphs) {
+            if (aggregatedGraph.rootDependency != null) {
+                roots.add(aggregatedGraph.rootDependency.getExternalId());
+            } else {
+                roots.addAll(aggregatedGraph.graph.getRootDependencyExternalIds());
+            }
+        }
+        return roots;
+    }
+
+    @Override
+    public boolean hasDependency(final ExternalId dependency) {
+        return graphsByExternalId.containsKey(dependency);
+    }
+
+    @Override
+    public boolean hasDependency(final Dependency dependency) {
+        return hasDependency(dependency.getExternalId());
+    }
+
+    @Override
+    public Dependency getDependency(final ExternalId dependency) {
+        for (final AggregatedGraph aggregatedGraph : graphsWith(dependency)) {
+            if (aggregatedGraph.isRoot(dependency)) {
+                return aggregatedGraph.rootDependency;
+            }
+            final Dependency found = aggregatedGraph.graph.getDependency(dependency);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(final ExternalId parent) {
+        return toDependencies(getChildrenExternalIdsForParent(parent));
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(final Dependency parent) {
+        return getChildrenForParent(parent.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(final ExternalId parent) {
+        Set<ExternalId> children = Collections.emptySet();
+        for (final AggregatedGraph aggregatedGraph : graphsWith(parent)) {
+            if (aggregatedGraph.isRoot(parent)) {
+                children = union(children, aggregatedGraph.graph.getRootDependencyExternalIds());
+            }
+            if (aggregatedGraph.graph.hasDependency(parent)) {
+                children = union(children, aggregatedGraph.graph.getChildrenExternalIdsForParent(parent));
+            }
+        }
+        return children;
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(final Dependency parent) {
+        return getChildrenExternalIdsForParent(parent.getExternalId());
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(final ExternalId child) {
+        return toDependencies(getParentExternalIdsForChild(child));
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(final Dependency child) {
+        return getParentsForChild(child.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(final ExternalId child) {
+        Set<ExternalId> parents = Collections.emptySet();
+        for (final AggregatedGraph aggregatedGraph : graphsWith(child)) {
+            if (aggregatedGraph.rootDependency != null && aggregatedGraph.graph.getRootDependencyExternalIds().contains(child)) {
+                parents = union(parents, Collections.singleton(aggregatedGraph.rootDependency.getExternalId()));
+            }
+            if (aggregatedGraph.graph.hasDependency(child)) {
+                parents = union(parents, aggregatedGraph.graph.getParentExternalIdsForChild(child));
+            }
+        }
+        return parents;
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(final Dependency child) {
+        return getParentExternalIdsForChild(child.getExternalId());
+    }
+
+    // Most nodes live in a single graph, so their set is returned as is and only nodes shared between graphs are copied.
+    private Set<ExternalId> union(final Set<ExternalId> current, final Set<ExternalId> additional) {
+        if (current.isEmpty()) {
+            return additional;
+        }
+        if (additional.isEmpty()) {
+            return current;
+        }
+        final Set<ExternalId> union = new LinkedHashSet<>(current);
+        union.addAll(additional);
+        return union;
+    }
+
+    private Set<Dependency> toDependencies(final Set<ExternalId> externalIds) {
+        final Set<Dependency> dependencies = new LinkedHashSet<>();
+        for (final ExternalId externalId : externalIds) {
+            dependencies.add(getDependency(externalId));
+        }
+        return dependencies;
+    }
+
+    private static class AggregatedGraph {
+        private final Dependency rootDependency;
+        private final DependencyGraph graph;
+
+        private AggregatedGraph(final Dependency rootDependency, final DependencyGraph graph) {
+            this.rootDependency = rootDependency;
+            this.graph = graph;
+        }
+
+        private boolean isRoot(final ExternalId externalId) {
+            return rootDependency != null && rootDependency.getExternalId().equals(externalId);
+        }
+    }
+}
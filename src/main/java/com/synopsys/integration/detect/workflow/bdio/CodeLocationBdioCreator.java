@@ -23,16 +23,10 @@
 package com.synopsys.integration.detect.workflow.bdio;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import com.blackducksoftware.bdio2.BdioMetadata;
 import com.blackducksoftware.bdio2.model.Project;
 import com.blackducksoftware.common.value.Product;
@@ -42,19 +36,14 @@ import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.SimpleBdioDocument;
 import com.synopsys.integration.bdio.model.SpdxCreator;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
-import com.synopsys.integration.blackduck.bdio2.Bdio2Document;
 import com.synopsys.integration.blackduck.bdio2.Bdio2Factory;
-import com.synopsys.integration.blackduck.bdio2.Bdio2Writer;
 import com.synopsys.integration.blackduck.codelocation.bdioupload.UploadTarget;
 import com.synopsys.integration.detect.DetectInfo;
 import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
-import com.synopsys.integration.detect.exitcode.ExitCodeType;
 import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocation;
 import com.synopsys.integration.util.NameVersion;
 
 public class CodeLocationBdioCreator {
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
-
     private final DetectBdioWriter detectBdioWriter;
     private final SimpleBdioFactory simpleBdioFactory;
     private final Bdio2Factory bdio2Factory;
@@ -75,9 +64,9 @@ public class CodeLocationBdioCreator {
             final DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
 
             final File bdioOutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".jsonld");
-            final SimpleBdioDocument simpleBdioDocument = simpleBdioFactory.createSimpleBdioDocument(codeLocationName, projectNameVersion.getName(), projectNameVersion.getVersion(), externalId, dependencyGraph);
+            final SimpleBdioDocument simpleBdioDocument = simpleBdioFactory.createSimpleBdioDocument(codeLocationName, projectNameVersion.getName(), projectNameVersion.getVersion(), externalId);
 
-            detectBdioWriter.writeBdioFile(bdioOutputFile, simpleBdioDocument);
+            detectBdioWriter.writeBdioFile(bdioOutputFile, simpleBdioDocument, dependencyGraph);
             uploadTargets.add(UploadTarget.createDefault(projectNameVersion, codeLocationName, bdioOutputFile));
         }
 
@@ -100,20 +89,10 @@ public class CodeLocationBdioCreator {
 
             final BdioMetadata bdioMetadata = bdio2Factory.createBdioMetadata(codeLocationName, ZonedDateTime.now(), productListBuilder);
             final Project bdio2Project = bdio2Factory.createProject(externalId, projectNameVersion.getName(), projectNameVersion.getVersion());
-            final Bdio2Document bdio2Document = bdio2Factory.createBdio2Document(bdioMetadata, bdio2Project, dependencyGraph);
-
-            final Bdio2Writer bdio2Writer = new Bdio2Writer();
             final File bdio2OutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".bdio");
 
-            try {
-                final OutputStream outputStream = new FileOutputStream(bdio2OutputFile);
-                bdio2Writer.writeBdioDocument(outputStream, bdio2Document);
-                logger.debug(String.format("BDIO Generated: %s", bdio2OutputFile.getAbsolutePath()));
-
-                uploadTargets.add(UploadTarget.createDefault(projectNameVersion, codeLocationName, bdio2OutputFile));
-            } catch (final IOException e) {
-                throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
-            }
+            detectBdioWriter.writeBdio2File(bdio2OutputFile, bdioMetadata, bdio2Project, dependencyGraph);
+            uploadTargets.add(UploadTarget.createDefault(projectNameVersion, codeLocationName, bdio2OutputFile));
         }
 
         return uploadTargets;
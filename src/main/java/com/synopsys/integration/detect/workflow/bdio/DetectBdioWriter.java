@@ -22,13 +22,19 @@
  */
 package com.synopsys.integration.detect.workflow.bdio;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.blackducksoftware.bdio2.BdioMetadata;
+import com.blackducksoftware.bdio2.model.Project;
 import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.SimpleBdioDocument;
 import com.synopsys.integration.bdio.model.SpdxCreator;
 import com.synopsys.integration.detect.DetectInfo;
@@ -36,29 +42,47 @@ import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
 import com.synopsys.integration.detect.exitcode.ExitCodeType;
 
 public class DetectBdioWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private final SimpleBdioFactory simpleBdioFactory;
+    private final StreamingBdioWriter streamingBdioWriter;
     private final DetectInfo detectInfo;
 
     public DetectBdioWriter(final SimpleBdioFactory simpleBdioFactory, final DetectInfo detectInfo) {
-        this.simpleBdioFactory = simpleBdioFactory;
+        this.streamingBdioWriter = new StreamingBdioWriter(simpleBdioFactory);
         this.detectInfo = detectInfo;
     }
 
-    public void writeBdioFile(final File outputFile, final SimpleBdioDocument simpleBdioDocument) throws DetectUserFriendlyException {
-        if (outputFile.exists()) {
-            final boolean deleteSuccess = outputFile.delete();
-            logger.debug(String.format("%s deleted: %b", outputFile.getAbsolutePath(), deleteSuccess));
+    // The document should only hold the bill of materials and project, the components are written from the graph as it is walked.
+    public void writeBdioFile(final File outputFile, final SimpleBdioDocument simpleBdioDocument, final DependencyGraph dependencyGraph) throws DetectUserFriendlyException {
+        deleteExisting(outputFile);
+
+        final String detectVersion = detectInfo.getDetectVersion();
+        final SpdxCreator detectCreator = SpdxCreator.createToolSpdxCreator("Detect", detectVersion);
+        simpleBdioDocument.getBillOfMaterials().creationInfo.setPrimarySpdxCreator(detectCreator);
+        try (final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(outputFile), BUFFER_SIZE)) {
+            streamingBdioWriter.writeBdio1(outputStream, simpleBdioDocument, dependencyGraph);
+            logger.debug(String.format("BDIO Generated: %s", outputFile.getAbsolutePath()));
+        } catch (final IOException e) {
+            throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
         }
+    }
+
+    public void writeBdio2File(final File outputFile, final BdioMetadata bdioMetadata, final Project project, final DependencyGraph dependencyGraph) throws DetectUserFriendlyException {
+        deleteExisting(outputFile);
 
-        try {
-            final String detectVersion = detectInfo.getDetectVersion();
-            final SpdxCreator detectCreator = SpdxCreator.createToolSpdxCreator("Detect", detectVersion);
-            simpleBdioDocument.getBillOfMaterials().creationInfo.setPrimarySpdxCreator(detectCreator);
-            simpleBdioFactory.writeSimpleBdioDocumentToFile(outputFile, simpleBdioDocument);
+        try (final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(outputFile), BUFFER_SIZE)) {
+            streamingBdioWriter.writeBdio2(outputStream, bdioMetadata, project, dependencyGraph);
             logger.debug(String.format("BDIO Generated: %s", outputFile.getAbsolutePath()));
         } catch (final IOException e) {
             throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
         }
     }
+
+    private void deleteExisting(final File outputFile) {
+        if (outputFile.exists()) {
+            final boolean deleteSuccess = outputFile.delete();
+            logger.debug(String.format("%s deleted: %b", outputFile.getAbsolutePath(), deleteSuccess));
+        }
+    }
 }
@@ -0,0 +1,127 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.blackducksoftware.bdio2.BdioMetadata;
+import com.blackducksoftware.bdio2.BdioWriter.BdioFile;
+import com.blackducksoftware.bdio2.model.Component;
+import com.blackducksoftware.bdio2.model.Project;
+import com.synopsys.integration.bdio.BdioWriter;
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.BdioComponent;
+import com.synopsys.integration.bdio.model.BdioProject;
+import com.synopsys.integration.bdio.model.SimpleBdioDocument;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+// Writes each node of a dependency graph as soon as it is reached instead of building every component of the document first,
+// so only the external ids already written are held while the file is produced. Nodes are visited once with an explicit stack,
+// so deep graphs do not overflow the call stack.
+public class StreamingBdioWriter {
+    private final SimpleBdioFactory simpleBdioFactory;
+
+    public StreamingBdioWriter(final SimpleBdioFactory simpleBdioFactory) {
+        this.simpleBdioFactory = simpleBdioFactory;
+    }
+
+    // The document supplies the bill of materials and the project, any components it holds are ignored.
+    public void writeBdio1(final OutputStream outputStream, final SimpleBdioDocument document, final DependencyGraph dependencyGraph) throws IOException {
+        try (final BdioWriter bdioWriter = simpleBdioFactory.createBdioWriter(outputStream)) {
+            final BdioProject project = document.getProject();
+            for (final Dependency root : dependencyGraph.getRootDependencies()) {
+                simpleBdioFactory.getBdioPropertyHelper().addRelationship(project, createBdio1Component(root));
+            }
+            bdioWriter.writeBdioNode(document.getBillOfMaterials());
+            bdioWriter.writeBdioNode(project);
+
+            final Set<ExternalId> written = new HashSet<>();
+            final Deque<Dependency> remaining = new ArrayDeque<>(dependencyGraph.getRootDependencies());
+            while (!remaining.isEmpty()) {
+                final Dependency dependency = remaining.pop();
+                if (!written.add(dependency.getExternalId())) {
+                    continue;
+                }
+                final BdioComponent component = createBdio1Component(dependency);
+                for (final Dependency child : dependencyGraph.getChildrenForParent(dependency)) {
+                    simpleBdioFactory.getBdioPropertyHelper().addRelationship(component, createBdio1Component(child));
+                    if (!written.contains(child.getExternalId())) {
+                        remaining.push(child);
+                    }
+                }
+                bdioWriter.writeBdioNode(component);
+            }
+        }
+    }
+
+    public void writeBdio2(final OutputStream outputStream, final BdioMetadata bdioMetadata, final Project project, final DependencyGraph dependencyGraph) throws IOException {
+        final com.blackducksoftware.bdio2.BdioWriter bdioWriter = new com.blackducksoftware.bdio2.BdioWriter(bdioMetadata, new BdioFile(outputStream));
+        try {
+            bdioWriter.start();
+            for (final Dependency root : dependencyGraph.getRootDependencies()) {
+                project.dependency(new com.blackducksoftware.bdio2.model.Dependency().dependsOn(createBdio2Component(root)));
+            }
+            bdioWriter.next(project);
+
+            final Set<ExternalId> written = new HashSet<>();
+            final Deque<Dependency> remaining = new ArrayDeque<>(dependencyGraph.getRootDependencies());
+            while (!remaining.isEmpty()) {
+                final Dependency dependency = remaining.pop();
+                if (!written.add(dependency.getExternalId())) {
+                    continue;
+                }
+                final Component component = createBdio2Component(dependency);
+                for (final Dependency child : dependencyGraph.getChildrenForParent(dependency)) {
+                    component.dependency(new com.blackducksoftware.bdio2.model.Dependency().dependsOn(createBdio2Component(child)));
+                    if (!written.contains(child.getExternalId())) {
+                        remaining.push(child);
+                    }
+                }
+                bdioWriter.next(component);
+            }
+        } finally {
+            bdioWriter.close();
+        }
+    }
+
+    private BdioComponent createBdio1Component(final Dependency dependency) {
+        return simpleBdioFactory.getBdioNodeFactory().createComponent(dependency.getName(), dependency.getVersion(), dependency.getExternalId());
+    }
+
+    // Matches the components Bdio2Factory creates for a dependency.
+    private Component createBdio2Component(final Dependency dependency) {
+        final ExternalId externalId = dependency.getExternalId();
+        return new Component(externalId.createBdioId().toString())
+                   .name(dependency.getName())
+                   .version(dependency.getVersion())
+                   .identifier(externalId.createExternalId())
+                   .namespace(externalId.getForge().getName());
+    }
+}
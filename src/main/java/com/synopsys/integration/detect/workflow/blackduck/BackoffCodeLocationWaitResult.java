@@ -0,0 +1,55 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import java.util.Set;
+
+public class BackoffCodeLocationWaitResult {
+    private final boolean complete;
+    private final Set<String> pendingCodeLocationNames;
+    private final int notificationCount;
+    private final int expectedNotificationCount;
+
+    public BackoffCodeLocationWaitResult(final boolean complete, final Set<String> pendingCodeLocationNames, final int notificationCount, final int expectedNotificationCount) {
+        this.complete = complete;
+        this.pendingCodeLocationNames = pendingCodeLocationNames;
+        this.notificationCount = notificationCount;
+        this.expectedNotificationCount = expectedNotificationCount;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public Set<String> getPendingCodeLocationNames() {
+        return pendingCodeLocationNames;
+    }
+
+    public int getNotificationCount() {
+        return notificationCount;
+    }
+
+    public int getExpectedNotificationCount() {
+        return expectedNotificationCount;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.blackduck.service.model.NotificationTaskRange;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.util.NameVersion;
+
+// Waits for code locations by polling a notification source, backing off (with jitter) while nothing finishes.
+// Each code location is tracked on its own: only unfinished code locations are asked for, and the searched range
+// starts shortly before the newest notification already seen.
+public class BackoffCodeLocationWaiter {
+    public interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    public static final long DEFAULT_INITIAL_INTERVAL_MILLIS = 1000;
+    public static final long DEFAULT_MAXIMUM_INTERVAL_MILLIS = 60 * 1000;
+    // Notifications do not always become visible in the order they were created, so the narrowed range keeps some overlap.
+    private static final long RANGE_OVERLAP_MILLIS = 60 * 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final CodeLocationNotificationSource notificationSource;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+    private final Random random;
+    private final long initialIntervalMillis;
+    private final long maximumIntervalMillis;
+
+    public BackoffCodeLocationWaiter(final CodeLocationNotificationSource notificationSource) {
+        this(notificationSource, System::currentTimeMillis, Thread::sleep, new Random(), DEFAULT_INITIAL_INTERVAL_MILLIS, DEFAULT_MAXIMUM_INTERVAL_MILLIS);
+    }
+
+    public BackoffCodeLocationWaiter(final CodeLocationNotificationSource notificationSource, final LongSupplier clock, final Sleeper sleeper, final Random random, final long initialIntervalMillis, final long maximumIntervalMillis) {
+        this.notificationSource = notificationSource;
+        this.clock = clock;
+        this.sleeper = sleeper;
+        this.random = random;
+        this.initialIntervalMillis = initialIntervalMillis;
+        this.maximumIntervalMillis = maximumIntervalMillis;
+    }
+
+    public BackoffCodeLocationWaitResult waitForCodeLocations(final NotificationTaskRange notificationTaskRange, final NameVersion projectNameVersion, final Set<String> codeLocationNames, final int expectedNotificationCount,
+        final long timeoutInSeconds) throws IntegrationException, InterruptedException {
+        final long deadline = clock.getAsLong() + 1000L * timeoutInSeconds;
+        final Map<String, Integer> notificationCounts = new LinkedHashMap<>();
+        codeLocationNames.forEach(codeLocationName -> notificationCounts.put(codeLocationName, 0));
+        final Set<String> seenNotificationIds = new HashSet<>();
+        int notificationCount = 0;
+
+        Date startDate = notificationTaskRange.getStartDate();
+        final Date endDate = notificationTaskRange.getEndDate();
+        long intervalMillis = initialIntervalMillis;
+        while (true) {
+            final Set<String> pendingCodeLocationNames = findPending(notificationCounts);
+            // Once every code location has reported, more notifications can still be expected (for example from a scan with several code locations).
+            final Set<String> codeLocationsToFind = pendingCodeLocationNames.isEmpty() ? notificationCounts.keySet() : pendingCodeLocationNames;
+            final List<CodeLocationNotification> notifications = notificationSource.findBomComputedNotifications(startDate, endDate, projectNameVersion, codeLocationsToFind);
+
+            boolean progress = false;
+            long newestNotification = Long.MIN_VALUE;
+            for (final CodeLocationNotification notification : notifications) {
+                if (!notificationCounts.containsKey(notification.getCodeLocationName()) || !seenNotificationIds.add(notification.getId())) {
+                    continue;
+                }
+                final int count = notificationCounts.merge(notification.getCodeLocationName(), 1, Integer::sum);
+                notificationCount++;
+                progress = true;
+                newestNotification = Math.max(newestNotification, notification.getCreatedAt().getTime());
+                if (count == 1) {
+                    logger.info(String.format("Code location '%s' has been added to the BOM.", notification.getCodeLocationName()));
+                }
+            }
+            if (newestNotification != Long.MIN_VALUE && newestNotification - RANGE_OVERLAP_MILLIS > startDate.getTime()) {
+                startDate = new Date(newestNotification - RANGE_OVERLAP_MILLIS);
+            }
+
+            final Set<String> stillPending = findPending(notificationCounts);
+            if (stillPending.isEmpty() && notificationCount >= expectedNotificationCount) {
+                return new BackoffCodeLocationWaitResult(true, stillPending, notificationCount, expectedNotificationCount);
+            }
+
+            final long remainingMillis = deadline - clock.getAsLong();
+            if (remainingMillis <= 0) {
+                return new BackoffCodeLocationWaitResult(false, stillPending, notificationCount, expectedNotificationCount);
+            }
+
+            final long sleepMillis = Math.min(remainingMillis, withJitter(intervalMillis));
+            logger.debug(String.format("Waiting on %d of %d code locations (%d of %d notifications), checking again in %d ms.", stillPending.size(), notificationCounts.size(), notificationCount, expectedNotificationCount,
+                sleepMillis));
+            sleeper.sleep(sleepMillis);
+            if (!progress) {
+                intervalMillis = Math.min(maximumIntervalMillis, intervalMillis * 2);
+            }
+        }
+    }
+
+    // Half of the interval is fixed and half is random, so many waiting agents do not poll the server in lock step.
+    private long withJitter(final long intervalMillis) {
+        final long half = intervalMillis / 2;
+        return half + (long) (random.nextDouble() * (intervalMillis - half));
+    }
+
+    private Set<String> findPending(final Map<String, Integer> notificationCounts) {
+        return notificationCounts.entrySet().stream()
+                   .filter(entry -> entry.getValue() == 0)
+                   .map(Map.Entry::getKey)
+                   .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.synopsys.integration.blackduck.api.generated.discovery.ApiDiscovery;
+import com.synopsys.integration.blackduck.api.generated.view.CodeLocationView;
+import com.synopsys.integration.blackduck.api.generated.view.ProjectVersionView;
+import com.synopsys.integration.blackduck.api.generated.view.UserView;
+import com.synopsys.integration.blackduck.api.manual.view.NotificationUserView;
+import com.synopsys.integration.blackduck.service.BlackDuckService;
+import com.synopsys.integration.blackduck.service.NotificationService;
+import com.synopsys.integration.blackduck.service.ProjectService;
+import com.synopsys.integration.blackduck.service.model.ProjectVersionWrapper;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.util.NameVersion;
+
+public class BlackDuckCodeLocationNotificationSource implements CodeLocationNotificationSource {
+    private static final String BOM_COMPUTED_NOTIFICATION_TYPE = "VERSION_BOM_CODE_LOCATION_BOM_COMPUTED";
+
+    private final BlackDuckService blackDuckService;
+    private final ProjectService projectService;
+    private final NotificationService notificationService;
+
+    @Nullable
+    private UserView currentUser;
+    private final Map<String, String> codeLocationNamesByUrl = new HashMap<>();
+
+    public BlackDuckCodeLocationNotificationSource(final BlackDuckService blackDuckService, final ProjectService projectService, final NotificationService notificationService) {
+        this.blackDuckService = blackDuckService;
+        this.projectService = projectService;
+        this.notificationService = notificationService;
+    }
+
+    @Override
+    public List<CodeLocationNotification> findBomComputedNotifications(final Date startDate, final Date endDate, final NameVersion projectNameVersion, final Set<String> codeLocationNames) throws IntegrationException {
+        if (currentUser == null) {
+            currentUser = blackDuckService.getResponse(ApiDiscovery.CURRENT_USER_LINK_RESPONSE);
+        }
+        if (!codeLocationNamesByUrl.values().containsAll(codeLocationNames)) {
+            findCodeLocationUrls(projectNameVersion);
+        }
+
+        final List<CodeLocationNotification> notifications = new ArrayList<>();
+        final List<NotificationUserView> userNotifications = notificationService.getFilteredUserNotifications(currentUser, startDate, endDate, Collections.singletonList(BOM_COMPUTED_NOTIFICATION_TYPE));
+        for (final NotificationUserView userNotification : userNotifications) {
+            final Optional<String> codeLocationUrl = findCodeLocationUrl(userNotification);
+            if (!codeLocationUrl.isPresent()) {
+                continue;
+            }
+            final String codeLocationName = codeLocationNamesByUrl.get(codeLocationUrl.get());
+            if (codeLocationName != null && codeLocationNames.contains(codeLocationName)) {
+                final String id = userNotification.getHref().orElse(codeLocationUrl.get() + "@" + userNotification.getCreatedAt().getTime());
+                notifications.add(new CodeLocationNotification(id, codeLocationName, userNotification.getCreatedAt()));
+            }
+        }
+        return notifications;
+    }
+
+    private void findCodeLocationUrls(final NameVersion projectNameVersion) throws IntegrationException {
+        final Optional<ProjectVersionWrapper> projectVersionWrapper = projectService.getProjectVersion(projectNameVersion.getName(), projectNameVersion.getVersion());
+        if (!projectVersionWrapper.isPresent()) {
+            return;
+        }
+        final List<CodeLocationView> codeLocationViews = blackDuckService.getAllResponses(projectVersionWrapper.get().getProjectVersionView(), ProjectVersionView.CODELOCATIONS_LINK_RESPONSE);
+        for (final CodeLocationView codeLocationView : codeLocationViews) {
+            codeLocationView.getHref().ifPresent(href -> codeLocationNamesByUrl.put(href, codeLocationView.getName()));
+        }
+    }
+
+    private Optional<String> findCodeLocationUrl(final NotificationUserView userNotification) {
+        if (userNotification.getJson() == null) {
+            return Optional.empty();
+        }
+        final JsonElement notification = JsonParser.parseString(userNotification.getJson());
+        if (!notification.isJsonObject() || !notification.getAsJsonObject().has("content")) {
+            return Optional.empty();
+        }
+        final JsonObject content = notification.getAsJsonObject().getAsJsonObject("content");
+        if (!content.has("codeLocation")) {
+            return Optional.empty();
+        }
+        return Optional.of(content.get("codeLocation").getAsString());
+    }
+}
@@ -24,6 +24,14 @@ package com.synopsys.integration.detect.workflow.blackduck;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +59,10 @@ public class BlackDuckPostActions {
     private final BlackDuckServicesFactory blackDuckServicesFactory;
     private final EventSystem eventSystem;
 
+    private interface PostAction {
+        void perform() throws Exception;
+    }
+
     public BlackDuckPostActions(BlackDuckServicesFactory blackDuckServicesFactory, EventSystem eventSystem) {
         this.blackDuckServicesFactory = blackDuckServicesFactory;
         this.eventSystem = eventSystem;
@@ -59,15 +71,23 @@ public class BlackDuckPostActions {
     public void perform(BlackDuckPostOptions blackDuckPostOptions, CodeLocationWaitController codeLocationWaitController, ProjectVersionWrapper projectVersionWrapper, long timeoutInSeconds)
         throws DetectUserFriendlyException {
         try {
+            // The wait and every post action share one timeout, measured from here.
+            long deadline = System.currentTimeMillis() + 1000L * timeoutInSeconds;
             if (blackDuckPostOptions.shouldWaitForResults()) {
-                waitForCodeLocations(codeLocationWaitController, timeoutInSeconds);
+                waitForCodeLocations(blackDuckPostOptions, codeLocationWaitController, timeoutInSeconds);
             }
+
+            List<PostAction> postActions = new ArrayList<>();
             if (blackDuckPostOptions.shouldPerformPolicyCheck()) {
-                checkPolicy(blackDuckPostOptions, projectVersionWrapper.getProjectVersionView());
+                postActions.add(() -> checkPolicy(blackDuckPostOptions, projectVersionWrapper.getProjectVersionView()));
             }
-            if (blackDuckPostOptions.shouldGenerateAnyReport()) {
-                generateReports(blackDuckPostOptions, projectVersionWrapper, timeoutInSeconds);
+            if (blackDuckPostOptions.shouldGenerateRiskReport()) {
+                postActions.add(() -> generateRiskReport(blackDuckPostOptions, projectVersionWrapper, remainingMillis(deadline)));
             }
+            if (blackDuckPostOptions.shouldGenerateNoticesReport()) {
+                postActions.add(() -> generateNoticesReport(blackDuckPostOptions, projectVersionWrapper, remainingMillis(deadline)));
+            }
+            performPostActions(postActions, blackDuckPostOptions.shouldPerformPostActionsConcurrently(), deadline);
         } catch (DetectUserFriendlyException e) {
             throw e;
         } catch (IllegalArgumentException e) {
@@ -81,10 +101,25 @@ public class BlackDuckPostActions {
         }
     }
 
-    private void waitForCodeLocations(CodeLocationWaitController codeLocationWaitController, long timeoutInSeconds) throws DetectUserFriendlyException, InterruptedException, IntegrationException {
+    private void waitForCodeLocations(BlackDuckPostOptions blackDuckPostOptions, CodeLocationWaitController codeLocationWaitController, long timeoutInSeconds)
+        throws DetectUserFriendlyException, InterruptedException, IntegrationException {
         logger.info("Detect must wait for bom tool calculations to finish.");
-        CodeLocationCreationService codeLocationCreationService = blackDuckServicesFactory.createCodeLocationCreationService();
-        if (codeLocationWaitController.getExpectedNotificationCount() > 0) {
+        if (codeLocationWaitController.getExpectedNotificationCount() > 0 && blackDuckPostOptions.shouldWaitWithBackoff()) {
+            CodeLocationNotificationSource notificationSource = new BlackDuckCodeLocationNotificationSource(blackDuckServicesFactory.createBlackDuckService(), blackDuckServicesFactory.createProjectService(),
+                blackDuckServicesFactory.createNotificationService());
+            BackoffCodeLocationWaitResult result = new BackoffCodeLocationWaiter(notificationSource).waitForCodeLocations(
+                codeLocationWaitController.getNotificationRange(),
+                codeLocationWaitController.getProjectNameVersion(),
+                codeLocationWaitController.getCodeLocationNames(),
+                codeLocationWaitController.getExpectedNotificationCount(),
+                timeoutInSeconds
+            );
+            if (!result.isComplete()) {
+                throw new DetectUserFriendlyException(String.format("Timed out waiting for code locations to finish on the Black Duck server. Received %d of %d notifications, still waiting on: %s",
+                    result.getNotificationCount(), result.getExpectedNotificationCount(), String.join(", ", result.getPendingCodeLocationNames())), ExitCodeType.FAILURE_TIMEOUT);
+            }
+        } else if (codeLocationWaitController.getExpectedNotificationCount() > 0) {
+            CodeLocationCreationService codeLocationCreationService = blackDuckServicesFactory.createCodeLocationCreationService();
             //TODO fix this when NotificationTaskRange doesn't include task start time
             //ekerwin - The start time of the task is the earliest time a code location was created.
             // In order to wait the full timeout, we have to not use that start time and instead use now().
@@ -105,44 +140,94 @@ public class BlackDuckPostActions {
 
     private void checkPolicy(BlackDuckPostOptions blackDuckPostOptions, ProjectVersionView projectVersionView) throws IntegrationException {
         logger.info("Detect will check policy for violations.");
-        PolicyChecker policyChecker = new PolicyChecker(eventSystem, blackDuckServicesFactory.createBlackDuckService(), blackDuckServicesFactory.createProjectBomService());
+        PolicyChecker policyChecker = new PolicyChecker(eventSystem, blackDuckServicesFactory.createBlackDuckService(), blackDuckServicesFactory.createProjectBomService(), blackDuckPostOptions.getParallelProcessors(),
+            blackDuckPostOptions.shouldLogPolicyViolations());
         policyChecker.checkPolicy(blackDuckPostOptions.getSeveritiesToFailPolicyCheck(), projectVersionView);
     }
 
-    private void generateReports(BlackDuckPostOptions blackDuckPostOptions, ProjectVersionWrapper projectVersionWrapper, long timeoutInSeconds) throws IntegrationException, IOException, InterruptedException {
-        long timeoutInMillisec = 1000L * timeoutInSeconds;
+    // The post actions are independent once the code locations are ready, so they may run concurrently. Each is only given the time left before the deadline.
+    // Failures are reported in the order the actions would have run one after another.
+    private void performPostActions(List<PostAction> postActions, boolean concurrently, long deadline) throws Exception {
+        if (!concurrently || postActions.size() <= 1) {
+            for (PostAction postAction : postActions) {
+                remainingMillis(deadline);
+                postAction.perform();
+            }
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(postActions.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (PostAction postAction : postActions) {
+                futures.add(executorService.submit(() -> {
+                    postAction.perform();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get(remainingMillis(deadline), TimeUnit.MILLISECONDS);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception) e.getCause();
+                    }
+                    throw e;
+                } catch (TimeoutException e) {
+                    throw createTimeoutException();
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private long remainingMillis(long deadline) throws DetectUserFriendlyException {
+        long remainingMillis = deadline - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            throw createTimeoutException();
+        }
+        return remainingMillis;
+    }
+
+    private DetectUserFriendlyException createTimeoutException() {
+        return new DetectUserFriendlyException("Timed out waiting for the Black Duck post actions to finish.", ExitCodeType.FAILURE_TIMEOUT);
+    }
+
+    private void generateRiskReport(BlackDuckPostOptions blackDuckPostOptions, ProjectVersionWrapper projectVersionWrapper, long timeoutInMillisec) throws IntegrationException, IOException, InterruptedException {
         ProjectView projectView = projectVersionWrapper.getProjectView();
         ProjectVersionView projectVersionView = projectVersionWrapper.getProjectVersionView();
 
         ReportService reportService = blackDuckServicesFactory.createReportService(timeoutInMillisec);
-        if (blackDuckPostOptions.shouldGenerateRiskReport()) {
-            logger.info("Creating risk report pdf");
-            File reportDirectory = blackDuckPostOptions.getRiskReportPdfPath().toFile();
-
-            if (!reportDirectory.exists() && !reportDirectory.mkdirs()) {
-                logger.warn(String.format("Failed to create risk report pdf directory: %s", blackDuckPostOptions.getRiskReportPdfPath().toString()));
-            }
+        logger.info("Creating risk report pdf");
+        File reportDirectory = blackDuckPostOptions.getRiskReportPdfPath().toFile();
 
-            DetectFontLoader detectFontLoader = new DetectFontLoader();
-            File createdPdf = reportService.createReportPdfFile(reportDirectory, projectView, projectVersionView, detectFontLoader::loadFont, detectFontLoader::loadBoldFont);
-
-            logger.info(String.format("Created risk report pdf: %s", createdPdf.getCanonicalPath()));
-            eventSystem.publishEvent(Event.ResultProduced, new ReportDetectResult("Risk Report", createdPdf.getCanonicalPath()));
+        if (!reportDirectory.exists() && !reportDirectory.mkdirs()) {
+            logger.warn(String.format("Failed to create risk report pdf directory: %s", blackDuckPostOptions.getRiskReportPdfPath().toString()));
         }
 
-        if (blackDuckPostOptions.shouldGenerateNoticesReport()) {
-            logger.info("Creating notices report");
-            File noticesDirectory = blackDuckPostOptions.getNoticesReportPath().toFile();
+        DetectFontLoader detectFontLoader = new DetectFontLoader();
+        File createdPdf = reportService.createReportPdfFile(reportDirectory, projectView, projectVersionView, detectFontLoader::loadFont, detectFontLoader::loadBoldFont);
 
-            if (!noticesDirectory.exists() && !noticesDirectory.mkdirs()) {
-                logger.warn(String.format("Failed to create notices directory at %s", blackDuckPostOptions.getNoticesReportPath().toString()));
-            }
+        logger.info(String.format("Created risk report pdf: %s", createdPdf.getCanonicalPath()));
+        eventSystem.publishEvent(Event.ResultProduced, new ReportDetectResult("Risk Report", createdPdf.getCanonicalPath()));
+    }
 
-            File noticesFile = reportService.createNoticesReportFile(noticesDirectory, projectView, projectVersionView);
-            logger.info(String.format("Created notices report: %s", noticesFile.getCanonicalPath()));
+    private void generateNoticesReport(BlackDuckPostOptions blackDuckPostOptions, ProjectVersionWrapper projectVersionWrapper, long timeoutInMillisec) throws IntegrationException, IOException, InterruptedException {
+        ProjectView projectView = projectVersionWrapper.getProjectView();
+        ProjectVersionView projectVersionView = projectVersionWrapper.getProjectVersionView();
 
-            eventSystem.publishEvent(Event.ResultProduced, new ReportDetectResult("Notices Report", noticesFile.getCanonicalPath()));
+        ReportService reportService = blackDuckServicesFactory.createReportService(timeoutInMillisec);
+        logger.info("Creating notices report");
+        File noticesDirectory = blackDuckPostOptions.getNoticesReportPath().toFile();
 
+        if (!noticesDirectory.exists() && !noticesDirectory.mkdirs()) {
+            logger.warn(String.format("Failed to create notices directory at %s", blackDuckPostOptions.getNoticesReportPath().toString()));
         }
+
+        File noticesFile = reportService.createNoticesReportFile(noticesDirectory, projectView, projectVersionView);
+        logger.info(String.format("Created notices report: %s", noticesFile.getCanonicalPath()));
+
+        eventSystem.publishEvent(Event.ResultProduced, new ReportDetectResult("Notices Report", noticesFile.getCanonicalPath()));
     }
 }
@@ -35,15 +35,24 @@ public class BlackDuckPostOptions {
     private final Path riskReportPdfPath;
     private final Path noticesReportPath;
     private final List<PolicyRuleSeverityType> severitiesToFailPolicyCheck;
+    private final int parallelProcessors;
+    private final boolean waitWithBackoff;
+    private final boolean postActionsConcurrently;
+    private final boolean logPolicyViolations;
 
     public BlackDuckPostOptions(final boolean waitForResults, final boolean generateRiskReport, final boolean generateNoticesReport, final Path riskReportPdfPath, final Path noticesReportPath,
-        final List<PolicyRuleSeverityType> severitiesToFailPolicyCheck) {
+        final List<PolicyRuleSeverityType> severitiesToFailPolicyCheck, final int parallelProcessors, final boolean waitWithBackoff, final boolean postActionsConcurrently,
+        final boolean logPolicyViolations) {
         this.waitForResults = waitForResults;
         this.generateRiskReport = generateRiskReport;
         this.generateNoticesReport = generateNoticesReport;
         this.riskReportPdfPath = riskReportPdfPath;
         this.noticesReportPath = noticesReportPath;
         this.severitiesToFailPolicyCheck = severitiesToFailPolicyCheck;
+        this.parallelProcessors = parallelProcessors;
+        this.waitWithBackoff = waitWithBackoff;
+        this.postActionsConcurrently = postActionsConcurrently;
+        this.logPolicyViolations = logPolicyViolations;
     }
 
     public boolean shouldWaitForResults() {
@@ -78,4 +87,19 @@ public class BlackDuckPostOptions {
         return severitiesToFailPolicyCheck;
     }
 
+    public int getParallelProcessors() {
+        return parallelProcessors;
+    }
+
+    public boolean shouldWaitWithBackoff() {
+        return waitWithBackoff;
+    }
+
+    public boolean shouldLogPolicyViolations() {
+        return logPolicyViolations;
+    }
+
+    public boolean shouldPerformPostActionsConcurrently() {
+        return postActionsConcurrently;
+    }
 }
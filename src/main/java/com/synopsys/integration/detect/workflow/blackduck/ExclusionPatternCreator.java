@@ -24,41 +24,71 @@ package com.synopsys.integration.detect.workflow.blackduck;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collections;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.detectable.detectable.file.FileFinder;
-
+// Finds the files and directories under the scan target whose names match any of the exclusion name patterns in a single walk.
+// Matching directories are not searched. Patterns are built from the path relative to the target, so only the target itself
+// is canonicalized rather than every match.
 public class ExclusionPatternCreator {
     private final Logger logger = LoggerFactory.getLogger(ExclusionPatternCreator.class);
 
-    private final FileFinder fileFinder;
     private final File scanTarget;
 
-    public ExclusionPatternCreator(final FileFinder fileFinder, final File scanTarget) {
-        this.fileFinder = fileFinder;
+    public ExclusionPatternCreator(final File scanTarget) {
         this.scanTarget = scanTarget;
     }
 
     public Set<String> determineExclusionPatterns(final int maxDepth, final List<String> signatureScannerExclusionNamePatterns) {
         if (null == signatureScannerExclusionNamePatterns || signatureScannerExclusionNamePatterns.size() < 1 && scanTarget.isDirectory()) {
-            return Collections.emptySet();
+            return new HashSet<>();
         }
         final Set<String> scanExclusionPatterns = new HashSet<>();
+        if (maxDepth < 0 || !scanTarget.isDirectory() || Files.isSymbolicLink(scanTarget.toPath())) {
+            return scanExclusionPatterns;
+        }
         try {
-            final String scanTargetPath = scanTarget.getCanonicalPath();
+            final Path scanTargetPath = scanTarget.getCanonicalFile().toPath();
             // TODO should we only collect directories since the scanner can only exclude directories?
-            final List<File> matchingFiles = fileFinder.findFiles(scanTarget, signatureScannerExclusionNamePatterns, maxDepth, false); //TODO: re-add the depth hit message creator?
-            for (final File matchingFile : matchingFiles) {
-                final String matchingFilePath = matchingFile.getCanonicalPath();
-                final String scanExclusionPattern = createExclusionPatternFromPaths(scanTargetPath, matchingFilePath);
-                scanExclusionPatterns.add(scanExclusionPattern);
-            }
+            // The entries of the target are at depth one, entries at maxDepth + 1 are still matched but not searched.
+            Files.walkFileTree(scanTargetPath, EnumSet.noneOf(FileVisitOption.class), maxDepth + 1, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                    if (!dir.equals(scanTargetPath) && matches(dir, signatureScannerExclusionNamePatterns)) {
+                        scanExclusionPatterns.add(createExclusionPattern(scanTargetPath, dir));
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    if (matches(file, signatureScannerExclusionNamePatterns)) {
+                        scanExclusionPatterns.add(createExclusionPattern(scanTargetPath, file));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                    if (matches(file, signatureScannerExclusionNamePatterns)) {
+                        scanExclusionPatterns.add(createExclusionPattern(scanTargetPath, file));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
         } catch (final IOException e) {
             logger.warn("Problem encountered finding the exclusion patterns for the scanner. " + e.getMessage());
             logger.debug(e.getMessage(), e);
@@ -66,20 +96,25 @@ public class ExclusionPatternCreator {
         return scanExclusionPatterns;
     }
 
-    private String createExclusionPatternFromPaths(final String rootPath, final String targetPath) {
-        String scanExclusionPattern = targetPath.replace(rootPath, "/");
-        if (scanExclusionPattern.contains("\\\\")) {
-            scanExclusionPattern = scanExclusionPattern.replace("\\\\", "/");
+    private boolean matches(final Path path, final List<String> namePatterns) {
+        final Path fileName = path.getFileName();
+        if (fileName == null) {
+            return false;
         }
-        if (scanExclusionPattern.contains("\\")) {
-            scanExclusionPattern = scanExclusionPattern.replace("\\", "/");
-        }
-        if (scanExclusionPattern.contains("//")) {
-            scanExclusionPattern = scanExclusionPattern.replace("//", "/");
+        final String name = fileName.toString();
+        for (final String namePattern : namePatterns) {
+            if (FilenameUtils.wildcardMatch(name, namePattern)) {
+                return true;
+            }
         }
-        if (!scanExclusionPattern.endsWith("/")) {
-            scanExclusionPattern = scanExclusionPattern + "/";
+        return false;
+    }
+
+    private String createExclusionPattern(final Path rootPath, final Path targetPath) {
+        final StringBuilder scanExclusionPattern = new StringBuilder("/");
+        for (final Path segment : rootPath.relativize(targetPath)) {
+            scanExclusionPattern.append(segment.toString()).append('/');
         }
-        return scanExclusionPattern;
+        return scanExclusionPattern.toString();
     }
 }
@@ -22,8 +22,15 @@
  */
 package com.synopsys.integration.detect.workflow.blackduck.policy;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -48,13 +55,26 @@ public class PolicyChecker {
     private final Logger logger = LoggerFactory.getLogger(PolicyChecker.class);
 
     private final EventSystem eventSystem;
-    private final BlackDuckService blackDuckService;
     private final ProjectBomService projectBomService;
+    private final ComponentPolicyRulesFetcher componentPolicyRulesFetcher;
+    private final int fetchThreads;
+    private final boolean logViolations;
 
     public PolicyChecker(final EventSystem eventSystem, final BlackDuckService blackDuckService, final ProjectBomService projectBomService) {
+        this(eventSystem, blackDuckService, projectBomService, 1, true);
+    }
+
+    public PolicyChecker(final EventSystem eventSystem, final BlackDuckService blackDuckService, final ProjectBomService projectBomService, final int fetchThreads, final boolean logViolations) {
+        this(eventSystem, projectBomService, component -> blackDuckService.getAllResponses(component, ProjectVersionComponentView.POLICY_RULES_LINK_RESPONSE), fetchThreads, logViolations);
+    }
+
+    public PolicyChecker(final EventSystem eventSystem, final ProjectBomService projectBomService, final ComponentPolicyRulesFetcher componentPolicyRulesFetcher, final int fetchThreads,
+        final boolean logViolations) {
         this.eventSystem = eventSystem;
-        this.blackDuckService = blackDuckService;
         this.projectBomService = projectBomService;
+        this.componentPolicyRulesFetcher = componentPolicyRulesFetcher;
+        this.fetchThreads = Math.max(1, fetchThreads);
+        this.logViolations = logViolations;
     }
 
     public void checkPolicy(final List<PolicyRuleSeverityType> policySeverities, final ProjectVersionView projectVersionView) throws IntegrationException {
@@ -64,7 +84,12 @@ public class PolicyChecker {
             logger.info(policyStatusDescription.get().getPolicyStatusMessage());
 
             if (arePolicySeveritiesViolated(policyStatusDescription.get(), policySeverities)) {
-                fetchAndLogPolicyViolations(projectVersionView);
+                // The violations are only fetched to be logged, the policy status alone decides the exit code.
+                if (logViolations) {
+                    fetchAndLogPolicyViolations(projectVersionView);
+                } else {
+                    logger.info("Policy violations will not be looked up, logging them is turned off.");
+                }
                 eventSystem.publishEvent(Event.ExitCode, new ExitCodeRequest(ExitCodeType.FAILURE_POLICY_VIOLATION, policyStatusDescription.get().getPolicyStatusMessage()));
             }
         } else {
@@ -83,40 +108,85 @@ public class PolicyChecker {
     public void fetchAndLogPolicyViolations(final ProjectVersionView projectVersionView) throws IntegrationException {
         logger.info("Searching BOM for components in violation of policy rules.");
 
-        final List<ProjectVersionComponentView> bomComponents = projectBomService.getComponentsForProjectVersion(projectVersionView);
-        for (final ProjectVersionComponentView projectVersionComponentView : bomComponents) {
-            if (projectVersionComponentView.getPolicyStatus().equals(PolicyStatusType.NOT_IN_VIOLATION)) {
-                continue;
+        final List<ProjectVersionComponentView> violatingComponents = projectBomService.getComponentsForProjectVersion(projectVersionView).stream()
+                                                                           .filter(component -> !component.getPolicyStatus().equals(PolicyStatusType.NOT_IN_VIOLATION))
+                                                                           .collect(Collectors.toList());
+
+        if (fetchThreads == 1 || violatingComponents.size() <= 1) {
+            for (final ProjectVersionComponentView projectVersionComponentView : violatingComponents) {
+                logPolicyViolations(projectVersionComponentView, componentPolicyRulesFetcher.fetchPolicyRules(projectVersionComponentView));
             }
+        } else {
+            fetchAndLogPolicyViolationsConcurrently(violatingComponents);
+        }
+    }
 
-            for (final ComponentPolicyRulesView componentPolicyRulesView : blackDuckService.getAllResponses(projectVersionComponentView, ProjectVersionComponentView.POLICY_RULES_LINK_RESPONSE)) {
-                String componentId = projectVersionComponentView.getComponentName();
-                if (StringUtils.isNotBlank(projectVersionComponentView.getComponentVersionName())) {
-                    componentId += ":" + projectVersionComponentView.getComponentVersionName();
+    // Rules are fetched on a bounded pool, but logged in BOM order. Only a small window of components is fetched ahead of the one being logged.
+    private void fetchAndLogPolicyViolationsConcurrently(final List<ProjectVersionComponentView> violatingComponents) throws IntegrationException {
+        final ExecutorService executorService = Executors.newFixedThreadPool(Math.min(fetchThreads, violatingComponents.size()));
+        final Deque<ProjectVersionComponentView> pendingComponents = new ArrayDeque<>();
+        final Deque<Future<List<ComponentPolicyRulesView>>> pendingRules = new ArrayDeque<>();
+        try {
+            for (final ProjectVersionComponentView projectVersionComponentView : violatingComponents) {
+                if (pendingRules.size() >= fetchThreads * 2) {
+                    logPolicyViolations(pendingComponents.removeFirst(), waitForPolicyRules(pendingRules.removeFirst()));
                 }
+                pendingComponents.addLast(projectVersionComponentView);
+                pendingRules.addLast(executorService.submit(() -> componentPolicyRulesFetcher.fetchPolicyRules(projectVersionComponentView)));
+            }
+            while (!pendingRules.isEmpty()) {
+                logPolicyViolations(pendingComponents.removeFirst(), waitForPolicyRules(pendingRules.removeFirst()));
+            }
+        } finally {
+            pendingRules.forEach(future -> future.cancel(true));
+            executorService.shutdownNow();
+        }
+    }
 
-                String policyRuleComponentVersionSuffix = ".";
-                if (StringUtils.isNotBlank(projectVersionComponentView.getComponentVersion())) {
-                    policyRuleComponentVersionSuffix = String.format(" (%s).", projectVersionComponentView.getComponentVersion());
-                }
-                logger.info(String.format("Policy rule \"%s\" was violated by component \"%s\"%s",
-                    componentPolicyRulesView.getName(),
-                    componentId,
-                    policyRuleComponentVersionSuffix
-                ));
-
-                String policyRuleSuffix = ".";
-                if (StringUtils.isNotBlank(componentPolicyRulesView.getDescription())) {
-                    policyRuleSuffix = String.format(" with description: %s", componentPolicyRulesView.getDescription());
-                }
+    private List<ComponentPolicyRulesView> waitForPolicyRules(final Future<List<ComponentPolicyRulesView>> policyRules) throws IntegrationException {
+        try {
+            return policyRules.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntegrationException("Interrupted while fetching policy rules.", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IntegrationException) {
+                throw (IntegrationException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IntegrationException("Failed to fetch policy rules.", cause);
+        }
+    }
 
-                logger.info(String.format("Policy rule \"%s\" has a severity type of %s%s",
-                    componentPolicyRulesView.getName(),
-                    componentPolicyRulesView.getSeverity().prettyPrint(),
-                    policyRuleSuffix
-                ));
+    private void logPolicyViolations(final ProjectVersionComponentView projectVersionComponentView, final List<ComponentPolicyRulesView> componentPolicyRulesViews) {
+        for (final ComponentPolicyRulesView componentPolicyRulesView : componentPolicyRulesViews) {
+            String componentId = projectVersionComponentView.getComponentName();
+            if (StringUtils.isNotBlank(projectVersionComponentView.getComponentVersionName())) {
+                componentId += ":" + projectVersionComponentView.getComponentVersionName();
+            }
 
+            String policyRuleComponentVersionSuffix = ".";
+            if (StringUtils.isNotBlank(projectVersionComponentView.getComponentVersion())) {
+                policyRuleComponentVersionSuffix = String.format(" (%s).", projectVersionComponentView.getComponentVersion());
             }
+            logger.info(String.format("Policy rule \"%s\" was violated by component \"%s\"%s",
+                componentPolicyRulesView.getName(),
+                componentId,
+                policyRuleComponentVersionSuffix
+            ));
+
+            String policyRuleSuffix = ".";
+            if (StringUtils.isNotBlank(componentPolicyRulesView.getDescription())) {
+                policyRuleSuffix = String.format(" with description: %s", componentPolicyRulesView.getDescription());
+            }
+
+            logger.info(String.format("Policy rule \"%s\" has a severity type of %s%s",
+                componentPolicyRulesView.getName(),
+                componentPolicyRulesView.getSeverity().prettyPrint(),
+                policyRuleSuffix
+            ));
         }
     }
 
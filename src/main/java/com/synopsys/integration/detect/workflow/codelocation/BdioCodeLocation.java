@@ -22,15 +22,25 @@
  */
 package com.synopsys.integration.detect.workflow.codelocation;
 
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
 public class BdioCodeLocation {
     private final String codeLocationName;
     private final String bdioName;
     private final DetectCodeLocation detectCodeLocation;
+    private final List<File> duplicateSourcePaths;
 
     public BdioCodeLocation(final DetectCodeLocation detectCodeLocation, String codeLocationName, final String bdioName) {
+        this(detectCodeLocation, codeLocationName, bdioName, Collections.emptyList());
+    }
+
+    public BdioCodeLocation(final DetectCodeLocation detectCodeLocation, String codeLocationName, final String bdioName, final List<File> duplicateSourcePaths) {
         this.codeLocationName = codeLocationName;
         this.bdioName = bdioName;
         this.detectCodeLocation = detectCodeLocation;
+        this.duplicateSourcePaths = duplicateSourcePaths;
     }
 
     public String getCodeLocationName() {
@@ -44,4 +54,9 @@ public class BdioCodeLocation {
     public DetectCodeLocation getDetectCodeLocation() {
         return detectCodeLocation;
     }
+
+    // The source paths of the code locations that had the same dependency graph and were collapsed into this one.
+    public List<File> getDuplicateSourcePaths() {
+        return duplicateSourcePaths;
+    }
 }
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -49,23 +50,39 @@ public class BdioCodeLocationCreator {
     private final CodeLocationNameManager codeLocationNameManager;
     private final DirectoryManager directoryManager;
     private final EventSystem eventSystem;
+    private final boolean collapseDuplicateGraphs;
+    private final DependencyGraphHasher dependencyGraphHasher = new DependencyGraphHasher();
 
     public BdioCodeLocationCreator(final CodeLocationNameManager codeLocationNameManager, final DirectoryManager directoryManager,
         final EventSystem eventSystem) {
+        this(codeLocationNameManager, directoryManager, eventSystem, false);
+    }
+
+    public BdioCodeLocationCreator(final CodeLocationNameManager codeLocationNameManager, final DirectoryManager directoryManager,
+        final EventSystem eventSystem, final boolean collapseDuplicateGraphs) {
         this.codeLocationNameManager = codeLocationNameManager;
         this.directoryManager = directoryManager;
         this.eventSystem = eventSystem;
+        this.collapseDuplicateGraphs = collapseDuplicateGraphs;
     }
 
     public BdioCodeLocationResult createFromDetectCodeLocations(final List<DetectCodeLocation> detectCodeLocations, String prefix, String suffix, final NameVersion projectNameVersion) throws DetectUserFriendlyException {
         final Set<DetectorType> failedBomToolGroups = new HashSet<>();
 
         final List<DetectCodeLocation> validDetectCodeLocations = findValidCodeLocations(detectCodeLocations);
-        final Map<DetectCodeLocation, String> codeLocationsAndNames = createCodeLocationNameMap(validDetectCodeLocations, directoryManager.getSourceDirectory(), projectNameVersion, prefix, suffix);
+        final Map<DetectCodeLocation, List<File>> duplicateSourcePaths = new HashMap<>();
+        final List<DetectCodeLocation> uniqueDetectCodeLocations;
+        if (collapseDuplicateGraphs) {
+            uniqueDetectCodeLocations = collapseDuplicateGraphs(validDetectCodeLocations, duplicateSourcePaths);
+        } else {
+            uniqueDetectCodeLocations = validDetectCodeLocations;
+        }
+        final Map<DetectCodeLocation, String> codeLocationsAndNames = createCodeLocationNameMap(uniqueDetectCodeLocations, directoryManager.getSourceDirectory(), projectNameVersion, prefix, suffix);
 
         final Map<String, List<DetectCodeLocation>> codeLocationsByName = seperateCodeLocationsByName(codeLocationsAndNames);
 
-        final List<BdioCodeLocation> bdioCodeLocations = createBdioCodeLocations(codeLocationsByName);
+        final List<BdioCodeLocation> bdioCodeLocations = createBdioCodeLocations(codeLocationsByName, duplicateSourcePaths);
+        logDuplicateSourcePaths(bdioCodeLocations);
 
         final BdioCodeLocationResult result = new BdioCodeLocationResult(bdioCodeLocations, failedBomToolGroups, codeLocationsAndNames);
         eventSystem.publishEvent(Event.CodeLocationsCalculated, result);
@@ -98,6 +115,45 @@ public class BdioCodeLocationCreator {
         return validCodeLocations;
     }
 
+    // Keeps the first of the code locations with the same external id and dependency graph, the source paths of the rest are recorded against it.
+    // The external id is part of the key because it becomes the project of the BDIO file, so code locations of different projects are never collapsed.
+    // Every empty graph is the same, so code locations without dependencies are never collapsed.
+    private List<DetectCodeLocation> collapseDuplicateGraphs(final List<DetectCodeLocation> codeLocations, final Map<DetectCodeLocation, List<File>> duplicateSourcePaths) {
+        final List<DetectCodeLocation> uniqueCodeLocations = new ArrayList<>();
+        final Map<String, DetectCodeLocation> codeLocationsByKey = new LinkedHashMap<>();
+        for (final DetectCodeLocation codeLocation : codeLocations) {
+            if (codeLocation.getDependencyGraph().getRootDependencies().isEmpty()) {
+                uniqueCodeLocations.add(codeLocation);
+                continue;
+            }
+            final String key = codeLocation.getExternalId().createBdioId().toString() + " " + dependencyGraphHasher.hash(codeLocation.getDependencyGraph());
+            final DetectCodeLocation original = codeLocationsByKey.get(key);
+            if (original == null) {
+                codeLocationsByKey.put(key, codeLocation);
+                uniqueCodeLocations.add(codeLocation);
+            } else {
+                logger.debug(String.format("Code location %s has the same external id and dependency graph as %s and will not be uploaded separately.", codeLocation.getSourcePath(), original.getSourcePath()));
+                duplicateSourcePaths.computeIfAbsent(original, key -> new ArrayList<>()).add(codeLocation.getSourcePath());
+            }
+        }
+
+        final int collapsed = codeLocations.size() - uniqueCodeLocations.size();
+        if (collapsed > 0) {
+            logger.info(String.format("Collapsed %d code locations with the same external id and dependency graph as another code location.", collapsed));
+        }
+        return uniqueCodeLocations;
+    }
+
+    private void logDuplicateSourcePaths(final List<BdioCodeLocation> bdioCodeLocations) {
+        for (final BdioCodeLocation bdioCodeLocation : bdioCodeLocations) {
+            if (!bdioCodeLocation.getDuplicateSourcePaths().isEmpty()) {
+                final List<String> sourcePaths = new ArrayList<>();
+                bdioCodeLocation.getDuplicateSourcePaths().forEach(sourcePath -> sourcePaths.add(sourcePath.getPath()));
+                logger.info(String.format("Code location %s also stands for the collapsed source paths: %s", bdioCodeLocation.getCodeLocationName(), String.join(", ", sourcePaths)));
+            }
+        }
+    }
+
     private Map<String, List<DetectCodeLocation>> seperateCodeLocationsByName(final Map<DetectCodeLocation, String> detectCodeLocationNameMap) {
         final Map<String, List<DetectCodeLocation>> codeLocationNameMap = new HashMap<>();
         for (final Map.Entry<DetectCodeLocation, String> detectCodeLocationEntry : detectCodeLocationNameMap.entrySet()) {
@@ -110,19 +166,20 @@ public class BdioCodeLocationCreator {
         return codeLocationNameMap;
     }
 
-    private List<BdioCodeLocation> createBdioCodeLocations(final Map<String, List<DetectCodeLocation>> codeLocationsByName) {
+    private List<BdioCodeLocation> createBdioCodeLocations(final Map<String, List<DetectCodeLocation>> codeLocationsByName, final Map<DetectCodeLocation, List<File>> duplicateSourcePaths) {
         final List<BdioCodeLocation> bdioCodeLocations = new ArrayList<>();
         for (final Map.Entry<String, List<DetectCodeLocation>> codeLocationEntry : codeLocationsByName.entrySet()) {
             final String codeLocationName = codeLocationEntry.getKey();
             final List<DetectCodeLocation> codeLocations = codeLocationEntry.getValue();
-            final List<BdioCodeLocation> transformedBdioCodeLocations = transformDetectCodeLocationsIntoBdioCodeLocations(codeLocations, codeLocationName);
+            final List<BdioCodeLocation> transformedBdioCodeLocations = transformDetectCodeLocationsIntoBdioCodeLocations(codeLocations, codeLocationName, duplicateSourcePaths);
             bdioCodeLocations.addAll(transformedBdioCodeLocations);
         }
 
         return bdioCodeLocations;
     }
 
-    private List<BdioCodeLocation> transformDetectCodeLocationsIntoBdioCodeLocations(final List<DetectCodeLocation> codeLocations, final String codeLocationName) {
+    private List<BdioCodeLocation> transformDetectCodeLocationsIntoBdioCodeLocations(final List<DetectCodeLocation> codeLocations, final String codeLocationName,
+        final Map<DetectCodeLocation, List<File>> duplicateSourcePaths) {
         final List<BdioCodeLocation> bdioCodeLocations;
         final IntegrationEscapeUtil integrationEscapeUtil = new IntegrationEscapeUtil();
 
@@ -131,13 +188,15 @@ public class BdioCodeLocationCreator {
             for (int i = 0; i < codeLocations.size(); i++) {
                 final DetectCodeLocation codeLocation = codeLocations.get(i);
                 final String newCodeLocationName = String.format("%s %s", codeLocationName, Integer.toString(i));
-                final BdioCodeLocation bdioCodeLocation = new BdioCodeLocation(codeLocation, newCodeLocationName, createBdioName(newCodeLocationName, integrationEscapeUtil));
+                final BdioCodeLocation bdioCodeLocation = new BdioCodeLocation(codeLocation, newCodeLocationName, createBdioName(newCodeLocationName, integrationEscapeUtil),
+                    duplicateSourcePaths.getOrDefault(codeLocation, Collections.emptyList()));
                 bdioCodeLocations.add(bdioCodeLocation);
 
             }
         } else if (codeLocations.size() == 1) {
             final DetectCodeLocation codeLocation = codeLocations.get(0);
-            final BdioCodeLocation bdioCodeLocation = new BdioCodeLocation(codeLocation, codeLocationName, createBdioName(codeLocationName, integrationEscapeUtil));
+            final BdioCodeLocation bdioCodeLocation = new BdioCodeLocation(codeLocation, codeLocationName, createBdioName(codeLocationName, integrationEscapeUtil),
+                duplicateSourcePaths.getOrDefault(codeLocation, Collections.emptyList()));
             bdioCodeLocations = Collections.singletonList(bdioCodeLocation);
         } else {
             logger.error("Created a code location name but no code locations.");
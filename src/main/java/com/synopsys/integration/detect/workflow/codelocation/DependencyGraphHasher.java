@@ -0,0 +1,95 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.codelocation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+// Hashes what a dependency graph would put in a BDIO file: every reachable dependency with its children, and the roots.
+// Each node is written as one line and the lines are sorted, so graphs built in a different order hash the same.
+public class DependencyGraphHasher {
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    public String hash(final DependencyGraph dependencyGraph) {
+        final List<String> lines = new ArrayList<>();
+        lines.add("ROOT " + String.join(" ", sortedIds(dependencyGraph.getRootDependencies())));
+
+        final Set<ExternalId> visited = new HashSet<>();
+        final Deque<Dependency> remaining = new ArrayDeque<>(dependencyGraph.getRootDependencies());
+        while (!remaining.isEmpty()) {
+            final Dependency dependency = remaining.pop();
+            if (!visited.add(dependency.getExternalId())) {
+                continue;
+            }
+            final Set<Dependency> children = dependencyGraph.getChildrenForParent(dependency);
+            lines.add(String.format("%s %s %s > %s", id(dependency), dependency.getName(), dependency.getVersion(), String.join(" ", sortedIds(children))));
+            remaining.addAll(children);
+        }
+        Collections.sort(lines);
+
+        final MessageDigest digest = createDigest();
+        for (final String line : lines) {
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+
+        final StringBuilder hex = new StringBuilder();
+        for (final byte hashByte : digest.digest()) {
+            hex.append(String.format("%02x", hashByte));
+        }
+        return hex.toString();
+    }
+
+    private List<String> sortedIds(final Set<Dependency> dependencies) {
+        final List<String> ids = new ArrayList<>(dependencies.size());
+        for (final Dependency dependency : dependencies) {
+            ids.add(id(dependency));
+        }
+        Collections.sort(ids);
+        return ids;
+    }
+
+    private String id(final Dependency dependency) {
+        return dependency.getExternalId().createBdioId().toString();
+    }
+
+    private MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(String.format("The %s algorithm is required to compare dependency graphs.", HASH_ALGORITHM), e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.diagnostic;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// Holds captured diagnostic content once per distinct content hash, and remembers which zip entries point at which stored file.
+// Captured files are copied into the store while they are hashed, so the stored content always matches its hash even when the original is rewritten later.
+public class DiagnosticCaptureStore {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path storeDirectory;
+    private final Map<String, Path> entries = new LinkedHashMap<>();
+    private int duplicates = 0;
+
+    public DiagnosticCaptureStore(final Path storeDirectory) {
+        this.storeDirectory = storeDirectory;
+    }
+
+    public void captureFile(final String entryName, final Path file) throws IOException {
+        final Path staged = storeDirectory.resolve(UUID.randomUUID().toString() + ".tmp");
+        try {
+            final String hash;
+            try (final InputStream inputStream = Files.newInputStream(file); final OutputStream outputStream = Files.newOutputStream(staged)) {
+                hash = hash(inputStream, outputStream);
+            }
+
+            final Path stored = storeDirectory.resolve(hash);
+            synchronized (this) {
+                if (Files.exists(stored)) {
+                    duplicates++;
+                } else {
+                    Files.move(staged, stored);
+                }
+                entries.put(entryName, stored);
+            }
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+    }
+
+    public void captureContent(final String entryName, final String content) throws IOException {
+        final byte[] bytes = content.getBytes(Charset.defaultCharset());
+        final String hash = hash(new ByteArrayInputStream(bytes), null);
+
+        final Path stored = storeDirectory.resolve(hash);
+        synchronized (this) {
+            if (Files.exists(stored)) {
+                duplicates++;
+            } else {
+                Files.write(stored, bytes);
+            }
+            entries.put(entryName, stored);
+        }
+    }
+
+    public synchronized Map<String, Path> getEntries() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(entries));
+    }
+
+    public synchronized int getDuplicateCount() {
+        return duplicates;
+    }
+
+    public Path getStoreDirectory() {
+        return storeDirectory;
+    }
+
+    // Hashes the stream, copying it to the output stream as it is read when one is given.
+    private String hash(final InputStream inputStream, final OutputStream outputStream) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IOException("Unable to hash diagnostic capture.", e);
+        }
+        try (final DigestInputStream digestInputStream = new DigestInputStream(inputStream, digest)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = digestInputStream.read(buffer)) != -1) {
+                if (outputStream != null) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+        }
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
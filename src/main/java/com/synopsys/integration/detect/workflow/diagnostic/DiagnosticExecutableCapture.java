@@ -41,21 +41,31 @@ public class DiagnosticExecutableCapture {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private int executables = 0;
     private final File executableDirectory;
+    private final DiagnosticCaptureStore captureStore;
     private final Map<Integer, String> indexToCommand = new HashMap<>();
 
-    public DiagnosticExecutableCapture(final File executableDirectory, final EventSystem eventSystem) {
+    public DiagnosticExecutableCapture(final File executableDirectory, final DiagnosticCaptureStore captureStore, final EventSystem eventSystem, final boolean asynchronous) {
         this.executableDirectory = executableDirectory;
-        eventSystem.registerListener(Event.Executable, this::executableFinished);
+        this.captureStore = captureStore;
+        if (asynchronous) {
+            eventSystem.registerAsynchronousListener(Event.Executable, this::executableFinished, EventSystem.DEFAULT_QUEUE_CAPACITY);
+        } else {
+            eventSystem.registerListener(Event.Executable, this::executableFinished);
+        }
     }
 
     private void executableFinished(final ExecutableOutput executableOutput) {
-        final File errorOut = new File(executableDirectory, "EXE-" + executables + "-ERR.xout");
-        final File standardOut = new File(executableDirectory, "EXE-" + executables + "-STD.xout");
+        final String errorOut = executableDirectory.getName() + "/EXE-" + executables + "-ERR.xout";
+        final String standardOut = executableDirectory.getName() + "/EXE-" + executables + "-STD.xout";
         indexToCommand.put(executables, executableOutput.getCommandDescription());
 
         try {
-            FileUtils.writeStringToFile(errorOut, executableOutput.getErrorOutput(), Charset.defaultCharset());
-            FileUtils.writeStringToFile(standardOut, executableOutput.getStandardOutput(), Charset.defaultCharset());
+            captureStore.captureContent(errorOut, executableOutput.getErrorOutput());
+            if (executableOutput.isStandardOutputTruncated()) {
+                captureStore.captureContent(standardOut, "[Truncated: only the last lines of the streamed standard output were kept.]" + System.lineSeparator() + executableOutput.getStandardOutput());
+            } else {
+                captureStore.captureContent(standardOut, executableOutput.getStandardOutput());
+            }
         } catch (final IOException e) {
             logger.error("Failed to capture executable output.", e);
         }
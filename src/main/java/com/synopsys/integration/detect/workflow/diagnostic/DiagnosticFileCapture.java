@@ -40,19 +40,25 @@ public class DiagnosticFileCapture {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private int files = 0;
     private final File fileDirectory;
+    private final DiagnosticCaptureStore captureStore;
     private final Map<Integer, String> fileNames = new HashMap<>();
 
-    public DiagnosticFileCapture(final File fileDirectory, final EventSystem eventSystem) {
+    public DiagnosticFileCapture(final File fileDirectory, final DiagnosticCaptureStore captureStore, final EventSystem eventSystem, final boolean asynchronous) {
         this.fileDirectory = fileDirectory;
-        eventSystem.registerListener(Event.CustomerFileOfInterest, this::fileFound);
+        this.captureStore = captureStore;
+        if (asynchronous) {
+            eventSystem.registerAsynchronousListener(Event.CustomerFileOfInterest, this::fileFound, EventSystem.DEFAULT_QUEUE_CAPACITY);
+        } else {
+            eventSystem.registerListener(Event.CustomerFileOfInterest, this::fileFound);
+        }
     }
 
     private void fileFound(final File foundFile) {
-        final File savedFile = new File(fileDirectory, "FILE-" + files + "-" + foundFile.getName());
+        final String entryName = fileDirectory.getName() + "/FILE-" + files + "-" + foundFile.getName();
         fileNames.put(files, foundFile.toString());
 
         try {
-            FileUtils.copyFile(foundFile, savedFile);
+            captureStore.captureFile(entryName, foundFile.toPath());
             logger.info("Saved file to diagnostics zip: " + foundFile.toString());
         } catch (final IOException e) {
             logger.error("Failed to copy file of interest.", e);
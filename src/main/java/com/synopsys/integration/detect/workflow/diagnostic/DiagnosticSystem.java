@@ -46,22 +46,24 @@ public class DiagnosticSystem {
     private DiagnosticLogSystem diagnosticLogSystem;
     private DiagnosticExecutableCapture diagnosticExecutableCapture;
     private DiagnosticFileCapture diagnosticFileCapture;
+    private DiagnosticCaptureStore diagnosticCaptureStore;
     private final DetectRun detectRun;
     private final DetectInfo detectInfo;
     private final DirectoryManager directoryManager;
     private final EventSystem eventSystem;
 
-    public DiagnosticSystem(final boolean isExtendedMode, final PropertyConfiguration propertyConfiguration, final DetectRun detectRun, final DetectInfo detectInfo, final DirectoryManager directoryManager, final EventSystem eventSystem) {
+    public DiagnosticSystem(final boolean isExtendedMode, final boolean isAsynchronousCapture, final PropertyConfiguration propertyConfiguration, final DetectRun detectRun, final DetectInfo detectInfo, final DirectoryManager directoryManager,
+        final EventSystem eventSystem) {
         this.propertyConfiguration = propertyConfiguration;
         this.detectRun = detectRun;
         this.detectInfo = detectInfo;
         this.directoryManager = directoryManager;
         this.eventSystem = eventSystem;
 
-        init(isExtendedMode);
+        init(isExtendedMode, isAsynchronousCapture);
     }
 
-    private void init(final boolean isExtendedMode) {
+    private void init(final boolean isExtendedMode, final boolean isAsynchronousCapture) {
         System.out.println();
         System.out.println("++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++");
         System.out.println("Diagnostic mode on.");
@@ -77,9 +79,10 @@ public class DiagnosticSystem {
         try {
             diagnosticReportHandler = new DiagnosticReportHandler(directoryManager.getReportOutputDirectory(), detectRun.getRunId(), eventSystem);
             diagnosticLogSystem = new DiagnosticLogSystem(directoryManager.getLogOutputDirectory(), eventSystem);
-            diagnosticExecutableCapture = new DiagnosticExecutableCapture(directoryManager.getExecutableOutputDirectory(), eventSystem);
+            diagnosticCaptureStore = new DiagnosticCaptureStore(directoryManager.getDiagnosticCaptureDirectory().toPath());
+            diagnosticExecutableCapture = new DiagnosticExecutableCapture(directoryManager.getExecutableOutputDirectory(), diagnosticCaptureStore, eventSystem, isAsynchronousCapture);
             if (isExtendedMode) {
-                diagnosticFileCapture = new DiagnosticFileCapture(directoryManager.getRelevantOutputDirectory(), eventSystem);
+                diagnosticFileCapture = new DiagnosticFileCapture(directoryManager.getRelevantOutputDirectory(), diagnosticCaptureStore, eventSystem, isAsynchronousCapture);
             }
         } catch (final Exception e) {
             logger.error("Failed to process.", e);
@@ -101,6 +104,9 @@ public class DiagnosticSystem {
     public void finish() {
         logger.info("Finishing diagnostic mode.");
 
+        logger.info("Waiting for captures to finish.");
+        eventSystem.flush();
+
         try {
             logger.info("Finishing reports.");
             diagnosticReportHandler.finish();
@@ -150,7 +156,8 @@ public class DiagnosticSystem {
         final List<File> directoriesToCompress = new ArrayList<>();
         directoriesToCompress.add(directoryManager.getRunHomeDirectory());
 
+        logger.debug("Diagnostic capture skipped " + diagnosticCaptureStore.getDuplicateCount() + " duplicate files.");
         final DiagnosticZipCreator zipper = new DiagnosticZipCreator();
-        return zipper.createDiagnosticZip(detectRun.getRunId(), directoryManager.getRunsOutputDirectory(), directoriesToCompress);
+        return zipper.createDiagnosticZip(detectRun.getRunId(), directoryManager.getRunsOutputDirectory(), directoriesToCompress, diagnosticCaptureStore);
     }
 }
@@ -23,7 +23,6 @@
 package com.synopsys.integration.detect.workflow.diagnostic;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -31,30 +30,33 @@ import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.detect.util.StreamingZipWriter;
+
 public class DiagnosticZipCreator {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    public boolean createDiagnosticZip(final String runId, final File outputDirectory, final List<File> compressList) {
+    public boolean createDiagnosticZip(final String runId, final File outputDirectory, final List<File> compressList, final DiagnosticCaptureStore captureStore) {
         try {
             final String zipPath = "detect-run-" + runId + ".zip";
             final File zip = new File(outputDirectory, zipPath);
             logger.info("Diagnostics zip location: " + zip.toPath());
-            try (FileOutputStream fileStream = new FileOutputStream(zip)) {
-                try (ZipOutputStream outputStream = new ZipOutputStream(fileStream)) {
-                    for (final File file : compressList) {
-                        compress(outputStream, outputDirectory.toPath(), file.toPath(), runId);
-                    }
-                    logger.info("Diagnostics file created at: " + zip.getCanonicalPath());
-                }
+            final Map<String, Path> entries = new LinkedHashMap<>();
+            for (final File file : compressList) {
+                collectEntries(entries, outputDirectory.toPath(), file.toPath(), runId, captureStore.getStoreDirectory());
             }
+            // Captured files are read straight from the store, so duplicates are only held on disk once.
+            entries.putAll(captureStore.getEntries());
+            // A file that vanished or cannot be read is left out rather than losing the whole zip.
+            new StreamingZipWriter(1, true).zip(zip, entries);
+            logger.info("Diagnostics file created at: " + zip.getCanonicalPath());
             return true;
         } catch (final Exception e) {
             logger.error("Failed to create zip.", e);
@@ -83,23 +85,30 @@ public class DiagnosticZipCreator {
         }
     }
 
-    public void compress(final ZipOutputStream outputStream, final Path sourceDir, final Path toCompress, final String removePiece) throws IOException {
+    public void collectEntries(final Map<String, Path> entries, final Path sourceDir, final Path toCompress, final String removePiece, final Path skipDirectory) throws IOException {
         Files.walkFileTree(toCompress, new SimpleFileVisitor<Path>() {
             @Override
-            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
-                try {
-                    final Path targetFile = sourceDir.relativize(file);
-                    final String target = toZipEntryName(targetFile, removePiece);
-                    logger.debug("Adding file to zip: " + target);
-                    outputStream.putNextEntry(new ZipEntry(target));
-                    final byte[] bytes = Files.readAllBytes(file);
-                    outputStream.write(bytes, 0, bytes.length);
-                    outputStream.closeEntry();
-                } catch (final IOException e) {
-                    logger.error("Failed to write to zip.", e);
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attributes) {
+                if (dir.equals(skipDirectory)) {
+                    return FileVisitResult.SKIP_SUBTREE;
                 }
                 return FileVisitResult.CONTINUE;
             }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+                final Path targetFile = sourceDir.relativize(file);
+                final String target = toZipEntryName(targetFile, removePiece);
+                logger.debug("Adding file to zip: " + target);
+                entries.put(target, file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+                logger.error(String.format("Failed to add %s to zip, it will be skipped.", file), e);
+                return FileVisitResult.CONTINUE;
+            }
         });
     }
 }
@@ -0,0 +1,140 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.event;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Delivers on a dedicated thread through a bounded queue. When the queue is full the publisher waits, so a slow listener applies backpressure instead of growing the heap.
+class AsynchronousEventSubscription implements EventSubscription {
+    private static final Runnable STOP = () -> {};
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final EventListener listener;
+    private final BlockingQueue<Runnable> deliveries;
+    private final Thread deliveryThread;
+    // Publishers check stopped and queue under the read lock and shutdown stops under the write lock, so nothing can be queued behind STOP.
+    private final ReadWriteLock stopLock = new ReentrantReadWriteLock();
+    private volatile boolean stopped = false;
+
+    AsynchronousEventSubscription(final EventListener listener, final int queueCapacity, final String threadName) {
+        this.listener = listener;
+        this.deliveries = new LinkedBlockingQueue<>(queueCapacity);
+        this.deliveryThread = new Thread(this::deliverQueued, threadName);
+        this.deliveryThread.setDaemon(true);
+        this.deliveryThread.start();
+    }
+
+    @Override
+    public void deliver(final Object payload) {
+        if (Thread.currentThread() == deliveryThread) {
+            // The listener published to itself, waiting on its own queue would never finish.
+            listener.eventOccured(payload);
+            return;
+        }
+        enqueue(() -> listener.eventOccured(payload));
+    }
+
+    @Override
+    public boolean isFor(final EventListener listener) {
+        return this.listener.equals(listener);
+    }
+
+    @Override
+    public void flush() throws InterruptedException {
+        if (Thread.currentThread() == deliveryThread) {
+            return;
+        }
+        final CountDownLatch flushed = new CountDownLatch(1);
+        stopLock.readLock().lock();
+        try {
+            if (stopped) {
+                return;
+            }
+            deliveries.put(flushed::countDown);
+        } finally {
+            stopLock.readLock().unlock();
+        }
+        flushed.await();
+    }
+
+    @Override
+    public void shutdown() throws InterruptedException {
+        stopLock.writeLock().lock();
+        try {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            deliveries.put(STOP);
+        } finally {
+            stopLock.writeLock().unlock();
+        }
+        deliveryThread.join();
+    }
+
+    private void enqueue(final Runnable delivery) {
+        boolean queued = false;
+        stopLock.readLock().lock();
+        try {
+            if (!stopped) {
+                deliveries.put(delivery);
+                queued = true;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug("Interrupted while queueing an event, delivering it directly.");
+        } finally {
+            stopLock.readLock().unlock();
+        }
+        if (!queued) {
+            delivery.run();
+        }
+    }
+
+    private void deliverQueued() {
+        while (true) {
+            final Runnable delivery;
+            try {
+                delivery = deliveries.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (delivery == STOP) {
+                return;
+            }
+            try {
+                delivery.run();
+            } catch (final RuntimeException e) {
+                logger.error("An event listener failed.", e);
+            }
+        }
+    }
+}
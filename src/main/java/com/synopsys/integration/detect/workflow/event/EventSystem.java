@@ -22,36 +22,80 @@
  */
 package com.synopsys.integration.detect.workflow.event;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class EventSystem {
-    private final Map<EventType, List<EventListener>> eventListenerMap = new HashMap<>();
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Map<EventType, List<EventSubscription>> eventSubscriptionMap = new ConcurrentHashMap<>();
+    private final List<EventSubscription> allSubscriptions = new CopyOnWriteArrayList<>();
+    private final Object synchronousDeliveryLock = new Object();
 
     public <T> void publishEvent(final EventType<T> event, final T payload) {
-        for (final EventListener listener : safelyGetListeners(event)) {
-            listener.eventOccured(payload);
+        for (final EventSubscription subscription : eventSubscriptionMap.getOrDefault(event, Collections.emptyList())) {
+            subscription.deliver(payload);
         }
     }
 
     public <T> void registerListener(final EventType<T> event, final EventListener<T> listener) {
-        safelyGetListeners(event).add(listener);
+        addSubscription(event, new SynchronousEventSubscription(listener, synchronousDeliveryLock));
+    }
+
+    // For listeners that do heavy work (such as copying files) and do not need to finish before the publisher continues.
+    public <T> void registerAsynchronousListener(final EventType<T> event, final EventListener<T> listener, final int queueCapacity) {
+        addSubscription(event, new AsynchronousEventSubscription(listener, queueCapacity, "detect-event-" + allSubscriptions.size()));
     }
 
     public <T> void unregisterListener(final EventType<T> event, final EventListener<T> listener) {
-        safelyGetListeners(event).remove(listener);
+        final List<EventSubscription> subscriptions = eventSubscriptionMap.getOrDefault(event, Collections.emptyList());
+        for (final EventSubscription subscription : subscriptions) {
+            if (subscription.isFor(listener)) {
+                subscriptions.remove(subscription);
+                allSubscriptions.remove(subscription);
+                shutdownSubscription(subscription);
+            }
+        }
+    }
+
+    // Waits for every asynchronous listener to process the events published so far.
+    public void flush() {
+        for (final EventSubscription subscription : allSubscriptions) {
+            try {
+                subscription.flush();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while waiting for event listeners to finish.");
+                return;
+            }
+        }
+    }
+
+    // Delivers everything still queued and stops the asynchronous listener threads. Events published afterwards are delivered on the publishing thread.
+    public void shutdown() {
+        for (final EventSubscription subscription : allSubscriptions) {
+            shutdownSubscription(subscription);
+        }
+    }
+
+    private void addSubscription(final EventType event, final EventSubscription subscription) {
+        eventSubscriptionMap.computeIfAbsent(event, key -> new CopyOnWriteArrayList<>()).add(subscription);
+        allSubscriptions.add(subscription);
     }
 
-    private List<EventListener> safelyGetListeners(final EventType event) {
-        final List<EventListener> listeners;
-        if (eventListenerMap.containsKey(event)) {
-            listeners = eventListenerMap.get(event);
-        } else {
-            listeners = new ArrayList<>();
-            eventListenerMap.put(event, listeners);
+    private void shutdownSubscription(final EventSubscription subscription) {
+        try {
+            subscription.shutdown();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for an event listener to finish.");
         }
-        return listeners;
     }
 }
@@ -0,0 +1,56 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.event;
+
+// Delivers on the publishing thread. All synchronous deliveries share one lock so listeners never see events from two threads at once.
+class SynchronousEventSubscription implements EventSubscription {
+    private final EventListener listener;
+    private final Object deliveryLock;
+
+    SynchronousEventSubscription(final EventListener listener, final Object deliveryLock) {
+        this.listener = listener;
+        this.deliveryLock = deliveryLock;
+    }
+
+    @Override
+    public void deliver(final Object payload) {
+        synchronized (deliveryLock) {
+            listener.eventOccured(payload);
+        }
+    }
+
+    @Override
+    public boolean isFor(final EventListener listener) {
+        return this.listener.equals(listener);
+    }
+
+    @Override
+    public void flush() {
+        // Nothing is ever pending.
+    }
+
+    @Override
+    public void shutdown() {
+        // Nothing to stop.
+    }
+}
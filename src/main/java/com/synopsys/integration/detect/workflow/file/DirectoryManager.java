@@ -56,6 +56,7 @@ public class DirectoryManager {
     private enum RunDirectory {
         BDIO("bdio"),
         BINARY("binary"),
+        DIAGNOSTIC_CAPTURE("captures"),
         EXTRACTION("extractions"),
         LOG("logs"),
         EXECUTABLES("executables"),
@@ -141,7 +142,7 @@ public class DirectoryManager {
         return userHome;
     }
 
-    public File getExtractionOutputDirectory(final ExtractionId extractionId) {
+    public synchronized File getExtractionOutputDirectory(final ExtractionId extractionId) {
         if (extractionDirectories.containsKey(extractionId)) {
             return extractionDirectories.get(extractionId);
         } else {
@@ -193,6 +194,10 @@ public class DirectoryManager {
         return getRunDirectory(RunDirectory.EXECUTABLES);
     }
 
+    public File getDiagnosticCaptureDirectory() {
+        return getRunDirectory(RunDirectory.DIAGNOSTIC_CAPTURE);
+    }
+
     public File getRunHomeDirectory() {
         return runDirectory;
     }
@@ -77,6 +77,14 @@ public class ProjectNameVersionDecider {
         return new NameVersion(decidedProjectName, decidedProjectVersionName);
     }
 
+    // Only possible when the user has provided both the name and the version, which will always win over any tool's suggestion.
+    public Optional<NameVersion> decideProjectNameVersionFromOverrides() {
+        if (StringUtils.isNotBlank(projectVersionOptions.overrideProjectName) && StringUtils.isNotBlank(projectVersionOptions.overrideProjectVersionName)) {
+            return Optional.of(new NameVersion(projectVersionOptions.overrideProjectName, projectVersionOptions.overrideProjectVersionName));
+        }
+        return Optional.empty();
+    }
+
     private Optional<DetectToolProjectInfo> decideToolProjectInfo(List<DetectTool> preferredDetectTools, List<DetectToolProjectInfo> detectToolProjectInfo) {
         Optional<DetectToolProjectInfo> chosenTool = Optional.empty();
 
@@ -22,9 +22,8 @@
  */
 package com.synopsys.integration.detect.workflow.report;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -61,16 +60,15 @@ public class CodeLocationDependencyCounter {
     }
 
     private int countCodeLocationDependencies(final DetectCodeLocation codeLocation) {
-        return countDependencies(new ArrayList<>(), codeLocation.getDependencyGraph().getRootDependencyExternalIds(), codeLocation.getDependencyGraph());
+        return countDependencies(new HashSet<>(), codeLocation.getDependencyGraph().getRootDependencyExternalIds(), codeLocation.getDependencyGraph());
     }
 
-    private int countDependencies(final List<ExternalId> processed, final Set<ExternalId> remaining, final DependencyGraph graph) {
+    private int countDependencies(final Set<ExternalId> processed, final Set<ExternalId> remaining, final DependencyGraph graph) {
         int sum = 0;
         for (final ExternalId dependency : remaining) {
-            if (processed.contains(dependency)) {
+            if (!processed.add(dependency)) {
                 continue;
             }
-            processed.add(dependency);
             sum += 1 + countDependencies(processed, graph.getChildrenExternalIdsForParent(dependency), graph);
         }
         return sum;
@@ -0,0 +1,135 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.lifecycle.run;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.configuration.config.PropertyConfiguration;
+import com.synopsys.integration.detect.tool.polaris.PolarisTool;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.status.Status;
+import com.synopsys.integration.detect.workflow.status.StatusType;
+import com.synopsys.integration.detectable.detectable.executable.impl.SimpleExecutableRunner;
+import com.synopsys.integration.log.IntLogger;
+import com.synopsys.integration.log.Slf4jIntLogger;
+
+public class ConcurrentPolarisRunTest {
+    private final IntLogger logger = new Slf4jIntLogger(LoggerFactory.getLogger(ConcurrentPolarisRunTest.class));
+
+    private final EventSystem eventSystem = new EventSystem();
+    private final List<Status> statuses = new ArrayList<>();
+
+    @BeforeEach
+    public void registerStatusListener() {
+        eventSystem.registerListener(Event.StatusSummary, statuses::add);
+    }
+
+    @Test
+    public void polarisOverlapsWithBlackDuckTools(@TempDir Path tempDir) throws Exception {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS, "The fake Polaris executable is a shell script.");
+
+        // The fake CLI only exits once the "Black Duck tools" have finished, so a serial run could never complete.
+        File blackDuckFinished = tempDir.resolve("blackduck-finished").toFile();
+        File fakePolaris = createFakePolaris(tempDir, "for i in $(seq 1 300); do [ -f \"$BLACKDUCK_FINISHED\" ] && exit 0; sleep 0.1; done\nexit 2");
+        Map<String, String> environmentVariables = new HashMap<>();
+        environmentVariables.put("BLACKDUCK_FINISHED", blackDuckFinished.getAbsolutePath());
+
+        ConcurrentPolarisRun concurrentPolarisRun = ConcurrentPolarisRun.start(() -> createPolarisTool().runPolarisCli(logger, tempDir.toFile(), fakePolaris.getAbsolutePath(), environmentVariables));
+
+        assertFalse(concurrentPolarisRun.isDone(), "Polaris should still be running while the Black Duck tools run.");
+        FileUtils.touch(blackDuckFinished);
+        concurrentPolarisRun.waitForCompletion();
+
+        assertTrue(concurrentPolarisRun.isDone());
+        assertEquals(1, statuses.size());
+        assertEquals(StatusType.SUCCESS, statuses.get(0).getStatusType());
+    }
+
+    @Test
+    public void polarisFailureIsReportedAfterJoin(@TempDir Path tempDir) throws Exception {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS, "The fake Polaris executable is a shell script.");
+
+        File fakePolaris = createFakePolaris(tempDir, "exit 3");
+
+        ConcurrentPolarisRun concurrentPolarisRun = ConcurrentPolarisRun.start(() -> createPolarisTool().runPolarisCli(logger, tempDir.toFile(), fakePolaris.getAbsolutePath(), new HashMap<>()));
+        concurrentPolarisRun.waitForCompletion();
+
+        assertEquals(1, statuses.size());
+        assertEquals(StatusType.FAILURE, statuses.get(0).getStatusType());
+    }
+
+    @Test
+    public void unexpectedPolarisErrorIsRethrownOnJoin() {
+        ConcurrentPolarisRun concurrentPolarisRun = ConcurrentPolarisRun.start(() -> {
+            throw new IllegalStateException("polaris download failed");
+        });
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, concurrentPolarisRun::waitForCompletion);
+        assertEquals("polaris download failed", exception.getMessage());
+    }
+
+    @Test
+    public void quietJoinDoesNotReplaceTheOriginalError() {
+        ConcurrentPolarisRun concurrentPolarisRun = ConcurrentPolarisRun.start(() -> {
+            throw new IllegalStateException("polaris download failed");
+        });
+
+        concurrentPolarisRun.waitForCompletionQuietly();
+
+        assertTrue(concurrentPolarisRun.isDone());
+    }
+
+    private PolarisTool createPolarisTool() {
+        PropertyConfiguration detectConfiguration = Mockito.mock(PropertyConfiguration.class);
+        return new PolarisTool(eventSystem, null, new SimpleExecutableRunner(), detectConfiguration, null);
+    }
+
+    private File createFakePolaris(Path tempDir, String script) throws IOException {
+        File fakePolaris = tempDir.resolve("polaris.sh").toFile();
+        FileUtils.writeStringToFile(fakePolaris, "#!/bin/sh\n" + script + "\n", StandardCharsets.UTF_8);
+        assertTrue(fakePolaris.setExecutable(true));
+        return fakePolaris;
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.lifecycle.run;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.blackduck.codelocation.Result;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatch;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchOutput;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchRunner;
+import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.exitcode.ExitCodeType;
+import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureScanner;
+import com.synopsys.integration.detect.tool.signaturescanner.BlackDuckSignatureScannerOptions;
+import com.synopsys.integration.detect.tool.signaturescanner.SignatureScannerToolResult;
+import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.util.NameVersion;
+
+public class ConcurrentSignatureScanTest {
+    private static final NameVersion PROJECT_NAME_VERSION = new NameVersion("project", "version");
+
+    @Test
+    public void signatureScanOverlapsWithDetectors() throws Exception {
+        CountDownLatch scanStarted = new CountDownLatch(1);
+        CountDownLatch detectorsFinished = new CountDownLatch(1);
+
+        ScanBatchRunner fakeScanBatchRunner = Mockito.mock(ScanBatchRunner.class);
+        Mockito.when(fakeScanBatchRunner.executeScans(Mockito.any(ScanBatch.class))).thenAnswer(invocation -> {
+            scanStarted.countDown();
+            detectorsFinished.await(30, TimeUnit.SECONDS);
+            return new ScanBatchOutput(Collections.emptyList());
+        });
+
+        EventSystem eventSystem = Mockito.mock(EventSystem.class);
+        File sourceDirectory = Files.createTempDirectory("concurrent-scan-source").toFile();
+        BlackDuckSignatureScanner blackDuckSignatureScanner = createScanner(sourceDirectory, eventSystem, fakeScanBatchRunner);
+
+        ConcurrentSignatureScan concurrentSignatureScan = ConcurrentSignatureScan.start(PROJECT_NAME_VERSION, null,
+            () -> SignatureScannerToolResult.createOfflineResult(blackDuckSignatureScanner.performScanActions(PROJECT_NAME_VERSION, sourceDirectory, null)));
+
+        // The detectors are still "extracting" until the latch is released, so the scan must already be running.
+        assertTrue(scanStarted.await(30, TimeUnit.SECONDS), "The signature scan should start before the detectors finish.");
+        detectorsFinished.countDown();
+
+        SignatureScannerToolResult result = concurrentSignatureScan.waitForResult();
+        concurrentSignatureScan.cancel();
+
+        assertEquals(Result.SUCCESS, result.getResult());
+        assertFalse(result.getCreationData().isPresent());
+        assertFalse(concurrentSignatureScan.getProjectVersionWrapper().isPresent());
+        Mockito.verify(fakeScanBatchRunner, Mockito.times(1)).executeScans(Mockito.any(ScanBatch.class));
+        // The fake runner produced no output for the source directory, so the report must still flag the target.
+        Mockito.verify(eventSystem).publishEvent(Mockito.eq(Event.Issue), Mockito.any());
+        Mockito.verify(eventSystem).publishEvent(Mockito.eq(Event.StatusSummary), Mockito.any());
+    }
+
+    @Test
+    public void unexpectedFailureBecomesFailureResult() throws DetectUserFriendlyException {
+        ConcurrentSignatureScan concurrentSignatureScan = ConcurrentSignatureScan.start(PROJECT_NAME_VERSION, null, () -> {
+            throw new IOException("Scanner could not be installed.");
+        });
+
+        SignatureScannerToolResult result = concurrentSignatureScan.waitForResult();
+
+        assertEquals(Result.FAILURE, result.getResult());
+    }
+
+    @Test
+    public void userFriendlyFailureIsRethrown() {
+        ConcurrentSignatureScan concurrentSignatureScan = ConcurrentSignatureScan.start(PROJECT_NAME_VERSION, null, () -> {
+            throw new DetectUserFriendlyException("Bad scanner configuration.", ExitCodeType.FAILURE_CONFIGURATION);
+        });
+
+        DetectUserFriendlyException exception = assertThrows(DetectUserFriendlyException.class, concurrentSignatureScan::waitForResult);
+        assertEquals(ExitCodeType.FAILURE_CONFIGURATION, exception.getExitCodeType());
+    }
+
+    private BlackDuckSignatureScanner createScanner(File sourceDirectory, EventSystem eventSystem, ScanBatchRunner scanBatchRunner) throws IOException {
+        DirectoryManager directoryManager = Mockito.mock(DirectoryManager.class);
+        Mockito.when(directoryManager.getSourceDirectory()).thenReturn(sourceDirectory);
+        Mockito.when(directoryManager.getScanOutputDirectory()).thenReturn(Files.createTempDirectory("concurrent-scan-output").toFile());
+
+        CodeLocationNameManager codeLocationNameManager = Mockito.mock(CodeLocationNameManager.class);
+        Mockito.when(codeLocationNameManager.createScanCodeLocationName(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn("project/version scan");
+
+        BlackDuckSignatureScannerOptions options = new BlackDuckSignatureScannerOptions(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), null, null, null, 1024, 1, true, null, null, null, null, null, 1, null,
+            false, false, 0);
+
+        return new BlackDuckSignatureScanner(directoryManager, codeLocationNameManager, options, eventSystem, scanBatchRunner, null);
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.lifecycle.run;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detect.DetectTool;
+import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.exitcode.ExitCodeType;
+import com.synopsys.integration.detect.workflow.project.DetectToolProjectInfo;
+import com.synopsys.integration.util.NameVersion;
+
+public class UniversalToolRunnerTest {
+    @Test
+    public void concurrentToolsOverlapAndMergeInToolOrder() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        UniversalToolRunner.UniversalTool docker = toolRunResult -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(30, TimeUnit.SECONDS), "The detector tool should run while the docker tool is running.");
+            toolRunResult.addToolNameVersion(DetectTool.DOCKER, new NameVersion("docker", "1"));
+            return false;
+        };
+        UniversalToolRunner.UniversalTool detector = toolRunResult -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(30, TimeUnit.SECONDS), "The docker tool should run while the detector tool is running.");
+            toolRunResult.addToolNameVersion(DetectTool.DETECTOR, new NameVersion("detector", "1"));
+            return true;
+        };
+
+        RunResult runResult = new RunResult();
+        boolean anythingFailed = new UniversalToolRunner().runTools(Arrays.asList(docker, detector), runResult, true);
+
+        assertTrue(anythingFailed);
+        List<DetectTool> tools = runResult.getDetectToolProjectInfo().stream().map(DetectToolProjectInfo::getDetectTool).collect(Collectors.toList());
+        assertEquals(Arrays.asList(DetectTool.DOCKER, DetectTool.DETECTOR), tools);
+    }
+
+    @Test
+    public void serialToolsShareTheRunResult() throws Exception {
+        UniversalToolRunner.UniversalTool bazel = toolRunResult -> {
+            toolRunResult.addToolNameVersion(DetectTool.BAZEL, new NameVersion("bazel", "1"));
+            return false;
+        };
+        UniversalToolRunner.UniversalTool detector = toolRunResult -> {
+            assertEquals(1, toolRunResult.getDetectToolProjectInfo().size());
+            return false;
+        };
+
+        RunResult runResult = new RunResult();
+        assertFalse(new UniversalToolRunner().runTools(Arrays.asList(bazel, detector), runResult, false));
+        assertEquals(1, runResult.getDetectToolProjectInfo().size());
+    }
+
+    @Test
+    public void concurrentUserFriendlyFailureIsRethrown() {
+        UniversalToolRunner.UniversalTool docker = toolRunResult -> {
+            throw new DetectUserFriendlyException("Docker is not supported on this platform.", ExitCodeType.FAILURE_CONFIGURATION);
+        };
+        UniversalToolRunner.UniversalTool detector = toolRunResult -> false;
+
+        DetectUserFriendlyException exception = assertThrows(DetectUserFriendlyException.class, () -> new UniversalToolRunner().runTools(Arrays.asList(docker, detector), new RunResult(), true));
+        assertEquals(ExitCodeType.FAILURE_CONFIGURATION, exception.getExitCodeType());
+    }
+}
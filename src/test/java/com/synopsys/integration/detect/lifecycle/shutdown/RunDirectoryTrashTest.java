@@ -0,0 +1,113 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.lifecycle.shutdown;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RunDirectoryTrashTest {
+    @Test
+    public void wholeRunDirectoryIsRenamedWhenNothingIsSkipped(@TempDir Path outputDirectory) throws IOException {
+        File runDirectory = createRun(outputDirectory);
+        RunDirectoryTrash runDirectoryTrash = new RunDirectoryTrash(runDirectory.getParentFile());
+
+        File trashEntry = runDirectoryTrash.moveToTrash(runDirectory, Collections.emptySet());
+
+        assertFalse(runDirectory.exists());
+        assertTrue(new File(trashEntry, "extractions/gradle/report.txt").isFile());
+        assertEquals(new File(outputDirectory.toFile(), RunDirectoryTrash.TRASH_DIRECTORY_NAME), trashEntry.getParentFile());
+    }
+
+    @Test
+    public void skippedOutputsStayInTheRunDirectory(@TempDir Path outputDirectory) throws IOException {
+        File runDirectory = createRun(outputDirectory);
+        File scanDirectory = new File(runDirectory, "scan");
+        File bdioDirectory = new File(runDirectory, "bdio");
+        File airGapZip = new File(runDirectory, "detect-air-gap.zip");
+        RunDirectoryTrash runDirectoryTrash = new RunDirectoryTrash(runDirectory.getParentFile());
+
+        File trashEntry = runDirectoryTrash.moveToTrash(runDirectory, new HashSet<>(Arrays.asList(scanDirectory, bdioDirectory, airGapZip)));
+
+        assertTrue(new File(scanDirectory, "scan.log").isFile());
+        assertTrue(new File(bdioDirectory, "project.jsonld").isFile());
+        assertTrue(airGapZip.isFile());
+        assertFalse(new File(runDirectory, "extractions").exists());
+        assertFalse(new File(runDirectory, "status").exists());
+        assertTrue(new File(trashEntry, "extractions/gradle/report.txt").isFile());
+        assertTrue(new File(trashEntry, "status/status.json").isFile());
+    }
+
+    @Test
+    public void leftoversArePurgedByTheNextRun(@TempDir Path outputDirectory) throws IOException {
+        File runDirectory = createRun(outputDirectory);
+        RunDirectoryTrash runDirectoryTrash = new RunDirectoryTrash(runDirectory.getParentFile());
+        runDirectoryTrash.moveToTrash(runDirectory, Collections.emptySet());
+
+        new RunDirectoryTrash(runDirectory.getParentFile()).purgeLeftovers();
+
+        String[] trashEntries = runDirectoryTrash.getTrashDirectory().list();
+        assertEquals(0, trashEntries == null ? 0 : trashEntries.length);
+    }
+
+    @Test
+    public void detachedPurgeDeletesTheTrashEntry(@TempDir Path outputDirectory) throws Exception {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS, "The detached cleanup command differs on Windows.");
+
+        File runDirectory = createRun(outputDirectory);
+        RunDirectoryTrash runDirectoryTrash = new RunDirectoryTrash(runDirectory.getParentFile());
+        File trashEntry = runDirectoryTrash.moveToTrash(runDirectory, Collections.emptySet());
+
+        runDirectoryTrash.purgeDetached(trashEntry);
+
+        long deadline = System.currentTimeMillis() + 30000;
+        while (trashEntry.exists() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(trashEntry.exists());
+    }
+
+    private File createRun(Path outputDirectory) throws IOException {
+        File runDirectory = outputDirectory.resolve("runs").resolve("2020-01-01-00-00-00-000").toFile();
+        FileUtils.write(new File(runDirectory, "extractions/gradle/report.txt"), "report", StandardCharsets.UTF_8);
+        FileUtils.write(new File(runDirectory, "status/status.json"), "{}", StandardCharsets.UTF_8);
+        FileUtils.write(new File(runDirectory, "scan/scan.log"), "scan", StandardCharsets.UTF_8);
+        FileUtils.write(new File(runDirectory, "bdio/project.jsonld"), "[]", StandardCharsets.UTF_8);
+        FileUtils.write(new File(runDirectory, "detect-air-gap.zip"), "zip", StandardCharsets.UTF_8);
+        return runDirectory;
+    }
+}
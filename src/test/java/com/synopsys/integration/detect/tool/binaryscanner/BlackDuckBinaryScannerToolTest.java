@@ -42,7 +42,7 @@ public class BlackDuckBinaryScannerToolTest {
 
     @Test
     public void testShouldRunFalsePropertyNotSet() {
-        final BinaryScanOptions binaryScanOptions = new BinaryScanOptions(null, Collections.singletonList(""), "", "");
+        final BinaryScanOptions binaryScanOptions = new BinaryScanOptions(null, Collections.singletonList(""), "", "", 1);
 
         final BlackDuckBinaryScannerTool tool = new BlackDuckBinaryScannerTool(null, null, null, null, binaryScanOptions, null);
         final boolean shouldRunResponse = tool.shouldRun();
@@ -52,7 +52,7 @@ public class BlackDuckBinaryScannerToolTest {
 
     @Test
     public void testShouldRunTrueFileNonExistent() {
-        final BinaryScanOptions binaryScanOptions = new BinaryScanOptions(Paths.get("thisisnotafile"), Collections.singletonList(""), "", "");
+        final BinaryScanOptions binaryScanOptions = new BinaryScanOptions(Paths.get("thisisnotafile"), Collections.singletonList(""), "", "", 1);
 
         final BlackDuckBinaryScannerTool tool = new BlackDuckBinaryScannerTool(null, null, null, null, binaryScanOptions, null);
 
@@ -63,7 +63,7 @@ public class BlackDuckBinaryScannerToolTest {
 
     @Test
     public void testShouldRunTruePropertySetToDirectory() {
-        final BinaryScanOptions binaryScanOptions = new BinaryScanOptions(Paths.get("."), Collections.singletonList(""), "", "");
+        final BinaryScanOptions binaryScanOptions = new BinaryScanOptions(Paths.get("."), Collections.singletonList(""), "", "", 1);
 
         final BlackDuckBinaryScannerTool tool = new BlackDuckBinaryScannerTool(null, null, null, null, binaryScanOptions, null);
 
@@ -79,7 +79,7 @@ public class BlackDuckBinaryScannerToolTest {
         assertTrue(binaryScanFile.canRead());
         assertTrue(binaryScanFile.exists());
 
-        final BinaryScanOptions binaryScanOptions = new BinaryScanOptions(binaryScanFile.toPath(), Collections.singletonList(""), "", "");
+        final BinaryScanOptions binaryScanOptions = new BinaryScanOptions(binaryScanFile.toPath(), Collections.singletonList(""), "", "", 1);
 
         final BlackDuckBinaryScannerTool tool = new BlackDuckBinaryScannerTool(null, null, null, null, binaryScanOptions, null);
 
@@ -90,7 +90,7 @@ public class BlackDuckBinaryScannerToolTest {
 
     @Test
     public void testShouldFailOnDirectory() throws DetectUserFriendlyException {
-        final BinaryScanOptions binaryScanOptions = new BinaryScanOptions(Paths.get("."), Collections.singletonList(""), "", "");
+        final BinaryScanOptions binaryScanOptions = new BinaryScanOptions(Paths.get("."), Collections.singletonList(""), "", "", 1);
 
         final EventSystem eventSystem = Mockito.mock(EventSystem.class);
 
@@ -0,0 +1,82 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.detector.impl;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.detectable.executable.impl.SimpleExecutableResolver;
+
+public class DetectExecutableResolverTest {
+    @Test
+    public void concurrentToolsResolveEachExecutableOnce() throws Exception {
+        final File docker = new File("docker");
+        final CountDownLatch allWaiting = new CountDownLatch(8);
+        final SimpleExecutableResolver simpleExecutableResolver = Mockito.mock(SimpleExecutableResolver.class);
+        Mockito.when(simpleExecutableResolver.resolveDocker()).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return docker;
+        });
+        final DetectExecutableResolver resolver = new DetectExecutableResolver(simpleExecutableResolver, Mockito.mock(DetectExecutableOptions.class));
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<File>> resolved = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                resolved.add(executorService.submit(() -> {
+                    allWaiting.countDown();
+                    allWaiting.await(30, TimeUnit.SECONDS);
+                    return resolver.resolveDocker();
+                }));
+            }
+            for (final Future<File> future : resolved) {
+                Assertions.assertSame(docker, future.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Mockito.verify(simpleExecutableResolver, Mockito.times(1)).resolveDocker();
+    }
+
+    @Test
+    public void missingExecutableIsCached() throws Exception {
+        final SimpleExecutableResolver simpleExecutableResolver = Mockito.mock(SimpleExecutableResolver.class);
+        final DetectExecutableResolver resolver = new DetectExecutableResolver(simpleExecutableResolver, Mockito.mock(DetectExecutableOptions.class));
+
+        Assertions.assertNull(resolver.resolveBazel());
+        Assertions.assertNull(resolver.resolveBazel());
+
+        Mockito.verify(simpleExecutableResolver, Mockito.times(1)).resolveBazel();
+    }
+}
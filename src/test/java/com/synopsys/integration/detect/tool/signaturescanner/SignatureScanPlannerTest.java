@@ -0,0 +1,194 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.tool.signaturescanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.blackduck.codelocation.Result;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatch;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchOutput;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchRunner;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.ScanCommandOutput;
+import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.detect.workflow.status.SignatureScanStatus;
+import com.synopsys.integration.util.NameVersion;
+
+public class SignatureScanPlannerTest {
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void schedulesLargestTargetFirst() throws IOException {
+        File small = createFile(tempDir.resolve("small/file"), MEGABYTE);
+        File large = createFile(tempDir.resolve("large/file"), 5 * MEGABYTE);
+        File medium = createFile(tempDir.resolve("medium.tar"), 2 * MEGABYTE);
+
+        List<SignatureScanShard> shards = new SignatureScanPlanner(100 * MEGABYTE).plan(Arrays.asList(scanPath(small.getParentFile()), scanPath(large.getParentFile()), scanPath(medium)));
+
+        assertEquals(Arrays.asList(large.getParentFile(), medium, small.getParentFile()), targets(shards));
+        assertEquals(5 * MEGABYTE, shards.get(0).getEstimatedSize());
+    }
+
+    @Test
+    public void targetsAreNotWalkedOrReorderedWithoutSplitting() throws IOException {
+        File small = createFile(tempDir.resolve("small/file"), MEGABYTE).getParentFile();
+        File large = createFile(tempDir.resolve("large/file"), 5 * MEGABYTE).getParentFile();
+
+        List<SignatureScanShard> shards = new SignatureScanPlanner(0).plan(Arrays.asList(scanPath(small), scanPath(large)));
+
+        assertEquals(Arrays.asList(small, large), targets(shards));
+        assertTrue(shards.stream().allMatch(shard -> shard.getEstimatedSize() == 0));
+    }
+
+    @Test
+    public void splitsOversizedTargetByLargestSubdirectories() throws IOException {
+        Path root = tempDir.resolve("root");
+        createFile(root.resolve("big/a/file"), 3 * MEGABYTE);
+        createFile(root.resolve("medium/file"), 2 * MEGABYTE);
+        createFile(root.resolve("small/file"), MEGABYTE / 2);
+        createFile(root.resolve("file"), MEGABYTE / 10);
+        SignatureScanPath rootScanPath = scanPath(root.toFile());
+
+        List<SignatureScanShard> shards = new SignatureScanPlanner(5 * MEGABYTE / 2).plan(Collections.singletonList(rootScanPath));
+
+        assertEquals(Arrays.asList(root.resolve("big").toFile(), root.resolve("medium").toFile(), root.toFile()), targets(shards));
+        assertTrue(shards.stream().allMatch(shard -> shard.getSignatureScanPath() == rootScanPath));
+        assertEquals(Collections.emptySet(), shards.get(0).getExclusions());
+        assertEquals(new HashSet<>(Arrays.asList("/big/", "/medium/")), shards.get(2).getExclusions());
+        assertEquals(MEGABYTE / 2 + MEGABYTE / 10, shards.get(2).getEstimatedSize());
+    }
+
+    @Test
+    public void excludedDirectoriesAreRebasedAndNotCounted() throws IOException {
+        Path root = tempDir.resolve("root");
+        createFile(root.resolve("big/generated/file"), 4 * MEGABYTE);
+        createFile(root.resolve("big/src/file"), 3 * MEGABYTE);
+        createFile(root.resolve("other/file"), MEGABYTE);
+        SignatureScanPath rootScanPath = scanPath(root.toFile());
+        rootScanPath.getExclusions().add("/big/generated/");
+        rootScanPath.getExclusions().add("/other/");
+        rootScanPath.getExclusions().add("/*/cache/");
+
+        List<SignatureScanShard> shards = new SignatureScanPlanner(2 * MEGABYTE).plan(Collections.singletonList(rootScanPath));
+
+        assertEquals(Arrays.asList(root.resolve("big").toFile(), root.toFile()), targets(shards));
+        assertEquals(3 * MEGABYTE, shards.get(0).getEstimatedSize());
+        assertEquals(new HashSet<>(Arrays.asList("/generated/", "/*/cache/")), shards.get(0).getExclusions());
+        assertEquals(new HashSet<>(Arrays.asList("/big/generated/", "/other/", "/*/cache/", "/big/")), shards.get(1).getExclusions());
+    }
+
+    @Test
+    public void singleTargetIsNotWalkedWithoutSplitting() throws IOException {
+        File target = createFile(tempDir.resolve("only/file"), MEGABYTE).getParentFile();
+
+        List<SignatureScanShard> shards = new SignatureScanPlanner(0).plan(Collections.singletonList(scanPath(target)));
+
+        assertEquals(1, shards.size());
+        assertEquals(0, shards.get(0).getEstimatedSize());
+    }
+
+    @Test
+    public void shardResultsAreReportedAgainstOriginalTarget() throws Exception {
+        Path root = tempDir.resolve("root");
+        createFile(root.resolve("big/file"), 3 * MEGABYTE);
+        createFile(root.resolve("rest/file"), MEGABYTE);
+        String rootPath = root.toFile().getCanonicalPath();
+        File small = createFile(tempDir.resolve("small/file"), MEGABYTE / 2).getParentFile();
+
+        List<String> scannedTargets = new ArrayList<>();
+        CodeLocationNameManager codeLocationNameManager = Mockito.mock(CodeLocationNameManager.class);
+        Mockito.when(codeLocationNameManager.createScanCodeLocationName(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            File target = invocation.getArgument(1);
+            scannedTargets.add(target.getCanonicalPath());
+            return target.getName();
+        });
+
+        // The fake runner fails the scan of the split off subdirectory and succeeds every other scan.
+        String failingTarget = root.resolve("big").toFile().getCanonicalPath();
+        ScanBatchRunner fakeScanBatchRunner = Mockito.mock(ScanBatchRunner.class);
+        Mockito.when(fakeScanBatchRunner.executeScans(Mockito.any(ScanBatch.class))).thenAnswer(invocation -> {
+            List<ScanCommandOutput> outputs = new ArrayList<>();
+            for (String scannedTarget : scannedTargets) {
+                ScanCommandOutput output = Mockito.mock(ScanCommandOutput.class);
+                Mockito.when(output.getScanTarget()).thenReturn(scannedTarget);
+                Mockito.when(output.getResult()).thenReturn(scannedTarget.equals(failingTarget) ? Result.FAILURE : Result.SUCCESS);
+                outputs.add(output);
+            }
+            return new ScanBatchOutput(outputs);
+        });
+
+        DirectoryManager directoryManager = Mockito.mock(DirectoryManager.class);
+        Mockito.when(directoryManager.getSourceDirectory()).thenReturn(tempDir.toFile());
+        Mockito.when(directoryManager.getScanOutputDirectory()).thenReturn(Files.createDirectories(tempDir.resolve("output")).toFile());
+        EventSystem eventSystem = Mockito.mock(EventSystem.class);
+        BlackDuckSignatureScannerOptions options = new BlackDuckSignatureScannerOptions(Arrays.asList(small.toPath(), root), Collections.emptyList(), Collections.emptyList(), null, null, null, 1024, 2, true, null, null,
+            null, null, null, 1, null, false, false, 2);
+        BlackDuckSignatureScanner scanner = new BlackDuckSignatureScanner(directoryManager, codeLocationNameManager, options, eventSystem, fakeScanBatchRunner, null);
+
+        scanner.performScanActions(new NameVersion("project", "version"), tempDir.toFile(), null);
+
+        assertEquals(Arrays.asList(failingTarget, rootPath, small.getCanonicalPath()), scannedTargets);
+        Mockito.verify(eventSystem).publishEvent(Mockito.eq(Event.StatusSummary), Mockito.argThat(status -> status instanceof SignatureScanStatus && rootPath.equals(((SignatureScanStatus) status).getDescriptionKey())));
+        Mockito.verify(eventSystem, Mockito.times(1)).publishEvent(Mockito.eq(Event.StatusSummary), Mockito.any());
+    }
+
+    private File createFile(Path path, long size) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(size);
+        }
+        return path.toFile();
+    }
+
+    private SignatureScanPath scanPath(File target) {
+        SignatureScanPath signatureScanPath = new SignatureScanPath();
+        signatureScanPath.setTargetPath(target);
+        return signatureScanPath;
+    }
+
+    private List<File> targets(List<SignatureScanShard> shards) {
+        return shards.stream().map(SignatureScanShard::getTargetPath).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StreamingZipWriterTest {
+    private Path workingDirectory;
+    private Map<String, Path> entries;
+
+    @BeforeEach
+    public void createFiles() throws IOException {
+        workingDirectory = Files.createTempDirectory("streaming-zip");
+        entries = new LinkedHashMap<>();
+        final Random random = new Random(7);
+        for (int i = 0; i < 12; i++) {
+            final String name = i % 3 == 0 ? "library-" + i + ".jar" : "dir/text-" + i + ".txt";
+            final Path file = workingDirectory.resolve("input-" + i);
+            final byte[] content = new byte[1000 + i * 50000];
+            if (name.endsWith(".jar")) {
+                random.nextBytes(content);
+            } else {
+                for (int b = 0; b < content.length; b++) {
+                    content[b] = (byte) ('a' + b % 7);
+                }
+            }
+            Files.write(file, content);
+            entries.put(name, file);
+        }
+    }
+
+    @AfterEach
+    public void deleteFiles() {
+        FileUtils.deleteQuietly(workingDirectory.toFile());
+    }
+
+    @Test
+    public void sequentialZipKeepsOrderAndContent() throws IOException {
+        final File zip = workingDirectory.resolve("sequential.zip").toFile();
+        new StreamingZipWriter().zip(zip, entries);
+        assertZipMatches(zip);
+    }
+
+    @Test
+    public void parallelZipKeepsOrderAndContent() throws IOException {
+        final File zip = workingDirectory.resolve("parallel.zip").toFile();
+        new StreamingZipWriter(4).zip(zip, entries);
+        assertZipMatches(zip);
+    }
+
+    @Test
+    public void missingFileFailsZip() {
+        final Map<String, Path> missing = new LinkedHashMap<>(entries);
+        missing.put("missing.txt", workingDirectory.resolve("does-not-exist"));
+        final File zip = workingDirectory.resolve("missing.zip").toFile();
+        Assertions.assertThrows(IOException.class, () -> new StreamingZipWriter(4).zip(zip, missing));
+    }
+
+    @Test
+    public void sequentialZipSkipsMissingFile() throws IOException {
+        final File zip = workingDirectory.resolve("skip-sequential.zip").toFile();
+        new StreamingZipWriter(1, true).zip(zip, withMissingFile());
+        assertZipMatches(zip);
+    }
+
+    @Test
+    public void parallelZipSkipsMissingFile() throws IOException {
+        final File zip = workingDirectory.resolve("skip-parallel.zip").toFile();
+        new StreamingZipWriter(4, true).zip(zip, withMissingFile());
+        assertZipMatches(zip);
+    }
+
+    private Map<String, Path> withMissingFile() {
+        final Map<String, Path> withMissing = new LinkedHashMap<>();
+        int index = 0;
+        for (final Map.Entry<String, Path> entry : entries.entrySet()) {
+            if (index++ == 5) {
+                withMissing.put("missing.txt", workingDirectory.resolve("does-not-exist"));
+            }
+            withMissing.put(entry.getKey(), entry.getValue());
+        }
+        return withMissing;
+    }
+
+    private void assertZipMatches(final File zip) throws IOException {
+        try (final ZipFile zipFile = new ZipFile(zip)) {
+            final List<String> names = new ArrayList<>();
+            for (final ZipEntry zipEntry : Collections.list(zipFile.entries())) {
+                names.add(zipEntry.getName());
+                final int expectedMethod = StreamingZipWriter.isAlreadyCompressed(zipEntry.getName()) ? ZipEntry.STORED : ZipEntry.DEFLATED;
+                Assertions.assertEquals(expectedMethod, zipEntry.getMethod(), zipEntry.getName());
+                try (final InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                    Assertions.assertArrayEquals(Files.readAllBytes(entries.get(zipEntry.getName())), IOUtils.toByteArray(inputStream));
+                }
+            }
+            Assertions.assertEquals(new ArrayList<>(entries.keySet()), names);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.airgap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.exitcode.ExitCodeType;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+
+public class AirGapCreatorTest {
+    private final GradleAirGapCreator gradleAirGapCreator = Mockito.mock(GradleAirGapCreator.class);
+    private final NugetAirGapCreator nugetAirGapCreator = Mockito.mock(NugetAirGapCreator.class);
+    private final DockerAirGapCreator dockerAirGapCreator = Mockito.mock(DockerAirGapCreator.class);
+
+    @Test
+    public void inspectorsInstallConcurrentlyAndZipWithoutStagingTheJar(@TempDir Path tempDir) throws Exception {
+        // Each stand-in waits until all three have started, which only happens if they run at the same time.
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Mockito.doAnswer(invocation -> {
+            awaitOthers(allStarted);
+            writeInspectorFile(invocation.getArgument(1), "inspector.gradle");
+            return null;
+        }).when(gradleAirGapCreator).installGradleDependencies(Mockito.any(File.class), Mockito.any(File.class), Mockito.any());
+        Mockito.doAnswer(invocation -> {
+            awaitOthers(allStarted);
+            writeInspectorFile(new File(invocation.<File>getArgument(0), "nuget_dotnet3"), "NugetInspector.dll");
+            return null;
+        }).when(nugetAirGapCreator).installNugetDependencies(Mockito.any(File.class));
+        Mockito.doAnswer(invocation -> {
+            awaitOthers(allStarted);
+            writeInspectorFile(invocation.getArgument(0), "blackduck-docker-inspector.jar");
+            return null;
+        }).when(dockerAirGapCreator).installDockerDependencies(Mockito.any(File.class));
+
+        File detectJar = tempDir.resolve("synopsys-detect-6.5.0.jar").toFile();
+        FileUtils.write(detectJar, "detect", StandardCharsets.UTF_8);
+        File outputDirectory = tempDir.resolve("output").toFile();
+
+        File zip = createAirGapCreator(detectJar).createAirGapZip(item -> true, outputDirectory, null, null);
+
+        assertEquals("synopsys-detect-6.5.0-air-gap.zip", zip.getName());
+        assertFalse(new File(outputDirectory, "synopsys-detect-6.5.0").exists(), "The install folder should be cleaned up.");
+        try (ZipFile zipFile = new ZipFile(zip)) {
+            Set<String> entryNames = Collections.list(zipFile.entries()).stream().map(entry -> entry.getName()).collect(Collectors.toSet());
+            assertTrue(entryNames.contains("synopsys-detect-6.5.0.jar"));
+            assertTrue(entryNames.contains("packaged-inspectors/gradle/inspector.gradle"));
+            assertTrue(entryNames.contains("packaged-inspectors/nuget/nuget_dotnet3/NugetInspector.dll"));
+            assertTrue(entryNames.contains("packaged-inspectors/docker/blackduck-docker-inspector.jar"));
+        }
+    }
+
+    @Test
+    public void failedInspectorInstallFailsTheAirGap(@TempDir Path tempDir) throws Exception {
+        Mockito.doThrow(new DetectUserFriendlyException("An error occurred installing docker inspector.", ExitCodeType.FAILURE_GENERAL_ERROR))
+            .when(dockerAirGapCreator).installDockerDependencies(Mockito.any(File.class));
+
+        File detectJar = tempDir.resolve("synopsys-detect-6.5.0.jar").toFile();
+        FileUtils.write(detectJar, "detect", StandardCharsets.UTF_8);
+
+        DetectUserFriendlyException exception = assertThrows(DetectUserFriendlyException.class,
+            () -> createAirGapCreator(detectJar).createAirGapZip(item -> true, tempDir.resolve("output").toFile(), null, null));
+        assertEquals("An error occurred installing docker inspector.", exception.getMessage());
+    }
+
+    private AirGapCreator createAirGapCreator(File detectJar) {
+        AirGapPathFinder airGapPathFinder = Mockito.spy(new AirGapPathFinder());
+        Mockito.doReturn(detectJar).when(airGapPathFinder).findDetectJar();
+        return new AirGapCreator(airGapPathFinder, new EventSystem(), gradleAirGapCreator, nugetAirGapCreator, dockerAirGapCreator);
+    }
+
+    private void awaitOthers(CountDownLatch allStarted) throws InterruptedException {
+        allStarted.countDown();
+        assertTrue(allStarted.await(30, TimeUnit.SECONDS), "The inspectors should be installed concurrently.");
+    }
+
+    private void writeInspectorFile(File folder, String name) throws IOException {
+        FileUtils.write(new File(folder, name), name, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+public class AggregateDependencyGraphTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    private final Dependency a = dependency("a");
+    private final Dependency b = dependency("b");
+    private final Dependency c = dependency("c");
+    private final Dependency shared = dependency("shared");
+    private final Dependency firstWrapper = dependency("first-wrapper");
+    private final Dependency secondWrapper = dependency("second-wrapper");
+
+    @Test
+    public void directMatchesMergedGraph() {
+        final DependencyGraph first = firstGraph();
+        final DependencyGraph second = secondGraph();
+
+        final MutableDependencyGraph expected = new MutableMapDependencyGraph();
+        expected.addGraphAsChildrenToRoot(first);
+        expected.addGraphAsChildrenToRoot(second);
+
+        final AggregateDependencyGraph aggregate = new AggregateDependencyGraph();
+        aggregate.addGraphAsChildrenToRoot(first);
+        aggregate.addGraphAsChildrenToRoot(second);
+
+        assertSameGraph(expected, aggregate);
+    }
+
+    @Test
+    public void transitiveMatchesMergedGraph() {
+        final DependencyGraph first = firstGraph();
+        final DependencyGraph second = secondGraph();
+
+        final MutableDependencyGraph expected = new MutableMapDependencyGraph();
+        expected.addChildrenToRoot(firstWrapper);
+        expected.addGraphAsChildrenToParent(firstWrapper, first);
+        expected.addChildrenToRoot(secondWrapper);
+        expected.addGraphAsChildrenToParent(secondWrapper, second);
+
+        final AggregateDependencyGraph aggregate = new AggregateDependencyGraph();
+        aggregate.addGraphAsChildrenToNewRoot(firstWrapper, first);
+        aggregate.addGraphAsChildrenToNewRoot(secondWrapper, second);
+
+        assertSameGraph(expected, aggregate);
+    }
+
+    @Test
+    public void lookupsOnlyAskGraphsHoldingTheNode() {
+        final DependencyGraph unrelated = Mockito.spy(new MutableMapDependencyGraph());
+
+        final AggregateDependencyGraph aggregate = new AggregateDependencyGraph();
+        aggregate.addGraphAsChildrenToRoot(firstGraph());
+        aggregate.addGraphAsChildrenToRoot(unrelated);
+        aggregate.addGraphAsChildrenToRoot(secondGraph());
+        Mockito.clearInvocations(unrelated);
+
+        Assertions.assertEquals(shared, aggregate.getDependency(shared.getExternalId()));
+        Assertions.assertEquals(Collections.singleton(c), aggregate.getChildrenForParent(shared));
+        Assertions.assertEquals(Collections.singleton(a), aggregate.getParentsForChild(shared));
+        Assertions.assertFalse(aggregate.hasDependency(firstWrapper));
+        Mockito.verifyZeroInteractions(unrelated);
+    }
+
+    @Test
+    public void emptyAggregateHasNoRoots() {
+        Assertions.assertTrue(new AggregateDependencyGraph().getRootDependencies().isEmpty());
+    }
+
+    private DependencyGraph firstGraph() {
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        graph.addChildToRoot(a);
+        graph.addChildWithParent(shared, a);
+        return graph;
+    }
+
+    private DependencyGraph secondGraph() {
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        graph.addChildToRoot(b);
+        graph.addChildToRoot(shared);
+        graph.addChildWithParent(c, shared);
+        return graph;
+    }
+
+    private void assertSameGraph(final DependencyGraph expected, final DependencyGraph actual) {
+        Assertions.assertEquals(expected.getRootDependencies(), actual.getRootDependencies());
+        final List<Dependency> all = Arrays.asList(a, b, c, shared, firstWrapper, secondWrapper);
+        for (final Dependency dependency : all) {
+            Assertions.assertEquals(expected.hasDependency(dependency), actual.hasDependency(dependency), dependency.getName());
+            Assertions.assertEquals(expected.getChildrenForParent(dependency), actual.getChildrenForParent(dependency), dependency.getName());
+            Assertions.assertEquals(expected.getParentsForChild(dependency), actual.getParentsForChild(dependency), dependency.getName());
+        }
+    }
+
+    private Dependency dependency(final String name) {
+        return new Dependency(name, "1.0", externalIdFactory.createNameVersionExternalId(Forge.MAVEN, name, "1.0"));
+    }
+}
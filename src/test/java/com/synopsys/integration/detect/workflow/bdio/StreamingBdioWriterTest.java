@@ -0,0 +1,183 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.blackducksoftware.bdio2.BdioMetadata;
+import com.blackducksoftware.bdio2.model.Project;
+import com.blackducksoftware.common.value.ProductList;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.synopsys.integration.bdio.BdioReader;
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.model.BdioComponent;
+import com.synopsys.integration.bdio.model.BdioNode;
+import com.synopsys.integration.bdio.model.BdioRelationship;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.SimpleBdioDocument;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.blackduck.bdio2.Bdio2Document;
+import com.synopsys.integration.blackduck.bdio2.Bdio2Factory;
+import com.synopsys.integration.blackduck.bdio2.Bdio2Writer;
+
+public class StreamingBdioWriterTest {
+    private final SimpleBdioFactory simpleBdioFactory = new SimpleBdioFactory();
+    private final ExternalId projectExternalId = simpleBdioFactory.createNameVersionExternalId(Forge.MAVEN, "project", "1.0");
+
+    @Test
+    public void bdio1MatchesDocumentWriter() throws IOException {
+        final MutableDependencyGraph graph = createGraph();
+
+        final ByteArrayOutputStream expectedOutput = new ByteArrayOutputStream();
+        final SimpleBdioDocument expectedDocument = simpleBdioFactory.createSimpleBdioDocument("code-location", "project", "1.0", projectExternalId, graph);
+        simpleBdioFactory.writeSimpleBdioDocument(expectedOutput, expectedDocument);
+
+        final ByteArrayOutputStream streamedOutput = new ByteArrayOutputStream();
+        final SimpleBdioDocument header = simpleBdioFactory.createSimpleBdioDocument("code-location", "project", "1.0", projectExternalId);
+        new StreamingBdioWriter(simpleBdioFactory).writeBdio1(streamedOutput, header, graph);
+
+        final SimpleBdioDocument expected = readBdio1(expectedOutput);
+        final SimpleBdioDocument streamed = readBdio1(streamedOutput);
+
+        Assertions.assertEquals(String.valueOf(expected.getProject().id), String.valueOf(streamed.getProject().id));
+        Assertions.assertEquals(relatedIds(expected.getProject()), relatedIds(streamed.getProject()));
+        Assertions.assertEquals(componentRelationships(expected), componentRelationships(streamed));
+    }
+
+    @Test
+    public void bdio2MatchesDocumentWriter() throws IOException {
+        final MutableDependencyGraph graph = createGraph();
+        final Bdio2Factory bdio2Factory = new Bdio2Factory();
+        final BdioMetadata bdioMetadata = bdio2Factory.createBdioMetadata("code-location", ZonedDateTime.now(), new ProductList.Builder());
+
+        final ByteArrayOutputStream expectedOutput = new ByteArrayOutputStream();
+        final Project expectedProject = bdio2Factory.createProject(projectExternalId, "project", "1.0");
+        final Bdio2Document document = bdio2Factory.createBdio2Document(bdioMetadata, expectedProject, graph);
+        new Bdio2Writer().writeBdioDocument(expectedOutput, document);
+
+        final ByteArrayOutputStream streamedOutput = new ByteArrayOutputStream();
+        final Project streamedProject = bdio2Factory.createProject(projectExternalId, "project", "1.0");
+        new StreamingBdioWriter(simpleBdioFactory).writeBdio2(streamedOutput, bdioMetadata, streamedProject, graph);
+
+        Assertions.assertEquals(readBdio2Nodes(expectedOutput), readBdio2Nodes(streamedOutput));
+    }
+
+    @Test
+    public void deepGraphDoesNotOverflow() throws IOException {
+        final MutableDependencyGraph graph = simpleBdioFactory.createMutableDependencyGraph();
+        Dependency parent = dependency("level-0");
+        graph.addChildToRoot(parent);
+        for (int level = 1; level < 20000; level++) {
+            final Dependency child = dependency("level-" + level);
+            graph.addChildWithParent(child, parent);
+            parent = child;
+        }
+
+        final ByteArrayOutputStream streamedOutput = new ByteArrayOutputStream();
+        final SimpleBdioDocument header = simpleBdioFactory.createSimpleBdioDocument("code-location", "project", "1.0", projectExternalId);
+        new StreamingBdioWriter(simpleBdioFactory).writeBdio1(streamedOutput, header, graph);
+
+        Assertions.assertEquals(20000, readBdio1(streamedOutput).getComponents().size());
+    }
+
+    private MutableDependencyGraph createGraph() {
+        final MutableDependencyGraph graph = simpleBdioFactory.createMutableDependencyGraph();
+        final Dependency a = dependency("a");
+        final Dependency b = dependency("b");
+        final Dependency shared = dependency("shared");
+        final Dependency leaf = dependency("leaf");
+        graph.addChildrenToRoot(a, b);
+        graph.addChildWithParents(shared, a, b);
+        graph.addChildWithParent(leaf, shared);
+        graph.addChildWithParent(a, leaf);
+        return graph;
+    }
+
+    private Dependency dependency(final String name) {
+        return new Dependency(name, "1.0", simpleBdioFactory.createNameVersionExternalId(Forge.MAVEN, name, "1.0"));
+    }
+
+    private SimpleBdioDocument readBdio1(final ByteArrayOutputStream output) throws IOException {
+        try (final BdioReader bdioReader = new BdioReader(new Gson(), new ByteArrayInputStream(output.toByteArray()))) {
+            return bdioReader.readSimpleBdioDocument();
+        }
+    }
+
+    private Map<String, Set<String>> componentRelationships(final SimpleBdioDocument document) {
+        final Map<String, Set<String>> relationships = new HashMap<>();
+        for (final BdioComponent component : document.getComponents()) {
+            relationships.put(String.valueOf(component.id), relatedIds(component));
+        }
+        return relationships;
+    }
+
+    private Set<String> relatedIds(final BdioNode node) {
+        final Set<String> related = new HashSet<>();
+        for (final BdioRelationship relationship : node.relationships) {
+            related.add(String.valueOf(relationship.related));
+        }
+        return related;
+    }
+
+    // Every node of every entry in the bdio2 container, by id.
+    private Map<String, JsonObject> readBdio2Nodes(final ByteArrayOutputStream output) throws IOException {
+        final Map<String, JsonObject> nodes = new HashMap<>();
+        try (final ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                final JsonElement element = new JsonParser().parse(new InputStreamReader(zipInputStream, StandardCharsets.UTF_8));
+                if (!element.isJsonObject() || !element.getAsJsonObject().has("@graph")) {
+                    continue;
+                }
+                final JsonArray graph = element.getAsJsonObject().getAsJsonArray("@graph");
+                for (final JsonElement node : graph) {
+                    nodes.put(node.getAsJsonObject().get("@id").getAsString(), node.getAsJsonObject());
+                }
+            }
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.blackduck.service.model.NotificationTaskRange;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.util.NameVersion;
+
+public class BackoffCodeLocationWaiterTest {
+    private static final long START = 1_000_000_000L;
+    private static final NameVersion PROJECT = new NameVersion("project", "1.0");
+
+    private long now = START;
+    private final List<Long> sleeps = new ArrayList<>();
+    private final List<Set<String>> queriedCodeLocations = new ArrayList<>();
+    private final List<Date> queriedStartDates = new ArrayList<>();
+
+    // Notifications that become visible once the fake clock passes their creation time.
+    private class FakeNotificationSource implements CodeLocationNotificationSource {
+        private final List<CodeLocationNotification> notifications;
+
+        FakeNotificationSource(final CodeLocationNotification... notifications) {
+            this.notifications = Arrays.asList(notifications);
+        }
+
+        @Override
+        public List<CodeLocationNotification> findBomComputedNotifications(final Date startDate, final Date endDate, final NameVersion projectNameVersion, final Set<String> codeLocationNames) {
+            queriedCodeLocations.add(new HashSet<>(codeLocationNames));
+            queriedStartDates.add(startDate);
+            return notifications.stream()
+                       .filter(notification -> notification.getCreatedAt().getTime() <= now)
+                       .filter(notification -> !notification.getCreatedAt().before(startDate))
+                       .filter(notification -> codeLocationNames.contains(notification.getCodeLocationName()))
+                       .collect(Collectors.toList());
+        }
+    }
+
+    private BackoffCodeLocationWaiter createWaiter(final CodeLocationNotificationSource notificationSource) {
+        return new BackoffCodeLocationWaiter(notificationSource, () -> now, millis -> {
+            sleeps.add(millis);
+            now += millis;
+        }, new Random(42), 1000, 16000);
+    }
+
+    private NotificationTaskRange createRange() {
+        return new NotificationTaskRange(START, new Date(START), new Date(START + 5L * 24 * 60 * 60 * 1000));
+    }
+
+    private CodeLocationNotification notification(final String id, final String codeLocationName, final long secondsAfterStart) {
+        return new CodeLocationNotification(id, codeLocationName, new Date(START + secondsAfterStart * 1000));
+    }
+
+    @Test
+    public void onlyPendingCodeLocationsAreQueried() throws IntegrationException, InterruptedException {
+        final FakeNotificationSource source = new FakeNotificationSource(notification("1", "a", 2), notification("2", "b", 200));
+        final Set<String> codeLocationNames = new HashSet<>(Arrays.asList("a", "b"));
+
+        final BackoffCodeLocationWaitResult result = createWaiter(source).waitForCodeLocations(createRange(), PROJECT, codeLocationNames, 2, 600);
+
+        Assertions.assertTrue(result.isComplete());
+        Assertions.assertEquals(2, result.getNotificationCount());
+        Assertions.assertEquals(codeLocationNames, queriedCodeLocations.get(0));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("b")), queriedCodeLocations.get(queriedCodeLocations.size() - 1));
+    }
+
+    @Test
+    public void intervalBacksOffWithJitterUntilMaximum() throws IntegrationException, InterruptedException {
+        final FakeNotificationSource source = new FakeNotificationSource(notification("1", "a", 120));
+
+        final BackoffCodeLocationWaitResult result = createWaiter(source).waitForCodeLocations(createRange(), PROJECT, new HashSet<>(Arrays.asList("a")), 1, 600);
+
+        Assertions.assertTrue(result.isComplete());
+        long interval = 1000;
+        for (final Long sleep : sleeps) {
+            Assertions.assertTrue(sleep >= interval / 2 && sleep <= interval, "Sleep of " + sleep + " should be within the jittered interval " + interval);
+            interval = Math.min(16000, interval * 2);
+        }
+        Assertions.assertTrue(sleeps.size() < 20, "Backing off should need far fewer checks than a fixed one second interval.");
+    }
+
+    @Test
+    public void rangeIsNarrowedAfterNotificationsArrive() throws IntegrationException, InterruptedException {
+        final FakeNotificationSource source = new FakeNotificationSource(notification("1", "a", 300), notification("2", "b", 500));
+
+        createWaiter(source).waitForCodeLocations(createRange(), PROJECT, new HashSet<>(Arrays.asList("a", "b")), 2, 1200);
+
+        final Date lastStartDate = queriedStartDates.get(queriedStartDates.size() - 1);
+        Assertions.assertEquals(new Date(START + 300 * 1000 - 60 * 1000), lastStartDate);
+    }
+
+    @Test
+    public void duplicateNotificationsAreCountedOnce() throws IntegrationException, InterruptedException {
+        final FakeNotificationSource source = new FakeNotificationSource(notification("1", "a", 1), notification("1", "a", 1), notification("2", "a", 30));
+
+        final BackoffCodeLocationWaitResult result = createWaiter(source).waitForCodeLocations(createRange(), PROJECT, new HashSet<>(Arrays.asList("a")), 2, 600);
+
+        Assertions.assertTrue(result.isComplete());
+        Assertions.assertEquals(2, result.getNotificationCount());
+        Assertions.assertTrue(now >= START + 30 * 1000, "The waiter should keep waiting for the second notification.");
+    }
+
+    @Test
+    public void timeoutReportsPendingCodeLocations() throws IntegrationException, InterruptedException {
+        final FakeNotificationSource source = new FakeNotificationSource(notification("1", "a", 5));
+
+        final BackoffCodeLocationWaitResult result = createWaiter(source).waitForCodeLocations(createRange(), PROJECT, new HashSet<>(Arrays.asList("a", "b")), 2, 60);
+
+        Assertions.assertFalse(result.isComplete());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("b")), result.getPendingCodeLocationNames());
+        Assertions.assertEquals(START + 60 * 1000, now, "The last sleep should be cut short at the timeout.");
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.blackduck.api.generated.enumeration.PolicyRuleSeverityType;
+import com.synopsys.integration.blackduck.api.generated.view.ProjectVersionView;
+import com.synopsys.integration.blackduck.api.generated.view.ProjectView;
+import com.synopsys.integration.blackduck.service.BlackDuckService;
+import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
+import com.synopsys.integration.blackduck.service.ProjectBomService;
+import com.synopsys.integration.blackduck.service.ReportService;
+import com.synopsys.integration.blackduck.service.model.ProjectVersionWrapper;
+import com.synopsys.integration.detect.exception.DetectUserFriendlyException;
+import com.synopsys.integration.detect.exitcode.ExitCodeType;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.exception.IntegrationException;
+
+public class BlackDuckPostActionsTest {
+    private static final long DELAY_MILLIS = 600;
+
+    private Path outputDirectory;
+    private ProjectVersionWrapper projectVersionWrapper;
+
+    @BeforeEach
+    public void createOutputDirectory() throws IOException {
+        outputDirectory = Files.createTempDirectory("post-actions");
+
+        projectVersionWrapper = Mockito.mock(ProjectVersionWrapper.class);
+        Mockito.when(projectVersionWrapper.getProjectView()).thenReturn(Mockito.mock(ProjectView.class));
+        Mockito.when(projectVersionWrapper.getProjectVersionView()).thenReturn(Mockito.mock(ProjectVersionView.class));
+    }
+
+    @AfterEach
+    public void deleteOutputDirectory() {
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+    }
+
+    @Test
+    public void postActionsRunConcurrently() throws Exception {
+        final BlackDuckServicesFactory blackDuckServicesFactory = mockServices(DELAY_MILLIS, false);
+        final BlackDuckPostActions blackDuckPostActions = new BlackDuckPostActions(blackDuckServicesFactory, new EventSystem());
+
+        final long start = System.currentTimeMillis();
+        blackDuckPostActions.perform(createOptions(true), new CodeLocationWaitController(), projectVersionWrapper, 60);
+        final long elapsed = System.currentTimeMillis() - start;
+
+        Assertions.assertTrue(elapsed < DELAY_MILLIS * 2, "Policy check, risk report and notices report should overlap, took " + elapsed + "ms.");
+    }
+
+    @Test
+    public void postActionsRunSeriallyByDefault() throws Exception {
+        final BlackDuckServicesFactory blackDuckServicesFactory = mockServices(DELAY_MILLIS, false);
+        final BlackDuckPostActions blackDuckPostActions = new BlackDuckPostActions(blackDuckServicesFactory, new EventSystem());
+
+        final long start = System.currentTimeMillis();
+        blackDuckPostActions.perform(createOptions(false), new CodeLocationWaitController(), projectVersionWrapper, 60);
+        final long elapsed = System.currentTimeMillis() - start;
+
+        Assertions.assertTrue(elapsed >= DELAY_MILLIS * 3, "Policy check, risk report and notices report should run one after another, took " + elapsed + "ms.");
+    }
+
+    @Test
+    public void reportsOnlyGetTheRemainingTimeout() throws Exception {
+        final BlackDuckServicesFactory blackDuckServicesFactory = mockServices(DELAY_MILLIS, false);
+        final BlackDuckPostActions blackDuckPostActions = new BlackDuckPostActions(blackDuckServicesFactory, new EventSystem());
+
+        blackDuckPostActions.perform(createOptions(false), new CodeLocationWaitController(), projectVersionWrapper, 60);
+
+        final ArgumentCaptor<Long> timeouts = ArgumentCaptor.forClass(Long.class);
+        Mockito.verify(blackDuckServicesFactory, Mockito.times(2)).createReportService(timeouts.capture());
+        Assertions.assertTrue(timeouts.getAllValues().get(0) <= 60000L - DELAY_MILLIS, "The risk report should only get the time left after the policy check.");
+        Assertions.assertTrue(timeouts.getAllValues().get(1) <= 60000L - 2 * DELAY_MILLIS, "The notices report should only get the time left after the risk report.");
+    }
+
+    @Test
+    public void concurrentPostActionsShareTimeout() throws Exception {
+        final BlackDuckServicesFactory blackDuckServicesFactory = mockServices(5000, false);
+        final BlackDuckPostActions blackDuckPostActions = new BlackDuckPostActions(blackDuckServicesFactory, new EventSystem());
+
+        final DetectUserFriendlyException exception = Assertions.assertThrows(DetectUserFriendlyException.class,
+            () -> blackDuckPostActions.perform(createOptions(true), new CodeLocationWaitController(), projectVersionWrapper, 1));
+        Assertions.assertEquals(ExitCodeType.FAILURE_TIMEOUT, exception.getExitCodeType());
+    }
+
+    @Test
+    public void serialPostActionsShareTimeout() throws Exception {
+        final BlackDuckServicesFactory blackDuckServicesFactory = mockServices(DELAY_MILLIS, false);
+        final BlackDuckPostActions blackDuckPostActions = new BlackDuckPostActions(blackDuckServicesFactory, new EventSystem());
+
+        final DetectUserFriendlyException exception = Assertions.assertThrows(DetectUserFriendlyException.class,
+            () -> blackDuckPostActions.perform(createOptions(false), new CodeLocationWaitController(), projectVersionWrapper, 1));
+        Assertions.assertEquals(ExitCodeType.FAILURE_TIMEOUT, exception.getExitCodeType());
+        Mockito.verify(blackDuckServicesFactory, Mockito.times(1)).createReportService(Mockito.anyLong());
+    }
+
+    @Test
+    public void reportFailureKeepsExitCode() throws Exception {
+        final BlackDuckServicesFactory blackDuckServicesFactory = mockServices(DELAY_MILLIS, true);
+        final BlackDuckPostActions blackDuckPostActions = new BlackDuckPostActions(blackDuckServicesFactory, new EventSystem());
+
+        final DetectUserFriendlyException exception = Assertions.assertThrows(DetectUserFriendlyException.class,
+            () -> blackDuckPostActions.perform(createOptions(true), new CodeLocationWaitController(), projectVersionWrapper, 60));
+        Assertions.assertEquals(ExitCodeType.FAILURE_BLACKDUCK_CONNECTIVITY, exception.getExitCodeType());
+    }
+
+    private BlackDuckPostOptions createOptions(final boolean concurrently) {
+        return new BlackDuckPostOptions(false, true, true, outputDirectory.resolve("risk"), outputDirectory.resolve("notices"), Collections.singletonList(PolicyRuleSeverityType.BLOCKER), 1, false,
+            concurrently, true);
+    }
+
+    private BlackDuckServicesFactory mockServices(final long delayMillis, final boolean failRiskReport) throws IntegrationException, IOException, InterruptedException {
+        final ProjectBomService projectBomService = Mockito.mock(ProjectBomService.class);
+        Mockito.when(projectBomService.getPolicyStatusForVersion(Mockito.any())).thenAnswer(invocation -> {
+            Thread.sleep(delayMillis);
+            return Optional.empty();
+        });
+
+        final ReportService reportService = Mockito.mock(ReportService.class);
+        Mockito.when(reportService.createReportPdfFile(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            Thread.sleep(delayMillis);
+            if (failRiskReport) {
+                throw new IllegalArgumentException("The risk report could not be created.");
+            }
+            return createReport(invocation.getArgument(0), "risk.pdf");
+        });
+        Mockito.when(reportService.createNoticesReportFile(Mockito.any(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            Thread.sleep(delayMillis);
+            return createReport(invocation.getArgument(0), "notices.txt");
+        });
+
+        final BlackDuckServicesFactory blackDuckServicesFactory = Mockito.mock(BlackDuckServicesFactory.class);
+        Mockito.when(blackDuckServicesFactory.createProjectBomService()).thenReturn(projectBomService);
+        Mockito.when(blackDuckServicesFactory.createBlackDuckService()).thenReturn(Mockito.mock(BlackDuckService.class));
+        Mockito.when(blackDuckServicesFactory.createReportService(Mockito.anyLong())).thenReturn(reportService);
+        return blackDuckServicesFactory;
+    }
+
+    private File createReport(final File directory, final String name) throws IOException {
+        final File report = new File(directory, name);
+        FileUtils.writeStringToFile(report, name, "UTF-8");
+        return report;
+    }
+}
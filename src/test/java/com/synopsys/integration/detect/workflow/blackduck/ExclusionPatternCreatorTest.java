@@ -0,0 +1,96 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.blackduck;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.synopsys.integration.detectable.detectable.file.impl.SimpleFileFinder;
+
+public class ExclusionPatternCreatorTest {
+    private static final List<String> NAME_PATTERNS = Arrays.asList("node_modules", "*.git", "build*", "tmp");
+    private static final String[] NAMES = { "node_modules", "src", "lib", "repo.git", "build", "buildSrc", "tmp", "main", "a.txt", "tmp.txt" };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void matchesFileFinderPatternsOnGeneratedTree() throws IOException {
+        final Random random = new Random(7);
+        generateTree(tempDir, 5, random);
+
+        for (int maxDepth = 0; maxDepth <= 6; maxDepth++) {
+            final Set<String> expected = findWithFileFinder(tempDir.toFile(), maxDepth);
+            final Set<String> actual = new ExclusionPatternCreator(tempDir.toFile()).determineExclusionPatterns(maxDepth, NAME_PATTERNS);
+            Assertions.assertEquals(expected, actual, "Exclusion patterns differ at depth " + maxDepth);
+        }
+    }
+
+    @Test
+    public void noNamePatternsGivesModifiableEmptySet() {
+        final Set<String> patterns = new ExclusionPatternCreator(tempDir.toFile()).determineExclusionPatterns(3, Arrays.asList());
+
+        Assertions.assertTrue(patterns.isEmpty());
+        patterns.add("/provided/");
+    }
+
+    private void generateTree(final Path directory, final int depth, final Random random) throws IOException {
+        for (final String name : NAMES) {
+            if (random.nextInt(3) == 0) {
+                continue;
+            }
+            final Path child = directory.resolve(name);
+            if (name.endsWith(".txt") || depth == 0) {
+                Files.createFile(child);
+            } else {
+                Files.createDirectory(child);
+                generateTree(child, depth - 1, random);
+            }
+        }
+    }
+
+    // The patterns as they were computed before, with the file finder and a canonical path per match.
+    private Set<String> findWithFileFinder(final File scanTarget, final int maxDepth) throws IOException {
+        final String scanTargetPath = scanTarget.getCanonicalPath();
+        final Set<String> patterns = new HashSet<>();
+        for (final File matchingFile : new SimpleFileFinder().findFiles(scanTarget, NAME_PATTERNS, maxDepth, false)) {
+            String pattern = matchingFile.getCanonicalPath().replace(scanTargetPath, "/").replace("\\", "/").replace("//", "/");
+            if (!pattern.endsWith("/")) {
+                pattern = pattern + "/";
+            }
+            patterns.add(pattern);
+        }
+        return patterns;
+    }
+}
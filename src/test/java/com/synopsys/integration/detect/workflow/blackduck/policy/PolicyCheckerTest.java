@@ -0,0 +1,227 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.blackduck.policy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.blackduck.api.generated.enumeration.PolicyRuleSeverityType;
+import com.synopsys.integration.blackduck.api.generated.enumeration.PolicyStatusType;
+import com.synopsys.integration.blackduck.api.generated.view.ComponentPolicyRulesView;
+import com.synopsys.integration.blackduck.api.generated.view.ProjectVersionComponentView;
+import com.synopsys.integration.blackduck.api.generated.view.ProjectVersionView;
+import com.synopsys.integration.blackduck.service.ProjectBomService;
+import com.synopsys.integration.blackduck.service.model.PolicyStatusDescription;
+import com.synopsys.integration.detect.exitcode.ExitCodeType;
+import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodeRequest;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.exception.IntegrationException;
+import com.sun.net.httpserver.HttpServer;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+public class PolicyCheckerTest {
+    private static final int COMPONENT_COUNT = 40;
+    private static final long LATENCY_MILLIS = 50;
+
+    private final Gson gson = new Gson();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private ListAppender<ILoggingEvent> logs;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/components/", exchange -> {
+            requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(LATENCY_MILLIS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            final String component = exchange.getRequestURI().getPath().split("/")[2];
+            final String json = "[{\"name\":\"rule-" + component + "\",\"severity\":\"MAJOR\",\"description\":\"no " + component + "\"}]";
+            final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (final OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        logs = new ListAppender<>();
+        logs.start();
+        ((Logger) LoggerFactory.getLogger(PolicyChecker.class)).addAppender(logs);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        ((Logger) LoggerFactory.getLogger(PolicyChecker.class)).detachAppender(logs);
+        server.stop(0);
+    }
+
+    @Test
+    public void concurrentFetchLogsInBomOrder() throws IntegrationException {
+        final PolicyChecker policyChecker = new PolicyChecker(new EventSystem(), mockBom(), this::fetchFromServer, 8, true);
+
+        final long start = System.currentTimeMillis();
+        policyChecker.fetchAndLogPolicyViolations(new ProjectVersionView());
+        final long elapsed = System.currentTimeMillis() - start;
+
+        Assertions.assertEquals(COMPONENT_COUNT / 2, requests.get(), "Only violating components should be fetched.");
+        Assertions.assertTrue(maxInFlight.get() <= 8, "No more requests than fetch threads should be in flight.");
+        Assertions.assertTrue(maxInFlight.get() > 1, "Requests should overlap.");
+        Assertions.assertTrue(elapsed < LATENCY_MILLIS * requests.get(), "Concurrent fetching should beat sequential round trips, took " + elapsed + "ms.");
+        Assertions.assertEquals(expectedViolationOrder(), loggedViolationOrder());
+    }
+
+    @Test
+    public void sequentialFetchLogsInBomOrder() throws IntegrationException {
+        final PolicyChecker policyChecker = new PolicyChecker(new EventSystem(), mockBom(), this::fetchFromServer, 1, true);
+
+        policyChecker.fetchAndLogPolicyViolations(new ProjectVersionView());
+
+        Assertions.assertEquals(1, maxInFlight.get());
+        Assertions.assertEquals(expectedViolationOrder(), loggedViolationOrder());
+    }
+
+    @Test
+    public void fetchFailureIsRethrown() {
+        final PolicyChecker policyChecker = new PolicyChecker(new EventSystem(), mockBom(), component -> {
+            throw new IntegrationException("Server unavailable.");
+        }, 4, true);
+
+        final IntegrationException exception = Assertions.assertThrows(IntegrationException.class, () -> policyChecker.fetchAndLogPolicyViolations(new ProjectVersionView()));
+        Assertions.assertEquals("Server unavailable.", exception.getMessage());
+    }
+
+    @Test
+    public void statusAloneDecidesWithoutFetchingRules() throws IntegrationException {
+        final EventSystem eventSystem = new EventSystem();
+        final List<ExitCodeRequest> exitCodeRequests = new ArrayList<>();
+        eventSystem.registerListener(Event.ExitCode, exitCodeRequests::add);
+        final PolicyChecker policyChecker = mockViolatedStatus(new PolicyChecker(eventSystem, mockBom(), this::fetchFromServer, 8, false));
+
+        policyChecker.checkPolicy(Collections.singletonList(PolicyRuleSeverityType.MAJOR), new ProjectVersionView());
+
+        Assertions.assertEquals(0, requests.get(), "No component should be fetched when violations are not logged.");
+        Assertions.assertEquals(1, exitCodeRequests.size());
+        Assertions.assertEquals(ExitCodeType.FAILURE_POLICY_VIOLATION, exitCodeRequests.get(0).getExitCodeType());
+    }
+
+    @Test
+    public void violatedStatusFetchesRulesWhenLogged() throws IntegrationException {
+        final PolicyChecker policyChecker = mockViolatedStatus(new PolicyChecker(new EventSystem(), mockBom(), this::fetchFromServer, 8, true));
+
+        policyChecker.checkPolicy(Collections.singletonList(PolicyRuleSeverityType.MAJOR), new ProjectVersionView());
+
+        Assertions.assertEquals(COMPONENT_COUNT / 2, requests.get());
+    }
+
+    private PolicyChecker mockViolatedStatus(final PolicyChecker policyChecker) throws IntegrationException {
+        final PolicyStatusDescription policyStatusDescription = Mockito.mock(PolicyStatusDescription.class);
+        Mockito.when(policyStatusDescription.getCountOfSeverity(Mockito.any())).thenReturn(1);
+        Mockito.when(policyStatusDescription.getPolicyStatusMessage()).thenReturn("The project is in violation of policy.");
+        final PolicyChecker spy = Mockito.spy(policyChecker);
+        Mockito.doReturn(Optional.of(policyStatusDescription)).when(spy).fetchPolicyStatusDescription(Mockito.any());
+        return spy;
+    }
+
+    private ProjectBomService mockBom() {
+        final List<ProjectVersionComponentView> components = new ArrayList<>();
+        for (int i = 0; i < COMPONENT_COUNT; i++) {
+            final ProjectVersionComponentView component = new ProjectVersionComponentView();
+            component.setComponentName("component" + i);
+            component.setComponentVersionName("1." + i);
+            component.setPolicyStatus(i % 2 == 0 ? PolicyStatusType.IN_VIOLATION : PolicyStatusType.NOT_IN_VIOLATION);
+            components.add(component);
+        }
+
+        final ProjectBomService projectBomService = Mockito.mock(ProjectBomService.class);
+        try {
+            Mockito.when(projectBomService.getComponentsForProjectVersion(Mockito.any())).thenReturn(components);
+        } catch (final IntegrationException e) {
+            throw new RuntimeException(e);
+        }
+        return projectBomService;
+    }
+
+    private List<ComponentPolicyRulesView> fetchFromServer(final ProjectVersionComponentView component) throws IntegrationException {
+        try {
+            final URL url = new URL("http://localhost:" + server.getAddress().getPort() + "/components/" + component.getComponentName() + "/policy-rules");
+            final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            try (final InputStream inputStream = connection.getInputStream()) {
+                return Arrays.asList(gson.fromJson(new InputStreamReader(inputStream, StandardCharsets.UTF_8), ComponentPolicyRulesView[].class));
+            } finally {
+                connection.disconnect();
+            }
+        } catch (final IOException e) {
+            throw new IntegrationException("Failed to reach the stub server.", e);
+        }
+    }
+
+    private List<String> expectedViolationOrder() {
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < COMPONENT_COUNT; i += 2) {
+            expected.add("Policy rule \"rule-component" + i + "\" was violated by component \"component" + i + ":1." + i + "\".");
+        }
+        return expected;
+    }
+
+    private List<String> loggedViolationOrder() {
+        return logs.list.stream()
+                   .map(ILoggingEvent::getFormattedMessage)
+                   .filter(message -> message.contains("was violated by"))
+                   .collect(Collectors.toList());
+    }
+}
@@ -28,14 +28,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -80,4 +85,101 @@ public class BdioCodeLocationCreatorTest {
         assertTrue(resultDir.getCanonicalPath().contains("test"));
         assertTrue(resultDir.getCanonicalPath().contains("resource"));
     }
+
+    @Test
+    public void testCollapseDuplicateGraphs() throws DetectUserFriendlyException {
+        final File sourceDir = new File("src/test/resource");
+        final CodeLocationNameManager codeLocationNameManager = Mockito.mock(CodeLocationNameManager.class);
+        final DirectoryManager directoryManager = Mockito.mock(DirectoryManager.class);
+        Mockito.when(directoryManager.getSourceDirectory()).thenReturn(sourceDir);
+        final BdioCodeLocationCreator creator = new BdioCodeLocationCreator(codeLocationNameManager, directoryManager, Mockito.mock(EventSystem.class), true);
+        final NameVersion projectNameVersion = new NameVersion("testName", "testVersion");
+
+        final DetectCodeLocation first = createCodeLocation(new File(sourceDir, "first"), "project", "platform", "shared");
+        final DetectCodeLocation second = createCodeLocation(new File(sourceDir, "second"), "project", "platform", "shared");
+        final DetectCodeLocation different = createCodeLocation(new File(sourceDir, "different"), "project", "platform", "other");
+        Mockito.when(codeLocationNameManager.createCodeLocationName(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenAnswer(invocation -> invocation.<DetectCodeLocation>getArgument(0).getSourcePath().getName());
+
+        final BdioCodeLocationResult result = creator.createFromDetectCodeLocations(Arrays.asList(first, second, different), "", "", projectNameVersion);
+
+        assertEquals(2, result.getBdioCodeLocations().size());
+        assertEquals(2, result.getCodeLocationNames().size());
+        for (final BdioCodeLocation bdioCodeLocation : result.getBdioCodeLocations()) {
+            if (bdioCodeLocation.getDetectCodeLocation() == first) {
+                assertEquals(Collections.singletonList(second.getSourcePath()), bdioCodeLocation.getDuplicateSourcePaths());
+            } else {
+                assertEquals(different, bdioCodeLocation.getDetectCodeLocation());
+                assertTrue(bdioCodeLocation.getDuplicateSourcePaths().isEmpty());
+            }
+        }
+    }
+
+    @Test
+    public void testSameGraphOfDifferentProjectsIsNotCollapsed() throws DetectUserFriendlyException {
+        final File sourceDir = new File("src/test/resource");
+        final CodeLocationNameManager codeLocationNameManager = Mockito.mock(CodeLocationNameManager.class);
+        final DirectoryManager directoryManager = Mockito.mock(DirectoryManager.class);
+        Mockito.when(directoryManager.getSourceDirectory()).thenReturn(sourceDir);
+        final BdioCodeLocationCreator creator = new BdioCodeLocationCreator(codeLocationNameManager, directoryManager, Mockito.mock(EventSystem.class), true);
+        Mockito.when(codeLocationNameManager.createCodeLocationName(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenAnswer(invocation -> invocation.<DetectCodeLocation>getArgument(0).getSourcePath().getName());
+
+        final DetectCodeLocation first = createCodeLocation(new File(sourceDir, "first"), "first-project", "platform", "shared");
+        final DetectCodeLocation second = createCodeLocation(new File(sourceDir, "second"), "second-project", "platform", "shared");
+
+        final BdioCodeLocationResult result = creator.createFromDetectCodeLocations(Arrays.asList(first, second), "", "", new NameVersion("testName", "testVersion"));
+
+        assertEquals(2, result.getBdioCodeLocations().size());
+        for (final BdioCodeLocation bdioCodeLocation : result.getBdioCodeLocations()) {
+            assertTrue(bdioCodeLocation.getDuplicateSourcePaths().isEmpty());
+        }
+    }
+
+    @Test
+    public void testEmptyGraphsAreNotCollapsed() throws DetectUserFriendlyException {
+        final File sourceDir = new File("src/test/resource");
+        final CodeLocationNameManager codeLocationNameManager = Mockito.mock(CodeLocationNameManager.class);
+        final DirectoryManager directoryManager = Mockito.mock(DirectoryManager.class);
+        Mockito.when(directoryManager.getSourceDirectory()).thenReturn(sourceDir);
+        final BdioCodeLocationCreator creator = new BdioCodeLocationCreator(codeLocationNameManager, directoryManager, Mockito.mock(EventSystem.class), true);
+        Mockito.when(codeLocationNameManager.createCodeLocationName(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenAnswer(invocation -> invocation.<DetectCodeLocation>getArgument(0).getSourcePath().getName());
+
+        final DetectCodeLocation first = createEmptyCodeLocation(new File(sourceDir, "first"));
+        final DetectCodeLocation second = createEmptyCodeLocation(new File(sourceDir, "second"));
+
+        final BdioCodeLocationResult result = creator.createFromDetectCodeLocations(Arrays.asList(first, second), "", "", new NameVersion("testName", "testVersion"));
+
+        assertEquals(2, result.getBdioCodeLocations().size());
+        for (final BdioCodeLocation bdioCodeLocation : result.getBdioCodeLocations()) {
+            assertTrue(bdioCodeLocation.getDuplicateSourcePaths().isEmpty());
+        }
+    }
+
+    private DetectCodeLocation createEmptyCodeLocation(final File sourcePath) {
+        final ExternalId externalId = new ExternalId(Forge.MAVEN);
+        externalId.setName(sourcePath.getName());
+        externalId.setVersion("1.0");
+        return DetectCodeLocation.forCreator(new MutableMapDependencyGraph(), sourcePath, externalId, "testCreator");
+    }
+
+    private DetectCodeLocation createCodeLocation(final File sourcePath, final String projectName, final String rootName, final String childName) {
+        final MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+        final Dependency root = createDependency(rootName);
+        dependencyGraph.addChildToRoot(root);
+        dependencyGraph.addChildWithParent(createDependency(childName), root);
+        final ExternalId externalId = new ExternalId(Forge.MAVEN);
+        externalId.setName(projectName);
+        externalId.setVersion("1.0");
+        return DetectCodeLocation.forCreator(dependencyGraph, sourcePath, externalId, "testCreator");
+    }
+
+    private Dependency createDependency(final String name) {
+        final ExternalId externalId = new ExternalId(Forge.MAVEN);
+        externalId.setGroup("group");
+        externalId.setName(name);
+        externalId.setVersion("1.0");
+        return new Dependency(name, "1.0", externalId);
+    }
 }
@@ -0,0 +1,82 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.codelocation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+public class DependencyGraphHasherTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final DependencyGraphHasher hasher = new DependencyGraphHasher();
+
+    @Test
+    public void sameGraphBuiltInDifferentOrderHashesTheSame() {
+        final MutableDependencyGraph first = new MutableMapDependencyGraph();
+        first.addChildToRoot(dependency("a"));
+        first.addChildToRoot(dependency("b"));
+        first.addChildWithParent(dependency("c"), dependency("a"));
+        first.addChildWithParent(dependency("d"), dependency("a"));
+
+        final MutableDependencyGraph second = new MutableMapDependencyGraph();
+        second.addChildWithParent(dependency("d"), dependency("a"));
+        second.addChildToRoot(dependency("b"));
+        second.addChildWithParent(dependency("c"), dependency("a"));
+        second.addChildToRoot(dependency("a"));
+
+        Assertions.assertEquals(hasher.hash(first), hasher.hash(second));
+    }
+
+    @Test
+    public void movedEdgeChangesHash() {
+        final MutableDependencyGraph first = new MutableMapDependencyGraph();
+        first.addChildrenToRoot(dependency("a"), dependency("b"));
+        first.addChildWithParent(dependency("c"), dependency("a"));
+
+        final MutableDependencyGraph second = new MutableMapDependencyGraph();
+        second.addChildrenToRoot(dependency("a"), dependency("b"));
+        second.addChildWithParent(dependency("c"), dependency("b"));
+
+        Assertions.assertNotEquals(hasher.hash(first), hasher.hash(second));
+    }
+
+    @Test
+    public void differentVersionChangesHash() {
+        final MutableDependencyGraph first = new MutableMapDependencyGraph();
+        first.addChildToRoot(dependency("a"));
+
+        final MutableDependencyGraph second = new MutableMapDependencyGraph();
+        second.addChildToRoot(new Dependency("a", "2.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "a", "2.0")));
+
+        Assertions.assertNotEquals(hasher.hash(first), hasher.hash(second));
+    }
+
+    private Dependency dependency(final String name) {
+        return new Dependency(name, "1.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, "1.0"));
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.diagnostic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+
+// Simulates the detector phase publishing files of interest and executable output with diagnostics enabled.
+@Tag("performance")
+public class DiagnosticCapturePerfTest {
+    private static final int FILE_COUNT = 200;
+    private static final int EXECUTABLE_COUNT = 200;
+
+    @Test
+    public void compareSynchronousAndAsynchronousCapture() throws IOException {
+        final Path workingDirectory = Files.createTempDirectory("diagnostic-capture-perf");
+        try {
+            final List<File> filesOfInterest = createFilesOfInterest(workingDirectory.resolve("source").toFile());
+            final String output = createOutput();
+
+            final DiagnosticCaptureStore synchronousStore = runDetectorPhase(workingDirectory.resolve("sync").toFile(), false, filesOfInterest, output);
+            final long synchronousMillis = lastPublishingMillis;
+            final DiagnosticCaptureStore asynchronousStore = runDetectorPhase(workingDirectory.resolve("async").toFile(), true, filesOfInterest, output);
+            final long asynchronousMillis = lastPublishingMillis;
+
+            System.out.println("Detector phase with synchronous diagnostic capture: " + synchronousMillis + "ms");
+            System.out.println("Detector phase with asynchronous diagnostic capture: " + asynchronousMillis + "ms");
+
+            Assertions.assertEquals(synchronousStore.getEntries().keySet(), asynchronousStore.getEntries().keySet());
+            Assertions.assertEquals(countFiles(synchronousStore.getStoreDirectory().toFile()), countFiles(asynchronousStore.getStoreDirectory().toFile()));
+        } finally {
+            FileUtils.deleteDirectory(workingDirectory.toFile());
+        }
+    }
+
+    private long lastPublishingMillis;
+
+    // Records how long the publishing (detector) side was held up; captured output is flushed afterwards, as the diagnostic zip would.
+    private DiagnosticCaptureStore runDetectorPhase(final File outputDirectory, final boolean asynchronous, final List<File> filesOfInterest, final String output) throws IOException {
+        final File fileDirectory = new File(outputDirectory, "files");
+        final File executableDirectory = new File(outputDirectory, "executables");
+        Files.createDirectories(fileDirectory.toPath());
+        Files.createDirectories(executableDirectory.toPath());
+        final DiagnosticCaptureStore captureStore = new DiagnosticCaptureStore(Files.createDirectories(outputDirectory.toPath().resolve("captures")));
+
+        final EventSystem eventSystem = new EventSystem();
+        final DiagnosticFileCapture fileCapture = new DiagnosticFileCapture(fileDirectory, captureStore, eventSystem, asynchronous);
+        final DiagnosticExecutableCapture executableCapture = new DiagnosticExecutableCapture(executableDirectory, captureStore, eventSystem, asynchronous);
+
+        final long start = System.currentTimeMillis();
+        for (int i = 0; i < Math.max(FILE_COUNT, EXECUTABLE_COUNT); i++) {
+            if (i < FILE_COUNT) {
+                eventSystem.publishEvent(Event.CustomerFileOfInterest, filesOfInterest.get(i));
+            }
+            if (i < EXECUTABLE_COUNT) {
+                eventSystem.publishEvent(Event.Executable, new ExecutableOutput("executable " + i, 0, output, output));
+            }
+        }
+        lastPublishingMillis = System.currentTimeMillis() - start;
+
+        eventSystem.flush();
+        fileCapture.finish();
+        executableCapture.finish();
+        eventSystem.shutdown();
+        return captureStore;
+    }
+
+    private List<File> createFilesOfInterest(final File directory) throws IOException {
+        Files.createDirectories(directory.toPath());
+        final String content = createOutput();
+        final List<File> files = new ArrayList<>();
+        for (int i = 0; i < FILE_COUNT; i++) {
+            final File file = new File(directory, "pom-" + i + ".xml");
+            FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+            files.add(file);
+        }
+        return files;
+    }
+
+    private String createOutput() {
+        final StringBuilder output = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            output.append("[INFO] +- com.example:artifact-").append(i).append(":jar:1.0.0:compile").append(System.lineSeparator());
+        }
+        return output.toString();
+    }
+
+    private int countFiles(final File directory) {
+        return FileUtils.listFiles(directory, null, true).size();
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.diagnostic;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DiagnosticCaptureStoreTest {
+    private Path workingDirectory;
+    private Path storeDirectory;
+
+    @BeforeEach
+    public void createDirectories() throws IOException {
+        workingDirectory = Files.createTempDirectory("diagnostic-capture-store");
+        storeDirectory = Files.createDirectories(workingDirectory.resolve("captures"));
+    }
+
+    @AfterEach
+    public void deleteDirectories() {
+        FileUtils.deleteQuietly(workingDirectory.toFile());
+    }
+
+    @Test
+    public void identicalFilesAreStoredOnce() throws IOException {
+        final Path first = Files.write(workingDirectory.resolve("first.lock"), "same".getBytes(Charset.defaultCharset()));
+        final Path second = Files.write(workingDirectory.resolve("second.lock"), "same".getBytes(Charset.defaultCharset()));
+        final Path different = Files.write(workingDirectory.resolve("different.lock"), "different".getBytes(Charset.defaultCharset()));
+
+        final DiagnosticCaptureStore store = new DiagnosticCaptureStore(storeDirectory);
+        store.captureFile("relevant/FILE-0-first.lock", first);
+        store.captureFile("relevant/FILE-1-second.lock", second);
+        store.captureFile("relevant/FILE-2-different.lock", different);
+
+        final Map<String, Path> entries = store.getEntries();
+        Assertions.assertEquals(3, entries.size());
+        Assertions.assertEquals(entries.get("relevant/FILE-0-first.lock"), entries.get("relevant/FILE-1-second.lock"));
+        Assertions.assertNotEquals(entries.get("relevant/FILE-0-first.lock"), entries.get("relevant/FILE-2-different.lock"));
+        Assertions.assertEquals(1, store.getDuplicateCount());
+        Assertions.assertEquals(2, Files.list(storeDirectory).count());
+        Assertions.assertEquals("same", new String(Files.readAllBytes(entries.get("relevant/FILE-1-second.lock")), Charset.defaultCharset()));
+    }
+
+    @Test
+    public void rewritingTheOriginalDoesNotChangeTheCapture() throws IOException {
+        final Path lockFile = Files.write(workingDirectory.resolve("package.lock"), "captured".getBytes(Charset.defaultCharset()));
+
+        final DiagnosticCaptureStore store = new DiagnosticCaptureStore(storeDirectory);
+        store.captureFile("relevant/FILE-0-package.lock", lockFile);
+        Files.write(lockFile, "rewritten".getBytes(Charset.defaultCharset()));
+
+        final Path stored = store.getEntries().get("relevant/FILE-0-package.lock");
+        Assertions.assertEquals("captured", new String(Files.readAllBytes(stored), Charset.defaultCharset()));
+        Assertions.assertEquals(1, Files.list(storeDirectory).count(), "No staging files should be left in the store.");
+    }
+
+    @Test
+    public void identicalContentIsStoredOnce() throws IOException {
+        final DiagnosticCaptureStore store = new DiagnosticCaptureStore(storeDirectory);
+        store.captureContent("executables/EXE-0-STD.xout", "version 1.0");
+        store.captureContent("executables/EXE-0-ERR.xout", "");
+        store.captureContent("executables/EXE-1-STD.xout", "version 1.0");
+        store.captureContent("executables/EXE-1-ERR.xout", "");
+
+        Assertions.assertEquals(4, store.getEntries().size());
+        Assertions.assertEquals(2, store.getDuplicateCount());
+        Assertions.assertEquals(2, Files.list(storeDirectory).count());
+    }
+
+    @Test
+    public void zipContainsEveryCapturedEntry() throws IOException {
+        final Path runsDirectory = Files.createDirectories(workingDirectory.resolve("runs"));
+        final Path runDirectory = Files.createDirectories(runsDirectory.resolve("run-id"));
+        final Path runStore = Files.createDirectories(runDirectory.resolve("captures"));
+        Files.write(Files.createDirectories(runDirectory.resolve("logs")).resolve("log.txt"), "log".getBytes(Charset.defaultCharset()));
+
+        final DiagnosticCaptureStore store = new DiagnosticCaptureStore(runStore);
+        store.captureContent("executables/EXE-0-STD.xout", "output");
+        store.captureContent("executables/EXE-1-STD.xout", "output");
+
+        final boolean created = new DiagnosticZipCreator().createDiagnosticZip("run-id", runsDirectory.toFile(), Collections.singletonList(runDirectory.toFile()), store);
+        Assertions.assertTrue(created);
+
+        try (final ZipFile zipFile = new ZipFile(runsDirectory.resolve("detect-run-run-id.zip").toFile())) {
+            Assertions.assertNotNull(zipFile.getEntry("logs/log.txt"));
+            Assertions.assertNotNull(zipFile.getEntry("executables/EXE-0-STD.xout"));
+            Assertions.assertNotNull(zipFile.getEntry("executables/EXE-1-STD.xout"));
+            Assertions.assertEquals(3, zipFile.size(), "The store itself should not be added to the zip.");
+        }
+    }
+}
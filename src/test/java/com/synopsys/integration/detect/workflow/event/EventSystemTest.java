@@ -0,0 +1,192 @@
+/**
+ * synopsys-detect
+ *
+ * Copyright (c) 2020 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detect.workflow.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class EventSystemTest {
+    private static final EventType<Integer> NUMBER = new EventType<>(Integer.class);
+
+    @Test
+    public void synchronousListenerReceivesEventsInOrder() {
+        EventSystem eventSystem = new EventSystem();
+        List<Integer> received = new ArrayList<>();
+        eventSystem.registerListener(NUMBER, received::add);
+
+        eventSystem.publishEvent(NUMBER, 1);
+        eventSystem.publishEvent(NUMBER, 2);
+
+        assertEquals(2, received.size());
+        assertEquals(1, received.get(0).intValue());
+        assertEquals(2, received.get(1).intValue());
+    }
+
+    @Test
+    public void asynchronousListenerReceivesEverythingAfterFlush() {
+        EventSystem eventSystem = new EventSystem();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        eventSystem.registerAsynchronousListener(NUMBER, received::add, 10);
+
+        for (int i = 0; i < 100; i++) {
+            eventSystem.publishEvent(NUMBER, i);
+        }
+        eventSystem.flush();
+
+        assertEquals(100, received.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, received.get(i).intValue());
+        }
+        eventSystem.shutdown();
+    }
+
+    @Test
+    public void fullQueueBlocksPublisher() throws Exception {
+        EventSystem eventSystem = new EventSystem();
+        CountDownLatch listenerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseListener = new CountDownLatch(1);
+        eventSystem.registerAsynchronousListener(NUMBER, number -> {
+            listenerBlocked.countDown();
+            try {
+                releaseListener.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 1);
+
+        eventSystem.publishEvent(NUMBER, 1);
+        assertTrue(listenerBlocked.await(10, TimeUnit.SECONDS));
+        eventSystem.publishEvent(NUMBER, 2); // Fills the queue.
+
+        AtomicBoolean thirdPublished = new AtomicBoolean(false);
+        ExecutorService publisher = Executors.newSingleThreadExecutor();
+        Future<?> publishing = publisher.submit(() -> {
+            eventSystem.publishEvent(NUMBER, 3);
+            thirdPublished.set(true);
+        });
+
+        Thread.sleep(200);
+        assertFalse(thirdPublished.get(), "The publisher should wait while the listener's queue is full.");
+
+        releaseListener.countDown();
+        publishing.get(10, TimeUnit.SECONDS);
+        assertTrue(thirdPublished.get());
+
+        publisher.shutdownNow();
+        eventSystem.shutdown();
+    }
+
+    @Test
+    public void shutdownDeliversQueuedEvents() {
+        EventSystem eventSystem = new EventSystem();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        eventSystem.registerAsynchronousListener(NUMBER, number -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(number);
+        }, 100);
+
+        for (int i = 0; i < 20; i++) {
+            eventSystem.publishEvent(NUMBER, i);
+        }
+        eventSystem.shutdown();
+
+        assertEquals(20, received.size());
+
+        eventSystem.publishEvent(NUMBER, 20);
+        assertEquals(21, received.size(), "Events published after shutdown should be delivered directly.");
+    }
+
+    @Test
+    public void publishingDuringShutdownLosesNothing() throws Exception {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            EventSystem eventSystem = new EventSystem();
+            AtomicInteger received = new AtomicInteger();
+            eventSystem.registerAsynchronousListener(NUMBER, number -> received.incrementAndGet(), 4);
+
+            ExecutorService publishers = Executors.newFixedThreadPool(4);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> publishing = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                publishing.add(publishers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 500; i++) {
+                        eventSystem.publishEvent(NUMBER, i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            eventSystem.shutdown();
+            for (Future<?> future : publishing) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            publishers.shutdownNow();
+
+            assertEquals(2000, received.get(), "Every event published while shutting down should still be delivered.");
+        }
+    }
+
+    @Test
+    public void publishingAndRegisteringFromManyThreads() throws Exception {
+        EventSystem eventSystem = new EventSystem();
+        List<Integer> received = new ArrayList<>();
+        eventSystem.registerListener(NUMBER, received::add);
+
+        ExecutorService publishers = Executors.newFixedThreadPool(8);
+        List<Future<?>> publishing = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            publishing.add(publishers.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    eventSystem.publishEvent(NUMBER, i);
+                    if (i % 100 == 0) {
+                        eventSystem.registerListener(NUMBER, number -> {});
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : publishing) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        publishers.shutdownNow();
+
+        assertEquals(8000, received.size());
+    }
+}